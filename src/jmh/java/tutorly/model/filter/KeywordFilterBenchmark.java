@@ -0,0 +1,104 @@
+package tutorly.model.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Address;
+import tutorly.model.person.Email;
+import tutorly.model.person.Memo;
+import tutorly.model.person.Name;
+import tutorly.model.person.Person;
+import tutorly.model.person.Phone;
+
+/**
+ * Compares searching students by name with a prepared {@code NameContainsKeywordsFilter} against splitting and
+ * lowercasing every name and keyword for each row, which is what keyword filters used to do.
+ * Run with {@code ./gradlew jmh}; the {@code gc} profiler reports the bytes allocated per search.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeywordFilterBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan"};
+    private static final List<String> KEYWORDS = List.of("zzz", "Qux", "li");
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Person> persons;
+    private Predicate<Person> predicate;
+
+    /**
+     * Creates {@code size} students and a name filter that has already been turned into a predicate.
+     */
+    @Setup
+    public void setUp() {
+        persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String name = FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i / FIRST_NAMES.length
+                    % LAST_NAMES.length] + " " + i;
+            persons.add(new Person(new Name(name), Phone.empty(), Email.empty(), Address.empty(),
+                    Collections.emptySet(), Memo.empty()));
+        }
+        predicate = new NameContainsKeywordsFilter(KEYWORDS).toPredicate(new AddressBook());
+    }
+
+    /**
+     * Counts matching students with the prepared filter.
+     */
+    @Benchmark
+    public int prepared() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Counts matching students by splitting and lowercasing on every row.
+     */
+    @Benchmark
+    public int unprepared() {
+        int matches = 0;
+        for (Person person : persons) {
+            if (KEYWORDS.stream().anyMatch(keyword -> containsWordIgnoreCase(person.getName().fullName, keyword))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static boolean containsWordIgnoreCase(String sentence, String keyword) {
+        String preppedKeyword = keyword.trim();
+        if (preppedKeyword.isEmpty() || preppedKeyword.split("\\s+").length != 1) {
+            throw new IllegalArgumentException(keyword);
+        }
+        return Arrays.stream(sentence.split("\\s+"))
+                .anyMatch(w -> w.toLowerCase().contains(preppedKeyword.toLowerCase()));
+    }
+}
@@ -0,0 +1,164 @@
+package tutorly;
+
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.Config;
+import tutorly.commons.core.LogsCenter;
+import tutorly.commons.exceptions.DataLoadingException;
+import tutorly.commons.util.ConfigUtil;
+import tutorly.commons.util.FileUtil;
+import tutorly.logic.BatchRunner;
+import tutorly.logic.Logic;
+import tutorly.logic.LogicManager;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.AddressBook;
+import tutorly.model.ModelManager;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.UserPrefs;
+import tutorly.storage.JsonAddressBookStorage;
+import tutorly.storage.JsonUserPrefsStorage;
+import tutorly.storage.Storage;
+import tutorly.storage.StorageManager;
+import tutorly.storage.UserPrefsStorage;
+
+/**
+ * The entry point to run the application without its GUI, for example from a scheduled job.
+ * The commands in the script file, or in standard input if no file is given, are run against the data file of the
+ * user preferences by a {@link BatchRunner}, which prints each result and a summary to standard output.
+ *
+ * Usage: {@code java -cp tutorly.jar tutorly.BatchMain [--config=CONFIG_FILE] [--save-every=N] [SCRIPT_FILE]}
+ *
+ * Unlike {@link MainApp}, JavaFX is not started, the config and preference files are not rewritten, and a data file
+ * that cannot be loaded stops the run rather than being replaced by an empty address book. Only warnings are logged,
+ * so that the log does not interleave with the results.
+ */
+public class BatchMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_USAGE = "Usage: java -cp tutorly.jar tutorly.BatchMain "
+            + "[--config=CONFIG_FILE] [--save-every=N] [SCRIPT_FILE]"
+            + "\nRuns the commands in SCRIPT_FILE, or in standard input if it is not given or is -, one per line. "
+            + "The data is saved every N commands, or only at the end if N is 0, which is the default.";
+    public static final String MESSAGE_INVALID_ARGUMENT = "Invalid argument: %1$s";
+    public static final String MESSAGE_LOAD_FAILED = "Could not load the data file %1$s: %2$s";
+    public static final String MESSAGE_SCRIPT_FAILED = "Could not read the script: %1$s";
+
+    private static final String CONFIG_OPTION = "--config=";
+    private static final String SAVE_INTERVAL_OPTION = "--save-every=";
+    private static final String STANDARD_INPUT = "-";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the script given by the command-line arguments {@code args} and returns the exit status.
+     */
+    private static int run(String[] args) {
+        Path configPath = Config.DEFAULT_CONFIG_FILE;
+        int saveInterval = 0;
+        String script = STANDARD_INPUT;
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            try {
+                if (arg.startsWith(CONFIG_OPTION)) {
+                    String configPathArg = arg.substring(CONFIG_OPTION.length());
+                    checkArgument(FileUtil.isValidPath(configPathArg));
+                    configPath = Paths.get(configPathArg);
+                } else if (arg.startsWith(SAVE_INTERVAL_OPTION)) {
+                    saveInterval = Integer.parseInt(arg.substring(SAVE_INTERVAL_OPTION.length()));
+                    checkArgument(saveInterval >= 0);
+                } else {
+                    checkArgument(i == args.length - 1 && !arg.startsWith("--"));
+                    script = arg;
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println(String.format(MESSAGE_INVALID_ARGUMENT, arg));
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_ERROR;
+            }
+        }
+
+        Config config = readConfig(configPath);
+        if (config.getLogLevel().intValue() < Level.WARNING.intValue()) {
+            config.setLogLevel(Level.WARNING);
+        }
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = readPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(new JsonAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                userPrefsStorage);
+
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            System.err.println(String.format(MESSAGE_LOAD_FAILED, storage.getAddressBookFilePath(), e.getMessage()));
+            return EXIT_ERROR;
+        }
+        Logic logic = new LogicManager(new ModelManager(initialData, userPrefs), storage,
+                config.getUndoHistoryByteBudget());
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out,
+                StandardCharsets.UTF_8)));
+        try (Reader reader = script.equals(STANDARD_INPUT)
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(Paths.get(script), StandardCharsets.UTF_8)) {
+            BatchRunner.Summary summary = new BatchRunner(logic, saveInterval).run(reader, out);
+            out.println(summary.getMessage());
+            return summary.getFailedCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            out.println(String.format(MESSAGE_SCRIPT_FAILED, e.getMessage()));
+            return EXIT_ERROR;
+        } catch (CommandException e) {
+            out.println(e.getMessage());
+            return EXIT_ERROR;
+        } finally {
+            out.flush();
+        }
+    }
+
+    /**
+     * Returns the config in {@code configPath}, or the default config if it is missing or cannot be loaded.
+     */
+    private static Config readConfig(Path configPath) {
+        try {
+            return ConfigUtil.readConfig(configPath).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configPath + " could not be loaded. Using default config properties.");
+            return new Config();
+        }
+    }
+
+    /**
+     * Returns the preferences in {@code storage}, or the default preferences if they are missing or cannot be loaded.
+     */
+    private static UserPrefs readPrefs(UserPrefsStorage storage) {
+        try {
+            return storage.readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + storage.getUserPrefsFilePath() + " could not be loaded."
+                    + " Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+}
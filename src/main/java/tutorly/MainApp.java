@@ -6,7 +6,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import tutorly.api.ApiServer;
 import tutorly.commons.core.Config;
 import tutorly.commons.core.LogsCenter;
 import tutorly.commons.core.Version;
@@ -45,6 +47,7 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
 
     @Override
     public void init() throws Exception {
@@ -62,7 +65,7 @@ public class MainApp extends Application {
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config.getUndoHistoryByteBudget());
 
         ui = new UiManager(logic);
     }
@@ -172,11 +175,34 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        initApiServer(config);
+    }
+
+    /**
+     * Starts the {@code ApiServer} on the port in {@code config}, if any, with the JavaFX application thread as its
+     * model thread. The app carries on without it if the port cannot be used.
+     */
+    private void initApiServer(Config config) {
+        if (config.getApiServerPort() <= 0) {
+            return;
+        }
+
+        try {
+            apiServer = new ApiServer(logic, Platform::runLater, config.getApiServerPort(),
+                    config.getApiServerToken());
+            apiServer.start();
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Failed to start the API server on port " + config.getApiServerPort() + ": "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,35 @@
+package tutorly.api;
+
+import java.util.List;
+
+import tutorly.model.person.Person;
+
+/**
+ * The JSON form of a {@link Person} in the responses of the {@link ApiServer}.
+ */
+class ApiPerson {
+
+    private final int id;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> tags;
+    private final String memo;
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use.
+     */
+    ApiPerson(Person source) {
+        id = source.getId();
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        tags = source.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted()
+                .toList();
+        memo = source.getMemo().value;
+    }
+}
@@ -0,0 +1,499 @@
+package tutorly.api;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javafx.collections.ListChangeListener;
+import tutorly.commons.core.LogsCenter;
+import tutorly.commons.util.JsonUtil;
+import tutorly.commons.util.StringUtil;
+import tutorly.logic.Logic;
+import tutorly.logic.commands.CommandResult;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.storage.JsonAdaptedAttendanceRecord;
+
+/**
+ * Serves the address book as JSON over HTTP, so that other local programs can read and change it.
+ * Only connections from this computer are accepted, and only requests that are addressed to {@code localhost} and
+ * do not come from a web page, so that websites open in a browser cannot reach the server. If a token is set, every
+ * request must also carry it in an {@code Authorization: Bearer TOKEN} header.
+ * <ul>
+ *     <li>{@code GET /api/students[?q=QUERY]} lists the students, or those matching a {@code student search} query.
+ *     </li>
+ *     <li>{@code GET /api/sessions[?q=QUERY]} lists the sessions, or those matching a {@code session search} query.
+ *     </li>
+ *     <li>{@code GET /api/attendance[?student=ID][&session=ID]} lists the attendance records of a student or session.
+ *     </li>
+ *     <li>{@code POST /api/commands} with the JSON body {@code {"command": "..."}} executes a command as if it was
+ *     typed in.</li>
+ * </ul>
+ * <p>
+ * The model is only ever touched on the model thread, which is the JavaFX application thread when run with the GUI.
+ * Requests are handled on a pool of worker threads, which read from a {@link ModelSnapshot} instead of the model.
+ * A snapshot is only taken, on the model thread, by the first read after the address book has changed, and is shared
+ * by all reads until the next change, so readers do not hold up the model thread or each other. Taking a snapshot
+ * only copies the lists of the address book; searches are evaluated against the copies on the worker threads.
+ * Commands are executed on the model thread one at a time, in the same way as commands typed into the GUI.
+ */
+public class ApiServer {
+
+    public static final String STUDENTS_PATH = "/api/students";
+    public static final String SESSIONS_PATH = "/api/sessions";
+    public static final String ATTENDANCE_PATH = "/api/attendance";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final String QUERY_PARAMETER = "q";
+    public static final String STUDENT_PARAMETER = "student";
+    public static final String SESSION_PARAMETER = "session";
+
+    public static final int STATUS_OK = 200;
+    public static final int STATUS_BAD_REQUEST = 400;
+    public static final int STATUS_UNAUTHORIZED = 401;
+    public static final int STATUS_FORBIDDEN = 403;
+    public static final int STATUS_NOT_FOUND = 404;
+    public static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    public static final int STATUS_UNSUPPORTED_MEDIA_TYPE = 415;
+    public static final int STATUS_INTERNAL_ERROR = 500;
+    public static final int STATUS_UNAVAILABLE = 503;
+
+    public static final int WORKER_THREADS = 4;
+    public static final long MODEL_TIMEOUT_SECONDS = 10;
+
+    public static final String MESSAGE_INVALID_PORT = "The port should be between 0 and 65535.";
+    public static final String MESSAGE_FORBIDDEN_HOST = "Requests should be addressed to localhost, not %1$s.";
+    public static final String MESSAGE_FORBIDDEN_ORIGIN = "Requests from web pages are not allowed.";
+    public static final String MESSAGE_UNAUTHORIZED = "The request does not have the API server token in config.json.";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "The request body should be of type application/json.";
+    public static final String MESSAGE_NOT_FOUND = "There is no resource at %1$s.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not allowed here, only %2$s.";
+    public static final String MESSAGE_INVALID_ID = "The %1$s ID should be a positive integer.";
+    public static final String MESSAGE_INVALID_REQUEST = "The request body should be a JSON object such as "
+            + "{\"command\": \"student list\"}.";
+    public static final String MESSAGE_MISSING_COMMAND = "The request body does not have a command.";
+    public static final String MESSAGE_TIMEOUT = "The application did not respond in time. "
+            + "A command may still be executed later.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled.";
+
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService workers;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ListChangeListener<Object> versionListener = change -> version.incrementAndGet();
+    private volatile ModelSnapshot snapshot;
+    private CompletableFuture<ModelSnapshot> pendingSnapshot;
+
+    /**
+     * Creates a server for the address book of {@code logic} on {@code port} of the loopback address, or on any free
+     * port if it is 0. Tasks that use {@code logic} are run by {@code modelExecutor}, on the model thread.
+     * Requests must carry {@code token}, unless it is null or empty. Must be called on the model thread.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Executor modelExecutor, int port, String token) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(modelExecutor);
+        checkArgument(port >= 0 && port <= 65535, MESSAGE_INVALID_PORT);
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.token = token == null || token.isEmpty() ? null : token.getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(STUDENTS_PATH, exchange -> handle(exchange, GET, this::getStudents));
+        server.createContext(SESSIONS_PATH, exchange -> handle(exchange, GET, this::getSessions));
+        server.createContext(ATTENDANCE_PATH, exchange -> handle(exchange, GET, this::getAttendanceRecords));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, POST, this::executeCommand));
+        // Answers requests for any other path, as the built-in answer closes the connection without saying so
+        server.createContext("/", exchange -> handle(exchange, exchange.getRequestMethod(), ApiServer::notFound));
+        workers = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "api-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(workers);
+
+        logic.getPersonList().addListener(versionListener);
+        logic.getSessionList().addListener(versionListener);
+        logic.getAttendanceRecordList().addListener(versionListener);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("API server listening on port " + getPort());
+    }
+
+    /**
+     * Stops accepting requests, and abandons those that are being handled. Must be called on the model thread.
+     */
+    public void stop() {
+        logic.getPersonList().removeListener(versionListener);
+        logic.getSessionList().removeListener(versionListener);
+        logic.getAttendanceRecordList().removeListener(versionListener);
+        server.stop(0);
+        workers.shutdownNow();
+        logger.info("API server stopped");
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private Object getStudents(HttpExchange exchange) throws ApiException {
+        Optional<String> query = getParameter(exchange, QUERY_PARAMETER);
+        ModelSnapshot currentSnapshot = getSnapshot();
+        try {
+            return (query.isPresent() ? currentSnapshot.searchStudents(query.get()) : currentSnapshot.getPersons())
+                    .stream()
+                    .map(ApiPerson::new)
+                    .toList();
+        } catch (ParseException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private Object getSessions(HttpExchange exchange) throws ApiException {
+        Optional<String> query = getParameter(exchange, QUERY_PARAMETER);
+        ModelSnapshot currentSnapshot = getSnapshot();
+        try {
+            return (query.isPresent() ? currentSnapshot.searchSessions(query.get()) : currentSnapshot.getSessions())
+                    .stream()
+                    .map(ApiSession::new)
+                    .toList();
+        } catch (ParseException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    private Object getAttendanceRecords(HttpExchange exchange) throws ApiException {
+        Optional<Integer> studentId = getIdParameter(exchange, STUDENT_PARAMETER);
+        Optional<Integer> sessionId = getIdParameter(exchange, SESSION_PARAMETER);
+        List<AttendanceRecord> records = getSnapshot().getAttendanceRecords();
+        return records.stream()
+                .filter(record -> studentId.map(id -> id == record.getStudentId()).orElse(true))
+                .filter(record -> sessionId.map(id -> id == record.getSessionId()).orElse(true))
+                .map(JsonAdaptedAttendanceRecord::new)
+                .toList();
+    }
+
+    private Object executeCommand(HttpExchange exchange) throws ApiException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE)) {
+            throw new ApiException(STATUS_UNSUPPORTED_MEDIA_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+        }
+
+        CommandRequest request;
+        try {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            request = JsonUtil.fromJsonString(body, CommandRequest.class);
+        } catch (IOException e) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_INVALID_REQUEST);
+        }
+        if (request == null || request.command == null || request.command.isBlank()) {
+            throw new ApiException(STATUS_BAD_REQUEST, MESSAGE_MISSING_COMMAND);
+        }
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        runOnModelThread(result, () -> {
+            try {
+                result.complete(logic.execute(request.command));
+            } catch (CommandException | ParseException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            return Map.of("feedback", await(result).getFeedbackToUser());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException || e.getCause() instanceof ParseException) {
+                throw new ApiException(STATUS_BAD_REQUEST, e.getCause().getMessage());
+            }
+            throw new ApiException(e.getCause());
+        }
+    }
+
+    private static Object notFound(HttpExchange exchange) throws ApiException {
+        throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, exchange.getRequestURI().getPath()));
+    }
+
+    /**
+     * Returns a snapshot of the current version of the address book, taking one on the model thread if the last
+     * snapshot is out of date. Concurrent reads wait for the same snapshot to be taken.
+     */
+    private ModelSnapshot getSnapshot() throws ApiException {
+        ModelSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot != null && currentSnapshot.getVersion() == version.get()) {
+            return currentSnapshot;
+        }
+
+        CompletableFuture<ModelSnapshot> future;
+        boolean isNewSnapshot = false;
+        synchronized (this) {
+            if (pendingSnapshot == null) {
+                pendingSnapshot = new CompletableFuture<>();
+                isNewSnapshot = true;
+            }
+            future = pendingSnapshot;
+        }
+        if (isNewSnapshot) {
+            future.whenComplete((value, e) -> clearPendingSnapshot(future));
+            runOnModelThread(future, () -> takeSnapshot(future));
+        }
+
+        try {
+            return await(future);
+        } catch (ExecutionException e) {
+            throw new ApiException(e.getCause());
+        }
+    }
+
+    /**
+     * Takes a snapshot of the address book, unless the last snapshot is up to date, and completes {@code future} with
+     * it. Must be called on the model thread.
+     */
+    private void takeSnapshot(CompletableFuture<ModelSnapshot> future) {
+        ModelSnapshot newSnapshot = snapshot;
+        if (newSnapshot == null || newSnapshot.getVersion() != version.get()) {
+            newSnapshot = new ModelSnapshot(version.get(), logic.getAddressBook());
+            snapshot = newSnapshot;
+        }
+        clearPendingSnapshot(future);
+        future.complete(newSnapshot);
+    }
+
+    private synchronized void clearPendingSnapshot(CompletableFuture<ModelSnapshot> future) {
+        if (pendingSnapshot == future) {
+            pendingSnapshot = null;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the model thread, completing {@code future} exceptionally if {@code task} throws, or if it
+     * cannot be run at all.
+     */
+    private <T> void runOnModelThread(CompletableFuture<T> future, Runnable task) {
+        Runnable guardedTask = () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        };
+        try {
+            modelExecutor.execute(guardedTask);
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Waits for {@code future} to complete, for at most {@link #MODEL_TIMEOUT_SECONDS}.
+     *
+     * @throws ExecutionException if {@code future} completed exceptionally.
+     * @throws ApiException if {@code future} did not complete in time.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws ExecutionException, ApiException {
+        try {
+            return future.get(MODEL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(STATUS_UNAVAILABLE, MESSAGE_TIMEOUT);
+        }
+    }
+
+    /**
+     * Handles {@code exchange} with {@code handler} if it is an allowed request for exactly the path of its context
+     * with {@code method}, and sends the result or error as JSON.
+     */
+    private void handle(HttpExchange exchange, String method, Handler handler) throws IOException {
+        try {
+            int status;
+            Object body;
+            try {
+                checkAllowed(exchange);
+                String path = exchange.getRequestURI().getPath();
+                if (!path.equals(exchange.getHttpContext().getPath())) {
+                    throw new ApiException(STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+                }
+                if (!exchange.getRequestMethod().equals(method)) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    throw new ApiException(STATUS_METHOD_NOT_ALLOWED,
+                            String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod(), method));
+                }
+                body = handler.handle(exchange);
+                status = STATUS_OK;
+            } catch (ApiException e) {
+                if (e.status == STATUS_INTERNAL_ERROR) {
+                    logger.warning("API request failed: " + StringUtil.getDetails(e.getCause()));
+                }
+                body = Map.of("error", e.getMessage());
+                status = e.status;
+            }
+
+            // Reads any body that was not handled, so that the connection can be reused for the next request
+            exchange.getRequestBody().transferTo(OutputStream.nullOutputStream());
+            byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Checks that {@code exchange} is addressed to this computer, does not come from a web page, and carries the
+     * token if one is needed. A web page can neither leave out its origin nor, through DNS rebinding, make a request
+     * look like it is addressed to {@code localhost}.
+     *
+     * @throws ApiException if the request is not allowed.
+     */
+    private void checkAllowed(HttpExchange exchange) throws ApiException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !LOCAL_HOSTS.contains(getHostName(host))) {
+            throw new ApiException(STATUS_FORBIDDEN, String.format(MESSAGE_FORBIDDEN_HOST, host));
+        }
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            throw new ApiException(STATUS_FORBIDDEN, MESSAGE_FORBIDDEN_ORIGIN);
+        }
+        if (token == null) {
+            return;
+        }
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX) || !MessageDigest.isEqual(token,
+                authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8))) {
+            throw new ApiException(STATUS_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+    }
+
+    /**
+     * Returns the lower case host name of the {@code Host} header value {@code host}, without its port.
+     */
+    static String getHostName(String host) {
+        String hostName = host.trim().toLowerCase(Locale.ROOT);
+        int portIndex = hostName.lastIndexOf(':');
+        if (portIndex >= 0 && portIndex > hostName.lastIndexOf(']')) {
+            hostName = hostName.substring(0, portIndex);
+        }
+        return hostName;
+    }
+
+    private static Optional<String> getParameter(HttpExchange exchange, String name) {
+        return Optional.ofNullable(parseQuery(exchange.getRequestURI().getRawQuery()).get(name));
+    }
+
+    private static Optional<Integer> getIdParameter(HttpExchange exchange, String name) throws ApiException {
+        Optional<String> value = getParameter(exchange, name);
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            int id = Integer.parseInt(value.get().trim());
+            if (id > 0) {
+                return Optional.of(id);
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new ApiException(STATUS_BAD_REQUEST, String.format(MESSAGE_INVALID_ID, name));
+    }
+
+    /**
+     * Returns the parameters in the raw query string {@code rawQuery} of a URI, which may be null.
+     * If a parameter is given more than once, the last value is kept.
+     */
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            int equalsIndex = parameter.indexOf('=');
+            String name = equalsIndex < 0 ? parameter : parameter.substring(0, equalsIndex);
+            String value = equalsIndex < 0 ? "" : parameter.substring(equalsIndex + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Handles a request, returning the object to send back as JSON.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(HttpExchange exchange) throws ApiException;
+    }
+
+    /**
+     * The body of a {@code POST /api/commands} request.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+
+    /**
+     * Signals that a request cannot be handled, with the HTTP status to respond with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        ApiException(Throwable cause) {
+            super(MESSAGE_INTERNAL_ERROR, cause);
+            this.status = STATUS_INTERNAL_ERROR;
+        }
+    }
+}
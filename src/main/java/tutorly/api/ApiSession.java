@@ -0,0 +1,24 @@
+package tutorly.api;
+
+import tutorly.model.session.Session;
+
+/**
+ * The JSON form of a {@link Session} in the responses of the {@link ApiServer}.
+ */
+class ApiSession {
+
+    private final int id;
+    private final String subject;
+    private final String start;
+    private final String end;
+
+    /**
+     * Converts a given {@code Session} into this class for Jackson use.
+     */
+    ApiSession(Session source) {
+        id = source.getId();
+        subject = source.getSubject().subjectName;
+        start = source.getTimeslot().getStartTime().toString();
+        end = source.getTimeslot().getEndTime().toString();
+    }
+}
@@ -0,0 +1,137 @@
+package tutorly.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tutorly.logic.commands.SearchSessionCommand;
+import tutorly.logic.commands.SearchStudentCommand;
+import tutorly.logic.parser.SearchSessionCommandParser;
+import tutorly.logic.parser.SearchStudentCommandParser;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PostingList;
+import tutorly.model.filter.SortIndex;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * A copy of the lists of the address book at some version, which can be read from any thread.
+ * Only the lists are copied on the model thread, and they are never changed afterwards, so reading them never waits
+ * for the model. Searches are evaluated on the calling thread against the copied lists, and share no state with each
+ * other or with the model.
+ */
+class ModelSnapshot {
+
+    private final long version;
+    private final List<Person> persons;
+    private final List<Session> sessions;
+    private final List<AttendanceRecord> attendanceRecords;
+    private final int nextPersonId;
+    private final int nextSessionId;
+
+    /**
+     * Creates a snapshot of {@code addressBook} at {@code version}. Must be called on the model thread.
+     */
+    ModelSnapshot(long version, ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.version = version;
+        persons = List.copyOf(addressBook.getPersonList());
+        sessions = List.copyOf(addressBook.getSessionList());
+        attendanceRecords = List.copyOf(addressBook.getAttendanceRecordsList());
+        nextPersonId = addressBook.getNextPersonId();
+        nextSessionId = addressBook.getNextSessionId();
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    List<Person> getPersons() {
+        return persons;
+    }
+
+    List<Session> getSessions() {
+        return sessions;
+    }
+
+    List<AttendanceRecord> getAttendanceRecords() {
+        return attendanceRecords;
+    }
+
+    /**
+     * Returns the students matching {@code query}, in the syntax of the {@code student search} command.
+     *
+     * @throws ParseException if {@code query} does not conform to the expected format.
+     */
+    List<Person> searchStudents(String query) throws ParseException {
+        SearchStudentCommand command = new SearchStudentCommandParser().parse(" " + query);
+        return search(command.getFilter(), command.getPage(), persons, Person::getId);
+    }
+
+    /**
+     * Returns the sessions matching {@code query}, in the syntax of the {@code session search} command.
+     *
+     * @throws ParseException if {@code query} does not conform to the expected format.
+     */
+    List<Session> searchSessions(String query) throws ParseException {
+        SearchSessionCommand command = new SearchSessionCommandParser().parse(" " + query);
+        return search(command.getFilter(), command.getPage(), sessions, Session::getId);
+    }
+
+    /**
+     * Returns the given {@code page} of the {@code elements} passing {@code filter}, in the order of the page.
+     * Any index the filter or the sort key of the page reads is built from the copied lists for this search only.
+     */
+    private <T> List<T> search(Filter<T> filter, Page<T> page, List<T> elements, ToIntFunction<T> idOf) {
+        ReadOnlyAddressBook addressBook = new AddressBookView();
+        Predicate<T> predicate = filter.toPredicate(addressBook);
+        List<T> ordered = page.getSortKey().map(sortKey -> {
+            SortIndex<T, ?> index = sortKey.createIndex(addressBook);
+            index.addAll(elements);
+            return index.asList(page.isDescending());
+        }).orElse(elements);
+
+        PostingList<T> ids = page.select(ordered, predicate, idOf).getIds();
+        return ordered.stream().filter(ids::contains).toList();
+    }
+
+    /**
+     * A read-only view of the copied lists, for filters and sort keys that read data about an element from the rest
+     * of the address book.
+     */
+    private class AddressBookView implements ReadOnlyAddressBook {
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Session> getSessionList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(sessions));
+        }
+
+        @Override
+        public ObservableList<AttendanceRecord> getAttendanceRecordsList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(attendanceRecords));
+        }
+
+        @Override
+        public int getNextPersonId() {
+            return nextPersonId;
+        }
+
+        @Override
+        public int getNextSessionId() {
+            return nextSessionId;
+        }
+    }
+}
@@ -13,10 +13,14 @@ import tutorly.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_UNDO_HISTORY_BYTE_BUDGET = 16L * 1024 * 1024;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long undoHistoryByteBudget = DEFAULT_UNDO_HISTORY_BYTE_BUDGET;
+    private int apiServerPort = 0;
+    private String apiServerToken = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +38,36 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getUndoHistoryByteBudget() {
+        return undoHistoryByteBudget;
+    }
+
+    public void setUndoHistoryByteBudget(long undoHistoryByteBudget) {
+        this.undoHistoryByteBudget = undoHistoryByteBudget;
+    }
+
+    /**
+     * Returns the local port to serve the API on, or 0 if the API server is disabled.
+     */
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    /**
+     * Returns the token that requests to the API server must carry, or null if they need none.
+     */
+    public String getApiServerToken() {
+        return apiServerToken;
+    }
+
+    public void setApiServerToken(String apiServerToken) {
+        this.apiServerToken = apiServerToken;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,19 +81,25 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && undoHistoryByteBudget == otherConfig.undoHistoryByteBudget
+                && apiServerPort == otherConfig.apiServerPort
+                && Objects.equals(apiServerToken, otherConfig.apiServerToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoHistoryByteBudget, apiServerPort, apiServerToken);
     }
 
     @Override
     public String toString() {
+        // apiServerToken is left out, so that it does not end up in logs
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("undoHistoryByteBudget", undoHistoryByteBudget)
+                .add("apiServerPort", apiServerPort)
                 .toString();
     }
 
@@ -0,0 +1,148 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads rows of comma-separated values as described in RFC 4180, one row at a time, so that a file can be read in
+ * constant memory however many rows it has.
+ * A quoted field may contain commas, doubled double quotes and line breaks. Rows may end with CRLF, LF or CR, and
+ * blank lines are skipped.
+ *
+ * @see CsvUtil
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Line %1$d: a quoted field is not closed";
+    public static final String MESSAGE_CHARACTER_AFTER_QUOTE = "Line %1$d: unexpected character after a closing quote";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final int END_OF_FILE = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int lineNumber = 1;
+    private int rowLineNumber = 0;
+    private int pushedBack = NONE;
+
+    /**
+     * Creates a {@code CsvReader} that reads rows from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next row, or an empty {@code Optional} if there are no more rows.
+     *
+     * @throws IOException if the row is malformed or cannot be read.
+     */
+    public Optional<List<String>> readRow() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            skipLineBreak(c);
+            c = read();
+        }
+        if (c == END_OF_FILE) {
+            return Optional.empty();
+        }
+
+        rowLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            if (c == QUOTE && field.isEmpty()) {
+                c = readQuotedField(field);
+            }
+
+            if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == END_OF_FILE) {
+                fields.add(field.toString());
+                if (c != END_OF_FILE) {
+                    skipLineBreak(c);
+                }
+                return Optional.of(fields);
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line on which the last row returned by {@link #readRow()} starts, or 0 if none has been returned.
+     */
+    public int getLineNumber() {
+        return rowLineNumber;
+    }
+
+    /**
+     * Reads the rest of a quoted field into {@code field} and returns the character after its closing quote.
+     */
+    private int readQuotedField(StringBuilder field) throws IOException {
+        int startLineNumber = lineNumber;
+        while (true) {
+            int c = read();
+            if (c == END_OF_FILE) {
+                throw new IOException(String.format(MESSAGE_UNCLOSED_QUOTE, startLineNumber));
+            }
+
+            if (c == QUOTE) {
+                int next = read();
+                if (next != QUOTE) {
+                    if (next != SEPARATOR && next != '\r' && next != '\n' && next != END_OF_FILE) {
+                        throw new IOException(String.format(MESSAGE_CHARACTER_AFTER_QUOTE, lineNumber));
+                    }
+                    return next;
+                }
+            } else if (c == '\r' || c == '\n') {
+                field.append(c == '\r' && peek() == '\n' ? "\r\n" : String.valueOf((char) c));
+                skipLineBreak(c);
+                continue;
+            }
+            field.append((char) c);
+        }
+    }
+
+    /**
+     * Consumes the rest of the line break starting with {@code c}, which is a CR or an LF.
+     */
+    private void skipLineBreak(int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+        lineNumber++;
+    }
+
+    private int peek() throws IOException {
+        if (pushedBack == NONE) {
+            pushedBack = reader.read();
+        }
+        return pushedBack;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
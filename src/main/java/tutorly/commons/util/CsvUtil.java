@@ -0,0 +1,75 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes rows of comma-separated values as described in RFC 4180.
+ * A field is enclosed in double quotes if it contains a comma, a double quote, a line break or leading or trailing
+ * whitespace, and any double quote in it is doubled.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * Returns {@code fields} as a single row, without a line break at the end.
+     */
+    public static String toRow(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder row = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                row.append(SEPARATOR);
+            }
+            appendField(row, fields.get(i));
+        }
+        return row.toString();
+    }
+
+    /**
+     * Writes {@code fields} as a single row to {@code writer}, followed by a line break.
+     */
+    public static void writeRow(Writer writer, List<String> fields) throws IOException {
+        requireNonNull(writer);
+        writer.write(toRow(fields));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static void appendField(StringBuilder row, String field) {
+        requireNonNull(field);
+        if (!needsQuotes(field)) {
+            row.append(field);
+            return;
+        }
+
+        row.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                row.append(QUOTE);
+            }
+            row.append(c);
+        }
+        row.append(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        if (!field.isEmpty() && (Character.isWhitespace(field.charAt(0))
+                || Character.isWhitespace(field.charAt(field.length() - 1)))) {
+            return true;
+        }
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,235 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the events of an iCalendar file as described in RFC 5545, one event at a time, so that a file can be read in
+ * constant memory however many events it has.
+ * Folded lines are unfolded, and components other than {@code VEVENT}, as well as components nested in an event such
+ * as alarms, are skipped.
+ *
+ * @see IcsUtil
+ */
+public class IcsReader implements Closeable {
+
+    public static final String MESSAGE_MALFORMED_LINE = "Line %1$d: a content line should have a name and a value "
+            + "separated by a colon";
+    public static final String MESSAGE_UNCLOSED_EVENT = "Line %1$d: an event is not closed";
+
+    private static final String BEGIN = "BEGIN";
+    private static final String END = "END";
+    private static final String EVENT = "VEVENT";
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+    private int lineNumber = 0;
+    private String nextLine;
+
+    /**
+     * Creates an {@code IcsReader} that reads events from {@code reader}.
+     */
+    public IcsReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the next event, or an empty {@code Optional} if there are no more events.
+     *
+     * @throws IOException if the event is malformed or cannot be read.
+     */
+    public Optional<Event> readEvent() throws IOException {
+        Optional<Property> property = readProperty();
+        while (property.isPresent() && !property.get().isBeginOf(EVENT)) {
+            property = readProperty();
+        }
+        if (property.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Event event = new Event(property.get().lineNumber);
+        int depth = 0;
+        while (true) {
+            property = readProperty();
+            if (property.isEmpty()) {
+                throw new IOException(String.format(MESSAGE_UNCLOSED_EVENT, event.lineNumber));
+            }
+
+            if (property.get().name.equals(BEGIN)) {
+                depth++;
+            } else if (property.get().name.equals(END)) {
+                if (depth == 0) {
+                    return Optional.of(event);
+                }
+                depth--;
+            } else if (depth == 0) {
+                event.properties.putIfAbsent(property.get().name, property.get());
+            }
+        }
+    }
+
+    /**
+     * Reads the next unfolded content line as a property, skipping blank lines.
+     */
+    private Optional<Property> readProperty() throws IOException {
+        String line = readLine();
+        while (line != null && line.isBlank()) {
+            line = readLine();
+        }
+        if (line == null) {
+            return Optional.empty();
+        }
+
+        int startLineNumber = lineNumber;
+        StringBuilder unfolded = new StringBuilder(line);
+        while (isContinuation(peekLine())) {
+            unfolded.append(readLine().substring(1));
+        }
+        return Optional.of(Property.parse(unfolded.toString(), startLineNumber));
+    }
+
+    /**
+     * Returns true if {@code line} continues the previous line, as it starts with a space or a tab.
+     */
+    private static boolean isContinuation(String line) {
+        return line != null && !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+    }
+
+    private String peekLine() throws IOException {
+        if (nextLine == null) {
+            nextLine = reader.readLine();
+        }
+        return nextLine;
+    }
+
+    private String readLine() throws IOException {
+        String line = peekLine();
+        nextLine = null;
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A {@code VEVENT} component, with its properties looked up by name.
+     * Only the first of several properties with the same name is kept.
+     */
+    public static class Event {
+        private final int lineNumber;
+        private final Map<String, Property> properties = new HashMap<>();
+
+        private Event(int lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+
+        /**
+         * Returns the line on which the event begins.
+         */
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Returns the property with the given {@code name}, ignoring case, if the event has one.
+         */
+        public Optional<Property> get(String name) {
+            return Optional.ofNullable(properties.get(name.toUpperCase(Locale.ROOT)));
+        }
+    }
+
+    /**
+     * A property of a component, with its parameters and its value, which is not unescaped.
+     */
+    public static class Property {
+        private final int lineNumber;
+        private final String name;
+        private final Map<String, String> parameters;
+        private final String value;
+
+        private Property(int lineNumber, String name, Map<String, String> parameters, String value) {
+            this.lineNumber = lineNumber;
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+
+        /**
+         * Parses the content line {@code line} of the form {@code NAME;PARAM=VALUE;...:VALUE}, in which parameter
+         * values may be quoted.
+         */
+        private static Property parse(String line, int lineNumber) throws IOException {
+            Map<String, String> parameters = new HashMap<>();
+            String name = null;
+            String parameterName = null;
+            boolean isQuoted = false;
+            int start = 0;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == QUOTE) {
+                    isQuoted = !isQuoted;
+                } else if (!isQuoted && c == '=' && name != null && parameterName == null) {
+                    parameterName = line.substring(start, i).trim().toUpperCase(Locale.ROOT);
+                    start = i + 1;
+                } else if (!isQuoted && (c == ';' || c == ':')) {
+                    String token = line.substring(start, i).trim();
+                    if (name == null) {
+                        name = token.toUpperCase(Locale.ROOT);
+                    } else if (parameterName != null) {
+                        parameters.put(parameterName, unquote(token));
+                    }
+                    parameterName = null;
+                    start = i + 1;
+                    if (c == ':') {
+                        if (name.isEmpty()) {
+                            break;
+                        }
+                        return new Property(lineNumber, name, parameters, line.substring(i + 1));
+                    }
+                }
+            }
+            throw new IOException(String.format(MESSAGE_MALFORMED_LINE, lineNumber));
+        }
+
+        private static String unquote(String parameterValue) {
+            if (parameterValue.length() >= 2 && parameterValue.charAt(0) == QUOTE
+                    && parameterValue.charAt(parameterValue.length() - 1) == QUOTE) {
+                return parameterValue.substring(1, parameterValue.length() - 1);
+            }
+            return parameterValue;
+        }
+
+        private boolean isBeginOf(String component) {
+            return name.equals(BEGIN) && value.trim().equalsIgnoreCase(component);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the value of the parameter with the given {@code name}, ignoring case, if the property has one.
+         */
+        public Optional<String> getParameter(String name) {
+            return Optional.ofNullable(parameters.get(name.toUpperCase(Locale.ROOT)));
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+
+/**
+ * Writes content lines of iCalendar files as described in RFC 5545.
+ * Lines longer than 75 octets are folded onto continuation lines starting with a space, without splitting a character.
+ *
+ * @see IcsReader
+ */
+public class IcsUtil {
+
+    /** Formats and parses the local date-times of properties such as {@code DTSTART}, e.g. 20250325T100000. */
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuuMMdd'T'HHmmss")
+            .withResolverStyle(ResolverStyle.STRICT);
+    public static final String UTC_SUFFIX = "Z";
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final String CONTINUATION = " ";
+    private static final int MAX_LINE_OCTETS = 75;
+
+    /**
+     * Writes the property {@code name} with the already escaped {@code value} to {@code writer} as a folded content
+     * line.
+     */
+    public static void writeProperty(Writer writer, String name, String value) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(name);
+        requireNonNull(value);
+
+        String line = name + ":" + value;
+        int octets = 0;
+        int i = 0;
+        while (i < line.length()) {
+            int codePoint = line.codePointAt(i);
+            int charCount = Character.charCount(codePoint);
+            int codePointOctets = line.substring(i, i + charCount).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + codePointOctets > MAX_LINE_OCTETS) {
+                writer.write(LINE_SEPARATOR);
+                writer.write(CONTINUATION);
+                octets = CONTINUATION.length();
+            }
+            writer.write(line, i, charCount);
+            octets += codePointOctets;
+            i += charCount;
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns {@code text} as the value of a text property, with backslashes, semicolons, commas and line breaks
+     * escaped.
+     */
+    public static String escapeText(String text) {
+        requireNonNull(text);
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * Returns the text of the text property {@code value}, reversing {@link #escapeText(String)}.
+     */
+    public static String unescapeText(String value) {
+        requireNonNull(value);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i == value.length() - 1) {
+                text.append(c);
+                continue;
+            }
+
+            char escaped = value.charAt(++i);
+            text.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+
+/**
+ * Matches {@code NormalizedText} against a fixed list of keywords, ignoring case.
+ * The keywords are validated and lowercased once on construction, so that matching allocates nothing.
+ */
+public final class KeywordMatcher {
+
+    private final String[] keywords;
+
+    /**
+     * Creates a {@code KeywordMatcher} for the given {@code keywords}.
+     *
+     * @param keywords cannot be null, and each keyword cannot be null, cannot be empty and must be a single word
+     */
+    public KeywordMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = new String[keywords.size()];
+        for (int i = 0; i < this.keywords.length; i++) {
+            this.keywords[i] = prepareKeyword(keywords.get(i));
+        }
+    }
+
+    private static String prepareKeyword(String keyword) {
+        requireNonNull(keyword);
+
+        String preppedKeyword = keyword.trim();
+        checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
+        checkArgument(
+                preppedKeyword.split("\\s+").length == 1,
+                "Keyword parameter should be a single word");
+        return preppedKeyword.toLowerCase();
+    }
+
+    /**
+     * Returns true if any keyword is a substring of any word in {@code text}.
+     */
+    public boolean matchesAny(NormalizedText text) {
+        for (String keyword : keywords) {
+            for (String word : text.words) {
+                if (word.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+package tutorly.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * The lowercase words of a piece of text, split on whitespace.
+ * Entities cache an instance of this so that keyword searches do not split and lowercase the same text repeatedly.
+ */
+public final class NormalizedText {
+
+    private static final String[] NO_WORDS = new String[0];
+
+    final String[] words;
+
+    private NormalizedText(String[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Returns the normalized form of {@code text}.
+     */
+    public static NormalizedText of(String text) {
+        requireNonNull(text);
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            return new NormalizedText(NO_WORDS);
+        }
+
+        String[] words = trimmed.split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = words[i].toLowerCase();
+        }
+        return new NormalizedText(words);
+    }
+
+    public int wordCount() {
+        return words.length;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NormalizedText otherNormalizedText)) {
+            return false;
+        }
+
+        return Arrays.equals(words, otherNormalizedText.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", words);
+    }
+}
@@ -1,11 +1,10 @@
 package tutorly.commons.util;
 
 import static java.util.Objects.requireNonNull;
-import static tutorly.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -22,21 +21,13 @@ public class StringUtil {
      *       </pre>
      * @param sentence cannot be null
      * @param keyword cannot be null, cannot be empty, must be a single word
+     * @see KeywordMatcher for matching many sentences against the same keywords
      */
     public static boolean containsWordIgnoreCase(String sentence, String keyword) {
         requireNonNull(sentence);
         requireNonNull(keyword);
 
-        String preppedKeyword = keyword.trim();
-        checkArgument(!preppedKeyword.isEmpty(), "Keyword parameter cannot be empty");
-        checkArgument(
-                preppedKeyword.split("\\s+").length == 1,
-                "Keyword parameter should be a single word");
-
-        String[] wordsInSentence = sentence.split("\\s+");
-
-        return Arrays.stream(wordsInSentence)
-                .anyMatch(w -> w.toLowerCase().contains(preppedKeyword.toLowerCase()));
+        return new KeywordMatcher(List.of(keyword)).matchesAny(NormalizedText.of(sentence));
     }
 
     /**
@@ -0,0 +1,158 @@
+package tutorly.logic;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.LogsCenter;
+import tutorly.logic.commands.CommandResult;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands, one per line, through a {@code Logic} without the GUI, and prints the result of each
+ * command. Blank lines and lines starting with {@code #} are skipped, and the script stops at an {@code exit} command.
+ * A command that fails is reported and the script carries on with the next one.
+ * <p>
+ * The address book is not saved after every command but every {@code saveInterval} commands, or only once at the end
+ * if the interval is 0, so that a long script is not slowed down by writing the data file once per command.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND = "> %1$s";
+    public static final String MESSAGE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d command(s) in %2$d ms (%3$d per second): "
+            + "%4$d succeeded, %5$d failed, %6$d save(s)";
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "The save interval should not be negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final int saveInterval;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands through {@code logic}, saving every {@code saveInterval}
+     * commands, or only at the end if it is 0.
+     */
+    public BatchRunner(Logic logic, int saveInterval) {
+        requireNonNull(logic);
+        checkArgument(saveInterval >= 0, MESSAGE_INVALID_SAVE_INTERVAL);
+        this.logic = logic;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Executes the commands in {@code script}, printing each command and its result to {@code out}, and returns a
+     * summary of the run. The address book is saved at the end even if the script cannot be read to its end.
+     *
+     * @throws IOException if the script cannot be read.
+     * @throws CommandException if the address book cannot be saved.
+     */
+    public Summary run(Reader script, PrintWriter out) throws IOException, CommandException {
+        requireNonNull(script);
+        requireNonNull(out);
+        BufferedReader reader = script instanceof BufferedReader bufferedReader
+                ? bufferedReader
+                : new BufferedReader(script);
+
+        long startTime = System.nanoTime();
+        int succeededCount = 0;
+        int failedCount = 0;
+        int saveCount = 0;
+        logic.setAutoSave(false);
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                out.println(String.format(MESSAGE_COMMAND, commandText));
+                boolean shouldExit = false;
+                try {
+                    CommandResult result = logic.execute(commandText);
+                    out.println(result.getFeedbackToUser());
+                    succeededCount++;
+                    shouldExit = result.shouldExit();
+                } catch (CommandException | ParseException e) {
+                    out.println(String.format(MESSAGE_ERROR, lineNumber, e.getMessage()));
+                    failedCount++;
+                }
+
+                if (saveInterval > 0 && (succeededCount + failedCount) % saveInterval == 0 && logic.save()) {
+                    saveCount++;
+                }
+                if (shouldExit) {
+                    break;
+                }
+            }
+        } finally {
+            logic.setAutoSave(true);
+            if (logic.save()) {
+                saveCount++;
+            }
+        }
+
+        Summary summary = new Summary(succeededCount, failedCount, saveCount, System.nanoTime() - startTime);
+        logger.info(summary.getMessage());
+        return summary;
+    }
+
+    /**
+     * The number of commands run by a {@code BatchRunner}, how many of them failed, how many times the address book
+     * was saved, and how long it all took.
+     */
+    public static class Summary {
+        private final int succeededCount;
+        private final int failedCount;
+        private final int saveCount;
+        private final long elapsedNanos;
+
+        private Summary(int succeededCount, int failedCount, int saveCount, long elapsedNanos) {
+            this.succeededCount = succeededCount;
+            this.failedCount = failedCount;
+            this.saveCount = saveCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return succeededCount + failedCount;
+        }
+
+        public int getSucceededCount() {
+            return succeededCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the summary as a message for the user, with the throughput in commands per second.
+         */
+        public String getMessage() {
+            long commandsPerSecond = getCommandCount() * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+            return String.format(MESSAGE_SUMMARY, getCommandCount(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    commandsPerSecond, succeededCount, failedCount, saveCount);
+        }
+    }
+}
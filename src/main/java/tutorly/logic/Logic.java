@@ -11,6 +11,7 @@ import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.filter.PageResult;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
 
@@ -20,6 +21,8 @@ import tutorly.model.session.Session;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * Several commands separated by {@code ;} are executed as one command, which is saved once and undone together,
+     * and makes no changes if any of them fails.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -35,6 +38,19 @@ public interface Logic {
      */
     CommandResult execute(Command command) throws CommandException;
 
+    /**
+     * Sets whether the address book is saved after every command. When it is not, changes are only saved by
+     * {@link #save()}, which lets many commands share a single save.
+     */
+    void setAutoSave(boolean isAutoSaving);
+
+    /**
+     * Saves the address book if any command has been executed since it was last saved.
+     * @return true if the address book was saved.
+     * @throws CommandException If an error occurs while saving.
+     */
+    boolean save() throws CommandException;
+
     /**
      * Returns the AddressBook.
      *
@@ -48,12 +64,26 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the page of persons shown in the filtered list of persons.
+     *
+     * @see Model#getFilteredPersonListPage()
+     */
+    PageResult getFilteredPersonListPage();
+
     /** Returns an unmodifiable view of the list of sessions */
     ObservableList<Session> getSessionList();
 
     /** Returns an unmodifiable view of the filtered list of sessions */
     ObservableList<Session> getFilteredSessionList();
 
+    /**
+     * Returns the page of sessions shown in the filtered list of sessions.
+     *
+     * @see Model#getFilteredSessionListPage()
+     */
+    PageResult getFilteredSessionListPage();
+
     /** Returns an unmodifiable view of the list of attendance records */
     ObservableList<AttendanceRecord> getAttendanceRecordList();
 
@@ -3,20 +3,22 @@ package tutorly.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.Stack;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import tutorly.commons.core.Config;
 import tutorly.commons.core.GuiSettings;
 import tutorly.commons.core.LogsCenter;
 import tutorly.logic.commands.Command;
 import tutorly.logic.commands.CommandResult;
 import tutorly.logic.commands.exceptions.CommandException;
-import tutorly.logic.parser.AddressBookParser;
+import tutorly.logic.parser.CommandLineParser;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.filter.PageResult;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
 import tutorly.storage.Storage;
@@ -36,24 +38,36 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
-    private final AddressBookParser addressBookParser;
+    private final CommandLineParser commandLineParser;
 
-    private final Stack<Command> undoStack = new Stack<>();
+    private final UndoHistory undoHistory;
+
+    private boolean isAutoSaving = true;
+    private boolean hasUnsavedChanges = false;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and an undo history bounded by
+     * {@code undoHistoryByteBudget} bytes.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, long undoHistoryByteBudget) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        commandLineParser = new CommandLineParser();
+        undoHistory = new UndoHistory(undoHistoryByteBudget);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     */
+    public LogicManager(Model model, Storage storage) {
+        this(model, storage, Config.DEFAULT_UNDO_HISTORY_BYTE_BUDGET);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        Command command = addressBookParser.parse(commandText);
+        Command command = commandLineParser.parse(commandText);
         return execute(command);
     }
 
@@ -62,22 +76,40 @@ public class LogicManager implements Logic {
         CommandResult commandResult = command.execute(model);
 
         if (commandResult.hasReverseCommand()) {
-            Command reverseCommand = commandResult.getReverseCommand();
-            undoStack.push(reverseCommand);
+            undoHistory.push(commandResult.getReverseCommand());
         }
 
         if (commandResult.shouldReverseLast()) {
-            if (undoStack.isEmpty()) {
+            Optional<Command> lastCommand = undoHistory.pop();
+            if (lastCommand.isEmpty()) {
                 throw new CommandException(UNDO_STACK_EMPTY);
             }
-            Command lastCommand = undoStack.pop();
-            CommandResult undoCommandResult = lastCommand.execute(model);
+            CommandResult undoCommandResult = lastCommand.get().execute(model);
 
             commandResult = new CommandResult.Builder(undoCommandResult)
                     .withFeedback(commandResult.getFeedbackToUser() + "\n" + undoCommandResult.getFeedbackToUser())
                     .build();
         }
 
+        hasUnsavedChanges = true;
+        if (isAutoSaving) {
+            save();
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public void setAutoSave(boolean isAutoSaving) {
+        this.isAutoSaving = isAutoSaving;
+    }
+
+    @Override
+    public boolean save() throws CommandException {
+        if (!hasUnsavedChanges) {
+            return false;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (AccessDeniedException e) {
@@ -85,8 +117,8 @@ public class LogicManager implements Logic {
         } catch (IOException ioe) {
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
-
-        return commandResult;
+        hasUnsavedChanges = false;
+        return true;
     }
 
     @Override
@@ -104,6 +136,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public PageResult getFilteredPersonListPage() {
+        return model.getFilteredPersonListPage();
+    }
+
     @Override
     public ObservableList<Session> getSessionList() {
         return model.getSessionList();
@@ -114,6 +151,11 @@ public class LogicManager implements Logic {
         return model.getFilteredSessionList();
     }
 
+    @Override
+    public PageResult getFilteredSessionListPage() {
+        return model.getFilteredSessionListPage();
+    }
+
     @Override
     public ObservableList<AttendanceRecord> getAttendanceRecordList() {
         return model.getAttendanceRecordList();
@@ -1,15 +1,27 @@
 package tutorly.logic;
 
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.logic.parser.ParserUtil.DATE_FORMATTER;
 import static tutorly.logic.parser.ParserUtil.TIME_FORMATTER;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import tutorly.logic.parser.Prefix;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceCounts;
+import tutorly.model.filter.PageResult;
+import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
 import tutorly.model.session.Timeslot;
 
@@ -21,11 +33,17 @@ public class Messages {
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_PERSON_NOT_FOUND = "Student not found!";
+    public static final String MESSAGE_DID_YOU_MEAN = "Did you mean: %1$s?";
+    public static final int MAX_SUGGESTIONS = 3;
     public static final String MESSAGE_SESSION_NOT_FOUND = "Session not found!";
     public static final String MESSAGE_DUPLICATE_PERSON = "This student already exists.";
-    public static final String MESSAGE_SESSION_OVERLAP = "This session overlaps with another session.";
+    public static final String MESSAGE_SCHEDULE_CONFLICT = "%1$s is already enrolled in an overlapping session: %2$s";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d students listed!";
     public static final String MESSAGE_SESSIONS_LISTED_OVERVIEW = "%1$d sessions listed!";
+    public static final String MESSAGE_SESSIONS_IN_DATE_RANGE = "%1$d sessions from %2$s to %3$s";
+    public static final String PAGE_PARAMETERS = "[" + PREFIX_OFFSET + "OFFSET] [" + PREFIX_LIMIT + "LIMIT] ["
+            + PREFIX_SORT + "SORT_KEY]";
+    public static final String MESSAGE_PAGE_SHOWN = "Showing %1$s of %2$s matches.";
     public static final String MESSAGE_PERSONS_SHOWN = "Showing students";
     public static final String MESSAGE_PERSON_SHOWN = "Showing student %1$s";
     public static final String MESSAGE_SESSIONS_SHOWN = "Showing sessions";
@@ -45,6 +63,54 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Returns an error message indicating that the student identified by {@code identity} was not found, suggesting
+     * students in {@code model} with similar names if the student was identified by name.
+     */
+    public static String getErrorMessageForPersonNotFound(Model model, Identity identity) {
+        if (!identity.isNamePresent()) {
+            return MESSAGE_PERSON_NOT_FOUND;
+        }
+
+        List<Person> suggestions = model.getSimilarPersons(identity.getName().fullName, MAX_SUGGESTIONS);
+        if (suggestions.isEmpty()) {
+            return MESSAGE_PERSON_NOT_FOUND;
+        }
+
+        String names = suggestions.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return MESSAGE_PERSON_NOT_FOUND + " " + String.format(MESSAGE_DID_YOU_MEAN, names);
+    }
+
+    /**
+     * Returns a message describing the {@code page} of results shown out of all the matches.
+     */
+    public static String formatPage(PageResult page) {
+        String shown = page.getSize() == 0
+                ? "none"
+                : (page.getOffset() + 1) + "-" + (page.getOffset() + page.getSize());
+        String matchCount = page.getMatchCount() + (page.isMatchCountExact() ? "" : "+");
+        return String.format(MESSAGE_PAGE_SHOWN, shown, matchCount);
+    }
+
+    /**
+     * Returns a message summarising the {@code sessionCount} sessions on the dates of {@code dateRange}, with the
+     * number of sessions on each date in {@code countsByDate}.
+     */
+    public static String formatSessionsByDate(DateRange dateRange, int sessionCount,
+            SortedMap<LocalDate, Integer> countsByDate) {
+        String summary = String.format(MESSAGE_SESSIONS_IN_DATE_RANGE, sessionCount,
+                dateRange.getStartDate().format(DATE_FORMATTER), dateRange.getEndDate().format(DATE_FORMATTER));
+        if (countsByDate.isEmpty()) {
+            return summary + ".";
+        }
+
+        return summary + ": " + countsByDate.entrySet().stream()
+                .map(entry -> entry.getKey().format(DATE_FORMATTER) + " (" + entry.getValue() + ")")
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
@@ -82,6 +148,18 @@ public class Messages {
                 end.format(DATE_FORMATTER), end.format(TIME_FORMATTER));
     }
 
+    /**
+     * Formats the {@code duration} in hours and minutes for display to the user.
+     */
+    public static String format(Duration duration) {
+        long hours = duration.toHours();
+        int minutes = duration.toMinutesPart();
+        if (hours == 0) {
+            return minutes + "m";
+        }
+        return minutes == 0 ? hours + "h" : hours + "h" + minutes + "m";
+    }
+
     /**
      * Formats the {@code session} for display to the user.
      */
@@ -95,4 +173,21 @@ public class Messages {
                 .append(session.getSubject());
         return builder.toString();
     }
+
+    /**
+     * Formats the attendance {@code counts} for display to the user.
+     */
+    public static String format(AttendanceCounts counts) {
+        return String.format("%d enrolled, %d present, %d absent (%d%% attendance), %d with feedback",
+                counts.getEnrolled(), counts.getPresent(), counts.getAbsent(), counts.getAttendanceRate(),
+                counts.getWithFeedback());
+    }
+
+    /**
+     * Formats the attendance {@code counts} of a student or session briefly for display on its card.
+     */
+    public static String formatAttendance(AttendanceCounts counts) {
+        return String.format("Attended %d/%d (%d%%), %d with feedback", counts.getPresent(), counts.getEnrolled(),
+                counts.getAttendanceRate(), counts.getWithFeedback());
+    }
 }
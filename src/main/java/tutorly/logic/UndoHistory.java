@@ -0,0 +1,135 @@
+package tutorly.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorly.commons.core.Config;
+import tutorly.commons.core.LogsCenter;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.commands.Command;
+
+/**
+ * A history of reverse commands, most recent last, that is bounded by an estimated memory budget.
+ * Each entry is accounted for using {@link Command#estimateSize()}. Once the total size of the history exceeds the
+ * budget, the oldest entries are evicted until it fits again.
+ */
+public class UndoHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final long byteBudget;
+    private long totalSize;
+
+    /**
+     * Creates an {@code UndoHistory} bounded by {@code byteBudget} bytes.
+     */
+    public UndoHistory(long byteBudget) {
+        if (byteBudget < 0) {
+            throw new IllegalArgumentException("Byte budget must not be negative.");
+        }
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Creates an {@code UndoHistory} bounded by the default byte budget.
+     */
+    public UndoHistory() {
+        this(Config.DEFAULT_UNDO_HISTORY_BYTE_BUDGET);
+    }
+
+    /**
+     * Records {@code reverseCommand} as the most recent entry, evicting the oldest entries if the budget is exceeded.
+     * If {@code reverseCommand} alone exceeds the budget, the whole history is cleared, as older entries can no longer
+     * be undone correctly without it.
+     */
+    public void push(Command reverseCommand) {
+        requireNonNull(reverseCommand);
+
+        long size = reverseCommand.estimateSize();
+        if (size > byteBudget) {
+            logger.warning("Undo entry of " + size + " bytes exceeds the budget of " + byteBudget
+                    + " bytes; clearing undo history.");
+            clear();
+            return;
+        }
+
+        entries.addLast(new Entry(reverseCommand, size));
+        totalSize += size;
+
+        while (totalSize > byteBudget) {
+            Entry evicted = entries.removeFirst();
+            totalSize -= evicted.size;
+            logger.fine("Evicted undo entry of " + evicted.size + " bytes: " + evicted.command);
+        }
+    }
+
+    /**
+     * Removes and returns the most recent entry, if any.
+     */
+    public Optional<Command> pop() {
+        Entry entry = entries.pollLast();
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        totalSize -= entry.size;
+        return Optional.of(entry.command);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        entries.clear();
+        totalSize = 0;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the number of entries in the history.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by all entries in the history.
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public long getByteBudget() {
+        return byteBudget;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entries", entries.size())
+                .add("totalSize", totalSize)
+                .add("byteBudget", byteBudget)
+                .toString();
+    }
+
+    /**
+     * A reverse command together with its estimated size at the time it was recorded.
+     */
+    private static class Entry {
+        private final Command command;
+        private final long size;
+
+        Entry(Command command, long size) {
+            this.command = command;
+            this.size = size;
+        }
+    }
+}
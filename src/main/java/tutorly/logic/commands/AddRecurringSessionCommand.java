@@ -0,0 +1,125 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_COUNT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_EVERY;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+import tutorly.ui.Tab;
+
+/**
+ * Creates a tutoring session that recurs every fixed number of weeks.
+ * Occurrences may overlap with other sessions, e.g. when classes run in parallel, but not with each other. All
+ * occurrences are created in a single batch.
+ */
+public class AddRecurringSessionCommand extends SessionCommand {
+
+    public static final String COMMAND_WORD = "recur";
+    public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final int MAX_OCCURRENCES = 1000;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Creates a tutoring session that recurs every WEEKS weeks (default 1), "
+            + "either until the given date (inclusive) or for the given number of occurrences."
+            + "\nParameters: "
+            + PREFIX_TIMESLOT + "TIMESLOT "
+            + PREFIX_SUBJECT + "SUBJECT "
+            + "[" + PREFIX_EVERY + "WEEKS] "
+            + PREFIX_UNTIL + "DATE|" + PREFIX_COUNT + "OCCURRENCES"
+            + "\nExample: " + COMMAND_STRING + " "
+            + PREFIX_TIMESLOT + "30 Mar 2025 11:30-13:30 "
+            + PREFIX_SUBJECT + "Mathematics "
+            + PREFIX_EVERY + "2 "
+            + PREFIX_UNTIL + "27 Jul 2025";
+
+    public static final String MESSAGE_SUCCESS = "%1$d sessions created from %2$s to %3$s";
+    public static final String MESSAGE_OCCURRENCE_OVERLAP =
+            "The occurrence on %1$s overlaps with the previous occurrence.";
+    public static final String MESSAGE_LIMIT_REACHED = "Limit reached; cannot add that many sessions. "
+            + "Use the clear command to reset.";
+
+    private final List<Timeslot> timeslots;
+    private final Subject subject;
+
+    /**
+     * Creates an AddRecurringSessionCommand to add a session of the given {@code subject} at each of the given
+     * {@code timeslots}, which must be in chronological order.
+     */
+    public AddRecurringSessionCommand(List<Timeslot> timeslots, Subject subject) {
+        requireNonNull(timeslots);
+        requireNonNull(subject);
+        if (timeslots.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one occurrence.");
+        }
+
+        this.timeslots = List.copyOf(timeslots);
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        for (int i = 1; i < timeslots.size(); i++) {
+            if (timeslots.get(i - 1).isOverlapping(timeslots.get(i))) {
+                throw new CommandException(String.format(MESSAGE_OCCURRENCE_OVERLAP,
+                        Messages.format(timeslots.get(i))));
+            }
+        }
+
+        if (timeslots.size() > Integer.MAX_VALUE - addressBook.getNextSessionId()) {
+            throw new CommandException(MESSAGE_LIMIT_REACHED);
+        }
+
+        List<Session> occurrences = new ArrayList<>(timeslots.size());
+        timeslots.forEach(timeslot -> occurrences.add(new Session(timeslot, subject)));
+        model.batch(m -> occurrences.forEach(m::addSession));
+
+        int[] sessionIds = occurrences.stream().mapToInt(Session::getId).toArray();
+        Session first = occurrences.get(0);
+        Session last = occurrences.get(occurrences.size() - 1);
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, occurrences.size(),
+                Messages.format(first.getTimeslot()), Messages.format(last.getTimeslot())))
+                .withTab(Tab.session(first))
+                .withReverseCommand(new BulkDeleteSessionCommand(sessionIds))
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddRecurringSessionCommand otherCommand)) {
+            return false;
+        }
+
+        return timeslots.equals(otherCommand.timeslots)
+                && subject.equals(otherCommand.subject);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("timeslots", timeslots)
+                .add("subject", subject)
+                .toString();
+    }
+}
@@ -9,10 +9,12 @@ import tutorly.logic.Messages;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
 import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
 import tutorly.ui.Tab;
 
 /**
  * Creates a new tutoring session.
+ * The session may overlap with other sessions, e.g. when classes run in parallel.
  */
 public class AddSessionCommand extends SessionCommand {
 
@@ -49,9 +51,7 @@ public class AddSessionCommand extends SessionCommand {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        if (model.hasOverlappingSession(toCreate)) {
-            throw new CommandException(Messages.MESSAGE_SESSION_OVERLAP);
-        } else if (model.hasSession(toCreate)) {
+        if (model.hasSession(toCreate)) {
             throw new CommandException(MESSAGE_DUPLICATE_SESSION);
         }
 
@@ -68,6 +68,11 @@ public class AddSessionCommand extends SessionCommand {
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimate(toCreate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -14,6 +14,7 @@ import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
+import tutorly.model.util.MemoryEstimator;
 import tutorly.ui.Tab;
 
 /**
@@ -77,6 +78,11 @@ public class AddStudentCommand extends StudentCommand {
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimate(toAdd);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
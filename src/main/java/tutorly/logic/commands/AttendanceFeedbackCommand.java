@@ -15,6 +15,7 @@ import tutorly.model.attendancerecord.Feedback;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
 import tutorly.ui.Tab;
 
 /**
@@ -56,7 +57,7 @@ public class AttendanceFeedbackCommand extends SessionCommand {
 
         Optional<Person> person = model.getPersonByIdentity(identity);
         if (person.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
         }
 
         Optional<Session> session = model.getSessionById(sessionId);
@@ -84,6 +85,11 @@ public class AttendanceFeedbackCommand extends SessionCommand {
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimate(feedback.value);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (this == other) {
@@ -1,7 +1,9 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.ParserUtil.IDENTITY_SEPARATOR;
 
 import java.util.Optional;
 
@@ -25,10 +27,14 @@ public class AttendanceUnmarkSessionCommand extends SessionCommand {
     public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
     public static final String MESSAGE_USAGE = COMMAND_STRING
-            + ": Unmarks attendance for a student in a session."
-            + "\nParameters: STUDENT_IDENTIFIER "
+            + ": Unmarks attendance for students identified by STUDENT_IDENTIFIERs (ID or full name) in a session, "
+            + "or for all students in the session if " + PREFIX_ALL + " is given."
+            + "\nParameters: STUDENT_IDENTIFIER[ " + IDENTITY_SEPARATOR + " STUDENT_IDENTIFIER]... "
             + PREFIX_SESSION + "SESSION_ID"
-            + "\nExample: " + COMMAND_STRING + " 1 "
+            + "\nParameters: " + PREFIX_ALL + " " + PREFIX_SESSION + "SESSION_ID"
+            + "\nExample: " + COMMAND_STRING + " 1 " + IDENTITY_SEPARATOR + " John Doe "
+            + PREFIX_SESSION + "2"
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_ALL + " "
             + PREFIX_SESSION + "2";
 
     public static final String MESSAGE_SUCCESS = "Unmarked %1$s's for Session: %2$s";
@@ -52,7 +58,7 @@ public class AttendanceUnmarkSessionCommand extends SessionCommand {
 
         Optional<Person> person = model.getPersonByIdentity(identity);
         if (person.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
         }
 
         Optional<Session> session = model.getSessionById(sessionId);
@@ -0,0 +1,175 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.person.Identity;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
+import tutorly.ui.Tab;
+
+/**
+ * Marks or unmarks attendance for all or selected students enrolled in a session in a single operation.
+ * Students whose attendance already has the requested status are skipped.
+ */
+public class BulkAttendanceSessionCommand extends SessionCommand {
+
+    public static final String MESSAGE_MARK_SUCCESS = "Marked attendance of %1$d student(s) for Session: %2$s";
+    public static final String MESSAGE_UNMARK_SUCCESS = "Unmarked attendance of %1$d student(s) for Session: %2$s";
+    public static final String MESSAGE_SKIPPED = "\n%1$d student(s) with unchanged attendance were skipped.";
+    public static final String MESSAGE_RECORD_NOT_FOUND = "%1$s is not assigned to Session: %2$s";
+    public static final String MESSAGE_NOTHING_TO_UPDATE = "No attendance to update for Session: %1$s";
+
+    /** Estimated size of an {@code Identity} holding only an ID. */
+    private static final long IDENTITY_SIZE =
+            MemoryEstimator.OBJECT_HEADER_SIZE + MemoryEstimator.INT_SIZE + MemoryEstimator.REFERENCE_SIZE;
+
+    private final Optional<List<Identity>> identities;
+    private final int sessionId;
+    private final boolean presence;
+
+    /**
+     * Creates a BulkAttendanceSessionCommand that sets the attendance of the students with the given
+     * {@code identities} in the session with the given {@code sessionId} to {@code presence}.
+     */
+    public BulkAttendanceSessionCommand(List<Identity> identities, int sessionId, boolean presence) {
+        requireNonNull(identities);
+        this.identities = Optional.of(identities);
+        this.sessionId = sessionId;
+        this.presence = presence;
+    }
+
+    /**
+     * Creates a BulkAttendanceSessionCommand that sets the attendance of all students enrolled in the session with the
+     * given {@code sessionId} to {@code presence}.
+     */
+    public BulkAttendanceSessionCommand(int sessionId, boolean presence) {
+        this.identities = Optional.empty();
+        this.sessionId = sessionId;
+        this.presence = presence;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<Session> session = model.getSessionById(sessionId);
+        if (session.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_SESSION_NOT_FOUND);
+        }
+
+        // Only the records of the session are looked up, through the index of the students enrolled in it
+        Map<Integer, AttendanceRecord> sessionRecords = new HashMap<>();
+        for (int studentId : model.getAddressBook().getAttendanceRecordIndex().getEnrolledStudentIds(sessionId)) {
+            model.findAttendanceRecord(new AttendanceRecord(studentId, sessionId, false, Feedback.empty()))
+                    .ifPresent(record -> sessionRecords.put(studentId, record));
+        }
+
+        Set<Integer> selectedStudentIds = identities.isPresent()
+                ? resolveStudentIds(model, identities.get(), sessionRecords, session.get())
+                : sessionRecords.keySet();
+
+        Set<Integer> toUpdate = new HashSet<>();
+        for (int studentId : selectedStudentIds) {
+            if (sessionRecords.get(studentId).getAttendance() != presence) {
+                toUpdate.add(studentId);
+            }
+        }
+
+        if (toUpdate.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_TO_UPDATE, Messages.format(session.get())));
+        }
+
+        // Each updated record is equivalent to the record it replaces, so it keeps its position in the list
+        model.batch(m -> {
+            for (int studentId : toUpdate) {
+                AttendanceRecord record = sessionRecords.get(studentId);
+                m.setAttendanceRecord(record, new AttendanceRecord(studentId, sessionId, presence,
+                        record.getFeedback()));
+            }
+        });
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+
+        String feedback = String.format(presence ? MESSAGE_MARK_SUCCESS : MESSAGE_UNMARK_SUCCESS,
+                toUpdate.size(), Messages.format(session.get()));
+        int skipped = selectedStudentIds.size() - toUpdate.size();
+        if (skipped > 0) {
+            feedback += String.format(MESSAGE_SKIPPED, skipped);
+        }
+
+        List<Identity> updatedIdentities = toUpdate.stream().sorted().map(Identity::new).toList();
+        return new CommandResult.Builder(feedback)
+                .withTab(Tab.session(session.get()))
+                .withReverseCommand(new BulkAttendanceSessionCommand(updatedIdentities, sessionId, !presence))
+                .build();
+    }
+
+    /**
+     * Returns the IDs of the students with the given {@code identities}.
+     *
+     * @throws CommandException if any of the students does not exist or is not enrolled in the session.
+     */
+    private static Set<Integer> resolveStudentIds(Model model, List<Identity> identities,
+            Map<Integer, AttendanceRecord> sessionRecords, Session session) throws CommandException {
+        Set<Integer> studentIds = new HashSet<>();
+        for (Identity identity : identities) {
+            Optional<Person> person = model.getPersonByIdentity(identity);
+            if (person.isEmpty()) {
+                throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
+            }
+
+            if (!sessionRecords.containsKey(person.get().getId())) {
+                throw new CommandException(String.format(MESSAGE_RECORD_NOT_FOUND,
+                        person.get().getName().fullName, Messages.format(session)));
+            }
+
+            studentIds.add(person.get().getId());
+        }
+        return studentIds;
+    }
+
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + identities
+                .map(list -> MemoryEstimator.estimateArray(list.size(), MemoryEstimator.REFERENCE_SIZE + IDENTITY_SIZE))
+                .orElse(0L);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkAttendanceSessionCommand otherBulkAttendanceSessionCommand)) {
+            return false;
+        }
+
+        return identities.equals(otherBulkAttendanceSessionCommand.identities)
+                && sessionId == otherBulkAttendanceSessionCommand.sessionId
+                && presence == otherBulkAttendanceSessionCommand.presence;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("identities", identities)
+                .add("sessionId", sessionId)
+                .add("presence", presence)
+                .toString();
+    }
+}
@@ -0,0 +1,87 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.util.MemoryEstimator;
+import tutorly.ui.Tab;
+
+/**
+ * Removes multiple AttendanceRecords, each identified by a student ID and a session ID, in a single batch.
+ * This command is only used to undo an {@code ImportCommand}, so records that no longer exist are skipped.
+ */
+public class BulkDeleteAttendanceCommand extends Command {
+
+    public static final String MESSAGE_SUCCESS = "Removed %1$d attendance record(s)";
+
+    private final int[] studentIds;
+    private final int[] sessionIds;
+
+    /**
+     * Creates a BulkDeleteAttendanceCommand to remove the record of the student with {@code studentIds[i]} in the
+     * session with {@code sessionIds[i]}, for every {@code i}.
+     */
+    public BulkDeleteAttendanceCommand(int[] studentIds, int[] sessionIds) {
+        requireNonNull(studentIds);
+        requireNonNull(sessionIds);
+        checkArgument(studentIds.length == sessionIds.length);
+        this.studentIds = studentIds.clone();
+        this.sessionIds = sessionIds.clone();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<AttendanceRecord> toRemove = new ArrayList<>();
+        for (int i = 0; i < studentIds.length; i++) {
+            // value of isPresent is not used when finding a record in AddressBook, set to false as a placeholder
+            model.findAttendanceRecord(new AttendanceRecord(studentIds[i], sessionIds[i], false, Feedback.empty()))
+                    .ifPresent(toRemove::add);
+        }
+
+        model.batch(m -> toRemove.forEach(m::removeAttendanceRecord));
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, toRemove.size()))
+                .withTab(Tab.session())
+                .build();
+    }
+
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimateArray(studentIds.length, MemoryEstimator.INT_SIZE)
+                + MemoryEstimator.estimateArray(sessionIds.length, MemoryEstimator.INT_SIZE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteAttendanceCommand otherBulkDeleteAttendanceCommand)) {
+            return false;
+        }
+
+        return Arrays.equals(studentIds, otherBulkDeleteAttendanceCommand.studentIds)
+                && Arrays.equals(sessionIds, otherBulkDeleteAttendanceCommand.sessionIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", Arrays.toString(studentIds))
+                .add("sessionIds", Arrays.toString(sessionIds))
+                .toString();
+    }
+}
@@ -0,0 +1,77 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
+import tutorly.ui.Tab;
+
+/**
+ * Deletes multiple sessions identified by their IDs in a single batch.
+ * This command is only used to undo an {@code AddRecurringSessionCommand} or an {@code ImportCommand}, so sessions
+ * that no longer exist are skipped.
+ */
+public class BulkDeleteSessionCommand extends SessionCommand {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d session(s)";
+
+    private final int[] sessionIds;
+
+    /**
+     * Creates a BulkDeleteSessionCommand to delete the sessions with the given {@code sessionIds}.
+     */
+    public BulkDeleteSessionCommand(int[] sessionIds) {
+        requireNonNull(sessionIds);
+        this.sessionIds = sessionIds.clone();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Integer> ids = Arrays.stream(sessionIds).boxed().collect(Collectors.toSet());
+        List<Session> toDelete = model.getAddressBook().getSessionList().stream()
+                .filter(session -> ids.contains(session.getId()))
+                .toList();
+
+        model.batch(m -> toDelete.forEach(m::deleteSession));
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, toDelete.size()))
+                .withTab(Tab.session())
+                .build();
+    }
+
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimateArray(sessionIds.length, MemoryEstimator.INT_SIZE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteSessionCommand otherBulkDeleteSessionCommand)) {
+            return false;
+        }
+
+        return Arrays.equals(sessionIds, otherBulkDeleteSessionCommand.sessionIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sessionIds", Arrays.toString(sessionIds))
+                .toString();
+    }
+}
@@ -0,0 +1,75 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.person.Person;
+import tutorly.model.util.MemoryEstimator;
+import tutorly.ui.Tab;
+
+/**
+ * Deletes multiple students identified by their IDs in a single batch.
+ * This command is only used to undo an {@code ImportCommand}, so students that no longer exist are skipped.
+ */
+public class BulkDeleteStudentCommand extends StudentCommand {
+
+    public static final String MESSAGE_SUCCESS = "Deleted %1$d student(s)";
+
+    private final int[] studentIds;
+
+    /**
+     * Creates a BulkDeleteStudentCommand to delete the students with the given {@code studentIds}.
+     */
+    public BulkDeleteStudentCommand(int[] studentIds) {
+        requireNonNull(studentIds);
+        this.studentIds = studentIds.clone();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> toDelete = Arrays.stream(studentIds)
+                .mapToObj(model::getPersonById)
+                .flatMap(Optional::stream)
+                .toList();
+
+        model.batch(m -> toDelete.forEach(m::deletePerson));
+        model.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, toDelete.size()))
+                .withTab(Tab.student())
+                .build();
+    }
+
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimateArray(studentIds.length, MemoryEstimator.INT_SIZE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkDeleteStudentCommand otherBulkDeleteStudentCommand)) {
+            return false;
+        }
+
+        return Arrays.equals(studentIds, otherBulkDeleteStudentCommand.studentIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", Arrays.toString(studentIds))
+                .toString();
+    }
+}
@@ -0,0 +1,153 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.Filter;
+import tutorly.model.person.Identity;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.ui.Tab;
+
+/**
+ * Creates new AttendanceRecords for multiple students to a session in a single batch.
+ * Students can be selected by their identities and/or by a filter. Students who are already enrolled in the session
+ * or in another session with an overlapping timeslot are skipped.
+ */
+public class BulkEnrolSessionCommand extends SessionCommand {
+
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) enrolled to Session: %2$s";
+    public static final String MESSAGE_SKIPPED = "\n%1$d student(s) already enrolled were skipped.";
+    public static final String MESSAGE_CONFLICTS_SKIPPED =
+            "\n%1$d student(s) already enrolled in an overlapping session were skipped.";
+    public static final String MESSAGE_NO_STUDENTS_SELECTED = "No students match the given filters";
+    public static final String MESSAGE_ALL_ENROLLED = "All selected students are already enrolled in the session";
+    public static final String MESSAGE_ALL_CONFLICTING =
+            "All selected students not yet enrolled are already enrolled in an overlapping session";
+
+    private final List<Identity> identities;
+    private final Optional<Filter<Person>> filter;
+    private final int sessionId;
+
+    /**
+     * Creates a BulkEnrolSessionCommand for the students with the given {@code identities} and the students matching
+     * {@code filter}, if present, to the session with the given {@code sessionId}.
+     */
+    public BulkEnrolSessionCommand(List<Identity> identities, Optional<Filter<Person>> filter, int sessionId) {
+        requireNonNull(identities);
+        requireNonNull(filter);
+        this.identities = identities;
+        this.filter = filter;
+        this.sessionId = sessionId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<Session> session = model.getSessionById(sessionId);
+        if (session.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_SESSION_NOT_FOUND);
+        }
+
+        Map<Integer, Person> students = new LinkedHashMap<>();
+        for (Identity identity : identities) {
+            Optional<Person> person = model.getPersonByIdentity(identity);
+            if (person.isEmpty()) {
+                throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
+            }
+            students.putIfAbsent(person.get().getId(), person.get());
+        }
+
+        if (filter.isPresent()) {
+            Predicate<Person> predicate = filter.get().toPredicate(model.getAddressBook());
+            for (Person person : model.getPersonList()) {
+                if (predicate.test(person)) {
+                    students.putIfAbsent(person.getId(), person);
+                }
+            }
+        }
+
+        if (students.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS_SELECTED);
+        }
+
+        int[] enrolledStudentIds = model.getAddressBook().getAttendanceRecordIndex().getEnrolledStudentIds(sessionId);
+
+        List<AttendanceRecord> toAdd = new ArrayList<>();
+        int conflicting = 0;
+        for (int studentId : students.keySet()) {
+            if (Arrays.binarySearch(enrolledStudentIds, studentId) >= 0) {
+                continue;
+            }
+
+            if (!model.getAddressBook().getConflictingSessions(studentId, session.get()).isEmpty()) {
+                conflicting++;
+                continue;
+            }
+
+            toAdd.add(new AttendanceRecord(studentId, sessionId,
+                    EnrolSessionCommand.DEFAULT_PRESENCE, Feedback.empty()));
+        }
+
+        if (toAdd.isEmpty()) {
+            throw new CommandException(conflicting > 0 ? MESSAGE_ALL_CONFLICTING : MESSAGE_ALL_ENROLLED);
+        }
+
+        model.batch(m -> toAdd.forEach(m::addAttendanceRecord));
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+
+        String feedback = String.format(MESSAGE_SUCCESS, toAdd.size(), Messages.format(session.get()));
+        int skipped = students.size() - toAdd.size() - conflicting;
+        if (skipped > 0) {
+            feedback += String.format(MESSAGE_SKIPPED, skipped);
+        }
+        if (conflicting > 0) {
+            feedback += String.format(MESSAGE_CONFLICTS_SKIPPED, conflicting);
+        }
+
+        int[] enrolledIds = toAdd.stream().mapToInt(AttendanceRecord::getStudentId).toArray();
+        return new CommandResult.Builder(feedback)
+                .withTab(Tab.session(session.get()))
+                .withReverseCommand(new BulkUnenrolSessionCommand(enrolledIds, sessionId))
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEnrolSessionCommand otherBulkEnrolSessionCommand)) {
+            return false;
+        }
+
+        return identities.equals(otherBulkEnrolSessionCommand.identities)
+                && filter.equals(otherBulkEnrolSessionCommand.filter)
+                && sessionId == otherBulkEnrolSessionCommand.sessionId;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("identities", identities)
+                .add("filter", filter)
+                .add("sessionId", sessionId)
+                .toString();
+    }
+}
@@ -0,0 +1,93 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
+import tutorly.ui.Tab;
+
+/**
+ * Removes the AttendanceRecords of multiple students to a session in a single batch.
+ * This command is only used to undo a {@code BulkEnrolSessionCommand}, so students who are no longer enrolled in the
+ * session are skipped.
+ */
+public class BulkUnenrolSessionCommand extends SessionCommand {
+
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) unenrolled from Session: %2$s";
+
+    private final int[] studentIds;
+    private final int sessionId;
+
+    /**
+     * Creates a BulkUnenrolSessionCommand for the students with the given {@code studentIds} from the session with the
+     * given {@code sessionId}.
+     */
+    public BulkUnenrolSessionCommand(int[] studentIds, int sessionId) {
+        requireNonNull(studentIds);
+        this.studentIds = studentIds.clone();
+        this.sessionId = sessionId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<Session> session = model.getSessionById(sessionId);
+        if (session.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_SESSION_NOT_FOUND);
+        }
+
+        List<AttendanceRecord> toRemove = new ArrayList<>();
+        for (int studentId : studentIds) {
+            // value of isPresent is not used when finding a record in AddressBook, set to false as a placeholder
+            model.findAttendanceRecord(new AttendanceRecord(studentId, sessionId, false, Feedback.empty()))
+                    .ifPresent(toRemove::add);
+        }
+
+        model.batch(m -> toRemove.forEach(m::removeAttendanceRecord));
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+        return new CommandResult.Builder(
+                String.format(MESSAGE_SUCCESS, toRemove.size(), Messages.format(session.get())))
+                .withTab(Tab.session(session.get()))
+                .build();
+    }
+
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimateArray(studentIds.length, MemoryEstimator.INT_SIZE);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkUnenrolSessionCommand otherBulkUnenrolSessionCommand)) {
+            return false;
+        }
+
+        return Arrays.equals(studentIds, otherBulkUnenrolSessionCommand.studentIds)
+                && sessionId == otherBulkUnenrolSessionCommand.sessionId;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", Arrays.toString(studentIds))
+                .add("sessionId", sessionId)
+                .toString();
+    }
+}
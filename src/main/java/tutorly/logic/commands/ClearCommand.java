@@ -2,11 +2,16 @@ package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import tutorly.model.AddressBook;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
 
 /**
  * Clears the address book.
@@ -20,13 +25,14 @@ public class ClearCommand extends Command {
     public static final String MESSAGE_RESTORE_SUCCESS =
             "Students, sessions and attendance records have been restored!";
 
-    private final Optional<ReadOnlyAddressBook> addressBook;
+    private final Optional<Snapshot> snapshot;
 
     /**
      * Creates a ClearCommand to clear the address book to the specified {@code addressBook}.
+     * Only the elements of {@code addressBook} are retained, not the address book itself.
      */
     public ClearCommand(ReadOnlyAddressBook addressBook) {
-        this.addressBook = Optional.ofNullable(addressBook);
+        this.snapshot = Optional.ofNullable(addressBook).map(Snapshot::new);
     }
 
     /**
@@ -40,12 +46,61 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        ReadOnlyAddressBook currentAddressBook = new AddressBook(model.getAddressBook());
-        model.setAddressBook(addressBook.orElseGet(() -> new AddressBook()));
+        ClearCommand reverseCommand = new ClearCommand(model.getAddressBook());
+        model.setAddressBook(snapshot.map(Snapshot::toAddressBook).orElseGet(AddressBook::new));
 
-        return new CommandResult.Builder(addressBook.isPresent() ? MESSAGE_RESTORE_SUCCESS : MESSAGE_CLEAR_SUCCESS)
-                .withReverseCommand(new ClearCommand(currentAddressBook))
+        return new CommandResult.Builder(snapshot.isPresent() ? MESSAGE_RESTORE_SUCCESS : MESSAGE_CLEAR_SUCCESS)
+                .withReverseCommand(reverseCommand)
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + snapshot.map(Snapshot::estimateSize).orElse(0L);
+    }
+
+    /**
+     * A compact copy of the elements of an address book.
+     * The elements are shared with the source address book rather than copied, as they are immutable.
+     */
+    private static class Snapshot {
+        private final Person[] persons;
+        private final Session[] sessions;
+        private final AttendanceRecord[] attendanceRecords;
+        private final int nextPersonId;
+        private final int nextSessionId;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = source.getPersonList().toArray(new Person[0]);
+            sessions = source.getSessionList().toArray(new Session[0]);
+            attendanceRecords = source.getAttendanceRecordsList().toArray(new AttendanceRecord[0]);
+            nextPersonId = source.getNextPersonId();
+            nextSessionId = source.getNextSessionId();
+        }
+
+        AddressBook toAddressBook() {
+            AddressBook addressBook = new AddressBook(nextPersonId, nextSessionId);
+            addressBook.setPersons(Arrays.asList(persons));
+            addressBook.setSessions(Arrays.asList(sessions));
+            addressBook.setAttendanceRecords(Arrays.asList(attendanceRecords));
+            return addressBook;
+        }
+
+        long estimateSize() {
+            long size = MemoryEstimator.estimateArray(persons.length, MemoryEstimator.REFERENCE_SIZE)
+                    + MemoryEstimator.estimateArray(sessions.length, MemoryEstimator.REFERENCE_SIZE)
+                    + MemoryEstimator.estimateArray(attendanceRecords.length, MemoryEstimator.REFERENCE_SIZE);
+            for (Person person : persons) {
+                size += MemoryEstimator.estimate(person);
+            }
+            for (Session session : sessions) {
+                size += MemoryEstimator.estimate(session);
+            }
+            for (AttendanceRecord record : attendanceRecords) {
+                size += MemoryEstimator.estimate(record);
+            }
+            return size;
+        }
+    }
+
 }
@@ -8,6 +8,9 @@ import tutorly.model.Model;
  */
 public abstract class Command {
 
+    /** Estimated size of a command that only holds identifiers and small value objects. */
+    public static final long DEFAULT_ESTIMATED_SIZE = 64;
+
     /**
      * Executes the command and returns the result message.
      *
@@ -17,4 +20,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the estimated number of bytes retained by this command while it is kept in the undo history.
+     * Commands that hold model data (e.g. reverse commands of bulk operations) should override this.
+     */
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE;
+    }
+
 }
@@ -0,0 +1,118 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.ui.Tab;
+
+/**
+ * Executes several commands, such as those entered on one line separated by {@code ;}, as a single transaction.
+ * Either every command succeeds, or none of their changes are kept. As the commands run as one command, they are
+ * saved once and undone together.
+ */
+public class CompoundCommand extends Command {
+
+    public static final String MESSAGE_COMMAND_FAILED = "Command %1$d of %2$d failed, so no changes were made: %3$s";
+
+    private final List<Command> commands;
+
+    /**
+     * Creates a CompoundCommand to execute {@code commands} in order.
+     */
+    public CompoundCommand(List<Command> commands) {
+        requireAllNonNull(commands);
+        checkArgument(!commands.isEmpty());
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<CommandResult> results = new ArrayList<>();
+        model.batch(m -> {
+            for (Command command : commands) {
+                try {
+                    results.add(command.execute(m));
+                } catch (CommandException e) {
+                    throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, results.size() + 1,
+                            commands.size(), e.getMessage()), e);
+                }
+            }
+        });
+
+        String feedback = results.stream()
+                .map(CommandResult::getFeedbackToUser)
+                .collect(Collectors.joining("\n"));
+        CommandResult.Builder builder = new CommandResult.Builder(feedback)
+                .withShowHelp(results.stream().anyMatch(CommandResult::shouldShowHelp))
+                .withExit(results.stream().anyMatch(CommandResult::shouldExit));
+        lastTab(results).ifPresent(builder::withTab);
+        reverseCommand(results).ifPresent(builder::withReverseCommand);
+        return builder.build();
+    }
+
+    /**
+     * Returns the tab switched to by the last command that switches tabs, if any.
+     */
+    private static Optional<Tab> lastTab(List<CommandResult> results) {
+        for (int i = results.size() - 1; i >= 0; i--) {
+            if (results.get(i).shouldSwitchTab()) {
+                return Optional.of(results.get(i).getTab());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a command that undoes every command in {@code results} that can be undone, starting from the last.
+     */
+    private static Optional<Command> reverseCommand(List<CommandResult> results) {
+        List<Command> reverseCommands = results.stream()
+                .filter(CommandResult::hasReverseCommand)
+                .map(CommandResult::getReverseCommand)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (reverseCommands.size() <= 1) {
+            return reverseCommands.stream().findFirst();
+        }
+
+        Collections.reverse(reverseCommands);
+        return Optional.of(new CompoundCommand(reverseCommands));
+    }
+
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + commands.stream().mapToLong(Command::estimateSize).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CompoundCommand otherCompoundCommand)) {
+            return false;
+        }
+
+        return commands.equals(otherCompoundCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("commands", commands)
+                .toString();
+    }
+}
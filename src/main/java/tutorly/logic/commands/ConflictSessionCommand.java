@@ -0,0 +1,56 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.ScheduleConflict;
+import tutorly.ui.Tab;
+
+/**
+ * Lists every student enrolled in two sessions with overlapping timeslots.
+ */
+public class ConflictSessionCommand extends SessionCommand {
+
+    public static final String COMMAND_WORD = "conflicts";
+    public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final int MAX_CONFLICTS_SHOWN = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Lists the students enrolled in sessions with overlapping timeslots."
+            + "\nExample: " + COMMAND_STRING;
+
+    public static final String MESSAGE_SUCCESS = "%1$d schedule conflicts found";
+    public static final String MESSAGE_CONFLICT = "%1$s: %2$s and %3$s";
+    public static final String MESSAGE_MORE_CONFLICTS = "...and %1$d more";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<ScheduleConflict> conflicts = model.getAddressBook().getScheduleConflicts();
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, conflicts.size()));
+        if (!conflicts.isEmpty()) {
+            message.append(":\n").append(conflicts.stream()
+                    .limit(MAX_CONFLICTS_SHOWN)
+                    .map(conflict -> format(model, conflict))
+                    .collect(Collectors.joining("\n")));
+        }
+        if (conflicts.size() > MAX_CONFLICTS_SHOWN) {
+            message.append("\n").append(String.format(MESSAGE_MORE_CONFLICTS, conflicts.size() - MAX_CONFLICTS_SHOWN));
+        }
+        return new CommandResult.Builder(message.toString()).withTab(Tab.session()).build();
+    }
+
+    private static String format(Model model, ScheduleConflict conflict) {
+        String name = model.getPersonById(conflict.getStudentId())
+                .map(person -> person.getName().fullName)
+                .orElse(String.valueOf(conflict.getStudentId()));
+        return String.format(MESSAGE_CONFLICT, name,
+                Messages.format(conflict.getFirst()), Messages.format(conflict.getSecond()));
+    }
+}
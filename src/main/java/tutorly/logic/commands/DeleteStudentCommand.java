@@ -39,7 +39,7 @@ public class DeleteStudentCommand extends StudentCommand {
 
         Optional<Person> toDelete = model.getPersonByIdentity(identity);
         if (toDelete.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
         }
 
         model.deletePerson(toDelete.get());
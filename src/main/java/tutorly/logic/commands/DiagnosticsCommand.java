@@ -0,0 +1,41 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tutorly.model.Model;
+import tutorly.model.filter.SearchResultCache;
+
+/**
+ * Shows how effective the search result caches of the model are and how much memory they use.
+ */
+public class DiagnosticsCommand extends Command {
+
+    public static final String COMMAND_WORD = "diagnostics";
+    public static final String COMMAND_STRING = COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the hit rates and estimated memory usage of the search result caches."
+            + "\n\nExample: " + COMMAND_WORD;
+
+    public static final String MESSAGE_CACHE_STATISTICS = "%1$s search cache: %2$d/%3$d results (~%4$d bytes), "
+            + "%5$d hits, %6$d misses (%7$.1f%% hit rate), %8$d evictions";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        String feedback = formatStatistics("Student", model.getPersonSearchResultCache()) + "\n"
+                + formatStatistics("Session", model.getSessionSearchResultCache());
+        return new CommandResult.Builder(feedback).build();
+    }
+
+    /**
+     * Returns the statistics of {@code cache} as a line of feedback.
+     */
+    public static String formatStatistics(String name, SearchResultCache<?> cache) {
+        long lookups = cache.getHits() + cache.getMisses();
+        double hitRate = lookups == 0 ? 0 : 100.0 * cache.getHits() / lookups;
+        return String.format(MESSAGE_CACHE_STATISTICS, name, cache.size(), cache.getCapacity(), cache.getTotalSize(),
+                cache.getHits(), cache.getMisses(), hitRate, cache.getEvictions());
+    }
+}
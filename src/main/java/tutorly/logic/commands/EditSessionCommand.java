@@ -6,6 +6,7 @@ import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_TIMESLOT;
 import static tutorly.model.Model.FILTER_SHOW_ALL_SESSIONS;
 
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.commons.util.CollectionUtil;
@@ -16,10 +17,13 @@ import tutorly.model.Model;
 import tutorly.model.session.Session;
 import tutorly.model.session.Subject;
 import tutorly.model.session.Timeslot;
+import tutorly.model.util.MemoryEstimator;
 import tutorly.ui.Tab;
 
 /**
  * Edits the details of an existing session in the address book.
+ * The session must not be moved to a timeslot that overlaps with another session that any of its enrolled students is
+ * enrolled in.
  */
 public class EditSessionCommand extends SessionCommand {
     public static final String COMMAND_WORD = "edit";
@@ -79,8 +83,14 @@ public class EditSessionCommand extends SessionCommand {
 
         Session editedSession = createEditedSession(sessionToEdit.get(), editSessionDescriptor);
 
-        if (model.hasOverlappingSession(editedSession)) {
-            throw new CommandException(Messages.MESSAGE_SESSION_OVERLAP);
+        for (int studentId : model.getAddressBook().getAttendanceRecordIndex().getEnrolledStudentIds(sessionId)) {
+            List<Session> conflictingSessions = model.getAddressBook().getConflictingSessions(studentId, editedSession);
+            if (!conflictingSessions.isEmpty()) {
+                String name = model.getPersonById(studentId).map(person -> person.getName().fullName)
+                        .orElse(String.valueOf(studentId));
+                throw new CommandException(String.format(Messages.MESSAGE_SCHEDULE_CONFLICT,
+                        name, Messages.format(conflictingSessions.get(0))));
+            }
         }
 
         model.setSession(sessionToEdit.get(), editedSession);
@@ -93,6 +103,14 @@ public class EditSessionCommand extends SessionCommand {
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE
+                + editSessionDescriptor.getTimeslot().map(MemoryEstimator::estimate).orElse(0L)
+                + editSessionDescriptor.getSubject().map(subject -> MemoryEstimator.estimate(subject.subjectName))
+                        .orElse(0L);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
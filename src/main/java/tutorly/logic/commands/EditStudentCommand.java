@@ -28,6 +28,7 @@ import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 import tutorly.model.person.Phone;
 import tutorly.model.tag.Tag;
+import tutorly.model.util.MemoryEstimator;
 import tutorly.ui.Tab;
 
 /**
@@ -95,7 +96,7 @@ public class EditStudentCommand extends StudentCommand {
 
         Optional<Person> personToEdit = model.getPersonByIdentity(identity);
         if (personToEdit.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
         }
 
         Person editedPerson = createEditedPerson(personToEdit.get(), editPersonDescriptor);
@@ -113,6 +114,11 @@ public class EditStudentCommand extends StudentCommand {
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + editPersonDescriptor.estimateSize();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -185,6 +191,24 @@ public class EditStudentCommand extends StudentCommand {
             return CollectionUtil.isAnyNonNull(name, phone, email, address, tags, memo);
         }
 
+        /**
+         * Returns the estimated number of bytes retained by the edited field values.
+         */
+        long estimateSize() {
+            long size = 0;
+            size += getName().map(name -> MemoryEstimator.estimate(name.fullName)).orElse(0L);
+            size += getPhone().map(phone -> MemoryEstimator.estimate(phone.value)).orElse(0L);
+            size += getEmail().map(email -> MemoryEstimator.estimate(email.value)).orElse(0L);
+            size += getAddress().map(address -> MemoryEstimator.estimate(address.value)).orElse(0L);
+            size += getMemo().map(memo -> MemoryEstimator.estimate(memo.value)).orElse(0L);
+            if (tags != null) {
+                for (Tag tag : tags) {
+                    size += MemoryEstimator.REFERENCE_SIZE + MemoryEstimator.estimate(tag.tagName);
+                }
+            }
+            return size;
+        }
+
         public Optional<Name> getName() {
             return Optional.ofNullable(name);
         }
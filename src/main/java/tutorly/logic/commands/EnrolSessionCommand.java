@@ -1,8 +1,13 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
+import static tutorly.logic.parser.ParserUtil.IDENTITY_SEPARATOR;
 
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.commons.util.ToStringBuilder;
@@ -14,10 +19,12 @@ import tutorly.model.attendancerecord.Feedback;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.util.MemoryEstimator;
 import tutorly.ui.Tab;
 
 /**
  * Creates a new AttendanceRecord for a student to a session.
+ * The student must not already be enrolled in another session with an overlapping timeslot.
  */
 public class EnrolSessionCommand extends SessionCommand {
 
@@ -25,11 +32,19 @@ public class EnrolSessionCommand extends SessionCommand {
     public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
     public static final String MESSAGE_USAGE = COMMAND_STRING
-            + ": Enrols a student identified by a STUDENT_IDENTIFIER (ID or full name) to a session."
-            + "\nParameters: STUDENT_IDENTIFIER "
-            + PREFIX_SESSION + "SESSION_ID"
+            + ": Enrols students identified by STUDENT_IDENTIFIERs (ID or full name) to a session. "
+            + "Students with any of the given tags or whose fields contain any of the given keywords are also "
+            + "enrolled."
+            + "\nParameters: [STUDENT_IDENTIFIER[ " + IDENTITY_SEPARATOR + " STUDENT_IDENTIFIER]...] "
+            + PREFIX_SESSION + "SESSION_ID "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
+            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS]"
             + "\nExample: " + COMMAND_STRING + " 1 "
-            + PREFIX_SESSION + "2";
+            + PREFIX_SESSION + "2"
+            + "\nExample: " + COMMAND_STRING + " 1 " + IDENTITY_SEPARATOR + " John Doe "
+            + PREFIX_SESSION + "2 "
+            + PREFIX_TAG + "sec4";
 
     public static final String MESSAGE_SUCCESS = "%1$s enrolled to Session: %2$s";
     public static final String MESSAGE_DUPLICATE_ENROLMENT = "This student is already enrolled in the session";
@@ -66,7 +81,7 @@ public class EnrolSessionCommand extends SessionCommand {
 
         Optional<Person> person = model.getPersonByIdentity(identity);
         if (person.isEmpty()) {
-            throw new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND);
+            throw new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity));
         }
 
         Optional<Session> session = model.getSessionById(sessionId);
@@ -79,6 +94,13 @@ public class EnrolSessionCommand extends SessionCommand {
             throw new CommandException(MESSAGE_DUPLICATE_ENROLMENT);
         }
 
+        List<Session> conflictingSessions = model.getAddressBook()
+                .getConflictingSessions(person.get().getId(), session.get());
+        if (!conflictingSessions.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_SCHEDULE_CONFLICT,
+                    person.get().getName().fullName, Messages.format(conflictingSessions.get(0))));
+        }
+
         model.addAttendanceRecord(record);
         model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
         return new CommandResult.Builder(
@@ -88,6 +110,11 @@ public class EnrolSessionCommand extends SessionCommand {
                 .build();
     }
 
+    @Override
+    public long estimateSize() {
+        return DEFAULT_ESTIMATED_SIZE + MemoryEstimator.estimate(feedback.value);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,283 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.CsvUtil;
+import tutorly.commons.util.FileUtil;
+import tutorly.commons.util.IcsUtil;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordIndex;
+import tutorly.model.filter.Filter;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * Exports the students, sessions or attendance records to a CSV file, or the sessions to an iCalendar file.
+ * Rows are written to the file one at a time as the lists are traversed, so exporting takes constant memory however
+ * many rows there are.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+    public static final String COMMAND_STRING = COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the students, sessions or attendance records to a CSV file, or the sessions to an iCalendar "
+            + "file, overwriting it if it exists. Students and attendance records can be limited to the students "
+            + "matching a query, and sessions and attendance records to the sessions on the given dates."
+            + "\nParameters: students|sessions|attendance|calendar file/FILE_PATH [q/STUDENT_QUERY] [d/DATE_RANGE]"
+            + "\nExample: " + COMMAND_WORD + " attendance file/march.csv d/1 Mar 2025..31 Mar 2025";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+
+    public static final List<String> STUDENT_HEADER = List.of("id", "name", "phone", "email", "address", "tags",
+            "memo");
+    public static final List<String> SESSION_HEADER = List.of("id", "subject", "timeslot");
+    public static final List<String> ATTENDANCE_HEADER = List.of("student_id", "student_name", "session_id",
+            "subject", "timeslot", "present", "feedback");
+
+    public static final String CALENDAR_PRODUCT_ID = "-//Tutorly//Tutorly//EN";
+    public static final String CALENDAR_EVENT_UID = "session-%1$d@tutorly";
+    public static final String CALENDAR_STUDENTS = "Students: %1$s";
+
+    /**
+     * The kinds of rows that can be exported and imported. Calendars hold sessions as iCalendar events rather than as
+     * CSV rows.
+     */
+    public enum Type {
+        STUDENTS("students", "students"),
+        SESSIONS("sessions", "sessions"),
+        ATTENDANCE("attendance", "attendance"),
+        CALENDAR("calendar", "sessions");
+
+        private final String keyword;
+        private final String rowName;
+
+        Type(String keyword, String rowName) {
+            this.keyword = keyword;
+            this.rowName = rowName;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public String getRowName() {
+            return rowName;
+        }
+
+        /**
+         * Returns the type with the given {@code keyword}, ignoring case, if there is one.
+         */
+        public static Optional<Type> of(String keyword) {
+            for (Type type : values()) {
+                if (type.keyword.equalsIgnoreCase(keyword)) {
+                    return Optional.of(type);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Type type;
+    private final Path file;
+    private final Optional<Filter<Person>> studentFilter;
+    private final Optional<Filter<Session>> sessionFilter;
+
+    /**
+     * Creates an ExportCommand to export the rows of {@code type} to {@code file}, limited to the students matching
+     * {@code studentFilter} and the sessions matching {@code sessionFilter} if they are present.
+     */
+    public ExportCommand(Type type, Path file, Optional<Filter<Person>> studentFilter,
+            Optional<Filter<Session>> sessionFilter) {
+        requireAllNonNull(type, file, studentFilter, sessionFilter);
+        this.type = type;
+        this.file = file;
+        this.studentFilter = studentFilter;
+        this.sessionFilter = sessionFilter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        Predicate<Person> isStudentExported = studentFilter.map(filter -> filter.toPredicate(addressBook))
+                .orElse(person -> true);
+        Predicate<Session> isSessionExported = sessionFilter.map(filter -> filter.toPredicate(addressBook))
+                .orElse(session -> true);
+
+        int count;
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                count = writeRows(writer, model, isStudentExported, isSessionExported);
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, file, e.getMessage()), e);
+        }
+
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, count, type.getRowName(), file)).build();
+    }
+
+    private int writeRows(Writer writer, Model model, Predicate<Person> isStudentExported,
+            Predicate<Session> isSessionExported) throws IOException {
+        switch (type) {
+        case STUDENTS:
+            return writeStudents(writer, model.getAddressBook(), isStudentExported);
+
+        case SESSIONS:
+            return writeSessions(writer, model.getAddressBook(), isSessionExported);
+
+        case CALENDAR:
+            return writeCalendar(writer, model, isSessionExported);
+
+        default:
+            return writeAttendance(writer, model, isStudentExported, isSessionExported);
+        }
+    }
+
+    private static int writeStudents(Writer writer, ReadOnlyAddressBook addressBook, Predicate<Person> isExported)
+            throws IOException {
+        CsvUtil.writeRow(writer, STUDENT_HEADER);
+        int count = 0;
+        for (Person person : addressBook.getPersonList()) {
+            if (isExported.test(person)) {
+                CsvUtil.writeRow(writer, List.of(String.valueOf(person.getId()), person.getName().fullName,
+                        person.getPhone().value, person.getEmail().value, person.getAddress().value,
+                        CsvUtil.toRow(person.getTags().stream().map(tag -> tag.tagName).sorted().toList()),
+                        person.getMemo().value));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int writeSessions(Writer writer, ReadOnlyAddressBook addressBook, Predicate<Session> isExported)
+            throws IOException {
+        CsvUtil.writeRow(writer, SESSION_HEADER);
+        int count = 0;
+        for (Session session : addressBook.getSessionList()) {
+            if (isExported.test(session)) {
+                CsvUtil.writeRow(writer, List.of(String.valueOf(session.getId()), session.getSubject().subjectName,
+                        Messages.format(session.getTimeslot())));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes each session as an event of an iCalendar file, with the names of its enrolled students in its
+     * description. Timeslots are written as local times, so calendars show them at the same time of day.
+     */
+    private static int writeCalendar(Writer writer, Model model, Predicate<Session> isExported) throws IOException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        AttendanceRecordIndex recordIndex = addressBook.getAttendanceRecordIndex();
+        String timestamp = IcsUtil.DATE_TIME_FORMATTER.format(LocalDateTime.now(ZoneOffset.UTC)) + IcsUtil.UTC_SUFFIX;
+
+        IcsUtil.writeProperty(writer, "BEGIN", "VCALENDAR");
+        IcsUtil.writeProperty(writer, "VERSION", "2.0");
+        IcsUtil.writeProperty(writer, "PRODID", CALENDAR_PRODUCT_ID);
+        int count = 0;
+        for (Session session : addressBook.getSessionList()) {
+            if (!isExported.test(session)) {
+                continue;
+            }
+
+            String students = Arrays.stream(recordIndex.getEnrolledStudentIds(session.getId()))
+                    .mapToObj(model::getPersonById)
+                    .flatMap(Optional::stream)
+                    .map(person -> person.getName().fullName)
+                    .collect(Collectors.joining(", "));
+            IcsUtil.writeProperty(writer, "BEGIN", "VEVENT");
+            IcsUtil.writeProperty(writer, "UID", String.format(CALENDAR_EVENT_UID, session.getId()));
+            IcsUtil.writeProperty(writer, "DTSTAMP", timestamp);
+            IcsUtil.writeProperty(writer, "DTSTART",
+                    IcsUtil.DATE_TIME_FORMATTER.format(session.getTimeslot().getStartTime()));
+            IcsUtil.writeProperty(writer, "DTEND",
+                    IcsUtil.DATE_TIME_FORMATTER.format(session.getTimeslot().getEndTime()));
+            IcsUtil.writeProperty(writer, "SUMMARY", IcsUtil.escapeText(session.getSubject().subjectName));
+            if (!students.isEmpty()) {
+                IcsUtil.writeProperty(writer, "DESCRIPTION",
+                        IcsUtil.escapeText(String.format(CALENDAR_STUDENTS, students)));
+            }
+            IcsUtil.writeProperty(writer, "END", "VEVENT");
+            count++;
+        }
+        IcsUtil.writeProperty(writer, "END", "VCALENDAR");
+        return count;
+    }
+
+    /**
+     * Writes each attendance record joined with its student and session. Records of students or sessions that no
+     * longer exist are only written if no filter applies to them.
+     */
+    private int writeAttendance(Writer writer, Model model, Predicate<Person> isStudentExported,
+            Predicate<Session> isSessionExported) throws IOException {
+        CsvUtil.writeRow(writer, ATTENDANCE_HEADER);
+        int count = 0;
+        for (AttendanceRecord record : model.getAddressBook().getAttendanceRecordsList()) {
+            Optional<Person> student = model.getPersonById(record.getStudentId());
+            Optional<Session> session = model.getSessionById(record.getSessionId());
+            if (student.map(isStudentExported::test).orElse(studentFilter.isEmpty())
+                    && session.map(isSessionExported::test).orElse(sessionFilter.isEmpty())) {
+                CsvUtil.writeRow(writer, List.of(String.valueOf(record.getStudentId()),
+                        student.map(person -> person.getName().fullName).orElse(""),
+                        String.valueOf(record.getSessionId()),
+                        session.map(s -> s.getSubject().subjectName).orElse(""),
+                        session.map(s -> Messages.format(s.getTimeslot())).orElse(""),
+                        String.valueOf(record.getAttendance()), record.getFeedback().value));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand otherExportCommand)) {
+            return false;
+        }
+
+        return type.equals(otherExportCommand.type)
+                && file.equals(otherExportCommand.file)
+                && studentFilter.equals(otherExportCommand.studentFilter)
+                && sessionFilter.equals(otherExportCommand.sessionFilter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("file", file)
+                .add("studentFilter", studentFilter)
+                .add("sessionFilter", sessionFilter)
+                .toString();
+    }
+}
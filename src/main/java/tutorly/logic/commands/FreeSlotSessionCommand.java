@@ -0,0 +1,102 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_HOURS;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.session.Timeslot;
+import tutorly.ui.Tab;
+
+/**
+ * Finds the free timeslots of at least a given duration that do not overlap with any session.
+ */
+public class FreeSlotSessionCommand extends SessionCommand {
+
+    public static final String COMMAND_WORD = "free";
+    public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final int MAX_DAYS = 366;
+    public static final int MAX_TIMESLOTS_SHOWN = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Finds free timeslots of at least the given duration that do not overlap with any session, "
+            + "optionally only within the given working hours of each day."
+            + "\nParameters: "
+            + PREFIX_DATE + "DATE|FROM..TO|this week|next N days "
+            + PREFIX_DURATION + "DURATION "
+            + "[" + PREFIX_HOURS + "START_TIME-END_TIME]"
+            + "\nExample: " + COMMAND_STRING + " "
+            + PREFIX_DATE + "next 7 days "
+            + PREFIX_DURATION + "1h30m "
+            + PREFIX_HOURS + "9:00-18:00";
+
+    public static final String MESSAGE_SUCCESS = "%1$d free timeslots of at least %2$s found";
+    public static final String MESSAGE_MORE_TIMESLOTS = "...and %1$d more";
+
+    private final List<Timeslot> windows;
+    private final Duration duration;
+
+    /**
+     * Creates a FreeSlotSessionCommand to find free timeslots of at least {@code duration} within the given
+     * {@code windows}, which must be in chronological order and must not overlap with each other.
+     */
+    public FreeSlotSessionCommand(List<Timeslot> windows, Duration duration) {
+        requireNonNull(windows);
+        requireNonNull(duration);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
+
+        this.windows = List.copyOf(windows);
+        this.duration = duration;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Timeslot> free = model.getAddressBook().getTimeslotIndex().getFreeTimeslots(windows, duration);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, free.size(),
+                Messages.format(duration)));
+        if (!free.isEmpty()) {
+            message.append(":\n").append(free.stream()
+                    .limit(MAX_TIMESLOTS_SHOWN)
+                    .map(Messages::format)
+                    .collect(Collectors.joining("\n")));
+        }
+        if (free.size() > MAX_TIMESLOTS_SHOWN) {
+            message.append("\n").append(String.format(MESSAGE_MORE_TIMESLOTS, free.size() - MAX_TIMESLOTS_SHOWN));
+        }
+        return new CommandResult.Builder(message.toString()).withTab(Tab.session()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotSessionCommand otherCommand)) {
+            return false;
+        }
+
+        return windows.equals(otherCommand.windows) && duration.equals(otherCommand.duration);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("windows", windows)
+                .add("duration", duration)
+                .toString();
+    }
+}
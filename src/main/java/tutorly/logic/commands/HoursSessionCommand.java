@@ -0,0 +1,114 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.ParserUtil.MONTH_FORMATTER;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.HoursRollup;
+import tutorly.ui.Tab;
+
+/**
+ * Shows the hours taught in each month, or in a given month by subject and by student.
+ */
+public class HoursSessionCommand extends SessionCommand {
+
+    public static final String COMMAND_WORD = "hours";
+    public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Shows the hours taught to students marked present in each month, or in the given month by "
+            + "subject and by student."
+            + "\nParameters: [MONTH]"
+            + "\nExample: " + COMMAND_STRING + " Mar 2025";
+
+    public static final String MESSAGE_NO_HOURS = "No hours taught";
+    public static final String MESSAGE_NO_HOURS_IN_MONTH = "No hours taught in %1$s";
+    public static final String MESSAGE_MONTHS = "Hours taught by month:";
+    public static final String MESSAGE_MONTH = "Hours taught in %1$s: %2$s";
+    public static final String MESSAGE_SUBJECT = "By subject:";
+    public static final String MESSAGE_STUDENT = "By student:";
+    public static final String MESSAGE_GROUP = "  %1$s: %2$s";
+
+    private final Optional<YearMonth> month;
+
+    /**
+     * Creates a HoursSessionCommand to show the hours taught in {@code month}, or in each month if it is empty.
+     */
+    public HoursSessionCommand(Optional<YearMonth> month) {
+        requireNonNull(month);
+        this.month = month;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        HoursRollup rollup = model.getAddressBook().getHoursRollup();
+        String feedback = month.map(m -> formatMonth(model, rollup, m)).orElseGet(() -> formatMonths(rollup));
+        return new CommandResult.Builder(feedback).withTab(Tab.session()).build();
+    }
+
+    private static String formatMonths(HoursRollup rollup) {
+        if (rollup.getMonths().isEmpty()) {
+            return MESSAGE_NO_HOURS;
+        }
+
+        StringBuilder feedback = new StringBuilder(MESSAGE_MONTHS);
+        for (YearMonth month : rollup.getMonths()) {
+            feedback.append("\n").append(String.format(MESSAGE_GROUP, month.format(MONTH_FORMATTER),
+                    Messages.format(rollup.ofMonth(month))));
+        }
+        return feedback.toString();
+    }
+
+    private static String formatMonth(Model model, HoursRollup rollup, YearMonth month) {
+        if (rollup.ofMonth(month).isZero()) {
+            return String.format(MESSAGE_NO_HOURS_IN_MONTH, month.format(MONTH_FORMATTER));
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_MONTH, month.format(MONTH_FORMATTER),
+                Messages.format(rollup.ofMonth(month))));
+        feedback.append("\n").append(MESSAGE_SUBJECT);
+        rollup.getSubjectHours(month).entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().subjectName))
+                .forEach(entry -> feedback.append("\n").append(String.format(MESSAGE_GROUP,
+                        entry.getKey().subjectName, Messages.format(entry.getValue()))));
+        feedback.append("\n").append(MESSAGE_STUDENT);
+        rollup.getStudentHours(month).entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> feedback.append("\n").append(String.format(MESSAGE_GROUP,
+                        nameOf(model, entry.getKey()), Messages.format(entry.getValue()))));
+        return feedback.toString();
+    }
+
+    private static String nameOf(Model model, int studentId) {
+        return model.getPersonById(studentId)
+                .map(person -> person.getName().fullName)
+                .orElse(String.valueOf(studentId));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HoursSessionCommand otherHoursSessionCommand)) {
+            return false;
+        }
+
+        return month.equals(otherHoursSessionCommand.month);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("month", month).toString();
+    }
+}
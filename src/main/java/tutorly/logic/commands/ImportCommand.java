@@ -0,0 +1,585 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+import tutorly.commons.util.CsvReader;
+import tutorly.commons.util.IcsReader;
+import tutorly.commons.util.IcsReader.Event;
+import tutorly.commons.util.IcsReader.Property;
+import tutorly.commons.util.IcsUtil;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.logic.parser.ParserUtil;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.person.Address;
+import tutorly.model.person.Email;
+import tutorly.model.person.Identity;
+import tutorly.model.person.Memo;
+import tutorly.model.person.Name;
+import tutorly.model.person.Person;
+import tutorly.model.person.Phone;
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+import tutorly.ui.Tab;
+
+/**
+ * Imports students, sessions or attendance records from a CSV file in the format written by {@code ExportCommand}, or
+ * sessions from the events of an iCalendar file.
+ * <p>
+ * The whole file is read into memory first, and its rows are then parsed in parallel and validated with the same rules
+ * as the commands that add them one by one. Nothing is imported unless every row is valid, in which case all rows are
+ * added in a single batch, so the whole import is saved once and undone at once.
+ * <p>
+ * Imported students and sessions are given new IDs, so attendance records refer to students by name and to sessions by
+ * subject and timeslot where the file has them, as files written by {@code ExportCommand} do, and by ID otherwise.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String COMMAND_STRING = COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports students, sessions or attendance records from a CSV file with a header row, in the format "
+            + "written by " + ExportCommand.COMMAND_WORD + ", or sessions from the events of an iCalendar file. "
+            + "Imported students and sessions are given new IDs, and attendance records refer to existing students "
+            + "by name or ID and to existing sessions by subject and timeslot or ID. "
+            + "Nothing is imported if any row or event is invalid."
+            + "\nParameters: students|sessions|attendance|calendar file/FILE_PATH"
+            + "\nExample: " + COMMAND_WORD + " students file/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$s from %3$s";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s: %2$s";
+    public static final String MESSAGE_NO_HEADER = "the file has no header row";
+    public static final String MESSAGE_MISSING_COLUMN = "the header row has no %1$s column";
+    public static final String MESSAGE_INVALID_ROWS = "Nothing was imported from %1$s, as %2$d row(s) are invalid:";
+    public static final String MESSAGE_MORE_INVALID_ROWS = "...and %1$d more";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d field(s) but found %2$d.";
+    public static final String MESSAGE_INVALID_PRESENT = "Present should be either true or false.";
+    public static final String MESSAGE_MISSING_SESSION = "The row should have a session_id, or a subject and timeslot.";
+    public static final String MESSAGE_MISSING_PROPERTY = "The event has no %1$s property.";
+    public static final String MESSAGE_ALL_DAY_EVENT = "All-day events cannot be imported as sessions.";
+    public static final String MESSAGE_RECURRING_EVENT = "Recurring events cannot be imported as sessions, as the "
+            + "event has a %1$s property. Export each occurrence as a separate event instead.";
+    public static final String MESSAGE_UNKNOWN_TIME_ZONE = "The time zone %1$s of the %2$s of the event is not known.";
+    public static final String MESSAGE_INVALID_EVENT_TIME = "The %1$s of the event should be a date-time such as "
+            + "20250325T100000.";
+    public static final String MESSAGE_INVALID_EVENT_DURATION = "The DURATION of the event should be a duration "
+            + "such as PT1H30M.";
+    public static final String MESSAGE_LIMIT_REACHED = "Limit reached; cannot import this many %1$s.";
+
+    public static final int MAX_REPORTED_ROWS = 10;
+
+    private static final String TAG_SEPARATOR = ",";
+    /** Properties that make an event recur, which would otherwise be ignored and leave only its first occurrence. */
+    private static final List<String> RECURRENCE_PROPERTIES = List.of("RRULE", "RDATE", "EXDATE");
+
+    private final Type type;
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the rows of {@code type} from {@code file}.
+     */
+    public ImportCommand(Type type, Path file) {
+        requireAllNonNull(type, file);
+        this.type = type;
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        switch (type) {
+        case STUDENTS:
+            return importStudents(model, readRows(List.of("name")));
+
+        case SESSIONS:
+            return importSessions(model, parseRows(readRows(List.of("subject", "timeslot")), row -> row.lineNumber,
+                    ImportCommand::parseSession));
+
+        case CALENDAR:
+            return importSessions(model, parseRows(readEvents(), Event::getLineNumber, ImportCommand::parseEvent));
+
+        default:
+            return importAttendance(model, readRows(List.of()));
+        }
+    }
+
+    /**
+     * Reads every row of the file after the header row, which must name each of {@code requiredColumns}.
+     */
+    private List<Row> readRows(List<String> requiredColumns) throws CommandException {
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            Optional<List<String>> header = reader.readRow();
+            if (header.isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, file, MESSAGE_NO_HEADER));
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.get().size(); i++) {
+                columns.putIfAbsent(header.get().get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : requiredColumns) {
+                if (!columns.containsKey(column)) {
+                    throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, file,
+                            String.format(MESSAGE_MISSING_COLUMN, column)));
+                }
+            }
+
+            List<Row> rows = new ArrayList<>();
+            for (Optional<List<String>> fields = reader.readRow(); fields.isPresent(); fields = reader.readRow()) {
+                rows.add(new Row(reader.getLineNumber(), columns, header.get().size(), fields.get()));
+            }
+            return rows;
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, file, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Reads every event of the file.
+     */
+    private List<Event> readEvents() throws CommandException {
+        try (IcsReader reader = new IcsReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<Event> events = new ArrayList<>();
+            for (Optional<Event> event = reader.readEvent(); event.isPresent(); event = reader.readEvent()) {
+                events.add(event.get());
+            }
+            return events;
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, file, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Parses every row in parallel, keeping the results in the order of the rows.
+     */
+    private static <R, T> List<ParsedRow<T>> parseRows(List<R> rows, ToIntFunction<R> lineNumberOf,
+            RowParser<R, T> parser) {
+        return rows.parallelStream()
+                .map(row -> {
+                    try {
+                        return ParsedRow.of(lineNumberOf.applyAsInt(row), parser.parse(row));
+                    } catch (ParseException e) {
+                        return ParsedRow.<T>error(lineNumberOf.applyAsInt(row), e.getMessage());
+                    }
+                })
+                .toList();
+    }
+
+    private CommandResult importStudents(Model model, List<Row> rows) throws CommandException {
+        List<String> errors = new ArrayList<>();
+        List<Person> toAdd = new ArrayList<>();
+        // names are compared ignoring case, as in Name#equals
+        Set<String> names = new HashSet<>();
+        for (ParsedRow<Person> row : parseRows(rows, r -> r.lineNumber, ImportCommand::parseStudent)) {
+            if (row.error != null) {
+                errors.add(row.formatError(row.error));
+            } else if (model.hasPerson(row.value)
+                    || !names.add(row.value.getName().fullName.toLowerCase(Locale.ROOT))) {
+                errors.add(row.formatError(Messages.MESSAGE_DUPLICATE_PERSON));
+            } else {
+                toAdd.add(row.value);
+            }
+        }
+        throwIfInvalid(errors);
+
+        try {
+            model.batch(m -> toAdd.forEach(m::addPerson));
+        } catch (IllegalStateException e) {
+            throw new CommandException(String.format(MESSAGE_LIMIT_REACHED, type.getRowName()));
+        }
+
+        model.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, toAdd.size(), type.getRowName(), file))
+                .withTab(Tab.student())
+                .withReverseCommand(new BulkDeleteStudentCommand(toAdd.stream().mapToInt(Person::getId).toArray()))
+                .build();
+    }
+
+    /**
+     * Adds the parsed sessions unless any is invalid.
+     * The sessions may overlap with each other and with existing sessions, e.g. when classes run in parallel.
+     */
+    private CommandResult importSessions(Model model, List<ParsedRow<Session>> rows) throws CommandException {
+        List<String> errors = new ArrayList<>();
+        List<Session> toAdd = new ArrayList<>();
+        for (ParsedRow<Session> row : rows) {
+            if (row.error != null) {
+                errors.add(row.formatError(row.error));
+            } else {
+                toAdd.add(row.value);
+            }
+        }
+        throwIfInvalid(errors);
+
+        try {
+            model.batch(m -> toAdd.forEach(m::addSession));
+        } catch (IllegalStateException e) {
+            throw new CommandException(String.format(MESSAGE_LIMIT_REACHED, type.getRowName()));
+        }
+
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, toAdd.size(), type.getRowName(), file))
+                .withTab(Tab.session())
+                .withReverseCommand(new BulkDeleteSessionCommand(toAdd.stream().mapToInt(Session::getId).toArray()))
+                .build();
+    }
+
+    private CommandResult importAttendance(Model model, List<Row> rows) throws CommandException {
+        List<String> errors = new ArrayList<>();
+        List<AttendanceRecord> toAdd = new ArrayList<>();
+        // student and session ID pairs of the records to add
+        Set<Long> enrolled = new HashSet<>();
+        // sessions each student is enrolled in by the records to add
+        Map<Integer, List<Session>> enrolledSessions = new HashMap<>();
+        for (ParsedRow<Enrolment> row : parseRows(rows, r -> r.lineNumber, ImportCommand::parseEnrolment)) {
+            if (row.error != null) {
+                errors.add(row.formatError(row.error));
+                continue;
+            }
+
+            Enrolment enrolment = row.value;
+            Optional<Person> person = model.getPersonByIdentity(enrolment.identity);
+            if (person.isEmpty()) {
+                errors.add(row.formatError(Messages.getErrorMessageForPersonNotFound(model, enrolment.identity)));
+                continue;
+            }
+
+            Optional<Session> session = enrolment.timeslot == null
+                    ? model.getSessionById(enrolment.sessionId)
+                    : findSession(model, enrolment.subject, enrolment.timeslot);
+            if (session.isEmpty()) {
+                errors.add(row.formatError(Messages.MESSAGE_SESSION_NOT_FOUND));
+                continue;
+            }
+
+            AttendanceRecord record = new AttendanceRecord(person.get().getId(), session.get().getId(),
+                    enrolment.isPresent, enrolment.feedback);
+            List<Session> conflictingSessions = new ArrayList<>(model.getAddressBook()
+                    .getConflictingSessions(person.get().getId(), session.get()));
+            enrolledSessions.getOrDefault(person.get().getId(), List.of()).stream()
+                    .filter(other -> other.hasOverlappingTimeslot(session.get()))
+                    .forEach(conflictingSessions::add);
+            if (model.hasAttendanceRecord(record)
+                    || !enrolled.add((long) record.getStudentId() << Integer.SIZE | record.getSessionId())) {
+                errors.add(row.formatError(EnrolSessionCommand.MESSAGE_DUPLICATE_ENROLMENT));
+            } else if (!conflictingSessions.isEmpty()) {
+                errors.add(row.formatError(String.format(Messages.MESSAGE_SCHEDULE_CONFLICT,
+                        person.get().getName().fullName, Messages.format(conflictingSessions.get(0)))));
+            } else {
+                toAdd.add(record);
+                enrolledSessions.computeIfAbsent(person.get().getId(), id -> new ArrayList<>()).add(session.get());
+            }
+        }
+        throwIfInvalid(errors);
+
+        model.batch(m -> toAdd.forEach(m::addAttendanceRecord));
+        model.updateFilteredSessionList(Model.FILTER_SHOW_ALL_SESSIONS);
+        return new CommandResult.Builder(String.format(MESSAGE_SUCCESS, toAdd.size(), type.getRowName(), file))
+                .withTab(Tab.session())
+                .withReverseCommand(new BulkDeleteAttendanceCommand(
+                        toAdd.stream().mapToInt(AttendanceRecord::getStudentId).toArray(),
+                        toAdd.stream().mapToInt(AttendanceRecord::getSessionId).toArray()))
+                .build();
+    }
+
+    /**
+     * Returns the session with exactly {@code subject} and {@code timeslot}, which is looked up among the sessions
+     * overlapping the timeslot in the timeslot index.
+     */
+    private static Optional<Session> findSession(Model model, Subject subject, Timeslot timeslot) {
+        return model.getAddressBook().getTimeslotIndex().getOverlappingSessions(timeslot).stream()
+                .filter(session -> session.getTimeslot().equals(timeslot) && session.getSubject().equals(subject))
+                .findFirst();
+    }
+
+    /**
+     * Throws a {@code CommandException} listing the first few {@code errors} if there are any.
+     */
+    private void throwIfInvalid(List<String> errors) throws CommandException {
+        if (errors.isEmpty()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_ROWS, file, errors.size()));
+        errors.stream().limit(MAX_REPORTED_ROWS).forEach(error -> message.append("\n").append(error));
+        if (errors.size() > MAX_REPORTED_ROWS) {
+            message.append("\n").append(String.format(MESSAGE_MORE_INVALID_ROWS, errors.size() - MAX_REPORTED_ROWS));
+        }
+        throw new CommandException(message.toString());
+    }
+
+    private static Person parseStudent(Row row) throws ParseException {
+        Name name = ParserUtil.parseName(row.get("name"));
+        Phone phone = row.isBlank("phone") ? Phone.empty() : ParserUtil.parsePhone(row.get("phone"));
+        Email email = row.isBlank("email") ? Email.empty() : ParserUtil.parseEmail(row.get("email"));
+        Address address = row.isBlank("address") ? Address.empty() : ParserUtil.parseAddress(row.get("address"));
+        Memo memo = row.isBlank("memo") ? Memo.empty() : ParserUtil.parseMemo(row.get("memo"));
+        List<String> tags = Arrays.stream(row.get("tags").split(TAG_SEPARATOR))
+                .filter(tag -> !tag.isBlank())
+                .toList();
+        return new Person(name, phone, email, address, ParserUtil.parseTags(tags), memo);
+    }
+
+    private static Session parseSession(Row row) throws ParseException {
+        return new Session(ParserUtil.parseTimeslot(row.get("timeslot")), ParserUtil.parseSubject(row.get("subject")));
+    }
+
+    private static Session parseEvent(Event event) throws ParseException {
+        for (String name : RECURRENCE_PROPERTIES) {
+            if (event.get(name).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_RECURRING_EVENT, name));
+            }
+        }
+
+        Subject subject = ParserUtil.parseSubject(IcsUtil.unescapeText(getProperty(event, "SUMMARY").getValue()));
+        LocalDateTime start = parseEventTime(getProperty(event, "DTSTART"));
+
+        LocalDateTime end;
+        Optional<Property> duration = event.get("DURATION");
+        if (event.get("DTEND").isEmpty() && duration.isPresent()) {
+            try {
+                end = start.plus(Duration.parse(duration.get().getValue().trim()));
+            } catch (DateTimeParseException e) {
+                throw new ParseException(MESSAGE_INVALID_EVENT_DURATION);
+            }
+        } else {
+            end = parseEventTime(getProperty(event, "DTEND"));
+        }
+
+        if (!end.isAfter(start)) {
+            throw new ParseException(Timeslot.MESSAGE_END_BEFORE_START_DATETIME);
+        }
+        return new Session(new Timeslot(start, end), subject);
+    }
+
+    private static Property getProperty(Event event, String name) throws ParseException {
+        Optional<Property> property = event.get(name);
+        if (property.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_PROPERTY, name));
+        }
+        return property.get();
+    }
+
+    /**
+     * Parses the date-time of {@code property} as a local date-time. Date-times in UTC or another time zone are
+     * converted to the time zone of the system, and floating date-times are kept as they are.
+     */
+    private static LocalDateTime parseEventTime(Property property) throws ParseException {
+        if (property.getParameter("VALUE").filter(value -> value.equalsIgnoreCase("DATE")).isPresent()) {
+            throw new ParseException(MESSAGE_ALL_DAY_EVENT);
+        }
+
+        String value = property.getValue().trim();
+        try {
+            if (value.endsWith(IcsUtil.UTC_SUFFIX)) {
+                return LocalDateTime.parse(value.substring(0, value.length() - IcsUtil.UTC_SUFFIX.length()),
+                                IcsUtil.DATE_TIME_FORMATTER)
+                        .atOffset(ZoneOffset.UTC)
+                        .atZoneSameInstant(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            }
+
+            LocalDateTime dateTime = LocalDateTime.parse(value, IcsUtil.DATE_TIME_FORMATTER);
+            Optional<String> zone = property.getParameter("TZID");
+            if (zone.isPresent()) {
+                return dateTime.atZone(parseZone(zone.get(), property))
+                        .withZoneSameInstant(ZoneId.systemDefault())
+                        .toLocalDateTime();
+            }
+            return dateTime;
+        } catch (DateTimeException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_EVENT_TIME, property.getName()));
+        }
+    }
+
+    /**
+     * Parses the time zone {@code zone} of the date-time of {@code property}.
+     */
+    private static ZoneId parseZone(String zone, Property property) throws ParseException {
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_TIME_ZONE, zone, property.getName()));
+        }
+    }
+
+    /**
+     * Parses a row of attendance, identifying the student by name and the session by subject and timeslot if the row
+     * has them, as these are kept when the students and sessions are imported with new IDs.
+     */
+    private static Enrolment parseEnrolment(Row row) throws ParseException {
+        Identity identity = ParserUtil.parseIdentity(
+                row.isBlank("student_name") ? row.get("student_id") : row.get("student_name"));
+
+        Subject subject = null;
+        Timeslot timeslot = null;
+        int sessionId = 0;
+        if (!row.isBlank("subject") && !row.isBlank("timeslot")) {
+            subject = ParserUtil.parseSubject(row.get("subject"));
+            timeslot = ParserUtil.parseTimeslot(row.get("timeslot"));
+        } else if (!row.isBlank("session_id")) {
+            sessionId = ParserUtil.parseSessionId(row.get("session_id"));
+        } else {
+            throw new ParseException(MESSAGE_MISSING_SESSION);
+        }
+
+        boolean isPresent;
+        String present = row.get("present").trim();
+        if (present.isEmpty() || present.equalsIgnoreCase(Boolean.FALSE.toString())) {
+            isPresent = false;
+        } else if (present.equalsIgnoreCase(Boolean.TRUE.toString())) {
+            isPresent = true;
+        } else {
+            throw new ParseException(MESSAGE_INVALID_PRESENT);
+        }
+
+        Feedback feedback = row.isBlank("feedback") ? Feedback.empty() : ParserUtil.parseFeedback(row.get("feedback"));
+        return new Enrolment(identity, sessionId, subject, timeslot, isPresent, feedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return type.equals(otherImportCommand.type)
+                && file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("file", file)
+                .toString();
+    }
+
+    /**
+     * Parses a row of type {@code R} into a value of type {@code T}.
+     */
+    @FunctionalInterface
+    private interface RowParser<R, T> {
+        T parse(R row) throws ParseException;
+    }
+
+    /**
+     * A row of the file, with its fields looked up by the name of their column in the header row.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private final Map<String, Integer> columns;
+        private final int columnCount;
+        private final List<String> fields;
+
+        Row(int lineNumber, Map<String, Integer> columns, int columnCount, List<String> fields) {
+            this.lineNumber = lineNumber;
+            this.columns = columns;
+            this.columnCount = columnCount;
+            this.fields = fields;
+        }
+
+        /**
+         * Returns the field in {@code column}, or an empty string if there is no such column.
+         *
+         * @throws ParseException if the row does not have as many fields as the header row.
+         */
+        String get(String column) throws ParseException {
+            if (fields.size() != columnCount) {
+                throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size()));
+            }
+            Integer index = columns.get(column);
+            return index == null ? "" : fields.get(index);
+        }
+
+        boolean isBlank(String column) throws ParseException {
+            return get(column).isBlank();
+        }
+    }
+
+    /**
+     * The enrolment of a student in a session described by a row, before the student and session are looked up.
+     * The session is identified by its subject and timeslot if they are not null, and by its ID otherwise.
+     */
+    private static class Enrolment {
+        private final Identity identity;
+        private final int sessionId;
+        private final Subject subject;
+        private final Timeslot timeslot;
+        private final boolean isPresent;
+        private final Feedback feedback;
+
+        Enrolment(Identity identity, int sessionId, Subject subject, Timeslot timeslot, boolean isPresent,
+                Feedback feedback) {
+            this.identity = identity;
+            this.sessionId = sessionId;
+            this.subject = subject;
+            this.timeslot = timeslot;
+            this.isPresent = isPresent;
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * The result of parsing a row, which is either a value or an error message.
+     */
+    private static class ParsedRow<T> {
+        private final int lineNumber;
+        private final T value;
+        private final String error;
+
+        private ParsedRow(int lineNumber, T value, String error) {
+            this.lineNumber = lineNumber;
+            this.value = value;
+            this.error = error;
+        }
+
+        static <T> ParsedRow<T> of(int lineNumber, T value) {
+            return new ParsedRow<>(lineNumber, value, null);
+        }
+
+        static <T> ParsedRow<T> error(int lineNumber, String error) {
+            return new ParsedRow<>(lineNumber, null, error);
+        }
+
+        String formatError(String message) {
+            return String.format(MESSAGE_ROW_ERROR, lineNumber, message);
+        }
+    }
+}
@@ -1,26 +1,73 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.model.Model.FILTER_SHOW_ALL_SESSIONS;
 
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
 import tutorly.model.Model;
+import tutorly.model.filter.Page;
+import tutorly.model.session.Session;
 import tutorly.ui.Tab;
 
 /**
- * Lists all sessions in the address book to the user.
+ * Lists all sessions in the address book to the user, or a page of them.
  */
 public class ListSessionCommand extends SessionCommand {
 
     public static final String COMMAND_WORD = "list";
     public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Lists all sessions, or a page of them."
+            + "\nParameters: " + Messages.PAGE_PARAMETERS
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_OFFSET + "20 " + PREFIX_LIMIT + "10 "
+            + PREFIX_SORT + "time";
+
     public static final String MESSAGE_SUCCESS = "Listed all sessions";
 
+    private final Page<Session> page;
+
+    public ListSessionCommand() {
+        this(Page.all());
+    }
+
+    public ListSessionCommand(Page<Session> page) {
+        this.page = page;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSessionList(FILTER_SHOW_ALL_SESSIONS);
-        return new CommandResult.Builder(MESSAGE_SUCCESS).withTab(Tab.session()).build();
+        model.updateFilteredSessionList(FILTER_SHOW_ALL_SESSIONS, page);
+
+        String message = page.isAll()
+                ? MESSAGE_SUCCESS
+                : MESSAGE_SUCCESS + ". " + Messages.formatPage(model.getFilteredSessionListPage());
+        return new CommandResult.Builder(message).withTab(Tab.session()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListSessionCommand otherListCommand)) {
+            return false;
+        }
+
+        return page.equals(otherListCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("page", page)
+                .toString();
     }
 }
@@ -1,26 +1,73 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.model.Model.FILTER_SHOW_ALL_PERSONS;
 
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
 import tutorly.model.Model;
+import tutorly.model.filter.Page;
+import tutorly.model.person.Person;
 import tutorly.ui.Tab;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, or a page of them.
  */
 public class ListStudentCommand extends StudentCommand {
 
     public static final String COMMAND_WORD = "list";
     public static final String COMMAND_STRING = StudentCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Lists all students, or a page of them."
+            + "\nParameters: " + Messages.PAGE_PARAMETERS
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_OFFSET + "20 " + PREFIX_LIMIT + "10 "
+            + PREFIX_SORT + "name";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    private final Page<Person> page;
+
+    public ListStudentCommand() {
+        this(Page.all());
+    }
+
+    public ListStudentCommand(Page<Person> page) {
+        this.page = page;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
-        return new CommandResult.Builder(MESSAGE_SUCCESS).withTab(Tab.student()).build();
+        model.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS, page);
+
+        String message = page.isAll()
+                ? MESSAGE_SUCCESS
+                : MESSAGE_SUCCESS + ". " + Messages.formatPage(model.getFilteredPersonListPage());
+        return new CommandResult.Builder(message).withTab(Tab.student()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListStudentCommand otherListCommand)) {
+            return false;
+        }
+
+        return page.equals(otherListCommand.page);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("page", page)
+                .toString();
     }
 }
@@ -0,0 +1,94 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.filter.TextQuery;
+import tutorly.ui.Tab;
+
+/**
+ * Finds the attendance records whose feedback matches a full-text query, most relevant first.
+ */
+public class SearchFeedbackCommand extends SessionCommand {
+
+    public static final String COMMAND_WORD = "feedbacks";
+    public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final int MAX_RECORDS_SHOWN = 50;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Finds the feedback of students for sessions that contains all the given words, ignoring case. "
+            + "Words in double quotes must appear together as a phrase, and a word ending with * matches any word "
+            + "starting with it. Feedback mentioning the words more often is shown first."
+            + "\nParameters: QUERY"
+            + "\nExample: " + COMMAND_STRING + " \"needs practice\" fraction*";
+
+    public static final String MESSAGE_SUCCESS = "%1$d feedback entries found";
+    public static final String MESSAGE_RECORD = "%1$s (Session %2$d, %3$s): %4$s";
+    public static final String MESSAGE_MORE_RECORDS = "...and %1$d more";
+
+    private final TextQuery query;
+
+    /**
+     * Creates a SearchFeedbackCommand to find the feedback matching {@code query}.
+     */
+    public SearchFeedbackCommand(TextQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<AttendanceRecord> records = model.getAddressBook().getFeedbackIndex().search(query);
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, records.size()));
+        if (!records.isEmpty()) {
+            message.append(":\n").append(records.stream()
+                    .limit(MAX_RECORDS_SHOWN)
+                    .map(record -> format(model, record))
+                    .collect(Collectors.joining("\n")));
+        }
+        if (records.size() > MAX_RECORDS_SHOWN) {
+            message.append("\n").append(String.format(MESSAGE_MORE_RECORDS, records.size() - MAX_RECORDS_SHOWN));
+        }
+        return new CommandResult.Builder(message.toString()).withTab(Tab.session()).build();
+    }
+
+    private static String format(Model model, AttendanceRecord record) {
+        String name = model.getPersonById(record.getStudentId())
+                .map(person -> person.getName().fullName)
+                .orElse(String.valueOf(record.getStudentId()));
+        String timeslot = model.getSessionById(record.getSessionId())
+                .map(session -> Messages.format(session.getTimeslot()))
+                .orElse("");
+        return String.format(MESSAGE_RECORD, name, record.getSessionId(), timeslot, record.getFeedback().value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchFeedbackCommand otherSearchFeedbackCommand)) {
+            return false;
+        }
+
+        return query.equals(otherSearchFeedbackCommand.query);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
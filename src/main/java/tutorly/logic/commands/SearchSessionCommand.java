@@ -4,15 +4,20 @@ import static java.util.Objects.requireNonNull;
 import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
 
+import java.util.Objects;
+
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
+import tutorly.model.session.TimeslotIndex;
 import tutorly.ui.Tab;
 
 /**
- * Finds and lists all sessions on a particular date or whose subject contains any of the keywords.
+ * Finds and lists all sessions on a particular date or range of dates, or whose subject contains any of the keywords.
  * Keyword matching is case-insensitive.
  */
 public class SearchSessionCommand extends SessionCommand {
@@ -21,25 +26,64 @@ public class SearchSessionCommand extends SessionCommand {
     public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
     public static final String MESSAGE_USAGE = COMMAND_STRING
-            + ": Searches for all sessions on a particular date, or "
+            + ": Searches for all sessions on a particular date or range of dates, or "
             + "whose subject contain any of the specified keywords (case-insensitive) and displays them as a list."
             + "\nParameters: "
-            + "[" + PREFIX_DATE + "DATE] "
-            + "[" + PREFIX_SUBJECT + "SUBJECT_KEYWORDS]"
-            + "\nExample: " + COMMAND_STRING + " " + PREFIX_DATE + "18 Mar 2025 " + PREFIX_SUBJECT + "Math Eng";
+            + "[" + PREFIX_DATE + "DATE|FROM..TO|this week|next N days] "
+            + "[" + PREFIX_SUBJECT + "SUBJECT_KEYWORDS] "
+            + Messages.PAGE_PARAMETERS
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_DATE + "18 Mar 2025 " + PREFIX_SUBJECT + "Math Eng"
+            + "\nExample: " + COMMAND_STRING + " " + PREFIX_DATE + "17 Mar 2025..23 Mar 2025";
 
     private final Filter<Session> filter;
+    private final Page<Session> page;
+    private final DateRange dateRange;
 
     public SearchSessionCommand(Filter<Session> filter) {
+        this(filter, Page.all());
+    }
+
+    /**
+     * Creates a SearchSessionCommand that shows the given {@code page} of the sessions passing {@code filter}.
+     */
+    public SearchSessionCommand(Filter<Session> filter, Page<Session> page) {
+        this(filter, page, null);
+    }
+
+    /**
+     * Creates a SearchSessionCommand that shows the given {@code page} of the sessions passing {@code filter}, and
+     * summarises the sessions on each date of {@code dateRange} if it is not null.
+     */
+    public SearchSessionCommand(Filter<Session> filter, Page<Session> page, DateRange dateRange) {
         this.filter = filter;
+        this.page = page;
+        this.dateRange = dateRange;
+    }
+
+    public Filter<Session> getFilter() {
+        return filter;
+    }
+
+    public Page<Session> getPage() {
+        return page;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSessionList(filter);
-        return new CommandResult.Builder(
-                String.format(Messages.MESSAGE_SESSIONS_LISTED_OVERVIEW, model.getFilteredSessionList().size()))
+        model.updateFilteredSessionList(filter, page);
+
+        String message = String.format(Messages.MESSAGE_SESSIONS_LISTED_OVERVIEW,
+                model.getFilteredSessionList().size());
+        if (!page.isAll()) {
+            message += " " + Messages.formatPage(model.getFilteredSessionListPage());
+        }
+        if (dateRange != null) {
+            TimeslotIndex index = model.getAddressBook().getTimeslotIndex();
+            message += "\n" + Messages.formatSessionsByDate(dateRange, index.getSessionsOn(dateRange).size(),
+                    index.countSessionsByDate(dateRange));
+        }
+        return new CommandResult.Builder(message)
                 .withTab(Tab.session())
                 .build();
     }
@@ -55,13 +99,16 @@ public class SearchSessionCommand extends SessionCommand {
             return false;
         }
 
-        return filter.equals(otherSearchCommand.filter);
+        return filter.equals(otherSearchCommand.filter) && page.equals(otherSearchCommand.page)
+                && Objects.equals(dateRange, otherSearchCommand.dateRange);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("filter", filter)
+                .add("page", page)
+                .add("dateRange", dateRange)
                 .toString();
     }
 }
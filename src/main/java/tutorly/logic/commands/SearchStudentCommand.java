@@ -1,14 +1,18 @@
 package tutorly.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
 import tutorly.model.person.Person;
 import tutorly.ui.Tab;
 
@@ -23,27 +27,56 @@ public class SearchStudentCommand extends StudentCommand {
     public static final String COMMAND_STRING = StudentCommand.COMMAND_STRING + " " + COMMAND_WORD;
 
     public static final String MESSAGE_USAGE = COMMAND_STRING
-            + ": Searches for all students who attended a session or "
+            + ": Searches for all students who attended a session, have any of the specified tags or "
             + "whose fields contain any of the specified keywords (case-insensitive) and displays them as a list."
             + "\nParameters: "
             + "[" + PREFIX_SESSION + "SESSION_ID] "
             + "[" + PREFIX_NAME + "NAME_KEYWORDS] "
-            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS]"
+            + "[" + PREFIX_PHONE + "PHONE_KEYWORDS] "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + Messages.PAGE_PARAMETERS
             + "\nExample: " + COMMAND_STRING + " " + PREFIX_SESSION + "1 " + PREFIX_NAME + "ali bob charli "
-            + PREFIX_PHONE + "9124 86192";
+            + PREFIX_PHONE + "9124 86192"
+            + "\nAlternatively, searches for all students matching a QUERY of FIELD:VALUE terms combined with "
+            + "and, or, not and parentheses, where FIELD is one of: id, name, fuzzy, phone, email, tag, memo, text, "
+            + "session, attendance. Tags can be combined, e.g. tag:sec4 and not tag:graduated."
+            + "\nParameters: QUERY " + Messages.PAGE_PARAMETERS
+            + "\nExample: " + COMMAND_STRING + " name:ali and (tag:friends or not session:3) " + PREFIX_LIMIT + "10 "
+            + PREFIX_SORT + "name";
 
     private final Filter<Person> filter;
+    private final Page<Person> page;
 
     public SearchStudentCommand(Filter<Person> filter) {
+        this(filter, Page.all());
+    }
+
+    /**
+     * Creates a SearchStudentCommand that shows the given {@code page} of the students passing {@code filter}.
+     */
+    public SearchStudentCommand(Filter<Person> filter, Page<Person> page) {
         this.filter = filter;
+        this.page = page;
+    }
+
+    public Filter<Person> getFilter() {
+        return filter;
+    }
+
+    public Page<Person> getPage() {
+        return page;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(filter);
-        return new CommandResult.Builder(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()))
+        model.updateFilteredPersonList(filter, page);
+
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (!page.isAll()) {
+            message += " " + Messages.formatPage(model.getFilteredPersonListPage());
+        }
+        return new CommandResult.Builder(message)
                 .withTab(Tab.student())
                 .build();
     }
@@ -59,13 +92,14 @@ public class SearchStudentCommand extends StudentCommand {
             return false;
         }
 
-        return filter.equals(otherSearchCommand.filter);
+        return filter.equals(otherSearchCommand.filter) && page.equals(otherSearchCommand.page);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("filter", filter)
+                .add("page", page)
                 .toString();
     }
 }
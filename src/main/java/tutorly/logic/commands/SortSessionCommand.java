@@ -0,0 +1,77 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.Model;
+import tutorly.model.filter.SortKey;
+import tutorly.model.session.Session;
+import tutorly.model.session.SessionSortKey;
+import tutorly.ui.Tab;
+
+/**
+ * Sorts the sessions shown by a sort key, keeping the current search.
+ */
+public class SortSessionCommand extends SessionCommand {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String COMMAND_STRING = SessionCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Sorts the sessions shown by the given key, optionally preceded by - to sort in descending order."
+            + "\nParameters: SORT_KEY (one of: " + Arrays.stream(SessionSortKey.values())
+                    .map(SortKey::getKeyword)
+                    .collect(Collectors.joining(", ")) + ")"
+            + "\nExample: " + COMMAND_STRING + " -" + SessionSortKey.TIME.getKeyword();
+
+    public static final String MESSAGE_SUCCESS = "Sorted sessions by %1$s";
+    public static final String MESSAGE_SUCCESS_DESCENDING = MESSAGE_SUCCESS + " in descending order";
+
+    private final SortKey<Session> sortKey;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortSessionCommand to sort the sessions shown by {@code sortKey}, in descending order if
+     * {@code isDescending}.
+     */
+    public SortSessionCommand(SortKey<Session> sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredSessionList(sortKey, isDescending);
+
+        String message = String.format(isDescending ? MESSAGE_SUCCESS_DESCENDING : MESSAGE_SUCCESS,
+                sortKey.getKeyword());
+        return new CommandResult.Builder(message).withTab(Tab.session()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortSessionCommand otherSortCommand)) {
+            return false;
+        }
+
+        return sortKey.equals(otherSortCommand.sortKey) && isDescending == otherSortCommand.isDescending;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKey", sortKey)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
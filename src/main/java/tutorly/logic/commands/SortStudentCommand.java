@@ -0,0 +1,77 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.Model;
+import tutorly.model.filter.SortKey;
+import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
+import tutorly.ui.Tab;
+
+/**
+ * Sorts the students shown by a sort key, keeping the current search.
+ */
+public class SortStudentCommand extends StudentCommand {
+
+    public static final String COMMAND_WORD = "sort";
+    public static final String COMMAND_STRING = StudentCommand.COMMAND_STRING + " " + COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_STRING
+            + ": Sorts the students shown by the given key, optionally preceded by - to sort in descending order."
+            + "\nParameters: SORT_KEY (one of: " + Arrays.stream(PersonSortKey.values())
+                    .map(SortKey::getKeyword)
+                    .collect(Collectors.joining(", ")) + ")"
+            + "\nExample: " + COMMAND_STRING + " -" + PersonSortKey.LAST_ATTENDED.getKeyword();
+
+    public static final String MESSAGE_SUCCESS = "Sorted students by %1$s";
+    public static final String MESSAGE_SUCCESS_DESCENDING = MESSAGE_SUCCESS + " in descending order";
+
+    private final SortKey<Person> sortKey;
+    private final boolean isDescending;
+
+    /**
+     * Creates a SortStudentCommand to sort the students shown by {@code sortKey}, in descending order if
+     * {@code isDescending}.
+     */
+    public SortStudentCommand(SortKey<Person> sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        this.sortKey = sortKey;
+        this.isDescending = isDescending;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(sortKey, isDescending);
+
+        String message = String.format(isDescending ? MESSAGE_SUCCESS_DESCENDING : MESSAGE_SUCCESS,
+                sortKey.getKeyword());
+        return new CommandResult.Builder(message).withTab(Tab.student()).build();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortStudentCommand otherSortCommand)) {
+            return false;
+        }
+
+        return sortKey.equals(otherSortCommand.sortKey) && isDescending == otherSortCommand.isDescending;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKey", sortKey)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+}
@@ -0,0 +1,45 @@
+package tutorly.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.ParserUtil.MONTH_FORMATTER;
+
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.attendancerecord.AttendanceStats;
+
+/**
+ * Shows the attendance counts of all sessions, and of the sessions of each subject and each month.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_STRING = COMMAND_WORD;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of enrolments, attendances and feedback overall, by subject and by month."
+            + "\n\nExample: " + COMMAND_WORD;
+
+    public static final String MESSAGE_TOTAL = "Overall: %1$s";
+    public static final String MESSAGE_SUBJECT = "By subject:";
+    public static final String MESSAGE_MONTH = "By month:";
+    public static final String MESSAGE_GROUP = "  %1$s: %2$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        AttendanceStats stats = model.getAddressBook().getAttendanceStats();
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_TOTAL, Messages.format(stats.getTotal())));
+        if (!stats.getSubjectCounts().isEmpty()) {
+            feedback.append("\n").append(MESSAGE_SUBJECT);
+            stats.getSubjectCounts().forEach((subject, counts) ->
+                    feedback.append("\n").append(String.format(MESSAGE_GROUP, subject, Messages.format(counts))));
+        }
+        if (!stats.getMonthCounts().isEmpty()) {
+            feedback.append("\n").append(MESSAGE_MONTH);
+            stats.getMonthCounts().forEach((month, counts) -> feedback.append("\n")
+                    .append(String.format(MESSAGE_GROUP, month.format(MONTH_FORMATTER), Messages.format(counts))));
+        }
+        return new CommandResult.Builder(feedback.toString()).build();
+    }
+}
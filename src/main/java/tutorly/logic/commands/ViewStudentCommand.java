@@ -28,7 +28,7 @@ public class ViewStudentCommand extends StudentCommand {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         Person student = model.getPersonByIdentity(identity)
-                .orElseThrow(() -> new CommandException(Messages.MESSAGE_PERSON_NOT_FOUND));
+                .orElseThrow(() -> new CommandException(Messages.getErrorMessageForPersonNotFound(model, identity)));
 
         model.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS);
         return new CommandResult.Builder(String.format(Messages.MESSAGE_PERSON_SHOWN, Messages.format(student)))
@@ -0,0 +1,107 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_COUNT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_EVERY;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_UNTIL;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import tutorly.commons.util.StringUtil;
+import tutorly.logic.commands.AddRecurringSessionCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+
+/**
+ * Parses input arguments and creates a new AddRecurringSessionCommand object.
+ */
+public class AddRecurringSessionCommandParser implements Parser<AddRecurringSessionCommand> {
+
+    public static final int MAX_WEEKS_BETWEEN_OCCURRENCES = 52;
+    public static final String MESSAGE_INVALID_EVERY = "Number of weeks between occurrences must be a positive integer "
+            + "no greater than " + MAX_WEEKS_BETWEEN_OCCURRENCES + ".";
+    public static final String MESSAGE_INVALID_COUNT = "Number of occurrences must be a positive integer.";
+    public static final String MESSAGE_UNTIL_BEFORE_START = "The until date must not be before the first occurrence.";
+    public static final String MESSAGE_TOO_MANY_OCCURRENCES = "A recurring session can have at most "
+            + AddRecurringSessionCommand.MAX_OCCURRENCES + " occurrences.";
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AddRecurringSessionCommand
+     * and returns an AddRecurringSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public AddRecurringSessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_TIMESLOT, PREFIX_SUBJECT, PREFIX_EVERY, PREFIX_UNTIL, PREFIX_COUNT);
+
+        Optional<String> until = argMultimap.getValue(PREFIX_UNTIL);
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT);
+        if (!arePrefixesPresent(argMultimap, PREFIX_TIMESLOT, PREFIX_SUBJECT) || !argMultimap.getPreamble().isEmpty()
+                || until.isPresent() == count.isPresent()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddRecurringSessionCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TIMESLOT, PREFIX_SUBJECT, PREFIX_EVERY, PREFIX_UNTIL,
+                PREFIX_COUNT);
+        Timeslot first = ParserUtil.parseTimeslot(argMultimap.getValue(PREFIX_TIMESLOT).get());
+        Subject subject = ParserUtil.parseSubject(argMultimap.getValue(PREFIX_SUBJECT).get());
+        int every = argMultimap.getValue(PREFIX_EVERY).isPresent()
+                ? parsePositiveInteger(argMultimap.getValue(PREFIX_EVERY).get(), MESSAGE_INVALID_EVERY)
+                : 1;
+        if (every > MAX_WEEKS_BETWEEN_OCCURRENCES) {
+            throw new ParseException(MESSAGE_INVALID_EVERY);
+        }
+
+        int occurrences = count.isPresent()
+                ? parsePositiveInteger(count.get(), MESSAGE_INVALID_COUNT)
+                : countOccurrencesUntil(first, every, ParserUtil.parseDate(until.get()));
+        if (occurrences > AddRecurringSessionCommand.MAX_OCCURRENCES) {
+            throw new ParseException(MESSAGE_TOO_MANY_OCCURRENCES);
+        }
+
+        List<Timeslot> timeslots = new ArrayList<>(occurrences);
+        for (int i = 0; i < occurrences; i++) {
+            timeslots.add(first.plusWeeks((long) i * every));
+        }
+        return new AddRecurringSessionCommand(timeslots, subject);
+    }
+
+    /**
+     * Returns the number of occurrences starting on or before {@code until}.
+     */
+    private static int countOccurrencesUntil(Timeslot first, int every, LocalDate until) throws ParseException {
+        LocalDate start = first.getStartTime().toLocalDate();
+        if (until.isBefore(start)) {
+            throw new ParseException(MESSAGE_UNTIL_BEFORE_START);
+        }
+
+        long weeks = ChronoUnit.WEEKS.between(start, until);
+        return (int) Math.min(weeks / every + 1, Integer.MAX_VALUE);
+    }
+
+    private static int parsePositiveInteger(String value, String errorMessage) throws ParseException {
+        String trimmed = value.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmed)) {
+            throw new ParseException(errorMessage);
+        }
+        return Integer.parseInt(trimmed);
+    }
+}
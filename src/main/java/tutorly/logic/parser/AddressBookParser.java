@@ -3,6 +3,7 @@ package tutorly.logic.parser;
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -10,9 +11,13 @@ import java.util.regex.Pattern;
 import tutorly.commons.core.LogsCenter;
 import tutorly.logic.commands.ClearCommand;
 import tutorly.logic.commands.Command;
+import tutorly.logic.commands.DiagnosticsCommand;
 import tutorly.logic.commands.ExitCommand;
+import tutorly.logic.commands.ExportCommand;
 import tutorly.logic.commands.HelpCommand;
+import tutorly.logic.commands.ImportCommand;
 import tutorly.logic.commands.SessionCommand;
+import tutorly.logic.commands.StatsCommand;
 import tutorly.logic.commands.StudentCommand;
 import tutorly.logic.commands.UndoCommand;
 import tutorly.logic.parser.exceptions.ParseException;
@@ -22,6 +27,14 @@ import tutorly.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser implements Parser<Command> {
 
+    /**
+     * The words that begin a command.
+     */
+    public static final Set<String> COMMAND_WORDS = Set.of(StudentCommand.COMMAND_WORD, SessionCommand.COMMAND_WORD,
+            ClearCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+            DiagnosticsCommand.COMMAND_WORD, StatsCommand.COMMAND_WORD, ExportCommand.COMMAND_WORD,
+            ImportCommand.COMMAND_WORD);
+
     /**
      * Used for initial separation of command word and args.
      */
@@ -86,6 +99,18 @@ public class AddressBookParser implements Parser<Command> {
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
+        case DiagnosticsCommand.COMMAND_WORD:
+            return new DiagnosticsCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(args);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(args);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -1,36 +1,52 @@
 package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
 import static tutorly.logic.parser.ParserUtil.parseSessionId;
 
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.logic.commands.AttendanceMarkSessionCommand;
+import tutorly.logic.commands.BulkAttendanceSessionCommand;
+import tutorly.logic.commands.SessionCommand;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.person.Identity;
 
 /**
  * Parses input arguments and creates a new AttendanceMarkSessionCommandParser object
  */
-public class AttendanceMarkSessionCommandParser implements Parser<AttendanceMarkSessionCommand> {
+public class AttendanceMarkSessionCommandParser implements Parser<SessionCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the AttendanceMarkSessionCommand
-     * and returns a AttendanceMarkSessionCommand object for execution.
+     * and returns a AttendanceMarkSessionCommand object for execution if a single student is given,
+     * or a BulkAttendanceSessionCommand object otherwise.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public AttendanceMarkSessionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION);
+    public SessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_ALL);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_ALL);
         Optional<String> sessionId = argMultimap.getValue(PREFIX_SESSION);
+        Optional<String> all = argMultimap.getValue(PREFIX_ALL);
 
-        if (sessionId.isEmpty() || sessionId.get().isBlank() || argMultimap.getPreamble().isEmpty()) {
+        if (sessionId.isEmpty() || sessionId.get().isBlank()
+                || argMultimap.getPreamble().isEmpty() == all.isEmpty()
+                || (all.isPresent() && !all.get().isBlank())) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceMarkSessionCommand.MESSAGE_USAGE));
         }
 
-        Identity identity = ParserUtil.parseIdentity(argMultimap.getPreamble());
-        return new AttendanceMarkSessionCommand(identity, parseSessionId(sessionId.get()));
+        if (all.isPresent()) {
+            return new BulkAttendanceSessionCommand(parseSessionId(sessionId.get()), true);
+        }
+
+        List<Identity> identities = ParserUtil.parseIdentities(argMultimap.getPreamble());
+        if (identities.size() > 1) {
+            return new BulkAttendanceSessionCommand(identities, parseSessionId(sessionId.get()), true);
+        }
+
+        return new AttendanceMarkSessionCommand(identities.get(0), parseSessionId(sessionId.get()));
     }
 }
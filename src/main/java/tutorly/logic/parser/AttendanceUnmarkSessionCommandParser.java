@@ -1,36 +1,52 @@
 package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
 import static tutorly.logic.parser.ParserUtil.parseSessionId;
 
+import java.util.List;
 import java.util.Optional;
 
 import tutorly.logic.commands.AttendanceUnmarkSessionCommand;
+import tutorly.logic.commands.BulkAttendanceSessionCommand;
+import tutorly.logic.commands.SessionCommand;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.person.Identity;
 
 /**
  * Parses input arguments and creates a new AttendanceUnmarkSessionCommandParser object
  */
-public class AttendanceUnmarkSessionCommandParser implements Parser<AttendanceUnmarkSessionCommand> {
+public class AttendanceUnmarkSessionCommandParser implements Parser<SessionCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the AttendanceUnmarkSessionCommand
-     * and returns a AttendanceUnmarkSessionCommand object for execution.
+     * and returns a AttendanceUnmarkSessionCommand object for execution if a single student is given,
+     * or a BulkAttendanceSessionCommand object otherwise.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public AttendanceUnmarkSessionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION);
+    public SessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_ALL);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_ALL);
         Optional<String> sessionId = argMultimap.getValue(PREFIX_SESSION);
+        Optional<String> all = argMultimap.getValue(PREFIX_ALL);
 
-        if (sessionId.isEmpty() || sessionId.get().isBlank() || argMultimap.getPreamble().isEmpty()) {
+        if (sessionId.isEmpty() || sessionId.get().isBlank()
+                || argMultimap.getPreamble().isEmpty() == all.isEmpty()
+                || (all.isPresent() && !all.get().isBlank())) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceUnmarkSessionCommand.MESSAGE_USAGE));
         }
 
-        Identity identity = ParserUtil.parseIdentity(argMultimap.getPreamble());
-        return new AttendanceUnmarkSessionCommand(identity, parseSessionId(sessionId.get()));
+        if (all.isPresent()) {
+            return new BulkAttendanceSessionCommand(parseSessionId(sessionId.get()), false);
+        }
+
+        List<Identity> identities = ParserUtil.parseIdentities(argMultimap.getPreamble());
+        if (identities.size() > 1) {
+            return new BulkAttendanceSessionCommand(identities, parseSessionId(sessionId.get()), false);
+        }
+
+        return new AttendanceUnmarkSessionCommand(identities.get(0), parseSessionId(sessionId.get()));
     }
 }
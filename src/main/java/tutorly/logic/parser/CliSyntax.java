@@ -19,4 +19,19 @@ public class CliSyntax {
     public static final Prefix PREFIX_SUBJECT = new Prefix("sub/");
     public static final Prefix PREFIX_SESSION = new Prefix("ses/");
     public static final Prefix PREFIX_FEEDBACK = new Prefix("f/");
+    public static final Prefix PREFIX_EVERY = new Prefix("every/");
+    public static final Prefix PREFIX_UNTIL = new Prefix("until/");
+    public static final Prefix PREFIX_COUNT = new Prefix("count/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_HOURS = new Prefix("hours/");
+    public static final Prefix PREFIX_ALL = new Prefix("all/");
+
+    /* Prefix definitions for pages of results */
+    public static final Prefix PREFIX_OFFSET = new Prefix("offset/");
+    public static final Prefix PREFIX_LIMIT = new Prefix("limit/");
+    public static final Prefix PREFIX_SORT = new Prefix("sort/");
+
+    /* Prefix definitions for importing and exporting */
+    public static final Prefix PREFIX_FILE = new Prefix("file/");
+    public static final Prefix PREFIX_QUERY = new Prefix("q/");
 }
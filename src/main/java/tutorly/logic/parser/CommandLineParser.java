@@ -0,0 +1,111 @@
+package tutorly.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorly.logic.commands.Command;
+import tutorly.logic.commands.CompoundCommand;
+import tutorly.logic.commands.UndoCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses a line of user input, which may hold several commands separated by {@code ;}, into a command.
+ * A line with several commands is parsed into a {@code CompoundCommand}, so that the commands run as one.
+ * A semicolon only separates commands if it is followed by a command word or ends the line, so that values such as
+ * addresses and memos may contain semicolons. A semicolon that is followed by a command word but is part of a value
+ * is written as {@code ;;}.
+ */
+public class CommandLineParser implements Parser<Command> {
+
+    public static final char SEPARATOR = ';';
+
+    public static final String MESSAGE_INVALID_COMMAND = "Command %1$d of %2$d is invalid: %3$s\n"
+            + "To use a ; before a command word within a command, type it twice: ;;";
+    public static final String MESSAGE_UNDO_NOT_ALONE = "The " + UndoCommand.COMMAND_WORD
+            + " command cannot be combined with other commands.";
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Parses {@code userInput} into a command. Every command on the line is parsed before any is run, so a line with
+     * an invalid command runs none of them.
+     *
+     * @throws ParseException if any command on the line does not conform to the expected format.
+     */
+    @Override
+    public Command parse(String userInput) throws ParseException {
+        requireNonNull(userInput);
+        List<String> commandTexts = split(userInput);
+        if (commandTexts.size() <= 1) {
+            return addressBookParser.parse(commandTexts.isEmpty() ? "" : commandTexts.get(0));
+        }
+
+        List<Command> commands = new ArrayList<>();
+        for (String commandText : commandTexts) {
+            Command command;
+            try {
+                command = addressBookParser.parse(commandText);
+            } catch (ParseException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND, commands.size() + 1,
+                        commandTexts.size(), e.getMessage()), e);
+            }
+
+            if (command instanceof UndoCommand) {
+                throw new ParseException(MESSAGE_UNDO_NOT_ALONE);
+            }
+            commands.add(command);
+        }
+        return new CompoundCommand(commands);
+    }
+
+    /**
+     * Splits {@code userInput} at each separator that is not doubled and is followed by a command word or by no
+     * command at all, dropping blank commands, and undoubles the remaining separators.
+     */
+    private static List<String> split(String userInput) {
+        List<String> commandTexts = new ArrayList<>();
+        StringBuilder commandText = new StringBuilder();
+        for (int i = 0; i < userInput.length(); i++) {
+            char c = userInput.charAt(i);
+            if (c != SEPARATOR) {
+                commandText.append(c);
+            } else if (i + 1 < userInput.length() && userInput.charAt(i + 1) == SEPARATOR) {
+                commandText.append(SEPARATOR);
+                i++;
+            } else if (!startsWithCommand(userInput, i + 1)) {
+                commandText.append(SEPARATOR);
+            } else {
+                addIfNotBlank(commandTexts, commandText.toString());
+                commandText.setLength(0);
+            }
+        }
+        addIfNotBlank(commandTexts, commandText.toString());
+        return commandTexts;
+    }
+
+    /**
+     * Returns true if the text of {@code userInput} from {@code start} up to the next separator is blank or begins
+     * with a command word.
+     */
+    private static boolean startsWithCommand(String userInput, int start) {
+        int wordStart = start;
+        while (wordStart < userInput.length() && Character.isWhitespace(userInput.charAt(wordStart))) {
+            wordStart++;
+        }
+        int wordEnd = wordStart;
+        while (wordEnd < userInput.length() && !Character.isWhitespace(userInput.charAt(wordEnd))
+                && userInput.charAt(wordEnd) != SEPARATOR) {
+            wordEnd++;
+        }
+        String word = userInput.substring(wordStart, wordEnd).toLowerCase();
+        return word.isEmpty() || AddressBookParser.COMMAND_WORDS.contains(word);
+    }
+
+    private static void addIfNotBlank(List<String> commandTexts, String commandText) {
+        if (!commandText.isBlank()) {
+            commandTexts.add(commandText);
+        }
+    }
+}
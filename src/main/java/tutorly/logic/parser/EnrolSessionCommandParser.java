@@ -1,36 +1,86 @@
 package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 import static tutorly.logic.parser.ParserUtil.parseSessionId;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import tutorly.logic.commands.BulkEnrolSessionCommand;
 import tutorly.logic.commands.EnrolSessionCommand;
+import tutorly.logic.commands.SessionCommand;
 import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Person;
 
 /**
- * Parses input arguments and creates a new EnrolSessionCommand object
+ * Parses input arguments and creates a new EnrolSessionCommand or BulkEnrolSessionCommand object
  */
-public class EnrolSessionCommandParser implements Parser<EnrolSessionCommand> {
+public class EnrolSessionCommandParser implements Parser<SessionCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the EnrolSessionCommand
-     * and returns a EnrolSessionCommand object for execution.
+     * and returns a EnrolSessionCommand object for execution if a single student is given,
+     * or a BulkEnrolSessionCommand object otherwise.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EnrolSessionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION);
+    public SessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_TAG, PREFIX_NAME, PREFIX_PHONE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
         Optional<String> sessionId = argMultimap.getValue(PREFIX_SESSION);
+        Optional<Filter<Person>> filter = initFilter(argMultimap);
 
-        if (sessionId.isEmpty() || sessionId.get().isBlank() || argMultimap.getPreamble().isEmpty()) {
+        if (sessionId.isEmpty() || sessionId.get().isBlank()
+                || (argMultimap.getPreamble().isEmpty() && filter.isEmpty())) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, EnrolSessionCommand.MESSAGE_USAGE));
         }
 
-        Identity identity = ParserUtil.parseIdentity(argMultimap.getPreamble());
-        return new EnrolSessionCommand(identity, parseSessionId(sessionId.get()));
+        List<Identity> identities = argMultimap.getPreamble().isEmpty()
+                ? List.of()
+                : ParserUtil.parseIdentities(argMultimap.getPreamble());
+        if (identities.size() == 1 && filter.isEmpty()) {
+            return new EnrolSessionCommand(identities.get(0), parseSessionId(sessionId.get()));
+        }
+
+        return new BulkEnrolSessionCommand(identities, filter, parseSessionId(sessionId.get()));
+    }
+
+    /**
+     * Initializes filter combining all predicates for selecting students using the given {@code ArgumentMultimap}.
+     * Returns an empty optional if no selectors are given.
+     */
+    private static Optional<Filter<Person>> initFilter(ArgumentMultimap argMultimap) throws ParseException {
+        List<Filter<Person>> filters = new ArrayList<>();
+
+        List<String> tags = argMultimap.getAllValues(PREFIX_TAG);
+        if (!tags.isEmpty()) {
+            filters.add(new HasTagFilter(ParserUtil.parseTags(tags)));
+        }
+
+        Optional<String> nameQuery = argMultimap.getValue(PREFIX_NAME);
+        if (nameQuery.isPresent() && !nameQuery.get().isBlank()) {
+            String[] nameKeywords = nameQuery.get().trim().split("\\s+");
+            filters.add(new NameContainsKeywordsFilter(Arrays.asList(nameKeywords)));
+        }
+
+        Optional<String> phoneQuery = argMultimap.getValue(PREFIX_PHONE);
+        if (phoneQuery.isPresent() && !phoneQuery.get().isBlank()) {
+            String[] phoneKeywords = phoneQuery.get().trim().split("\\s+");
+            filters.add(new PhoneContainsKeywordsFilter(Arrays.asList(phoneKeywords)));
+        }
+
+        return filters.isEmpty() ? Optional.empty() : Optional.of(Filter.any(filters));
     }
 }
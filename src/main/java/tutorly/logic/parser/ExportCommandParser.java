@@ -0,0 +1,62 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FILE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_QUERY;
+
+import java.util.Optional;
+
+import tutorly.logic.commands.ExportCommand;
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.DateRangeSessionFilter;
+import tutorly.model.filter.Filter;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_QUERY_NOT_APPLICABLE = "Sessions cannot be filtered by a student query.";
+    public static final String MESSAGE_DATE_NOT_APPLICABLE = "Students cannot be filtered by a date range.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE, PREFIX_QUERY, PREFIX_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE, PREFIX_QUERY, PREFIX_DATE);
+
+        Optional<Type> type = Type.of(argMultimap.getPreamble());
+        Optional<String> file = argMultimap.getValue(PREFIX_FILE);
+        if (type.isEmpty() || file.isEmpty() || file.get().isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Filter<Person>> studentFilter = Optional.empty();
+        Optional<String> query = argMultimap.getValue(PREFIX_QUERY);
+        if (query.isPresent()) {
+            if (type.get() == Type.SESSIONS || type.get() == Type.CALENDAR) {
+                throw new ParseException(MESSAGE_QUERY_NOT_APPLICABLE);
+            }
+            studentFilter = Optional.of(StudentQueryParser.parse(query.get()));
+        }
+
+        Optional<Filter<Session>> sessionFilter = Optional.empty();
+        Optional<String> dateRange = argMultimap.getValue(PREFIX_DATE);
+        if (dateRange.isPresent()) {
+            if (type.get() == Type.STUDENTS) {
+                throw new ParseException(MESSAGE_DATE_NOT_APPLICABLE);
+            }
+            sessionFilter = Optional.of(new DateRangeSessionFilter(ParserUtil.parseDateRange(dateRange.get())));
+        }
+
+        return new ExportCommand(type.get(), ParserUtil.parsePath(file.get()), studentFilter, sessionFilter);
+    }
+}
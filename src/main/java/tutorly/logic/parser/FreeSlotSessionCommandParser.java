@@ -0,0 +1,76 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_HOURS;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+import tutorly.logic.commands.FreeSlotSessionCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.session.DateRange;
+import tutorly.model.session.Timeslot;
+
+/**
+ * Parses input arguments and creates a new FreeSlotSessionCommand object.
+ */
+public class FreeSlotSessionCommandParser implements Parser<FreeSlotSessionCommand> {
+
+    public static final String MESSAGE_INVALID_HOURS = "Invalid working hours. Please give a start and end time "
+            + "separated by '-' (e.g. '9:00-18:00').";
+    public static final String MESSAGE_TOO_MANY_DAYS = "Free timeslots can be found over at most "
+            + FreeSlotSessionCommand.MAX_DAYS + " days.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotSessionCommand
+     * and returns a FreeSlotSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public FreeSlotSessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_DURATION, PREFIX_HOURS);
+
+        Optional<String> dateRange = argMultimap.getValue(PREFIX_DATE);
+        Optional<String> duration = argMultimap.getValue(PREFIX_DURATION);
+        if (dateRange.isEmpty() || duration.isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotSessionCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_DURATION, PREFIX_HOURS);
+        DateRange range = ParserUtil.parseDateRange(dateRange.get());
+        if (range.getDays() > FreeSlotSessionCommand.MAX_DAYS) {
+            throw new ParseException(MESSAGE_TOO_MANY_DAYS);
+        }
+        Duration minDuration = ParserUtil.parseDuration(duration.get());
+
+        Optional<String> hours = argMultimap.getValue(PREFIX_HOURS);
+        List<Timeslot> windows = hours.isPresent()
+                ? parseHours(range, hours.get())
+                : List.of(range.toTimeslot());
+        return new FreeSlotSessionCommand(windows, minDuration);
+    }
+
+    /**
+     * Returns the timeslots within the working {@code hours} on each date of {@code range}.
+     */
+    private static List<Timeslot> parseHours(DateRange range, String hours) throws ParseException {
+        String[] times = hours.trim().split("\\s*-\\s*");
+        if (times.length != 2) {
+            throw new ParseException(MESSAGE_INVALID_HOURS);
+        }
+
+        try {
+            LocalTime startTime = LocalTime.parse(times[0], ParserUtil.TIME_FORMATTER);
+            LocalTime endTime = LocalTime.parse(times[1], ParserUtil.TIME_FORMATTER);
+            return range.toDailyTimeslots(startTime, endTime);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_HOURS);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package tutorly.logic.parser;
+
+import java.util.Optional;
+
+import tutorly.logic.commands.HoursSessionCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HoursSessionCommand object
+ */
+public class HoursSessionCommandParser implements Parser<HoursSessionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HoursSessionCommand
+     * and returns a HoursSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public HoursSessionCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            return new HoursSessionCommand(Optional.empty());
+        }
+
+        return new HoursSessionCommand(Optional.of(ParserUtil.parseMonth(args)));
+    }
+}
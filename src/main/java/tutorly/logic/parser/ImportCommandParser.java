@@ -0,0 +1,35 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.util.Optional;
+
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.logic.commands.ImportCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FILE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+
+        Optional<Type> type = Type.of(argMultimap.getPreamble());
+        Optional<String> file = argMultimap.getValue(PREFIX_FILE);
+        if (type.isEmpty() || file.isEmpty() || file.get().isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        return new ImportCommand(type.get(), ParserUtil.parsePath(file.get()));
+    }
+}
@@ -0,0 +1,28 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+
+import java.util.List;
+
+import tutorly.logic.commands.ListSessionCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.session.SessionSortKey;
+
+/**
+ * Parses input arguments and creates a new ListSessionCommand object.
+ */
+public class ListSessionCommandParser implements Parser<ListSessionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListSessionCommand
+     * and returns a ListSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ListSessionCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OFFSET, PREFIX_LIMIT, PREFIX_SORT);
+        return new ListSessionCommand(ParserUtil.parsePage(argMultimap, List.of(SessionSortKey.values())));
+    }
+}
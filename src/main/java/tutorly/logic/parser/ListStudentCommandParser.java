@@ -0,0 +1,28 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+
+import java.util.List;
+
+import tutorly.logic.commands.ListStudentCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.person.PersonSortKey;
+
+/**
+ * Parses input arguments and creates a new ListStudentCommand object.
+ */
+public class ListStudentCommandParser implements Parser<ListStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListStudentCommand
+     * and returns a ListStudentCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public ListStudentCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_OFFSET, PREFIX_LIMIT, PREFIX_SORT);
+        return new ListStudentCommand(ParserUtil.parsePage(argMultimap, List.of(PersonSortKey.values())));
+    }
+}
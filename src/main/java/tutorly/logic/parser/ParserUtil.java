@@ -1,28 +1,46 @@
 package tutorly.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
+import tutorly.commons.util.FileUtil;
 import tutorly.commons.util.StringUtil;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.SortKey;
+import tutorly.model.filter.TextQuery;
 import tutorly.model.person.Address;
 import tutorly.model.person.Email;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Memo;
 import tutorly.model.person.Name;
 import tutorly.model.person.Phone;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
 import tutorly.model.session.Subject;
 import tutorly.model.session.Timeslot;
@@ -38,17 +56,42 @@ public class ParserUtil {
             + "datetime.";
     public static final String MESSAGE_INVALID_DATE_FORMAT = "Invalid date or incorrect date format. "
             + "Please ensure it follows the format 'dd MMM yyyy' (e.g. '25 Dec 2025') and is a valid date.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path: %1$s";
+    public static final String MESSAGE_INVALID_MONTH_FORMAT = "Invalid month or incorrect month format. "
+            + "Please ensure it follows the format 'MMM yyyy' (e.g. 'Dec 2025').";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "Invalid date range. Please give a date "
+            + "(e.g. '25 Dec 2025'), two dates separated by '..' (e.g. '22 Dec 2025..28 Dec 2025'), 'this week' or "
+            + "'next N days' (e.g. 'next 7 days').";
+    public static final String MESSAGE_INVALID_DURATION = "Invalid duration. Please give a positive number of hours "
+            + "and/or minutes (e.g. '2h', '45m' or '1h30m').";
     public static final String MESSAGE_INVALID_TIMESLOT_FORMAT = "Invalid timeslot or incorrect timeslot format. "
             + "Please ensure it follows the format 'dd MMM yyyy HH:mm-HH:mm' or 'dd MMM yyyy HH:mm-dd MMM yyyy HH:mm' "
             + "(e.g. '25 Dec 2025 10:00-25 Dec 2025 12:00'), and the date and time provided is valid.";
+    public static final String MESSAGE_INVALID_OFFSET = "Offset must be a non-negative integer.";
+    public static final String MESSAGE_INVALID_LIMIT = "Limit must be a positive integer.";
+    public static final String MESSAGE_INVALID_SORT_KEY = "Sort key must be one of: %1$s, optionally preceded by "
+            + "- to sort in descending order.";
     public static final DateTimeFormatter DATE_FORMATTER = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendPattern("d MMM uuuu")
             .toFormatter(Locale.ENGLISH)
             .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter MONTH_FORMATTER = new DateTimeFormatterBuilder()
+            .parseCaseInsensitive()
+            .appendPattern("MMM uuuu")
+            .toFormatter(Locale.ENGLISH)
+            .withResolverStyle(ResolverStyle.STRICT);
+    public static final String DATE_RANGE_SEPARATOR = "..";
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("H:mm")
             .withResolverStyle(ResolverStyle.STRICT);
 
+    /** Separates student identifiers, and cannot occur in a name, unlike commas and semicolons. */
+    public static final String IDENTITY_SEPARATOR = "|";
+
+    private static final Pattern DURATION_FORMAT = Pattern.compile("(?:(\\d{1,4})\\s*h)?\\s*(?:(\\d{1,5})\\s*m)?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern NEXT_DAYS_FORMAT = Pattern.compile("next (\\S+) days?", Pattern.CASE_INSENSITIVE);
+
     /**
      * Parses {@code String identity} into an {@code Identity} and returns it.
      * Leading and trailing whitespaces will be trimmed.
@@ -68,6 +111,24 @@ public class ParserUtil {
         throw new ParseException(Identity.MESSAGE_INVALID_IDENTITY);
     }
 
+    /**
+     * Parses {@code String identities}, separated by {@link #IDENTITY_SEPARATOR}, into a list of {@code Identity}.
+     * Leading and trailing whitespaces of each identifier will be trimmed.
+     *
+     * @throws ParseException if any of the identifiers is empty or invalid.
+     */
+    public static List<Identity> parseIdentities(String identities) throws ParseException {
+        requireNonNull(identities);
+        List<Identity> identityList = new ArrayList<>();
+        for (String identity : identities.split(Pattern.quote(IDENTITY_SEPARATOR), -1)) {
+            if (identity.isBlank()) {
+                throw new ParseException(Identity.MESSAGE_INVALID_IDENTITY);
+            }
+            identityList.add(parseIdentity(identity));
+        }
+        return identityList;
+    }
+
     /**
      * Parses Session {@code String id} into an {@code int} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -204,6 +265,104 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parses a {@code String path} into a {@code Path}, relative to the working directory unless it is absolute.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given path is invalid.
+     */
+    public static Path parsePath(String path) throws ParseException {
+        requireNonNull(path);
+        String trimmedPath = path.trim();
+        if (trimmedPath.isEmpty() || !FileUtil.isValidPath(trimmedPath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmedPath));
+        }
+        return Paths.get(trimmedPath);
+    }
+
+    /**
+     * Parses a {@code String month} into a {@code YearMonth}.
+     * The month format must be MMM yyyy. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the month format is invalid.
+     */
+    public static YearMonth parseMonth(String month) throws ParseException {
+        requireNonNull(month);
+        try {
+            return YearMonth.parse(month.trim().replaceAll("\\s+", " "), MONTH_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_MONTH_FORMAT);
+        }
+    }
+
+    /**
+     * Parses a {@code String dateRange} into a {@code DateRange}, where relative ranges are relative to today.
+     *
+     * @see #parseDateRange(String, LocalDate)
+     */
+    public static DateRange parseDateRange(String dateRange) throws ParseException {
+        return parseDateRange(dateRange, LocalDate.now());
+    }
+
+    /**
+     * Parses a {@code String dateRange} into a {@code DateRange}. The range can be a single date, two dates separated
+     * by {@code ..}, {@code this week} for Monday to Sunday of the week of {@code today}, or {@code next N days} for
+     * the N days starting from {@code today}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given range or any of its dates is invalid.
+     */
+    public static DateRange parseDateRange(String dateRange, LocalDate today) throws ParseException {
+        requireNonNull(dateRange);
+        requireNonNull(today);
+        String trimmedDateRange = dateRange.trim().replaceAll("\\s+", " ");
+
+        if (trimmedDateRange.equalsIgnoreCase("this week")) {
+            return DateRange.weekOf(today);
+        }
+
+        Matcher nextDays = NEXT_DAYS_FORMAT.matcher(trimmedDateRange);
+        if (nextDays.matches()) {
+            if (!StringUtil.isNonZeroUnsignedInteger(nextDays.group(1))) {
+                throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+            }
+            return DateRange.daysFrom(today, Integer.parseInt(nextDays.group(1)));
+        }
+
+        int separator = trimmedDateRange.indexOf(DATE_RANGE_SEPARATOR);
+        if (separator == -1) {
+            LocalDate date = parseDate(trimmedDateRange);
+            return new DateRange(date, date);
+        }
+
+        LocalDate startDate = parseDate(trimmedDateRange.substring(0, separator));
+        LocalDate endDate = parseDate(trimmedDateRange.substring(separator + DATE_RANGE_SEPARATOR.length()));
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(DateRange.MESSAGE_END_BEFORE_START_DATE);
+        }
+        return new DateRange(startDate, endDate);
+    }
+
+    /**
+     * Parses a {@code String duration} of hours and/or minutes, such as {@code 1h30m}, into a {@code Duration}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given duration is invalid or not positive.
+     */
+    public static Duration parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        Matcher matcher = DURATION_FORMAT.matcher(duration.trim());
+        if (!matcher.matches() || (matcher.group(1) == null && matcher.group(2) == null)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+
+        Duration parsed = Duration.ofHours(matcher.group(1) == null ? 0 : Long.parseLong(matcher.group(1)))
+                .plusMinutes(matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2)));
+        if (parsed.isZero()) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return parsed;
+    }
+
     /**
      * Parses a {@code String timeslot} into a {@code Timeslot}.
      * The timeslot format must be d MMM yyyy H:mm-H:mm or d MMM yyyy H:mm-d MMM yyyy H:mm.
@@ -298,4 +457,85 @@ public class ParserUtil {
         }
         return new Feedback(trimmedFeedback);
     }
+
+    /**
+     * Parses a {@code String query} into a {@code TextQuery}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code query} is invalid.
+     */
+    public static TextQuery parseTextQuery(String query) throws ParseException {
+        requireNonNull(query);
+        String trimmedQuery = query.trim();
+        if (!TextQuery.isValidQuery(trimmedQuery)) {
+            throw new ParseException(TextQuery.MESSAGE_CONSTRAINTS);
+        }
+        return new TextQuery(trimmedQuery);
+    }
+
+    /**
+     * Parses the offset, limit and sort key in {@code argMultimap} into a {@code Page}, where the sort key must be
+     * the keyword of one of {@code sortKeys}. Leading and trailing whitespaces will be trimmed.
+     * A page of all the elements in ID order is returned if none of them are given.
+     *
+     * @throws ParseException if any of the values given is invalid or given more than once.
+     */
+    public static <T> Page<T> parsePage(ArgumentMultimap argMultimap, List<? extends SortKey<T>> sortKeys)
+            throws ParseException {
+        requireNonNull(argMultimap);
+        requireNonNull(sortKeys);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_OFFSET, PREFIX_LIMIT, PREFIX_SORT);
+
+        int offset = 0;
+        Optional<String> offsetValue = argMultimap.getValue(PREFIX_OFFSET);
+        if (offsetValue.isPresent()) {
+            String trimmedOffset = offsetValue.get().trim();
+            if (!trimmedOffset.equals("0") && !StringUtil.isNonZeroUnsignedInteger(trimmedOffset)) {
+                throw new ParseException(MESSAGE_INVALID_OFFSET);
+            }
+            offset = Integer.parseInt(trimmedOffset);
+        }
+
+        int limit = Page.UNLIMITED;
+        Optional<String> limitValue = argMultimap.getValue(PREFIX_LIMIT);
+        if (limitValue.isPresent()) {
+            String trimmedLimit = limitValue.get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+                throw new ParseException(MESSAGE_INVALID_LIMIT);
+            }
+            limit = Integer.parseInt(trimmedLimit);
+        }
+
+        SortKey<T> sortKey = null;
+        boolean isDescending = false;
+        Optional<String> sortValue = argMultimap.getValue(PREFIX_SORT);
+        if (sortValue.isPresent()) {
+            String keyword = sortValue.get().trim();
+            isDescending = keyword.startsWith("-");
+            sortKey = parseSortKey(isDescending ? keyword.substring(1) : keyword, sortKeys);
+        }
+
+        return new Page<>(offset, limit, sortKey, isDescending);
+    }
+
+    /**
+     * Parses {@code keyword} into the one of {@code sortKeys} with that keyword, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if none of {@code sortKeys} has the given keyword.
+     */
+    public static <T> SortKey<T> parseSortKey(String keyword, List<? extends SortKey<T>> sortKeys)
+            throws ParseException {
+        requireNonNull(keyword);
+        requireNonNull(sortKeys);
+        String trimmedKeyword = keyword.trim();
+        for (SortKey<T> sortKey : sortKeys) {
+            if (sortKey.getKeyword().equalsIgnoreCase(trimmedKeyword)) {
+                return sortKey;
+            }
+        }
+
+        String keywords = sortKeys.stream().map(SortKey::getKeyword).collect(Collectors.joining(", "));
+        throw new ParseException(String.format(MESSAGE_INVALID_SORT_KEY, keywords));
+    }
 }
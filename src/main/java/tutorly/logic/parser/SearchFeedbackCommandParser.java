@@ -0,0 +1,29 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tutorly.logic.commands.SearchFeedbackCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.TextQuery;
+
+/**
+ * Parses input arguments and creates a new SearchFeedbackCommand object
+ */
+public class SearchFeedbackCommandParser implements Parser<SearchFeedbackCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchFeedbackCommand
+     * and returns a SearchFeedbackCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public SearchFeedbackCommand parse(String args) throws ParseException {
+        if (args.isBlank()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchFeedbackCommand.MESSAGE_USAGE));
+        }
+
+        TextQuery query = ParserUtil.parseTextQuery(args);
+        return new SearchFeedbackCommand(query);
+    }
+}
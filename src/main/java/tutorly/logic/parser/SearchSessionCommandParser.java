@@ -2,13 +2,14 @@ package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
-import static tutorly.logic.parser.ParserUtil.parseDate;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -16,10 +17,14 @@ import java.util.Optional;
 
 import tutorly.logic.commands.SearchSessionCommand;
 import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.DateRangeSessionFilter;
 import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
+import tutorly.model.session.SessionSortKey;
 
 /**
  * Parses input arguments and creates a new SearchSessionCommand object
@@ -31,7 +36,8 @@ public class SearchSessionCommandParser implements Parser<SearchSessionCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchSessionCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_SUBJECT);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_SUBJECT, PREFIX_OFFSET,
+                PREFIX_LIMIT, PREFIX_SORT);
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
 
         if (!argMultimap.getPreamble().isEmpty()) {
@@ -39,19 +45,35 @@ public class SearchSessionCommandParser implements Parser<SearchSessionCommand>
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchSessionCommand.MESSAGE_USAGE));
         }
 
-        return new SearchSessionCommand(initFilter(argMultimap));
+        Page<Session> page = ParserUtil.parsePage(argMultimap, List.of(SessionSortKey.values()));
+        Optional<DateRange> dateRange = parseDateRange(argMultimap);
+        return new SearchSessionCommand(initFilter(argMultimap, dateRange), page,
+                dateRange.filter(range -> range.getDays() > 1).orElse(null));
     }
 
     /**
-     * Initializes filter combining all predicates for filtering sessions using the given {@code ArgumentMultimap}.
+     * Parses the date range in the given {@code ArgumentMultimap}, if a non-blank one is given.
      */
-    private static Filter<Session> initFilter(ArgumentMultimap argMultimap) throws ParseException {
+    private static Optional<DateRange> parseDateRange(ArgumentMultimap argMultimap) throws ParseException {
+        Optional<String> dateQuery = argMultimap.getValue(PREFIX_DATE);
+        if (dateQuery.isEmpty() || dateQuery.get().isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(ParserUtil.parseDateRange(dateQuery.get()));
+    }
+
+    /**
+     * Initializes filter combining all predicates for filtering sessions using the given {@code ArgumentMultimap}
+     * and {@code dateRange}.
+     */
+    private static Filter<Session> initFilter(ArgumentMultimap argMultimap, Optional<DateRange> dateRange) {
         List<Filter<Session>> filters = new ArrayList<>();
 
-        Optional<String> dateQuery = argMultimap.getValue(PREFIX_DATE);
-        if (dateQuery.isPresent() && !dateQuery.get().isBlank()) {
-            LocalDate date = parseDate(dateQuery.get());
-            filters.add(new DateSessionFilter(date));
+        if (dateRange.isPresent()) {
+            DateRange range = dateRange.get();
+            filters.add(range.getDays() == 1
+                    ? new DateSessionFilter(range.getStartDate())
+                    : new DateRangeSessionFilter(range));
         }
 
         Optional<String> subjectQuery = argMultimap.getValue(PREFIX_SUBJECT);
@@ -1,9 +1,13 @@
 package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_LIMIT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorly.logic.parser.CliSyntax.PREFIX_OFFSET;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SORT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 import static tutorly.logic.parser.ParserUtil.parseSessionId;
 
 import java.util.ArrayList;
@@ -15,9 +19,12 @@ import tutorly.logic.commands.SearchStudentCommand;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.filter.AttendSessionFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.Page;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
 
 /**
  * Parses input arguments and creates a new SearchCommand object
@@ -30,15 +37,23 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchStudentCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE,
+                PREFIX_TAG, PREFIX_OFFSET, PREFIX_LIMIT, PREFIX_SORT);
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SESSION, PREFIX_NAME, PREFIX_PHONE);
+        Page<Person> page = ParserUtil.parsePage(argMultimap, List.of(PersonSortKey.values()));
 
-        if (!argMultimap.getPreamble().isEmpty()) {
+        if (argMultimap.getPreamble().isEmpty()) {
+            return new SearchStudentCommand(initFilter(argMultimap), page);
+        }
+
+        // a query cannot be combined with prefixed keywords
+        if (argMultimap.getValue(PREFIX_SESSION).isPresent() || argMultimap.getValue(PREFIX_NAME).isPresent()
+                || argMultimap.getValue(PREFIX_PHONE).isPresent() || argMultimap.getValue(PREFIX_TAG).isPresent()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
         }
 
-        return new SearchStudentCommand(initFilter(argMultimap));
+        return new SearchStudentCommand(StudentQueryParser.parse(argMultimap.getPreamble()), page);
     }
 
     /**
@@ -65,6 +80,11 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
             filters.add(new PhoneContainsKeywordsFilter(Arrays.asList(phoneKeywords)));
         }
 
+        List<String> tags = argMultimap.getAllValues(PREFIX_TAG);
+        if (!tags.isEmpty()) {
+            filters.add(new HasTagFilter(ParserUtil.parseTags(tags)));
+        }
+
         return Filter.any(filters);
     }
 }
@@ -2,17 +2,23 @@ package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import tutorly.logic.commands.AddRecurringSessionCommand;
 import tutorly.logic.commands.AddSessionCommand;
 import tutorly.logic.commands.AttendanceFeedbackCommand;
 import tutorly.logic.commands.AttendanceMarkSessionCommand;
 import tutorly.logic.commands.AttendanceUnmarkSessionCommand;
 import tutorly.logic.commands.Command;
+import tutorly.logic.commands.ConflictSessionCommand;
 import tutorly.logic.commands.DeleteSessionCommand;
 import tutorly.logic.commands.EditSessionCommand;
 import tutorly.logic.commands.EnrolSessionCommand;
+import tutorly.logic.commands.FreeSlotSessionCommand;
+import tutorly.logic.commands.HoursSessionCommand;
 import tutorly.logic.commands.ListSessionCommand;
+import tutorly.logic.commands.SearchFeedbackCommand;
 import tutorly.logic.commands.SearchSessionCommand;
 import tutorly.logic.commands.SessionCommand;
+import tutorly.logic.commands.SortSessionCommand;
 import tutorly.logic.commands.UnenrolSessionCommand;
 import tutorly.logic.commands.ViewSessionCommand;
 import tutorly.logic.parser.exceptions.ParseException;
@@ -31,14 +37,32 @@ public class SessionCommandParser extends AddressBookParser {
             return new ViewSessionCommandParser().parse(args);
 
         case ListSessionCommand.COMMAND_WORD:
-            return new ListSessionCommand();
+            return new ListSessionCommandParser().parse(args);
 
         case AddSessionCommand.COMMAND_WORD:
             return new AddSessionCommandParser().parse(args);
 
+        case AddRecurringSessionCommand.COMMAND_WORD:
+            return new AddRecurringSessionCommandParser().parse(args);
+
         case SearchSessionCommand.COMMAND_WORD:
             return new SearchSessionCommandParser().parse(args);
 
+        case SearchFeedbackCommand.COMMAND_WORD:
+            return new SearchFeedbackCommandParser().parse(args);
+
+        case SortSessionCommand.COMMAND_WORD:
+            return new SortSessionCommandParser().parse(args);
+
+        case FreeSlotSessionCommand.COMMAND_WORD:
+            return new FreeSlotSessionCommandParser().parse(args);
+
+        case ConflictSessionCommand.COMMAND_WORD:
+            return new ConflictSessionCommand();
+
+        case HoursSessionCommand.COMMAND_WORD:
+            return new HoursSessionCommandParser().parse(args);
+
         case EnrolSessionCommand.COMMAND_WORD:
             return new EnrolSessionCommandParser().parse(args);
 
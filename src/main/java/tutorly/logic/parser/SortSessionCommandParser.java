@@ -0,0 +1,35 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import tutorly.logic.commands.SortSessionCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.SortKey;
+import tutorly.model.session.Session;
+import tutorly.model.session.SessionSortKey;
+
+/**
+ * Parses input arguments and creates a new SortSessionCommand object.
+ */
+public class SortSessionCommandParser implements Parser<SortSessionCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortSessionCommand
+     * and returns a SortSessionCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public SortSessionCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortSessionCommand.MESSAGE_USAGE));
+        }
+
+        boolean isDescending = trimmedArgs.startsWith("-");
+        SortKey<Session> sortKey = ParserUtil.parseSortKey(isDescending ? trimmedArgs.substring(1) : trimmedArgs,
+                List.of(SessionSortKey.values()));
+        return new SortSessionCommand(sortKey, isDescending);
+    }
+}
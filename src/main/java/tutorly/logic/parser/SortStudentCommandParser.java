@@ -0,0 +1,35 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.List;
+
+import tutorly.logic.commands.SortStudentCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.SortKey;
+import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
+
+/**
+ * Parses input arguments and creates a new SortStudentCommand object.
+ */
+public class SortStudentCommandParser implements Parser<SortStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SortStudentCommand
+     * and returns a SortStudentCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    public SortStudentCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortStudentCommand.MESSAGE_USAGE));
+        }
+
+        boolean isDescending = trimmedArgs.startsWith("-");
+        SortKey<Person> sortKey = ParserUtil.parseSortKey(isDescending ? trimmedArgs.substring(1) : trimmedArgs,
+                List.of(PersonSortKey.values()));
+        return new SortStudentCommand(sortKey, isDescending);
+    }
+}
@@ -8,6 +8,7 @@ import tutorly.logic.commands.DeleteStudentCommand;
 import tutorly.logic.commands.EditStudentCommand;
 import tutorly.logic.commands.ListStudentCommand;
 import tutorly.logic.commands.SearchStudentCommand;
+import tutorly.logic.commands.SortStudentCommand;
 import tutorly.logic.commands.StudentCommand;
 import tutorly.logic.commands.ViewStudentCommand;
 import tutorly.logic.parser.exceptions.ParseException;
@@ -26,7 +27,7 @@ public class StudentCommandParser extends AddressBookParser {
             return new ViewStudentCommandParser().parse(args);
 
         case ListStudentCommand.COMMAND_WORD:
-            return new ListStudentCommand();
+            return new ListStudentCommandParser().parse(args);
 
         case AddStudentCommand.COMMAND_WORD:
             return new AddStudentCommandParser().parse(args);
@@ -40,6 +41,9 @@ public class StudentCommandParser extends AddressBookParser {
         case SearchStudentCommand.COMMAND_WORD:
             return new SearchStudentCommandParser().parse(args);
 
+        case SortStudentCommand.COMMAND_WORD:
+            return new SortStudentCommandParser().parse(args);
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
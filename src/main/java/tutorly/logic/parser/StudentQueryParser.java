@@ -0,0 +1,270 @@
+package tutorly.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import tutorly.commons.util.StringUtil;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.EmailContainsKeywordsFilter;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
+import tutorly.model.filter.MemoContainsKeywordsFilter;
+import tutorly.model.filter.MemoMatchesTextFilter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.NameSimilarToFilter;
+import tutorly.model.filter.PersonIdFilter;
+import tutorly.model.filter.PhoneContainsKeywordsFilter;
+import tutorly.model.filter.PresentInSessionFilter;
+import tutorly.model.filter.TagQueryFilter;
+import tutorly.model.person.Person;
+
+/**
+ * Parses a query for students into a {@code Filter}.
+ * A query is made up of {@code FIELD:VALUE} terms combined with {@code and}, {@code or}, {@code not} and parentheses,
+ * e.g. {@code name:alex and (tag:friends or not session:3)}. Terms that are not separated by an operator are combined
+ * with {@code and}, and operators are case-insensitive. A value containing spaces can be enclosed in double quotes,
+ * in which case a student matching any of its words is selected, except for a {@code fuzzy} term, which selects
+ * students whose names are near matches of the whole value, and a {@code text} term, which is a full-text query of
+ * memos where quoted words form a phrase, e.g. {@code text:"needs practice"}.
+ * <p>
+ * Operands of an operator that only test tags are combined into a single {@code TagQueryFilter}, e.g.
+ * {@code tag:sec4 and not tag:graduated}, so that they are looked up as operations on the bitmaps of the tag index.
+ */
+public class StudentQueryParser {
+
+    public static final String FIELD_ID = "id";
+    public static final String FIELD_NAME = "name";
+    public static final String FIELD_FUZZY = "fuzzy";
+    public static final String FIELD_PHONE = "phone";
+    public static final String FIELD_EMAIL = "email";
+    public static final String FIELD_TAG = "tag";
+    public static final String FIELD_MEMO = "memo";
+    public static final String FIELD_TEXT = "text";
+    public static final String FIELD_SESSION = "session";
+    public static final String FIELD_ATTENDANCE = "attendance";
+
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown search field: %1$s. Valid fields are: "
+            + String.join(", ", FIELD_ID, FIELD_NAME, FIELD_FUZZY, FIELD_PHONE, FIELD_EMAIL, FIELD_TAG, FIELD_MEMO,
+                    FIELD_TEXT, FIELD_SESSION, FIELD_ATTENDANCE) + ".";
+    public static final String MESSAGE_EXPECTED_TERM = "Expected a FIELD:VALUE search term at: %1$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in search query.";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "Search query has an unclosed quote.";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "Search query has an unclosed parenthesis.";
+    public static final String MESSAGE_EMPTY_VALUE = "Search term %1$s has no value.";
+
+    private static final String OPERATOR_AND = "and";
+    private static final String OPERATOR_OR = "or";
+    private static final String OPERATOR_NOT = "not";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private final List<String> tokens;
+    private int position;
+
+    private StudentQueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses the given {@code query} into a filter for students.
+     *
+     * @throws ParseException if the query is malformed or contains an invalid term.
+     */
+    public static Filter<Person> parse(String query) throws ParseException {
+        requireNonNull(query);
+        StudentQueryParser parser = new StudentQueryParser(tokenize(query));
+        Filter<Person> filter = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, parser.peek()));
+        }
+        return filter;
+    }
+
+    /**
+     * Splits {@code query} into parentheses, operators and terms. Whitespace within double quotes is kept.
+     */
+    private static List<String> tokenize(String query) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean isQuoted = false;
+        for (char c : query.toCharArray()) {
+            if (c == '"') {
+                isQuoted = !isQuoted;
+                token.append(c);
+            } else if (isQuoted) {
+                token.append(c);
+            } else if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (!token.isEmpty()) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                }
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                token.append(c);
+            }
+        }
+
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private Filter<Person> parseOr() throws ParseException {
+        List<Filter<Person>> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (hasNext() && peek().equalsIgnoreCase(OPERATOR_OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : combine(operands, Filter::any, TagQueryFilter::any);
+    }
+
+    private Filter<Person> parseAnd() throws ParseException {
+        List<Filter<Person>> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (hasNext() && !peek().equalsIgnoreCase(OPERATOR_OR) && !peek().equals(CLOSE_PARENTHESIS)) {
+            if (peek().equalsIgnoreCase(OPERATOR_AND)) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : combine(operands, Filter::all, TagQueryFilter::all);
+    }
+
+    /**
+     * Combines {@code operands} with {@code operator}, first combining the operands that only test tags with
+     * {@code tagOperator} if there are more than one of them. The combined tag operands take the place of the first.
+     */
+    private static Filter<Person> combine(List<Filter<Person>> operands,
+            Function<List<Filter<Person>>, Filter<Person>> operator,
+            Function<List<TagQueryFilter>, TagQueryFilter> tagOperator) {
+        List<TagQueryFilter> tagOperands = new ArrayList<>();
+        operands.forEach(operand -> toTagQuery(operand).ifPresent(tagOperands::add));
+        if (tagOperands.size() < 2) {
+            return operator.apply(operands);
+        }
+
+        TagQueryFilter tagQuery = tagOperator.apply(tagOperands);
+        if (tagOperands.size() == operands.size()) {
+            return tagQuery;
+        }
+
+        List<Filter<Person>> combined = new ArrayList<>();
+        for (Filter<Person> operand : operands) {
+            if (toTagQuery(operand).isEmpty()) {
+                combined.add(operand);
+            } else if (!combined.contains(tagQuery)) {
+                combined.add(tagQuery);
+            }
+        }
+        return operator.apply(combined);
+    }
+
+    /**
+     * Returns {@code filter} as a {@code TagQueryFilter} if it only tests tags.
+     */
+    private static Optional<TagQueryFilter> toTagQuery(Filter<Person> filter) {
+        if (filter instanceof TagQueryFilter tagQueryFilter) {
+            return Optional.of(tagQueryFilter);
+        } else if (filter instanceof HasTagFilter hasTagFilter) {
+            return Optional.of(TagQueryFilter.of(hasTagFilter.getTags()));
+        }
+        return Optional.empty();
+    }
+
+    private Filter<Person> parseUnary() throws ParseException {
+        if (!hasNext()) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_TERM, "end of query"));
+        }
+
+        String token = tokens.get(position++);
+        if (token.equalsIgnoreCase(OPERATOR_NOT)) {
+            Filter<Person> operand = parseUnary();
+            return toTagQuery(operand).<Filter<Person>>map(TagQueryFilter::not).orElseGet(() -> Filter.not(operand));
+        }
+
+        if (token.equals(OPEN_PARENTHESIS)) {
+            Filter<Person> filter = parseOr();
+            if (!hasNext() || !peek().equals(CLOSE_PARENTHESIS)) {
+                throw new ParseException(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            position++;
+            return filter;
+        }
+
+        return parseTerm(token);
+    }
+
+    private static Filter<Person> parseTerm(String term) throws ParseException {
+        int separator = term.indexOf(':');
+        if (separator < 0) {
+            throw new ParseException(String.format(MESSAGE_EXPECTED_TERM, term));
+        }
+
+        String field = term.substring(0, separator).toLowerCase();
+        String value = term.substring(separator + 1).replace("\"", "").trim();
+        if (value.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_VALUE, term));
+        }
+
+        List<String> keywords = Arrays.asList(value.split("\\s+"));
+        switch (field) {
+        case FIELD_ID:
+            if (!StringUtil.isNonZeroUnsignedInteger(value)) {
+                throw new ParseException(Person.MESSAGE_INVALID_ID);
+            }
+            return new PersonIdFilter(Integer.parseInt(value));
+
+        case FIELD_NAME:
+            return new NameContainsKeywordsFilter(keywords);
+
+        case FIELD_FUZZY:
+            return new NameSimilarToFilter(value);
+
+        case FIELD_PHONE:
+            return new PhoneContainsKeywordsFilter(keywords);
+
+        case FIELD_EMAIL:
+            return new EmailContainsKeywordsFilter(keywords);
+
+        case FIELD_TAG:
+            return new HasTagFilter(ParserUtil.parseTags(keywords));
+
+        case FIELD_MEMO:
+            return new MemoContainsKeywordsFilter(keywords);
+
+        case FIELD_TEXT:
+            // Quotes are kept, as they delimit phrases in a text query
+            return new MemoMatchesTextFilter(ParserUtil.parseTextQuery(term.substring(separator + 1)));
+
+        case FIELD_SESSION:
+            return new AttendSessionFilter(ParserUtil.parseSessionId(value));
+
+        case FIELD_ATTENDANCE:
+            return new PresentInSessionFilter(ParserUtil.parseSessionId(value));
+
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, field));
+        }
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+}
@@ -2,33 +2,73 @@ package tutorly.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordIndex;
+import tutorly.model.attendancerecord.AttendanceStats;
+import tutorly.model.attendancerecord.HoursRollup;
 import tutorly.model.attendancerecord.UniqueAttendanceRecordList;
+import tutorly.model.filter.SortIndex;
+import tutorly.model.filter.SortKey;
+import tutorly.model.filter.TextIndex;
 import tutorly.model.person.Name;
+import tutorly.model.person.NameIndex;
 import tutorly.model.person.Person;
 import tutorly.model.person.UniquePersonList;
 import tutorly.model.session.Session;
+import tutorly.model.session.TimeslotIndex;
 import tutorly.model.session.UniqueSessionList;
+import tutorly.model.tag.TagIndex;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed.
+ * <p>
+ * Indexes of the persons and sessions by sort key are built when first requested, and then kept up to date by every
+ * mutation that could move an element in them, so that switching between sort orders does not sort the elements again.
+ * The tag index, the full-text indexes of memos and feedback, the attendance statistics and the hours rollup are
+ * likewise built when first requested and then updated one element at a time.
+ * <p>
+ * The IDs of the persons and sessions changed by each mutation, including those whose attendance records changed, are
+ * collected until they are taken, so that views of the lists only have to re-test those elements.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueSessionList sessions;
     private final UniqueAttendanceRecordList attendanceRecords;
+    private final Map<SortKey<Person>, SortIndex<Person, ?>> personSortIndexes = new HashMap<>();
+    private final Map<SortKey<Session>, SortIndex<Session, ?>> sessionSortIndexes = new HashMap<>();
+    /** IDs of the persons and sessions whose attendance counts changed in the current batch. */
+    private final Set<Integer> staleCountPersonIds = new LinkedHashSet<>();
+    private final Set<Integer> staleCountSessionIds = new LinkedHashSet<>();
+    /** IDs of the persons and sessions that changed since the filtered views were last brought up to date. */
+    private final ChangedIds changedPersonIds = new ChangedIds();
+    private final ChangedIds changedSessionIds = new ChangedIds();
+
+    private TagIndex tagIndex;
+    private TextIndex<Person> memoIndex;
+    private TextIndex<AttendanceRecord> feedbackIndex;
+    private AttendanceStats attendanceStats;
+    private HoursRollup hoursRollup;
 
     private int nextPersonId;
     private int nextSessionId;
 
+    private int committedNextPersonId;
+    private int committedNextSessionId;
+
     /**
      * Creates an AddressBook.
      */
@@ -67,6 +107,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setAll(persons);
+        changedPersonIds.addAll();
+        personSortIndexes.clear();
+        tagIndex = null;
+        memoIndex = null;
     }
 
     /**
@@ -75,6 +119,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setSessions(List<Session> sessions) {
         this.sessions.setAll(sessions);
+        changedSessionIds.addAll();
+        changedPersonIds.addAll();
+        sessionSortIndexes.clear();
+        clearDependentPersonSortIndexes();
+        attendanceStats = null;
+        hoursRollup = null;
     }
 
     /**
@@ -82,6 +132,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setAttendanceRecords(List<AttendanceRecord> attendanceRecords) {
         this.attendanceRecords.setAll(attendanceRecords);
+        changedPersonIds.addAll();
+        changedSessionIds.addAll();
+        clearDependentPersonSortIndexes();
+        feedbackIndex = null;
+        attendanceStats = null;
+        hoursRollup = null;
     }
 
     /**
@@ -98,6 +154,69 @@ public class AddressBook implements ReadOnlyAddressBook {
         nextSessionId = newData.getNextSessionId();
     }
 
+    //// batch operations
+
+    /**
+     * Starts a batch of mutations across all lists of this address book.
+     * The lists only publish the mutations made during the batch when it is committed.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (isInBatch()) {
+            throw new IllegalStateException("A batch is already in progress.");
+        }
+
+        persons.beginBatch();
+        sessions.beginBatch();
+        attendanceRecords.beginBatch();
+
+        committedNextPersonId = nextPersonId;
+        committedNextSessionId = nextSessionId;
+    }
+
+    /**
+     * Publishes the mutations made since the batch started, firing at most one change per list, and then refreshes
+     * each person and session whose attendance counts changed once.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        persons.commitBatch();
+        sessions.commitBatch();
+        attendanceRecords.commitBatch();
+        refreshStaleCounts();
+    }
+
+    /**
+     * Discards the mutations made since the batch started, including any IDs that were assigned.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        persons.rollbackBatch();
+        sessions.rollbackBatch();
+        attendanceRecords.rollbackBatch();
+        staleCountPersonIds.clear();
+        staleCountSessionIds.clear();
+        changedPersonIds.clear();
+        changedSessionIds.clear();
+        personSortIndexes.clear();
+        sessionSortIndexes.clear();
+        tagIndex = null;
+        memoIndex = null;
+        feedbackIndex = null;
+        attendanceStats = null;
+        hoursRollup = null;
+
+        nextPersonId = committedNextPersonId;
+        nextSessionId = committedNextSessionId;
+    }
+
+    public boolean isInBatch() {
+        return persons.isInBatch();
+    }
+
     //// person-level operations
 
     /**
@@ -125,15 +244,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         persons.add(p);
+        changedPersonIds.addElement(p.getId(), persons.size());
+        personSortIndexes.values().forEach(index -> index.add(p));
+        if (tagIndex != null) {
+            tagIndex.add(p);
+        }
+        if (memoIndex != null) {
+            memoIndex.add(p);
+        }
     }
 
     /**
      * Returns the person with the given ID if it exists in the persons address book.
      */
+    @Override
     public Optional<Person> getPersonById(int id) {
         return persons.getPersonById(id);
     }
 
+    /**
+     * Notifies observers of the person list that the person with the given ID, if any, has to be re-evaluated.
+     */
+    public void refreshPerson(int id) {
+        persons.getPersonById(id).ifPresent(persons::refresh);
+    }
+
     /**
      * Returns the person with the given name if it exists in the persons address book.
      */
@@ -149,6 +284,18 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.set(target, editedPerson);
+        changedPersonIds.addElement(target.getId(), persons.size());
+        changedPersonIds.addElement(editedPerson.getId(), persons.size());
+        personSortIndexes.values().forEach(index -> {
+            index.remove(target);
+            index.add(editedPerson);
+        });
+        if (tagIndex != null) {
+            tagIndex.update(target, editedPerson);
+        }
+        if (memoIndex != null) {
+            memoIndex.update(target, editedPerson);
+        }
     }
 
     /**
@@ -157,6 +304,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        changedPersonIds.addElement(key.getId(), persons.size());
+        personSortIndexes.values().forEach(index -> index.remove(key));
+        if (tagIndex != null) {
+            tagIndex.remove(key);
+        }
+        if (memoIndex != null) {
+            memoIndex.remove(key);
+        }
     }
 
     //// session-level operations
@@ -169,14 +324,6 @@ public class AddressBook implements ReadOnlyAddressBook {
         return sessions.contains(toCheck);
     }
 
-    /**
-     * Returns true if the session {@code toCheck} overlaps with any existing sessions in the address book.
-     */
-    public boolean hasOverlappingSession(Session toCheck) {
-        requireNonNull(toCheck);
-        return sessions.hasOverlappingSession(toCheck);
-    }
-
     /**
      * Adds a session to the address book.
      * The session must not already exist in the address book.
@@ -194,15 +341,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         sessions.add(s);
+        changedSessionIds.addElement(s.getId(), sessions.size());
+        sessionSortIndexes.values().forEach(index -> index.add(s));
+        updateDependentPersonSortKeysOfSession(s.getId());
+        if (attendanceStats != null) {
+            attendanceStats.addSession(s);
+        }
+        if (hoursRollup != null) {
+            hoursRollup.addSession(s);
+        }
     }
 
     /**
      * Returns the person with the given ID if it exists in the address book.
      */
+    @Override
     public Optional<Session> getSessionById(int id) {
         return sessions.getSessionById(id);
     }
 
+    /**
+     * Notifies observers of the session list that the session with the given ID, if any, has to be re-evaluated.
+     */
+    public void refreshSession(int id) {
+        sessions.getSessionById(id).ifPresent(sessions::refresh);
+    }
+
     /**
      * Replaces the given session {@code target} in the list with {@code editedSession}.
      * {@code target} must exist in the address book.
@@ -211,6 +375,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setSession(Session target, Session editedSession) {
         requireNonNull(editedSession);
         sessions.set(target, editedSession);
+        changedSessionIds.addElement(target.getId(), sessions.size());
+        changedSessionIds.addElement(editedSession.getId(), sessions.size());
+        sessionSortIndexes.values().forEach(index -> {
+            index.remove(target);
+            index.add(editedSession);
+        });
+        if (!target.getTimeslot().equals(editedSession.getTimeslot())) {
+            updateDependentPersonSortKeysOfSession(target.getId());
+        }
+        if (attendanceStats != null) {
+            attendanceStats.updateSession(target, editedSession);
+        }
+        if (hoursRollup != null) {
+            hoursRollup.updateSession(target, editedSession);
+        }
     }
 
     /**
@@ -219,6 +398,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeSession(Session session) {
         sessions.remove(session);
+        changedSessionIds.addElement(session.getId(), sessions.size());
+        sessionSortIndexes.values().forEach(index -> index.remove(session));
+        updateDependentPersonSortKeysOfSession(session.getId());
+        if (attendanceStats != null) {
+            attendanceStats.removeSession(session);
+        }
+        if (hoursRollup != null) {
+            hoursRollup.removeSession(session);
+        }
     }
 
     //// attendance record-level operations
@@ -244,6 +432,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addAttendanceRecord(AttendanceRecord attendanceRecord) {
         attendanceRecords.add(attendanceRecord);
+        markRelatedChanged(attendanceRecord);
+        updateDependentPersonSortKeys(attendanceRecord.getStudentId());
+        if (feedbackIndex != null) {
+            feedbackIndex.add(attendanceRecord);
+        }
+        if (attendanceStats != null) {
+            attendanceStats.addRecord(attendanceRecord);
+        }
+        if (hoursRollup != null) {
+            hoursRollup.addRecord(attendanceRecord);
+        }
+        refreshCountsOf(attendanceRecord);
     }
 
     /**
@@ -254,6 +454,19 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedAttendanceRecord);
 
         attendanceRecords.set(target, editedAttendanceRecord);
+        markRelatedChanged(target);
+        markRelatedChanged(editedAttendanceRecord);
+        updateDependentPersonSortKeys(target.getStudentId(), editedAttendanceRecord.getStudentId());
+        if (feedbackIndex != null) {
+            feedbackIndex.update(target, editedAttendanceRecord);
+        }
+        if (attendanceStats != null) {
+            attendanceStats.updateRecord(target, editedAttendanceRecord);
+        }
+        if (hoursRollup != null) {
+            hoursRollup.updateRecord(target, editedAttendanceRecord);
+        }
+        refreshCountsOf(editedAttendanceRecord);
     }
 
     /**
@@ -262,6 +475,126 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeAttendanceRecord(AttendanceRecord key) {
         attendanceRecords.remove(key);
+        markRelatedChanged(key);
+        updateDependentPersonSortKeys(key.getStudentId());
+        if (feedbackIndex != null) {
+            feedbackIndex.remove(key);
+        }
+        if (attendanceStats != null) {
+            attendanceStats.removeRecord(key);
+        }
+        if (hoursRollup != null) {
+            hoursRollup.removeRecord(key);
+        }
+        refreshCountsOf(key);
+    }
+
+    /**
+     * Records that the attendance records of the student and session of {@code record} changed.
+     */
+    private void markRelatedChanged(AttendanceRecord record) {
+        changedPersonIds.addRelated(record.getStudentId(), persons.size());
+        changedSessionIds.addRelated(record.getSessionId(), sessions.size());
+    }
+
+    /**
+     * Returns the IDs of the persons that changed since they were last taken, and forgets them.
+     */
+    ChangedIds takeChangedPersonIds() {
+        return changedPersonIds.take();
+    }
+
+    /**
+     * Returns the IDs of the sessions that changed since they were last taken, and forgets them.
+     */
+    ChangedIds takeChangedSessionIds() {
+        return changedSessionIds.take();
+    }
+
+    /**
+     * Notifies observers of the student and session of {@code record} that their attendance counts changed, once the
+     * current batch is committed if one is in progress.
+     */
+    private void refreshCountsOf(AttendanceRecord record) {
+        markCountsStale(record);
+        if (!isInBatch()) {
+            refreshStaleCounts();
+        }
+    }
+
+    private void markCountsStale(AttendanceRecord record) {
+        staleCountPersonIds.add(record.getStudentId());
+        staleCountSessionIds.add(record.getSessionId());
+    }
+
+    /**
+     * Refreshes each person and session whose attendance counts changed since the last refresh once, however many of
+     * their records changed.
+     */
+    private void refreshStaleCounts() {
+        staleCountPersonIds.forEach(this::refreshPerson);
+        staleCountSessionIds.forEach(this::refreshSession);
+        staleCountPersonIds.clear();
+        staleCountSessionIds.clear();
+    }
+
+    //// sort index operations
+
+    /**
+     * Returns the index of the persons by {@code sortKey}, building it if it has not been requested before.
+     * The index reflects any mutations made so far in a batch.
+     */
+    public SortIndex<Person, ?> getPersonSortIndex(SortKey<Person> sortKey) {
+        requireNonNull(sortKey);
+        return personSortIndexes.computeIfAbsent(sortKey, key -> createSortIndex(key, persons));
+    }
+
+    /**
+     * Returns the index of the sessions by {@code sortKey}, building it if it has not been requested before.
+     * The index reflects any mutations made so far in a batch.
+     */
+    public SortIndex<Session, ?> getSessionSortIndex(SortKey<Session> sortKey) {
+        requireNonNull(sortKey);
+        return sessionSortIndexes.computeIfAbsent(sortKey, key -> createSortIndex(key, sessions));
+    }
+
+    private <T> SortIndex<T, ?> createSortIndex(SortKey<T> sortKey, Iterable<T> elements) {
+        SortIndex<T, ?> index = sortKey.createIndex(this);
+        index.addAll(elements);
+        return index;
+    }
+
+    /**
+     * Moves the persons with the given IDs to their new positions in the indexes whose keys depend on other data in
+     * the address book, such as the sessions they attended.
+     */
+    private void updateDependentPersonSortKeys(int... personIds) {
+        personSortIndexes.forEach((sortKey, index) -> {
+            if (!sortKey.dependsOnAddressBook()) {
+                return;
+            }
+            for (int personId : personIds) {
+                persons.getPersonById(personId).ifPresent(index::update);
+            }
+        });
+    }
+
+    /**
+     * Moves the persons marked present for the session with the given ID to their new positions in the indexes whose
+     * keys depend on other data in the address book, and records that their related data changed.
+     */
+    private void updateDependentPersonSortKeysOfSession(int sessionId) {
+        if (personSortIndexes.keySet().stream().anyMatch(SortKey::dependsOnAddressBook)) {
+            int[] personIds = attendanceRecords.getIndex().getPresentStudentIds(sessionId);
+            updateDependentPersonSortKeys(personIds);
+            for (int personId : personIds) {
+                changedPersonIds.addRelated(personId, persons.size());
+            }
+        }
+    }
+
+    private void clearDependentPersonSortIndexes() {
+        personSortIndexes.keySet().removeIf(SortKey::dependsOnAddressBook);
     }
 
     //// util methods
@@ -290,6 +623,97 @@ public class AddressBook implements ReadOnlyAddressBook {
         return attendanceRecords.asUnmodifiableObservableList();
     }
 
+    @Override
+    public NameIndex getNameIndex() {
+        return persons.getNameIndex();
+    }
+
+    @Override
+    public TimeslotIndex getTimeslotIndex() {
+        return sessions.getTimeslotIndex();
+    }
+
+    @Override
+    public AttendanceRecordIndex getAttendanceRecordIndex() {
+        return attendanceRecords.getIndex();
+    }
+
+    @Override
+    public AttendanceStats getAttendanceStats() {
+        if (attendanceStats == null) {
+            attendanceStats = new AttendanceStats(sessions, attendanceRecords);
+        }
+        return attendanceStats;
+    }
+
+    @Override
+    public HoursRollup getHoursRollup() {
+        if (hoursRollup == null) {
+            hoursRollup = new HoursRollup(sessions, attendanceRecords);
+        }
+        return hoursRollup;
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        if (tagIndex == null) {
+            tagIndex = new TagIndex(persons);
+        }
+        return tagIndex;
+    }
+
+    @Override
+    public TextIndex<Person> getMemoIndex() {
+        if (memoIndex == null) {
+            memoIndex = TextIndex.ofMemos();
+            memoIndex.addAll(persons);
+        }
+        return memoIndex;
+    }
+
+    @Override
+    public TextIndex<AttendanceRecord> getFeedbackIndex() {
+        if (feedbackIndex == null) {
+            feedbackIndex = TextIndex.ofFeedback();
+            feedbackIndex.addAll(attendanceRecords);
+        }
+        return feedbackIndex;
+    }
+
+    @Override
+    public Optional<LocalDateTime> getLastAttendedTime(int personId) {
+        return attendanceRecords.getAttendanceRecordsOfStudent(personId).stream()
+                .filter(AttendanceRecord::getAttendance)
+                .flatMap(record -> sessions.getSessionById(record.getSessionId()).stream())
+                .map(session -> session.getTimeslot().getStartTime())
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public List<Session> getConflictingSessions(int personId, Session session) {
+        return attendanceRecords.getAttendanceRecordsOfStudent(personId).stream()
+                .filter(record -> record.getSessionId() != session.getId())
+                .flatMap(record -> sessions.getSessionById(record.getSessionId()).stream())
+                .filter(other -> other.hasOverlappingTimeslot(session))
+                .sorted(Comparator.comparing(other -> other.getTimeslot().getStartTime()))
+                .toList();
+    }
+
+    public long getPersonListVersion() {
+        return persons.getVersion();
+    }
+
+    public long getSessionListVersion() {
+        return sessions.getVersion();
+    }
+
+    /**
+     * Returns a number that increases whenever any person, session or attendance record in the address book changes.
+     */
+    public long getVersion() {
+        return persons.getVersion() + sessions.getVersion() + attendanceRecords.getVersion();
+    }
+
     @Override
     public int getNextPersonId() {
         return nextPersonId;
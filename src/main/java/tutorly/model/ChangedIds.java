@@ -0,0 +1,108 @@
+package tutorly.model;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * The IDs of the elements of a list in the address book that changed since the views of the list were last brought up
+ * to date, so that the views only have to re-test those elements.
+ * <p>
+ * An element changes either itself, when it is added, edited or removed, or in the data of the address book that
+ * filters and sort keys depending on the address book read about it, such as its attendance records. Once more IDs
+ * changed than there are elements, every element is treated as changed, as re-testing the elements one at a time
+ * would then be no cheaper than re-testing all of them.
+ */
+class ChangedIds {
+
+    private final Set<Integer> elementIds = new HashSet<>();
+    private final Set<Integer> relatedIds = new HashSet<>();
+    private boolean isAll;
+
+    /**
+     * Records that the element with the given ID was added, edited or removed.
+     *
+     * @param elementCount The number of elements in the list.
+     */
+    void addElement(int id, int elementCount) {
+        if (!isAll) {
+            elementIds.add(id);
+            limitTo(elementCount);
+        }
+    }
+
+    /**
+     * Records that the data about the element with the given ID in the rest of the address book changed.
+     *
+     * @param elementCount The number of elements in the list.
+     */
+    void addRelated(int id, int elementCount) {
+        if (!isAll) {
+            relatedIds.add(id);
+            limitTo(elementCount);
+        }
+    }
+
+    /**
+     * Records that every element may have changed.
+     */
+    void addAll() {
+        isAll = true;
+        elementIds.clear();
+        relatedIds.clear();
+    }
+
+    private void limitTo(int elementCount) {
+        if (elementIds.size() + relatedIds.size() > Math.max(elementCount, 1)) {
+            addAll();
+        }
+    }
+
+    /**
+     * Returns the IDs recorded so far and forgets them.
+     */
+    ChangedIds take() {
+        ChangedIds taken = new ChangedIds();
+        taken.elementIds.addAll(elementIds);
+        taken.relatedIds.addAll(relatedIds);
+        taken.isAll = isAll;
+        clear();
+        return taken;
+    }
+
+    /**
+     * Forgets the IDs recorded so far.
+     */
+    void clear() {
+        elementIds.clear();
+        relatedIds.clear();
+        isAll = false;
+    }
+
+    /**
+     * Returns the IDs of the elements that changed themselves, and also of those whose related data changed if
+     * {@code includeRelated}, or an empty {@code Optional} if every element may have changed.
+     */
+    Optional<Set<Integer>> get(boolean includeRelated) {
+        if (isAll) {
+            return Optional.empty();
+        }
+
+        Set<Integer> ids = new HashSet<>(elementIds);
+        if (includeRelated) {
+            ids.addAll(relatedIds);
+        }
+        return Optional.of(ids);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("elementIds", elementIds)
+                .add("relatedIds", relatedIds)
+                .add("isAll", isAll)
+                .toString();
+    }
+}
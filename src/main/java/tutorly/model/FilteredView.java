@@ -0,0 +1,347 @@
+package tutorly.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.IdBitmap;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.PostingList;
+import tutorly.model.filter.SearchResultCache;
+import tutorly.model.filter.SortIndex;
+import tutorly.model.filter.SortKey;
+
+/**
+ * A filtered view of a list in the address book that keeps its filter up to date as the address book changes.
+ * <p>
+ * When the filter is replaced, the elements passing it are looked up from an index of the address book if possible,
+ * rather than testing every element. Changes to the list itself only cause the changed elements to be re-tested by
+ * the underlying {@code FilteredList}.
+ * When the filter depends on other data in the address book, the IDs of the elements passing it are kept in a bitmap.
+ * After a change, only the elements that the address book reports as changed, either themselves or in their
+ * attendance records, are tested against the filter again, and only those that entered or left it are refreshed in
+ * the view. If every element may have changed, such as after the data is replaced, the IDs are looked up again, or
+ * found by testing every element if the filter cannot be looked up from an index.
+ * <p>
+ * When only a page of the elements passing the filter is shown, or they are sorted, the page is only selected again
+ * if a changed element may have moved into, out of or within it, or changed the number of matches it reports. A full
+ * page in ID order is only selected again for a change after it if that number may have changed. A sorted page is
+ * selected again whenever an element that may pass the filter changed, as its position before the change is no longer
+ * known. Sorted pages are selected from the {@code SortIndex} of their key, which the address book keeps up to date,
+ * so they are never sorted from scratch.
+ * <p>
+ * When the filter is replaced, the IDs of the elements passing it are cached if they are all known, so that showing
+ * the same filter again before the data it depends on changes does not have to test every element against the filter.
+ */
+class FilteredView<T> {
+
+    private final ObservableList<T> source;
+    private final FilteredList<T> filteredList;
+    private final SortedList<T> sortedList;
+    private final AddressBook addressBook;
+    private final ToIntFunction<T> idOf;
+    private final IntFunction<Optional<T>> elementOf;
+    private final IntConsumer refresher;
+    private final LongSupplier listVersion;
+    private final Function<SortKey<T>, SortIndex<T, ?>> sortIndexOf;
+    private final SearchResultCache<T> cache = new SearchResultCache<>();
+
+    private Filter<T> filter;
+    private Predicate<T> predicate;
+    /** The IDs of the elements passing a filter that depends on the address book, or null for any other filter. */
+    private IdBitmap matchIds;
+    private Page<T> page;
+    private Page.Selection<T> selection;
+
+    /**
+     * Creates a view of {@code source}, a list in {@code addressBook}, that shows the elements passing {@code filter}.
+     *
+     * @param idOf Returns the ID of an element of {@code source}.
+     * @param elementOf Returns the element of {@code source} with the given ID, if it exists.
+     * @param refresher Re-tests the element of {@code source} with the given ID, if it exists.
+     * @param listVersion Returns the current version of {@code source}.
+     * @param sortIndexOf Returns the index of the elements of {@code source} by the given key.
+     */
+    FilteredView(ObservableList<T> source, Filter<T> filter, AddressBook addressBook, ToIntFunction<T> idOf,
+            IntFunction<Optional<T>> elementOf, IntConsumer refresher, LongSupplier listVersion,
+            Function<SortKey<T>, SortIndex<T, ?>> sortIndexOf) {
+        requireNonNull(addressBook);
+        requireNonNull(idOf);
+        requireNonNull(elementOf);
+        requireNonNull(refresher);
+        requireNonNull(listVersion);
+        requireNonNull(sortIndexOf);
+        this.source = source;
+        this.filteredList = new FilteredList<>(source);
+        this.sortedList = new SortedList<>(filteredList);
+        this.addressBook = addressBook;
+        this.idOf = idOf;
+        this.elementOf = elementOf;
+        this.refresher = refresher;
+        this.listVersion = listVersion;
+        this.sortIndexOf = sortIndexOf;
+        setFilter(filter, Page.all());
+    }
+
+    ObservableList<T> asObservableList() {
+        return sortedList;
+    }
+
+    SearchResultCache<T> getCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the page of elements shown out of all the elements passing the filter.
+     */
+    PageResult getPageResult() {
+        if (selection == null) {
+            return PageResult.all(filteredList.size());
+        }
+
+        // Changes after a page in ID order do not select it again, but may still change the number of matches
+        PageResult result = selection.getResult();
+        return matchIds == null
+                ? result
+                : new PageResult(result.getOffset(), result.getSize(), matchIds.cardinality(), true);
+    }
+
+    /**
+     * Shows the given {@code page} of the elements passing {@code filter}. Nothing is re-tested if the filter and
+     * page are the same as the current ones, as the view is already up to date.
+     */
+    void setFilter(Filter<T> filter, Page<T> page) {
+        requireNonNull(filter);
+        requireNonNull(page);
+        if (filter.equals(this.filter) && page.equals(this.page)) {
+            return;
+        }
+
+        cacheResult();
+        this.filter = filter;
+        this.page = page;
+        Optional<PostingList<T>> result = addressBook.isInBatch()
+                ? Optional.empty()
+                : cache.get(filter, versionOf(filter));
+        if (result.isEmpty()) {
+            result = filter.dependsOnAddressBook() ? Optional.of(match(filter)) : filter.lookup(addressBook);
+        }
+
+        matchIds = null;
+        if (result.isPresent() && filter.dependsOnAddressBook()) {
+            matchIds = IdBitmap.of(result.get().toArray());
+            predicate = element -> matchIds.contains(idOf.applyAsInt(element));
+        } else {
+            predicate = filter.toPredicate(addressBook);
+        }
+
+        if (!page.isAll()) {
+            selectPage(result);
+        } else if (result.isPresent() && !filter.dependsOnAddressBook()) {
+            // Only the initial refilter uses the cached or looked up result, later changes to the list are tested
+            // with the filter
+            Predicate<T> filterPredicate = predicate;
+            selection = null;
+            predicate = result.get()::contains;
+            refilter();
+            predicate = filterPredicate;
+        } else {
+            selection = null;
+            refilter();
+        }
+    }
+
+    /**
+     * Sorts the view by {@code sortKey}, keeping the current filter, offset and limit.
+     */
+    void setSortKey(SortKey<T> sortKey, boolean isDescending) {
+        setFilter(filter, page.withSortKey(sortKey, isDescending));
+    }
+
+    /**
+     * Brings the view up to date after the address book changed.
+     *
+     * @param changedIds The IDs of the elements of {@code source} that changed since the view was last updated.
+     */
+    void onAddressBookChanged(ChangedIds changedIds) {
+        requireNonNull(changedIds);
+        boolean isSortedByAddressBook = page.getSortKey().map(SortKey::dependsOnAddressBook).orElse(false);
+        Optional<Set<Integer>> ids = changedIds.get(filter.dependsOnAddressBook() || isSortedByAddressBook);
+        if (!filter.dependsOnAddressBook()) {
+            if (selection != null && (ids.isEmpty() || isPageAffected(ids.get(), Optional.empty()))) {
+                selectPage(Optional.empty());
+            }
+            return;
+        }
+
+        Set<Integer> enteredOrLeft = ids.isPresent() ? rematch(ids.get()) : rematchAll();
+        if (selection != null) {
+            if (ids.isEmpty() || isPageAffected(ids.get(), Optional.of(enteredOrLeft))) {
+                selectPage(Optional.of(PostingList.of(matchIds.toArray(), idOf)));
+            }
+            return;
+        }
+
+        enteredOrLeft.forEach(refresher::accept);
+    }
+
+    /**
+     * Tests the elements with the given {@code ids} against the filter again, updating the IDs of the elements passing
+     * it, and returns the IDs of those that entered or left it.
+     */
+    private Set<Integer> rematch(Set<Integer> ids) {
+        Predicate<T> filterPredicate = filter.toPredicate(addressBook);
+        Set<Integer> enteredOrLeft = new HashSet<>();
+        for (int id : ids) {
+            boolean isMatch = elementOf.apply(id).filter(filterPredicate).isPresent();
+            if (isMatch == matchIds.contains(id)) {
+                continue;
+            }
+
+            if (isMatch) {
+                matchIds.add(id);
+            } else {
+                matchIds.remove(id);
+            }
+            enteredOrLeft.add(id);
+        }
+        return enteredOrLeft;
+    }
+
+    /**
+     * Finds the IDs of all the elements passing the filter again, and returns the IDs of those that entered or left
+     * it.
+     */
+    private Set<Integer> rematchAll() {
+        IdBitmap oldMatchIds = matchIds;
+        matchIds = IdBitmap.of(match(filter).toArray());
+        Set<Integer> enteredOrLeft = new HashSet<>();
+        for (int id : oldMatchIds.andNot(matchIds).or(matchIds.andNot(oldMatchIds)).toArray()) {
+            enteredOrLeft.add(id);
+        }
+        return enteredOrLeft;
+    }
+
+    /**
+     * Returns true if a change to the elements with the given {@code ids} may have moved an element into, out of or
+     * within the current page, or changed the number of matches the page reports, so that it has to be selected again.
+     *
+     * @param enteredOrLeft The IDs of the changed elements that entered or left the filter, if it is known which did.
+     */
+    private boolean isPageAffected(Set<Integer> ids, Optional<Set<Integer>> enteredOrLeft) {
+        if (ids.isEmpty()) {
+            return false;
+        }
+        if (page.getSortKey().isPresent()) {
+            // Where the elements were before the change is no longer known
+            return enteredOrLeft.isEmpty() || ids.stream().anyMatch(id -> matchIds.contains(id)
+                    || enteredOrLeft.get().contains(id));
+        }
+
+        PageResult result = selection.getResult();
+        int[] pageIds = selection.getIds().toArray();
+        boolean isFull = result.getSize() == page.getLimit();
+        int lastId = pageIds.length == 0 ? Integer.MIN_VALUE : pageIds[pageIds.length - 1];
+        for (int id : ids) {
+            if (enteredOrLeft.isPresent()) {
+                // Elements that stayed in or out of the filter do not move in ID order, and the number of matches
+                // is counted from the IDs of the matches
+                if (enteredOrLeft.get().contains(id) && (!isFull || id <= lastId)) {
+                    return true;
+                }
+                continue;
+            }
+
+            if (!isFull || id <= lastId) {
+                return true;
+            }
+            // An element after a full page only changes the number of matches, which is exact only if no element
+            // after the page passed the filter, and otherwise only claims that at least one did
+            boolean isMatch = elementOf.apply(id).filter(predicate).isPresent();
+            if (result.isMatchCountExact() ? isMatch : !isMatch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the IDs of the elements passing {@code filter}, looked up from an index of the address book if possible,
+     * or else found by testing every element against its predicate.
+     */
+    private PostingList<T> match(Filter<T> filter) {
+        return filter.lookup(addressBook).orElseGet(() -> {
+            Predicate<T> filterPredicate = filter.toPredicate(addressBook);
+            return PostingList.of(source.stream().filter(filterPredicate).mapToInt(idOf).toArray(), idOf);
+        });
+    }
+
+    /**
+     * Selects the current page of the elements passing the filter and shows it.
+     *
+     * @param matches The IDs of all the elements passing the filter, if they are known.
+     */
+    private void selectPage(Optional<PostingList<T>> matches) {
+        Optional<SortIndex<T, ?>> sortIndex = page.getSortKey().map(sortIndexOf);
+        List<T> ordered = sortIndex.map(index -> index.asList(page.isDescending())).orElse(source);
+        selection = matches.isPresent()
+                ? page.select(ordered, matches.get(), idOf)
+                : page.select(ordered, predicate, idOf);
+        sortedList.setComparator(sortIndex.map(index -> index.getComparator(page.isDescending())).orElse(null));
+        refilter();
+    }
+
+    /**
+     * Re-tests every element against the current predicate, or the current page if only a page is shown.
+     */
+    private void refilter() {
+        // A new predicate instance is needed for the FilteredList to notice the change
+        filteredList.setPredicate(element -> selection == null
+                ? predicate.test(element)
+                : selection.getIds().contains(element));
+        if (selection == null) {
+            sortedList.setComparator(null);
+        }
+    }
+
+    /**
+     * Caches the IDs of the elements passing the current filter if they are all known and up to date with the
+     * address book.
+     */
+    private void cacheResult() {
+        if (filter == null || addressBook.isInBatch()) {
+            return;
+        }
+
+        Optional<PostingList<T>> result;
+        if (matchIds != null) {
+            result = Optional.of(PostingList.of(matchIds.toArray(), idOf));
+        } else if (selection != null) {
+            result = selection.getMatches();
+        } else {
+            result = Optional.of(PostingList.of(filteredList.stream().mapToInt(idOf).toArray(), idOf));
+        }
+        result.ifPresent(ids -> cache.put(filter, versionOf(filter), ids));
+    }
+
+    /**
+     * Returns the version of the data that whether an element passes {@code filter} depends on.
+     */
+    private long versionOf(Filter<T> filter) {
+        return filter.dependsOnAddressBook() ? addressBook.getVersion() : listVersion.getAsLong();
+    }
+}
@@ -1,12 +1,17 @@
 package tutorly.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import tutorly.commons.core.GuiSettings;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.SearchResultCache;
+import tutorly.model.filter.SortKey;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
@@ -66,6 +71,17 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Runs {@code transaction} as a single batch of mutations on the address book.
+     * The mutations are validated as they are made, but the person, session and attendance record lists only publish
+     * them, with at most one change each, once the transaction completes. If the transaction throws, all of its
+     * mutations are discarded and the exception is rethrown.
+     * <p>
+     * While the transaction runs, lookups such as {@code Model#getPersonById(int)} reflect the pending mutations but
+     * the observable lists do not. Nested calls join the outermost transaction.
+     */
+    <E extends Exception> void batch(Transaction<E> transaction) throws E;
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -105,6 +121,11 @@ public interface Model {
      */
     Optional<Person> getPersonByIdentity(Identity identity);
 
+    /**
+     * Returns at most {@code limit} persons whose names are near matches of {@code query}, most similar first.
+     */
+    List<Person> getSimilarPersons(String query, int limit);
+
     /**
      * Returns an unmodifiable view of the person list
      */
@@ -137,6 +158,25 @@ public interface Model {
      */
     void updateFilteredPersonList(Filter<Person> filter);
 
+    /**
+     * Updates the filtered person list to show the given {@code page} of the persons passing {@code filter}.
+     *
+     * @throws NullPointerException if {@code filter} or {@code page} is null.
+     */
+    void updateFilteredPersonList(Filter<Person> filter, Page<Person> page);
+
+    /**
+     * Sorts the filtered person list by {@code sortKey}, keeping its current filter, offset and limit.
+     *
+     * @throws NullPointerException if {@code sortKey} is null.
+     */
+    void sortFilteredPersonList(SortKey<Person> sortKey, boolean isDescending);
+
+    /**
+     * Returns the page of persons shown in the filtered person list out of all the persons passing its filter.
+     */
+    PageResult getFilteredPersonListPage();
+
     /**
      * Updates the filter of the filtered session list to filter by the given {@code filter}.
      *
@@ -145,14 +185,38 @@ public interface Model {
     void updateFilteredSessionList(Filter<Session> filter);
 
     /**
-     * Returns true if a session with the same identity as {@code session} exists in the address book.
+     * Updates the filtered session list to show the given {@code page} of the sessions passing {@code filter}.
+     *
+     * @throws NullPointerException if {@code filter} or {@code page} is null.
      */
-    boolean hasSession(Session toCreate);
+    void updateFilteredSessionList(Filter<Session> filter, Page<Session> page);
+
+    /**
+     * Sorts the filtered session list by {@code sortKey}, keeping its current filter, offset and limit.
+     *
+     * @throws NullPointerException if {@code sortKey} is null.
+     */
+    void sortFilteredSessionList(SortKey<Session> sortKey, boolean isDescending);
+
+    /**
+     * Returns the page of sessions shown in the filtered session list out of all the sessions passing its filter.
+     */
+    PageResult getFilteredSessionListPage();
 
     /**
-     * Returns true if the session to be created has overlapping timeslot with an existing session.
+     * Returns the cache of results of the filters applied to the filtered person list.
      */
-    boolean hasOverlappingSession(Session toCreate);
+    SearchResultCache<Person> getPersonSearchResultCache();
+
+    /**
+     * Returns the cache of results of the filters applied to the filtered session list.
+     */
+    SearchResultCache<Session> getSessionSearchResultCache();
+
+    /**
+     * Returns true if a session with the same identity as {@code session} exists in the address book.
+     */
+    boolean hasSession(Session toCreate);
 
     /**
      * Adds the given session.
@@ -4,15 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import tutorly.commons.core.GuiSettings;
 import tutorly.commons.core.LogsCenter;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.SearchResultCache;
+import tutorly.model.filter.SortKey;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
@@ -26,8 +30,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Session> filteredSessions;
+    private final FilteredView<Person> filteredPersons;
+    private final FilteredView<Session> filteredSessions;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,8 +43,15 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredSessions = new FilteredList<>(this.addressBook.getSessionList());
+        filteredPersons = new FilteredView<>(this.addressBook.getPersonList(), FILTER_SHOW_ALL_PERSONS,
+                this.addressBook, Person::getId, this.addressBook::getPersonById, this.addressBook::refreshPerson,
+                this.addressBook::getPersonListVersion, this.addressBook::getPersonSortIndex);
+        filteredSessions = new FilteredView<>(this.addressBook.getSessionList(), FILTER_SHOW_ALL_SESSIONS,
+                this.addressBook, Session::getId, this.addressBook::getSessionById, this.addressBook::refreshSession,
+                this.addressBook::getSessionListVersion, this.addressBook::getSessionSortIndex);
+        // The views were just built from the copied data
+        this.addressBook.takeChangedPersonIds();
+        this.addressBook.takeChangedSessionIds();
     }
 
     public ModelManager() {
@@ -92,6 +103,31 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        updateFilteredLists();
+    }
+
+    @Override
+    public <E extends Exception> void batch(Transaction<E> transaction) throws E {
+        requireNonNull(transaction);
+
+        if (addressBook.isInBatch()) {
+            transaction.run(this);
+            return;
+        }
+
+        addressBook.beginBatch();
+        boolean isCommitted = false;
+        try {
+            transaction.run(this);
+            addressBook.commitBatch();
+            isCommitted = true;
+            updateFilteredLists();
+        } finally {
+            if (!isCommitted) {
+                logger.fine("Rolling back batch of mutations");
+                addressBook.rollbackBatch();
+            }
+        }
     }
 
     @Override
@@ -103,11 +139,13 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        updateFilteredLists();
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        updateFilteredLists();
     }
 
     @Override
@@ -115,6 +153,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        updateFilteredLists();
     }
 
     @Override
@@ -138,6 +177,12 @@ public class ModelManager implements Model {
         return Optional.empty();
     }
 
+    @Override
+    public List<Person> getSimilarPersons(String query, int limit) {
+        requireNonNull(query);
+        return addressBook.getNameIndex().search(query, limit);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     @Override
@@ -147,7 +192,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.asObservableList();
     }
 
     @Override
@@ -157,7 +202,7 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Session> getFilteredSessionList() {
-        return filteredSessions;
+        return filteredSessions.asObservableList();
     }
 
     @Override
@@ -167,43 +212,82 @@ public class ModelManager implements Model {
 
     @Override
     public void updateFilteredPersonList(Filter<Person> filter) {
-        requireNonNull(filter);
-        filteredPersons.setPredicate(filter.toPredicate(getAddressBook()));
+        updateFilteredPersonList(filter, Page.all());
+    }
+
+    @Override
+    public void updateFilteredPersonList(Filter<Person> filter, Page<Person> page) {
+        requireAllNonNull(filter, page);
+        filteredPersons.setFilter(filter, page);
+    }
+
+    @Override
+    public void sortFilteredPersonList(SortKey<Person> sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        filteredPersons.setSortKey(sortKey, isDescending);
+    }
+
+    @Override
+    public PageResult getFilteredPersonListPage() {
+        return filteredPersons.getPageResult();
     }
 
     @Override
     public void updateFilteredSessionList(Filter<Session> filter) {
-        requireNonNull(filter);
-        filteredSessions.setPredicate(filter.toPredicate(getAddressBook()));
+        updateFilteredSessionList(filter, Page.all());
     }
 
     @Override
-    public boolean hasSession(Session toCreate) {
-        requireAllNonNull(toCreate);
-        return addressBook.hasSession(toCreate);
+    public void updateFilteredSessionList(Filter<Session> filter, Page<Session> page) {
+        requireAllNonNull(filter, page);
+        filteredSessions.setFilter(filter, page);
+    }
+
+    @Override
+    public void sortFilteredSessionList(SortKey<Session> sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        filteredSessions.setSortKey(sortKey, isDescending);
     }
 
     @Override
-    public boolean hasOverlappingSession(Session toCreate) {
+    public PageResult getFilteredSessionListPage() {
+        return filteredSessions.getPageResult();
+    }
+
+    @Override
+    public SearchResultCache<Person> getPersonSearchResultCache() {
+        return filteredPersons.getCache();
+    }
+
+    @Override
+    public SearchResultCache<Session> getSessionSearchResultCache() {
+        return filteredSessions.getCache();
+    }
+
+    @Override
+    public boolean hasSession(Session toCreate) {
         requireAllNonNull(toCreate);
-        return addressBook.hasOverlappingSession(toCreate);
+        return addressBook.hasSession(toCreate);
     }
 
     @Override
     public void addSession(Session toCreate) {
         requireAllNonNull(toCreate);
         addressBook.addSession(toCreate);
+        updateFilteredLists();
     }
 
     @Override
     public void deleteSession(Session target) {
         addressBook.removeSession(target);
+        updateFilteredLists();
     }
 
     @Override
     public void setSession(Session target, Session editedSession) {
         requireAllNonNull(target, editedSession);
         addressBook.setSession(target, editedSession);
+        updateFilteredLists();
     }
 
     @Override
@@ -227,12 +311,14 @@ public class ModelManager implements Model {
     public void addAttendanceRecord(AttendanceRecord record) {
         requireNonNull(record);
         addressBook.addAttendanceRecord(record);
+        updateFilteredLists();
     }
 
     @Override
     public void removeAttendanceRecord(AttendanceRecord record) {
         requireNonNull(record);
         addressBook.removeAttendanceRecord(record);
+        updateFilteredLists();
     }
 
     @Override
@@ -240,6 +326,19 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedRecord);
 
         addressBook.setAttendanceRecord(target, editedRecord);
+        updateFilteredLists();
+    }
+
+    /**
+     * Brings the filtered lists up to date after the address book changed, unless a batch is still in progress.
+     */
+    private void updateFilteredLists() {
+        if (addressBook.isInBatch()) {
+            return;
+        }
+
+        filteredPersons.onAddressBookChanged(addressBook.takeChangedPersonIds());
+        filteredSessions.onAddressBookChanged(addressBook.takeChangedSessionIds());
     }
 
     @Override
@@ -255,8 +354,8 @@ public class ModelManager implements Model {
 
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
-                && filteredSessions.equals(otherModelManager.filteredSessions);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList())
+                && getFilteredSessionList().equals(otherModelManager.getFilteredSessionList());
     }
 
 }
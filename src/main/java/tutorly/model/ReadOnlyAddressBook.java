@@ -1,9 +1,24 @@
 package tutorly.model;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import javafx.collections.ObservableList;
 import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.AttendanceRecordIndex;
+import tutorly.model.attendancerecord.AttendanceStats;
+import tutorly.model.attendancerecord.HoursRollup;
+import tutorly.model.attendancerecord.ScheduleConflict;
+import tutorly.model.filter.TextIndex;
+import tutorly.model.person.NameIndex;
 import tutorly.model.person.Person;
 import tutorly.model.session.Session;
+import tutorly.model.session.TimeslotIndex;
+import tutorly.model.tag.TagIndex;
 
 /**
  * Unmodifiable view of an address book
@@ -26,6 +41,128 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<AttendanceRecord> getAttendanceRecordsList();
 
+    /**
+     * Returns the person with the given ID, if any.
+     * Implementations that can look up persons by ID should override this.
+     */
+    default Optional<Person> getPersonById(int id) {
+        return getPersonList().stream().filter(person -> person.getId() == id).findFirst();
+    }
+
+    /**
+     * Returns the session with the given ID, if any.
+     * Implementations that can look up sessions by ID should override this.
+     */
+    default Optional<Session> getSessionById(int id) {
+        return getSessionList().stream().filter(session -> session.getId() == id).findFirst();
+    }
+
+    /**
+     * Returns an index of the persons by name.
+     * Implementations that can keep the index across calls should override this.
+     */
+    default NameIndex getNameIndex() {
+        return new NameIndex(getPersonList());
+    }
+
+    /**
+     * Returns an index of the sessions by timeslot.
+     * Implementations that can keep the index across calls should override this.
+     */
+    default TimeslotIndex getTimeslotIndex() {
+        return new TimeslotIndex(getSessionList());
+    }
+
+    /**
+     * Returns an index of the attendance records by session.
+     * Implementations that can keep the index across calls should override this.
+     */
+    default AttendanceRecordIndex getAttendanceRecordIndex() {
+        return new AttendanceRecordIndex(getAttendanceRecordsList());
+    }
+
+    /**
+     * Returns the attendance counts by student, session, subject and month.
+     * Implementations that can keep the counts across calls should override this.
+     */
+    default AttendanceStats getAttendanceStats() {
+        return new AttendanceStats(getSessionList(), getAttendanceRecordsList());
+    }
+
+    /**
+     * Returns the hours taught by month, student and subject.
+     * Implementations that can keep the totals across calls should override this.
+     */
+    default HoursRollup getHoursRollup() {
+        return new HoursRollup(getSessionList(), getAttendanceRecordsList());
+    }
+
+    /**
+     * Returns an index of the IDs of the persons by tag.
+     * Implementations that can keep the index across calls should override this.
+     */
+    default TagIndex getTagIndex() {
+        return new TagIndex(getPersonList());
+    }
+
+    /**
+     * Returns a full-text index of the memos of the persons.
+     * Implementations that can keep the index across calls should override this.
+     */
+    default TextIndex<Person> getMemoIndex() {
+        TextIndex<Person> index = TextIndex.ofMemos();
+        index.addAll(getPersonList());
+        return index;
+    }
+
+    /**
+     * Returns a full-text index of the feedback of the attendance records.
+     * Implementations that can keep the index across calls should override this.
+     */
+    default TextIndex<AttendanceRecord> getFeedbackIndex() {
+        TextIndex<AttendanceRecord> index = TextIndex.ofFeedback();
+        index.addAll(getAttendanceRecordsList());
+        return index;
+    }
+
+    /**
+     * Returns the start of the latest session that the person with the given ID was marked present for, if any.
+     * Implementations that can look up the attendance records of a person should override this.
+     */
+    default Optional<LocalDateTime> getLastAttendedTime(int personId) {
+        return getAttendanceRecordsList().stream()
+                .filter(record -> record.getStudentId() == personId && record.getAttendance())
+                .flatMap(record -> getSessionList().stream()
+                        .filter(session -> session.getId() == record.getSessionId()))
+                .map(session -> session.getTimeslot().getStartTime())
+                .max(Comparator.naturalOrder());
+    }
+
+    /**
+     * Returns the sessions, other than {@code session}, that the person with the given ID is enrolled in and whose
+     * timeslots overlap that of {@code session}, in order of their start.
+     * Implementations that can look up the attendance records of a person should override this.
+     */
+    default List<Session> getConflictingSessions(int personId, Session session) {
+        Set<Integer> sessionIds = getAttendanceRecordsList().stream()
+                .filter(record -> record.getStudentId() == personId && record.getSessionId() != session.getId())
+                .map(AttendanceRecord::getSessionId)
+                .collect(Collectors.toSet());
+        return getSessionList().stream()
+                .filter(other -> sessionIds.contains(other.getId()) && other.hasOverlappingTimeslot(session))
+                .sorted(Comparator.comparing(other -> other.getTimeslot().getStartTime()))
+                .toList();
+    }
+
+    /**
+     * Returns every pair of overlapping sessions that the same person is enrolled in.
+     *
+     * @see ScheduleConflict#findAll(java.util.Collection, java.util.Collection)
+     */
+    default List<ScheduleConflict> getScheduleConflicts() {
+        return ScheduleConflict.findAll(getAttendanceRecordsList(), getSessionList());
+    }
+
     /**
      * Returns the next person ID.
      */
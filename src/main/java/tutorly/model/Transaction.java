@@ -0,0 +1,18 @@
+package tutorly.model;
+
+/**
+ * Represents a group of mutations on a {@code Model} that should be applied atomically.
+ *
+ * @param <E> The type of checked exception that may be thrown to abort the transaction.
+ * @see Model#batch(Transaction)
+ */
+@FunctionalInterface
+public interface Transaction<E extends Exception> {
+
+    /**
+     * Applies the mutations of this transaction to {@code model}.
+     * Throwing an exception aborts the transaction and discards all mutations made by it.
+     */
+    void run(Model model) throws E;
+
+}
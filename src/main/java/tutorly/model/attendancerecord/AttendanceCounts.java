@@ -0,0 +1,108 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Represents the number of enrolments in a group of attendance records, such as the records of a student, and how
+ * many of them were marked present or given feedback.
+ * Guarantees: immutable
+ */
+public class AttendanceCounts {
+
+    public static final AttendanceCounts NONE = new AttendanceCounts(0, 0, 0);
+
+    private final int enrolled;
+    private final int present;
+    private final int withFeedback;
+
+    /**
+     * Constructs an {@code AttendanceCounts}.
+     */
+    public AttendanceCounts(int enrolled, int present, int withFeedback) {
+        this.enrolled = enrolled;
+        this.present = present;
+        this.withFeedback = withFeedback;
+    }
+
+    /**
+     * Returns the counts of the single {@code record}.
+     */
+    public static AttendanceCounts of(AttendanceRecord record) {
+        requireNonNull(record);
+        return new AttendanceCounts(1, record.getAttendance() ? 1 : 0,
+                record.getFeedback().value.isEmpty() ? 0 : 1);
+    }
+
+    public int getEnrolled() {
+        return enrolled;
+    }
+
+    public int getPresent() {
+        return present;
+    }
+
+    public int getAbsent() {
+        return enrolled - present;
+    }
+
+    public int getWithFeedback() {
+        return withFeedback;
+    }
+
+    /**
+     * Returns the percentage of enrolments marked present, rounded down, or 0 if there are no enrolments.
+     */
+    public int getAttendanceRate() {
+        return enrolled == 0 ? 0 : (int) (100L * present / enrolled);
+    }
+
+    /**
+     * Returns the sum of these counts and {@code other}.
+     */
+    public AttendanceCounts plus(AttendanceCounts other) {
+        return new AttendanceCounts(enrolled + other.enrolled, present + other.present,
+                withFeedback + other.withFeedback);
+    }
+
+    /**
+     * Returns these counts less {@code other}.
+     */
+    public AttendanceCounts minus(AttendanceCounts other) {
+        return new AttendanceCounts(enrolled - other.enrolled, present - other.present,
+                withFeedback - other.withFeedback);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceCounts otherAttendanceCounts)) {
+            return false;
+        }
+
+        return enrolled == otherAttendanceCounts.enrolled
+                && present == otherAttendanceCounts.present
+                && withFeedback == otherAttendanceCounts.withFeedback;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enrolled, present, withFeedback);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("enrolled", enrolled)
+                .add("present", present)
+                .add("withFeedback", withFeedback)
+                .toString();
+    }
+}
@@ -0,0 +1,116 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * An index of attendance records by session, listing the students enrolled in and present for each session in
+ * ascending order of their IDs. The index is kept up to date as records are added and removed, which only moves the
+ * IDs of the students of the record's session.
+ */
+public class AttendanceRecordIndex {
+
+    private static final int[] NO_STUDENTS = new int[0];
+
+    private final Map<Integer, int[]> enrolledStudentIds;
+    private final Map<Integer, int[]> presentStudentIds;
+
+    /**
+     * Creates an {@code AttendanceRecordIndex} of the given {@code records}.
+     */
+    public AttendanceRecordIndex(Collection<AttendanceRecord> records) {
+        requireNonNull(records);
+
+        Map<Integer, IntStream.Builder> enrolled = new HashMap<>();
+        Map<Integer, IntStream.Builder> present = new HashMap<>();
+        for (AttendanceRecord record : records) {
+            enrolled.computeIfAbsent(record.getSessionId(), id -> IntStream.builder()).add(record.getStudentId());
+            if (record.getAttendance()) {
+                present.computeIfAbsent(record.getSessionId(), id -> IntStream.builder()).add(record.getStudentId());
+            }
+        }
+
+        enrolledStudentIds = toSortedArrays(enrolled);
+        presentStudentIds = toSortedArrays(present);
+    }
+
+    private static Map<Integer, int[]> toSortedArrays(Map<Integer, IntStream.Builder> builders) {
+        Map<Integer, int[]> arrays = new HashMap<>();
+        builders.forEach((sessionId, builder) -> arrays.put(sessionId, builder.build().sorted().toArray()));
+        return arrays;
+    }
+
+    /**
+     * Adds {@code record} to the index.
+     * No record of the same student and session may already be in the index.
+     */
+    public void add(AttendanceRecord record) {
+        requireNonNull(record);
+        insert(enrolledStudentIds, record.getSessionId(), record.getStudentId());
+        if (record.getAttendance()) {
+            insert(presentStudentIds, record.getSessionId(), record.getStudentId());
+        }
+    }
+
+    /**
+     * Removes the record of the same student and session as {@code record} from the index, if there is one.
+     */
+    public void remove(AttendanceRecord record) {
+        requireNonNull(record);
+        delete(enrolledStudentIds, record.getSessionId(), record.getStudentId());
+        delete(presentStudentIds, record.getSessionId(), record.getStudentId());
+    }
+
+    private static void insert(Map<Integer, int[]> studentIds, int sessionId, int studentId) {
+        int[] ids = studentIds.getOrDefault(sessionId, NO_STUDENTS);
+        int position = Arrays.binarySearch(ids, studentId);
+        if (position >= 0) {
+            return;
+        }
+
+        int insertionPoint = -position - 1;
+        int[] result = new int[ids.length + 1];
+        System.arraycopy(ids, 0, result, 0, insertionPoint);
+        result[insertionPoint] = studentId;
+        System.arraycopy(ids, insertionPoint, result, insertionPoint + 1, ids.length - insertionPoint);
+        studentIds.put(sessionId, result);
+    }
+
+    private static void delete(Map<Integer, int[]> studentIds, int sessionId, int studentId) {
+        int[] ids = studentIds.getOrDefault(sessionId, NO_STUDENTS);
+        int position = Arrays.binarySearch(ids, studentId);
+        if (position < 0) {
+            return;
+        }
+
+        if (ids.length == 1) {
+            studentIds.remove(sessionId);
+            return;
+        }
+
+        int[] result = new int[ids.length - 1];
+        System.arraycopy(ids, 0, result, 0, position);
+        System.arraycopy(ids, position + 1, result, position, ids.length - position - 1);
+        studentIds.put(sessionId, result);
+    }
+
+    /**
+     * Returns the IDs of the students enrolled in the session with the given {@code sessionId}, in ascending order.
+     */
+    public int[] getEnrolledStudentIds(int sessionId) {
+        return enrolledStudentIds.getOrDefault(sessionId, NO_STUDENTS).clone();
+    }
+
+    /**
+     * Returns the IDs of the students marked present for the session with the given {@code sessionId}, in ascending
+     * order.
+     */
+    public int[] getPresentStudentIds(int sessionId) {
+        return presentStudentIds.getOrDefault(sessionId, NO_STUDENTS).clone();
+    }
+}
@@ -0,0 +1,157 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+
+/**
+ * Running counts of the attendance records by student, session, subject and month, kept up to date as sessions and
+ * records are added, edited and removed, so that no counts have to be recomputed from the attendance records.
+ * <p>
+ * The counts of a subject or month are the sum of the counts of the sessions with that subject or starting in that
+ * month. Records of sessions that are not known are counted for their student and session only, until their session
+ * is added. Every update takes constant time, except for adding a session, which also takes its counts into account
+ * for its subject and month.
+ */
+public class AttendanceStats {
+
+    private final Map<Integer, Session> sessions = new HashMap<>();
+    private final Map<Integer, AttendanceCounts> byStudent = new HashMap<>();
+    private final Map<Integer, AttendanceCounts> bySession = new HashMap<>();
+    private final Map<Subject, AttendanceCounts> bySubject = new HashMap<>();
+    private final Map<YearMonth, AttendanceCounts> byMonth = new HashMap<>();
+    private AttendanceCounts total = AttendanceCounts.NONE;
+
+    /**
+     * Creates an {@code AttendanceStats} of the given {@code sessions} and {@code records}.
+     */
+    public AttendanceStats(Iterable<Session> sessions, Iterable<AttendanceRecord> records) {
+        requireAllNonNull(sessions, records);
+        sessions.forEach(this::addSession);
+        records.forEach(this::addRecord);
+    }
+
+    /**
+     * Counts the records of {@code session} for its subject and month.
+     */
+    public void addSession(Session session) {
+        requireNonNull(session);
+        sessions.put(session.getId(), session);
+        addToSessionGroups(session, bySession.getOrDefault(session.getId(), AttendanceCounts.NONE));
+    }
+
+    /**
+     * Stops counting the records of {@code session} for its subject and month.
+     */
+    public void removeSession(Session session) {
+        requireNonNull(session);
+        Session removed = sessions.remove(session.getId());
+        if (removed != null) {
+            addToSessionGroups(removed, AttendanceCounts.NONE.minus(
+                    bySession.getOrDefault(session.getId(), AttendanceCounts.NONE)));
+        }
+    }
+
+    /**
+     * Moves the counts of {@code target} to the subject and month of {@code edited}.
+     */
+    public void updateSession(Session target, Session edited) {
+        removeSession(target);
+        addSession(edited);
+    }
+
+    /**
+     * Counts {@code record}.
+     */
+    public void addRecord(AttendanceRecord record) {
+        add(record, AttendanceCounts.of(record));
+    }
+
+    /**
+     * Stops counting {@code record}.
+     */
+    public void removeRecord(AttendanceRecord record) {
+        add(record, AttendanceCounts.NONE.minus(AttendanceCounts.of(record)));
+    }
+
+    /**
+     * Replaces {@code target} with {@code edited} in the counts.
+     */
+    public void updateRecord(AttendanceRecord target, AttendanceRecord edited) {
+        removeRecord(target);
+        addRecord(edited);
+    }
+
+    private void add(AttendanceRecord record, AttendanceCounts delta) {
+        requireNonNull(record);
+        total = total.plus(delta);
+        merge(byStudent, record.getStudentId(), delta);
+        merge(bySession, record.getSessionId(), delta);
+        Session session = sessions.get(record.getSessionId());
+        if (session != null) {
+            addToSessionGroups(session, delta);
+        }
+    }
+
+    private void addToSessionGroups(Session session, AttendanceCounts delta) {
+        merge(bySubject, session.getSubject(), delta);
+        merge(byMonth, YearMonth.from(session.getTimeslot().getStartTime()), delta);
+    }
+
+    /**
+     * Adds {@code delta} to the counts of {@code key}, removing them once no records are counted.
+     */
+    private static <K> void merge(Map<K, AttendanceCounts> counts, K key, AttendanceCounts delta) {
+        if (delta.equals(AttendanceCounts.NONE)) {
+            return;
+        }
+        counts.merge(key, delta, (current, unused) -> {
+            AttendanceCounts updated = current.plus(delta);
+            return updated.equals(AttendanceCounts.NONE) ? null : updated;
+        });
+    }
+
+    public AttendanceCounts getTotal() {
+        return total;
+    }
+
+    public AttendanceCounts ofStudent(int studentId) {
+        return byStudent.getOrDefault(studentId, AttendanceCounts.NONE);
+    }
+
+    public AttendanceCounts ofSession(int sessionId) {
+        return bySession.getOrDefault(sessionId, AttendanceCounts.NONE);
+    }
+
+    public AttendanceCounts ofSubject(Subject subject) {
+        return bySubject.getOrDefault(subject, AttendanceCounts.NONE);
+    }
+
+    public AttendanceCounts ofMonth(YearMonth month) {
+        return byMonth.getOrDefault(month, AttendanceCounts.NONE);
+    }
+
+    /**
+     * Returns the counts of every subject with records, in order of subject name.
+     */
+    public SortedMap<String, AttendanceCounts> getSubjectCounts() {
+        SortedMap<String, AttendanceCounts> counts = new TreeMap<>();
+        bySubject.forEach((subject, subjectCounts) -> counts.put(subject.subjectName, subjectCounts));
+        return counts;
+    }
+
+    /**
+     * Returns the counts of every month with records, in chronological order.
+     */
+    public SortedMap<YearMonth, AttendanceCounts> getMonthCounts() {
+        return new TreeMap<>(byMonth);
+    }
+}
@@ -0,0 +1,196 @@
+package tutorly.model.attendancerecord;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+
+/**
+ * Running totals of the hours taught in each calendar month, by student and by subject, kept up to date as sessions
+ * and attendance records are added, edited and removed, so that no totals have to be recomputed from the records.
+ * <p>
+ * A student is taught the duration of the timeslot of every session they are marked present for, counted in the
+ * month the session starts. Records of sessions that are not known are not counted until their session is added.
+ * Every update of a record takes constant time, and every update of a session takes time proportional to the number
+ * of students present for it.
+ */
+public class HoursRollup {
+
+    private final Map<Integer, Session> sessions = new HashMap<>();
+    private final Map<Integer, Set<Integer>> presentStudents = new HashMap<>();
+    private final NavigableMap<YearMonth, MonthHours> months = new TreeMap<>();
+
+    /**
+     * Creates a {@code HoursRollup} of the given {@code sessions} and {@code records}.
+     */
+    public HoursRollup(Iterable<Session> sessions, Iterable<AttendanceRecord> records) {
+        requireAllNonNull(sessions, records);
+        sessions.forEach(this::addSession);
+        records.forEach(this::addRecord);
+    }
+
+    /**
+     * Counts the hours of {@code session} for the students present for it.
+     */
+    public void addSession(Session session) {
+        requireNonNull(session);
+        sessions.put(session.getId(), session);
+        presentStudents.getOrDefault(session.getId(), Set.of())
+                .forEach(studentId -> add(session, studentId, session.getTimeslot().getDuration()));
+    }
+
+    /**
+     * Stops counting the hours of {@code session}.
+     */
+    public void removeSession(Session session) {
+        requireNonNull(session);
+        Session removed = sessions.remove(session.getId());
+        if (removed != null) {
+            presentStudents.getOrDefault(removed.getId(), Set.of())
+                    .forEach(studentId -> add(removed, studentId, removed.getTimeslot().getDuration().negated()));
+        }
+    }
+
+    /**
+     * Moves the hours of {@code target} to the subject, month and duration of {@code edited}.
+     */
+    public void updateSession(Session target, Session edited) {
+        removeSession(target);
+        addSession(edited);
+    }
+
+    /**
+     * Counts {@code record} if its student was present.
+     */
+    public void addRecord(AttendanceRecord record) {
+        requireNonNull(record);
+        if (!record.getAttendance()
+                || !presentStudents.computeIfAbsent(record.getSessionId(), unused -> new HashSet<>())
+                        .add(record.getStudentId())) {
+            return;
+        }
+
+        Session session = sessions.get(record.getSessionId());
+        if (session != null) {
+            add(session, record.getStudentId(), session.getTimeslot().getDuration());
+        }
+    }
+
+    /**
+     * Stops counting {@code record}.
+     */
+    public void removeRecord(AttendanceRecord record) {
+        requireNonNull(record);
+        Set<Integer> students = presentStudents.get(record.getSessionId());
+        if (students == null || !students.remove(record.getStudentId())) {
+            return;
+        }
+        if (students.isEmpty()) {
+            presentStudents.remove(record.getSessionId());
+        }
+
+        Session session = sessions.get(record.getSessionId());
+        if (session != null) {
+            add(session, record.getStudentId(), session.getTimeslot().getDuration().negated());
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code edited} in the totals.
+     */
+    public void updateRecord(AttendanceRecord target, AttendanceRecord edited) {
+        removeRecord(target);
+        addRecord(edited);
+    }
+
+    private void add(Session session, int studentId, Duration delta) {
+        YearMonth month = YearMonth.from(session.getTimeslot().getStartTime());
+        MonthHours monthHours = months.computeIfAbsent(month, unused -> new MonthHours());
+        monthHours.add(studentId, session.getSubject(), delta);
+        if (monthHours.total.isZero()) {
+            months.remove(month);
+        }
+    }
+
+    /**
+     * Returns the months in which any hours were taught, in chronological order.
+     */
+    public NavigableSet<YearMonth> getMonths() {
+        return Collections.unmodifiableNavigableSet(months.navigableKeySet());
+    }
+
+    /**
+     * Returns the hours taught in {@code month}.
+     */
+    public Duration ofMonth(YearMonth month) {
+        MonthHours monthHours = months.get(month);
+        return monthHours == null ? Duration.ZERO : monthHours.total;
+    }
+
+    /**
+     * Returns the hours taught to the student with {@code studentId} in {@code month}.
+     */
+    public Duration ofStudent(int studentId, YearMonth month) {
+        return getStudentHours(month).getOrDefault(studentId, Duration.ZERO);
+    }
+
+    /**
+     * Returns the hours taught of {@code subject} in {@code month}.
+     */
+    public Duration ofSubject(Subject subject, YearMonth month) {
+        return getSubjectHours(month).getOrDefault(subject, Duration.ZERO);
+    }
+
+    /**
+     * Returns the hours taught to each student in {@code month}, by student ID.
+     */
+    public Map<Integer, Duration> getStudentHours(YearMonth month) {
+        MonthHours monthHours = months.get(month);
+        return monthHours == null ? Map.of() : Collections.unmodifiableMap(monthHours.byStudent);
+    }
+
+    /**
+     * Returns the hours taught of each subject in {@code month}.
+     */
+    public Map<Subject, Duration> getSubjectHours(YearMonth month) {
+        MonthHours monthHours = months.get(month);
+        return monthHours == null ? Map.of() : Collections.unmodifiableMap(monthHours.bySubject);
+    }
+
+    /**
+     * The hours taught in a month, in total, by student and by subject.
+     */
+    private static class MonthHours {
+        private final Map<Integer, Duration> byStudent = new HashMap<>();
+        private final Map<Subject, Duration> bySubject = new HashMap<>();
+        private Duration total = Duration.ZERO;
+
+        void add(int studentId, Subject subject, Duration delta) {
+            total = total.plus(delta);
+            merge(byStudent, studentId, delta);
+            merge(bySubject, subject, delta);
+        }
+
+        /**
+         * Adds {@code delta} to the hours of {@code key}, removing them once they are zero.
+         */
+        private static <K> void merge(Map<K, Duration> hours, K key, Duration delta) {
+            hours.merge(key, delta, (current, unused) -> {
+                Duration updated = current.plus(delta);
+                return updated.isZero() ? null : updated;
+            });
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package tutorly.model.attendancerecord;
+
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.session.Session;
+
+/**
+ * Represents a student enrolled in two sessions with overlapping timeslots.
+ * The first session never starts after the second session.
+ */
+public class ScheduleConflict {
+
+    private static final Comparator<Session> BY_START_TIME = Comparator
+            .comparing((Session session) -> session.getTimeslot().getStartTime())
+            .thenComparingInt(Session::getId);
+
+    private final int studentId;
+    private final Session first;
+    private final Session second;
+
+    /**
+     * Constructs a {@code ScheduleConflict} of the student with the given ID between the given sessions.
+     */
+    public ScheduleConflict(int studentId, Session first, Session second) {
+        requireAllNonNull(first, second);
+        this.studentId = studentId;
+        this.first = first;
+        this.second = second;
+    }
+
+    /**
+     * Returns the conflicts of every student enrolled in two sessions with overlapping timeslots, ordered by student
+     * ID and then by the start of the sessions.
+     * <p>
+     * The records are grouped by student and the sessions of each student are swept in order of their start, keeping
+     * only the sessions that have not ended yet, so that each record is sorted once and only overlapping pairs are
+     * compared. Records of sessions that are not in {@code sessions} are ignored.
+     */
+    public static List<ScheduleConflict> findAll(Collection<AttendanceRecord> records, Collection<Session> sessions) {
+        requireAllNonNull(records, sessions);
+        Map<Integer, Session> sessionsById = new HashMap<>();
+        sessions.forEach(session -> sessionsById.put(session.getId(), session));
+
+        Map<Integer, List<Session>> sessionsByStudent = new HashMap<>();
+        for (AttendanceRecord record : records) {
+            Session session = sessionsById.get(record.getSessionId());
+            if (session != null) {
+                sessionsByStudent.computeIfAbsent(record.getStudentId(), id -> new ArrayList<>()).add(session);
+            }
+        }
+
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        sessionsByStudent.keySet().stream().sorted().forEach(studentId ->
+                conflicts.addAll(findAll(studentId, sessionsByStudent.get(studentId))));
+        return conflicts;
+    }
+
+    /**
+     * Returns the conflicts between the given sessions of the student with the given ID, ordered by the start of the
+     * sessions.
+     */
+    private static List<ScheduleConflict> findAll(int studentId, List<Session> sessions) {
+        sessions.sort(BY_START_TIME);
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        List<Session> active = new ArrayList<>();
+        for (Session session : sessions) {
+            Iterator<Session> iterator = active.iterator();
+            while (iterator.hasNext()) {
+                Session other = iterator.next();
+                if (other.hasOverlappingTimeslot(session)) {
+                    conflicts.add(new ScheduleConflict(studentId, other, session));
+                } else {
+                    // Sessions are swept in order of their start, so this session has ended before any later one
+                    iterator.remove();
+                }
+            }
+            active.add(session);
+        }
+        return conflicts;
+    }
+
+    public int getStudentId() {
+        return studentId;
+    }
+
+    public Session getFirst() {
+        return first;
+    }
+
+    public Session getSecond() {
+        return second;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ScheduleConflict otherScheduleConflict)) {
+            return false;
+        }
+
+        return studentId == otherScheduleConflict.studentId
+                && first.equals(otherScheduleConflict.first)
+                && second.equals(otherScheduleConflict.second);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, first, second);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentId", studentId)
+                .add("first", first)
+                .add("second", second)
+                .toString();
+    }
+}
@@ -1,5 +1,7 @@
 package tutorly.model.attendancerecord;
 
+import java.util.List;
+
 import tutorly.model.uniquelist.UniqueList;
 
 /**
@@ -10,14 +12,76 @@ import tutorly.model.uniquelist.UniqueList;
  */
 public class UniqueAttendanceRecordList extends UniqueList<AttendanceRecord> {
 
+    /**
+     * Index of the current records by session, built lazily, kept up to date as single records are added, edited and
+     * removed, and discarded when the records are replaced.
+     */
+    private AttendanceRecordIndex index;
+
     @Override
     protected boolean isEquivalent(AttendanceRecord a, AttendanceRecord b) {
         return a.isSameRecord(b);
     }
 
+    @Override
+    protected Object getKey(AttendanceRecord record) {
+        return (long) record.getStudentId() << 32 | record.getSessionId();
+    }
+
     @Override
     protected int compare(AttendanceRecord a, AttendanceRecord b) {
         return Integer.compare(a.getStudentId(), b.getStudentId());
     }
 
+    @Override
+    protected void onElementsChanged() {
+        index = null;
+    }
+
+    @Override
+    protected void onElementReplaced(AttendanceRecord removed, AttendanceRecord added) {
+        if (index == null) {
+            return;
+        }
+
+        if (removed != null) {
+            index.remove(removed);
+        }
+        if (added != null) {
+            index.add(added);
+        }
+    }
+
+    /**
+     * Returns the attendance records of the student with the given ID.
+     * As the records are ordered by student ID, they are found by binary search rather than checking every record.
+     */
+    public List<AttendanceRecord> getAttendanceRecordsOfStudent(int studentId) {
+        int index = binarySearch(record -> Integer.compare(record.getStudentId(), studentId));
+        if (index == -1) {
+            return List.of();
+        }
+
+        List<AttendanceRecord> elements = elements();
+        int from = index;
+        while (from > 0 && elements.get(from - 1).getStudentId() == studentId) {
+            from--;
+        }
+        int to = index + 1;
+        while (to < elements.size() && elements.get(to).getStudentId() == studentId) {
+            to++;
+        }
+        return List.copyOf(elements.subList(from, to));
+    }
+
+    /**
+     * Returns an index of the attendance records in the list by session.
+     */
+    public AttendanceRecordIndex getIndex() {
+        if (index == null) {
+            index = new AttendanceRecordIndex(elements());
+        }
+        return index;
+    }
+
 }
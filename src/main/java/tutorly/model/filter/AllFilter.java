@@ -0,0 +1,117 @@
+package tutorly.model.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter that represents the logical AND of the given filters.
+ * Filters that can be looked up from an index are intersected, starting from the most selective one, so that the
+ * remaining filters are only tested on the elements in the intersection. The predicate only does so if any filter
+ * depends on the address book, so that the predicate of any other filter stays valid when the address book changes.
+ */
+public class AllFilter<T> implements Filter<T> {
+
+    private final List<Filter<T>> filters;
+
+    protected AllFilter(List<Filter<T>> filters) {
+        this.filters = filters;
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        boolean isIndexUsed = dependsOnAddressBook();
+        List<PostingList<T>> postingLists = new ArrayList<>();
+        List<Predicate<T>> residuals = new ArrayList<>();
+        for (Filter<T> filter : filters) {
+            Optional<PostingList<T>> postingList = isIndexUsed ? filter.lookup(addressBook) : Optional.empty();
+            postingList.ifPresentOrElse(postingLists::add, () -> residuals.add(filter.toPredicate(addressBook)));
+        }
+
+        Optional<PostingList<T>> candidates = intersect(postingLists);
+        if (candidates.isEmpty()) {
+            return t -> testAll(residuals, t);
+        } else if (candidates.get().size() == 0) {
+            return t -> false;
+        }
+
+        PostingList<T> candidateList = candidates.get();
+        return t -> candidateList.contains(t) && testAll(residuals, t);
+    }
+
+    /**
+     * Returns the intersection of the posting lists of the filters that can be looked up from an index, with the
+     * elements that do not pass the remaining filters left out, or an empty {@code Optional} if no filter can be looked
+     * up or the elements of the intersection cannot be looked up.
+     */
+    @Override
+    public Optional<PostingList<T>> lookup(ReadOnlyAddressBook addressBook) {
+        List<PostingList<T>> postingLists = new ArrayList<>();
+        List<Filter<T>> residualFilters = new ArrayList<>();
+        for (Filter<T> filter : filters) {
+            filter.lookup(addressBook).ifPresentOrElse(postingLists::add, () -> residualFilters.add(filter));
+        }
+
+        Optional<PostingList<T>> candidates = intersect(postingLists);
+        if (candidates.isEmpty() || residualFilters.isEmpty() || candidates.get().size() == 0) {
+            return candidates;
+        }
+
+        List<Predicate<T>> residuals = residualFilters.stream().map(filter -> filter.toPredicate(addressBook)).toList();
+        return candidates.get().filter(t -> testAll(residuals, t));
+    }
+
+    @Override
+    public boolean dependsOnAddressBook() {
+        return filters.stream().anyMatch(Filter::dependsOnAddressBook);
+    }
+
+    /**
+     * Returns the intersection of the given posting lists, starting from the smallest, or an empty {@code Optional}
+     * if there are none.
+     */
+    private static <T> Optional<PostingList<T>> intersect(List<PostingList<T>> postingLists) {
+        return postingLists.stream()
+                .sorted(Comparator.comparingInt(PostingList::size))
+                .reduce(PostingList::intersect);
+    }
+
+    private static <T> boolean testAll(List<Predicate<T>> predicates, T t) {
+        for (Predicate<T> predicate : predicates) {
+            if (!predicate.test(t)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AllFilter otherAllFilter)) {
+            return false;
+        }
+
+        return filters.equals(otherAllFilter.filters);
+    }
+
+    @Override
+    public int hashCode() {
+        return filters.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filters", filters).toString();
+    }
+
+}
@@ -1,6 +1,7 @@
 package tutorly.model.filter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
@@ -8,6 +9,9 @@ import tutorly.model.ReadOnlyAddressBook;
 
 /**
  * Represents a filter that represents the logical OR of the given filters.
+ * If every filter can be looked up from an index, and any of them depends on the address book, their posting lists
+ * are merged instead of testing each filter. Otherwise, the predicate only tests the element itself, so that it does
+ * not have to be rebuilt when the address book changes.
  */
 public class AnyFilter<T> implements Filter<T> {
 
@@ -19,7 +23,46 @@ public class AnyFilter<T> implements Filter<T> {
 
     @Override
     public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
-        return filters.stream().map(f -> f.toPredicate(addressBook)).reduce(Predicate::or).orElse(t -> true);
+        if (filters.isEmpty()) {
+            return t -> true;
+        }
+
+        Optional<PostingList<T>> postingList = dependsOnAddressBook() ? lookup(addressBook) : Optional.empty();
+        if (postingList.isPresent()) {
+            return postingList.get()::contains;
+        }
+
+        List<Predicate<T>> predicates = filters.stream().map(f -> f.toPredicate(addressBook)).toList();
+        return t -> {
+            for (Predicate<T> predicate : predicates) {
+                if (predicate.test(t)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public Optional<PostingList<T>> lookup(ReadOnlyAddressBook addressBook) {
+        if (filters.isEmpty()) {
+            return Optional.empty();
+        }
+
+        PostingList<T> union = null;
+        for (Filter<T> filter : filters) {
+            Optional<PostingList<T>> postingList = filter.lookup(addressBook);
+            if (postingList.isEmpty()) {
+                return Optional.empty();
+            }
+            union = union == null ? postingList.get() : union.union(postingList.get());
+        }
+        return Optional.of(union);
+    }
+
+    @Override
+    public boolean dependsOnAddressBook() {
+        return filters.stream().anyMatch(Filter::dependsOnAddressBook);
     }
 
     @Override
@@ -36,6 +79,11 @@ public class AnyFilter<T> implements Filter<T> {
         return filters.equals(otherAnyFilter.filters);
     }
 
+    @Override
+    public int hashCode() {
+        return filters.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("filters", filters).toString();
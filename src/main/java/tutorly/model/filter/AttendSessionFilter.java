@@ -2,12 +2,11 @@ package tutorly.model.filter;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
-import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Person;
 
 /**
@@ -22,11 +21,19 @@ public class AttendSessionFilter implements Filter<Person> {
 
     @Override
     public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return lookup(addressBook).get()::contains;
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
         requireNonNull(addressBook);
+        int[] studentIds = addressBook.getAttendanceRecordIndex().getEnrolledStudentIds(sessionId);
+        return Optional.of(PostingList.of(studentIds, Person::getId, addressBook::getPersonById));
+    }
 
-        List<AttendanceRecord> filteredAttendanceRecords =
-                addressBook.getAttendanceRecordsList().filtered(record -> record.getSessionId() == sessionId);
-        return person -> filteredAttendanceRecords.stream().anyMatch(record -> record.getStudentId() == person.getId());
+    @Override
+    public boolean dependsOnAddressBook() {
+        return true;
     }
 
     @Override
@@ -43,6 +50,11 @@ public class AttendSessionFilter implements Filter<Person> {
         return sessionId == otherAttendSessionFilter.sessionId;
     }
 
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(sessionId);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("sessionId", sessionId).toString();
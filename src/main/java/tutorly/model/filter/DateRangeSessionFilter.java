@@ -0,0 +1,68 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.session.DateRange;
+import tutorly.model.session.Session;
+
+/**
+ * Represents a filter for a {@code Session} on any date of the given {@code DateRange}.
+ */
+public class DateRangeSessionFilter implements Filter<Session> {
+    private final DateRange dateRange;
+
+    /**
+     * Creates a filter matching sessions on any date of {@code dateRange}.
+     */
+    public DateRangeSessionFilter(DateRange dateRange) {
+        requireNonNull(dateRange);
+        this.dateRange = dateRange;
+    }
+
+    public DateRange getDateRange() {
+        return dateRange;
+    }
+
+    @Override
+    public Predicate<Session> toPredicate(ReadOnlyAddressBook addressBook) {
+        return session -> dateRange.isOverlapping(session.getTimeslot());
+    }
+
+    @Override
+    public Optional<PostingList<Session>> lookup(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        int[] sessionIds = addressBook.getTimeslotIndex().getSessionsOn(dateRange).stream()
+                .mapToInt(Session::getId)
+                .toArray();
+        return Optional.of(PostingList.of(sessionIds, Session::getId, addressBook::getSessionById));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DateRangeSessionFilter otherDateRangeSessionFilter)) {
+            return false;
+        }
+
+        return dateRange.equals(otherDateRangeSessionFilter.dateRange);
+    }
+
+    @Override
+    public int hashCode() {
+        return dateRange.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("dateRange", dateRange).toString();
+    }
+}
@@ -1,10 +1,14 @@
 package tutorly.model.filter;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
 
 /**
@@ -22,6 +26,15 @@ public class DateSessionFilter implements Filter<Session> {
         return session -> session.containsDate(date);
     }
 
+    @Override
+    public Optional<PostingList<Session>> lookup(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        int[] sessionIds = addressBook.getTimeslotIndex().getSessionsOn(new DateRange(date, date)).stream()
+                .mapToInt(Session::getId)
+                .toArray();
+        return Optional.of(PostingList.of(sessionIds, Session::getId, addressBook::getSessionById));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -36,6 +49,11 @@ public class DateSessionFilter implements Filter<Session> {
         return date.equals(otherDateSessionFilter.date);
     }
 
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("date", date).toString();
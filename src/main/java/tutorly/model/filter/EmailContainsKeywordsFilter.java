@@ -0,0 +1,55 @@
+package tutorly.model.filter;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.KeywordMatcher;
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} whose {@code Email} matches any of the keywords given.
+ */
+public class EmailContainsKeywordsFilter implements Filter<Person> {
+    private final List<String> keywords;
+    private final KeywordMatcher matcher;
+
+    /**
+     * Creates a filter matching any of the given {@code keywords}, each of which must be a single word.
+     */
+    public EmailContainsKeywordsFilter(List<String> keywords) {
+        this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return person -> matcher.matchesAny(person.getEmail().getNormalizedText());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EmailContainsKeywordsFilter otherEmailContainsKeywordsFilter)) {
+            return false;
+        }
+
+        return keywords.equals(otherEmailContainsKeywordsFilter.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+
+}
@@ -1,6 +1,7 @@
 package tutorly.model.filter;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import tutorly.model.ReadOnlyAddressBook;
@@ -18,6 +19,20 @@ public interface Filter<T> {
         return new AnyFilter<>(filters);
     }
 
+    /**
+     * Returns a filter that represents the logical AND of the given filters.
+     */
+    public static <T> Filter<T> all(List<Filter<T>> filters) {
+        return new AllFilter<>(filters);
+    }
+
+    /**
+     * Returns a filter that represents the logical NOT of the given filter.
+     */
+    public static <T> Filter<T> not(Filter<T> filter) {
+        return new NotFilter<>(filter);
+    }
+
     /**
      * Returns the predicate that represents the filter.
      *
@@ -26,4 +41,23 @@ public interface Filter<T> {
      */
     public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the IDs of exactly the elements that pass this filter if they can be looked up from an index of the
+     * address book, or an empty {@code Optional} if every element has to be tested with the predicate instead.
+     *
+     * @param addressBook The address book context.
+     */
+    public default Optional<PostingList<T>> lookup(ReadOnlyAddressBook addressBook) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if whether an element passes this filter depends on data in the address book other than the
+     * element itself, such as attendance records. The predicate of such a filter has to be rebuilt whenever the
+     * address book changes, while the predicate of any other filter stays valid.
+     */
+    public default boolean dependsOnAddressBook() {
+        return false;
+    }
+
 }
@@ -0,0 +1,60 @@
+package tutorly.model.filter;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
+
+/**
+ * Represents a filter for a {@code Person} that has any of the tags given.
+ */
+public class HasTagFilter implements Filter<Person> {
+    private final Set<Tag> tags;
+
+    public HasTagFilter(Set<Tag> tags) {
+        this.tags = tags;
+    }
+
+    public Set<Tag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return person -> person.getTags().stream().anyMatch(tags::contains);
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
+        return TagQueryFilter.of(tags).lookup(addressBook);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HasTagFilter otherHasTagFilter)) {
+            return false;
+        }
+
+        return tags.equals(otherHasTagFilter.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tags", tags).toString();
+    }
+
+}
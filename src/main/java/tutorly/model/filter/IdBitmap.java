@@ -0,0 +1,542 @@
+package tutorly.model.filter;
+
+import java.util.Arrays;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * A set of non-negative IDs compressed in the manner of a roaring bitmap, used to combine large sets of IDs, such as
+ * the persons having each tag, with bitwise operations instead of testing every element.
+ * <p>
+ * IDs are grouped into chunks by their upper 16 bits. A chunk of at most {@value #MAX_ARRAY_SIZE} IDs stores their
+ * lower 16 bits in a sorted array, and a denser chunk stores them in a bitmap of 65536 bits, so that no chunk takes
+ * more than 8 KiB and sparse sets stay small. Set operations combine the chunks with the same upper bits pairwise.
+ */
+public class IdBitmap {
+
+    /** The largest number of IDs a chunk stores in a sorted array rather than in a bitmap. */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int WORDS_PER_BITMAP = (1 << CHUNK_BITS) / Long.SIZE;
+
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int size;
+
+    /**
+     * Returns a bitmap of the given {@code ids}, which need not be sorted or distinct.
+     */
+    public static IdBitmap of(int... ids) {
+        IdBitmap bitmap = new IdBitmap();
+        for (int id : ids) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if {@code id} is in this bitmap.
+     */
+    public boolean contains(int id) {
+        int index = indexOf(high(id));
+        return index >= 0 && containers[index].contains(low(id));
+    }
+
+    /**
+     * Adds {@code id} to this bitmap.
+     *
+     * @throws IllegalArgumentException if {@code id} is negative.
+     */
+    public void add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative ID: " + id);
+        }
+
+        int index = indexOf(high(id));
+        if (index >= 0) {
+            containers[index] = containers[index].add(low(id));
+            return;
+        }
+
+        insert(-index - 1, high(id), new ArrayContainer().add(low(id)));
+    }
+
+    /**
+     * Removes {@code id} from this bitmap, if it is present.
+     */
+    public void remove(int id) {
+        int index = indexOf(high(id));
+        if (index < 0) {
+            return;
+        }
+
+        Container container = containers[index].remove(low(id));
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        } else {
+            containers[index] = container;
+        }
+    }
+
+    /**
+     * Returns the number of IDs in this bitmap.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the IDs in this bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] ids = new int[cardinality()];
+        int offset = 0;
+        for (int i = 0; i < size; i++) {
+            offset = containers[i].copyTo(ids, offset, keys[i] << CHUNK_BITS);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns a new bitmap of the IDs in this bitmap, which is not affected by later changes to this bitmap.
+     */
+    public IdBitmap copy() {
+        IdBitmap result = new IdBitmap();
+        for (int i = 0; i < size; i++) {
+            result.append(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the IDs in both this and {@code other}.
+     */
+    public IdBitmap and(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the IDs in either this or {@code other}.
+     */
+    public IdBitmap or(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || i < size && keys[i] < other.keys[j]) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitmap of the IDs in this but not in {@code other}.
+     */
+    public IdBitmap andNot(IdBitmap other) {
+        IdBitmap result = new IdBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            boolean isShared = j < other.size && other.keys[j] == keys[i];
+            result.append(keys[i], isShared ? containers[i].andNot(other.containers[j]) : containers[i].copy());
+        }
+        return result;
+    }
+
+    private static char high(int id) {
+        return (char) (id >>> CHUNK_BITS);
+    }
+
+    private static char low(int id) {
+        return (char) id;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(4, size * 2));
+            containers = Arrays.copyOf(containers, keys.length);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * Adds {@code container} after every chunk of this bitmap, unless it is empty.
+     */
+    private void append(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insert(size, key, container);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IdBitmap otherIdBitmap)) {
+            return false;
+        }
+
+        return Arrays.equals(toArray(), otherIdBitmap.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ids", Arrays.toString(toArray())).toString();
+    }
+
+    /**
+     * The lower 16 bits of the IDs in a chunk. Operations may return a new container, or this container if it was
+     * modified in place.
+     */
+    private abstract static class Container {
+
+        abstract int cardinality();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract Container copy();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        /**
+         * Copies the IDs in this container, with the given upper bits, into {@code ids} from {@code offset}, and
+         * returns the offset after the last ID copied.
+         */
+        abstract int copyTo(int[] ids, int offset, int high);
+
+        /**
+         * Returns the smallest container of the bits set in {@code words}.
+         */
+        static Container ofWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > MAX_ARRAY_SIZE) {
+                return new BitmapContainer(words, cardinality);
+            }
+
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[size++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values, size);
+        }
+    }
+
+    /**
+     * A chunk of at most {@value #MAX_ARRAY_SIZE} IDs stored in a sorted array.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == MAX_ARRAY_SIZE) {
+                return toBitmap().add(low);
+            }
+
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_ARRAY_SIZE, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof ArrayContainer otherArray)) {
+                return filter(other, true);
+            }
+
+            char[] result = new char[Math.min(cardinality, otherArray.cardinality)];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < otherArray.cardinality) {
+                if (values[i] < otherArray.values[j]) {
+                    i++;
+                } else if (values[i] > otherArray.values[j]) {
+                    j++;
+                } else {
+                    result[size++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, size);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer otherArray)) {
+                return other.or(this);
+            }
+            if (cardinality + otherArray.cardinality > MAX_ARRAY_SIZE) {
+                return toBitmap().or(other);
+            }
+
+            char[] result = new char[cardinality + otherArray.cardinality];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < cardinality || j < otherArray.cardinality) {
+                if (j == otherArray.cardinality || i < cardinality && values[i] < otherArray.values[j]) {
+                    result[size++] = values[i++];
+                } else if (i == cardinality || values[i] > otherArray.values[j]) {
+                    result[size++] = otherArray.values[j++];
+                } else {
+                    result[size++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, size);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            return filter(other, false);
+        }
+
+        /**
+         * Returns a container of the values that are in {@code other} if {@code isKept} is true, or that are not in
+         * {@code other} otherwise.
+         */
+        private Container filter(Container other, boolean isKept) {
+            char[] result = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == isKept) {
+                    result[size++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, size);
+        }
+
+        private BitmapContainer toBitmap() {
+            long[] words = new long[WORDS_PER_BITMAP];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+
+        @Override
+        int copyTo(int[] ids, int offset, int high) {
+            for (int i = 0; i < cardinality; i++) {
+                ids[offset++] = high | values[i];
+            }
+            return offset;
+        }
+    }
+
+    /**
+     * A chunk of more than {@value #MAX_ARRAY_SIZE} IDs stored in a bitmap.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & 1L << low) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            if (!contains(low)) {
+                return this;
+            }
+
+            words[low >>> 6] &= ~(1L << low);
+            cardinality--;
+            return cardinality > MAX_ARRAY_SIZE ? this : ofWords(words);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+
+            long[] result = words.clone();
+            long[] otherWords = ((BitmapContainer) other).words;
+            for (int i = 0; i < result.length; i++) {
+                result[i] &= otherWords[i];
+            }
+            return ofWords(result);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer otherArray) {
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    result[otherArray.values[i] >>> 6] |= 1L << otherArray.values[i];
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] |= otherWords[i];
+                }
+            }
+            return ofWords(result);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer otherArray) {
+                for (int i = 0; i < otherArray.cardinality; i++) {
+                    result[otherArray.values[i] >>> 6] &= ~(1L << otherArray.values[i]);
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return ofWords(result);
+        }
+
+        @Override
+        int copyTo(int[] ids, int offset, int high) {
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    ids[offset++] = high | i * Long.SIZE + Long.numberOfTrailingZeros(word);
+                }
+            }
+            return offset;
+        }
+    }
+}
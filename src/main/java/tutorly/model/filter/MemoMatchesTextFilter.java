@@ -0,0 +1,65 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} whose {@code Memo} matches the given full-text query.
+ *
+ * @see TextIndex
+ */
+public class MemoMatchesTextFilter implements Filter<Person> {
+    private final TextQuery query;
+
+    /**
+     * Creates a filter matching memos that contain every clause of {@code query}.
+     */
+    public MemoMatchesTextFilter(TextQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return person -> query.matches(person.getMemo().value);
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
+        int[] ids = addressBook.getMemoIndex().search(query).stream()
+                .mapToInt(Person::getId)
+                .toArray();
+        return Optional.of(PostingList.of(ids, Person::getId, addressBook::getPersonById));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MemoMatchesTextFilter otherMemoMatchesTextFilter)) {
+            return false;
+        }
+
+        return query.equals(otherMemoMatchesTextFilter.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+
+}
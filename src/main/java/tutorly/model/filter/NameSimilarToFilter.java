@@ -0,0 +1,72 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.NameIndex;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} whose {@code Name} is a near match of the given query, allowing for typos
+ * and partial names.
+ *
+ * @see NameIndex
+ */
+public class NameSimilarToFilter implements Filter<Person> {
+    private final String query;
+    private final Set<String> queryTrigrams;
+
+    /**
+     * Creates a filter matching names similar to {@code query}.
+     */
+    public NameSimilarToFilter(String query) {
+        requireNonNull(query);
+        this.query = query;
+        this.queryTrigrams = NameIndex.trigramsOf(query);
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        // The trigrams of indexed names are kept by the index rather than split again for every person
+        NameIndex nameIndex = addressBook.getNameIndex();
+        return person -> NameIndex.similarity(queryTrigrams, nameIndex.trigramsOf(person)) >= NameIndex.MIN_SIMILARITY;
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
+        int[] ids = addressBook.getNameIndex().search(query, Integer.MAX_VALUE).stream()
+                .mapToInt(Person::getId)
+                .toArray();
+        return Optional.of(PostingList.of(ids, Person::getId, addressBook::getPersonById));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToFilter otherNameSimilarToFilter)) {
+            return false;
+        }
+
+        return query.equals(otherNameSimilarToFilter.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+
+}
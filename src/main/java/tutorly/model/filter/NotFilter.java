@@ -0,0 +1,56 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a filter that represents the logical NOT of the given filter.
+ */
+public class NotFilter<T> implements Filter<T> {
+
+    private final Filter<T> filter;
+
+    protected NotFilter(Filter<T> filter) {
+        requireNonNull(filter);
+        this.filter = filter;
+    }
+
+    @Override
+    public Predicate<T> toPredicate(ReadOnlyAddressBook addressBook) {
+        return filter.toPredicate(addressBook).negate();
+    }
+
+    @Override
+    public boolean dependsOnAddressBook() {
+        return filter.dependsOnAddressBook();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotFilter otherNotFilter)) {
+            return false;
+        }
+
+        return filter.equals(otherNotFilter.filter);
+    }
+
+    @Override
+    public int hashCode() {
+        return filter.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("filter", filter).toString();
+    }
+
+}
@@ -0,0 +1,220 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Represents the page of the elements passing a filter to be shown, which is at most {@code limit} elements after
+ * skipping the first {@code offset}, in ID order or sorted by a {@code SortKey}.
+ * <p>
+ * Elements are selected in order from a list that is already sorted, such as a {@code SortIndex}, and testing them
+ * stops as soon as the page is filled and one more match is found, so the number of matching elements is then only a
+ * lower bound unless the IDs of all the matches are known.
+ */
+public class Page<T> {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final int offset;
+    private final int limit;
+    private final SortKey<T> sortKey;
+    private final boolean isDescending;
+
+    /**
+     * Creates a {@code Page} of at most {@code limit} elements after skipping the first {@code offset}, sorted by
+     * {@code sortKey} if it is not null.
+     */
+    public Page(int offset, int limit, SortKey<T> sortKey, boolean isDescending) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative.");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive.");
+        }
+        this.offset = offset;
+        this.limit = limit;
+        this.sortKey = sortKey;
+        this.isDescending = sortKey != null && isDescending;
+    }
+
+    /**
+     * Returns a {@code Page} of all the elements in ID order.
+     */
+    public static <T> Page<T> all() {
+        return new Page<>(0, UNLIMITED, null, false);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Optional<SortKey<T>> getSortKey() {
+        return Optional.ofNullable(sortKey);
+    }
+
+    public boolean isDescending() {
+        return isDescending;
+    }
+
+    /**
+     * Returns true if this page shows all the elements in ID order.
+     */
+    public boolean isAll() {
+        return offset == 0 && limit == UNLIMITED && sortKey == null;
+    }
+
+    /**
+     * Returns a copy of this page sorted by {@code sortKey} instead, in descending order if {@code isDescending}.
+     */
+    public Page<T> withSortKey(SortKey<T> sortKey, boolean isDescending) {
+        requireNonNull(sortKey);
+        return new Page<>(offset, limit, sortKey, isDescending);
+    }
+
+    /**
+     * Selects this page of the elements of {@code ordered} passing {@code predicate}.
+     *
+     * @param ordered The elements in the order of this page, which is by ID if it has no sort key.
+     * @param idOf Returns the ID of an element.
+     */
+    public Selection<T> select(List<T> ordered, Predicate<? super T> predicate, ToIntFunction<T> idOf) {
+        requireAllNonNull(ordered, predicate, idOf);
+
+        int[] ids = new int[Math.min(limit, 16)];
+        int size = 0;
+        int matchCount = 0;
+        boolean hasMore = false;
+        for (T element : ordered) {
+            if (!predicate.test(element)) {
+                continue;
+            }
+
+            if (matchCount == getEnd()) {
+                hasMore = true;
+                break;
+            }
+            if (matchCount >= offset) {
+                ids = append(ids, size++, idOf.applyAsInt(element));
+            }
+            matchCount++;
+        }
+
+        PostingList<T> page = PostingList.of(Arrays.copyOf(ids, size), idOf);
+        PageResult result = hasMore
+                ? new PageResult(offset, size, matchCount + 1, false)
+                : new PageResult(offset, size, matchCount, true);
+        // All the matches are known only if none were skipped or left untested
+        Optional<PostingList<T>> matches = offset == 0 && !hasMore ? Optional.of(page) : Optional.empty();
+        return new Selection<>(page, result, matches);
+    }
+
+    /**
+     * Selects this page of the elements of {@code ordered} whose IDs are in {@code matches}.
+     * If this page has no sort key, the page is sliced from {@code matches} without going through the elements.
+     *
+     * @param ordered The elements in the order of this page, which is by ID if it has no sort key.
+     * @param idOf Returns the ID of an element.
+     */
+    public Selection<T> select(List<T> ordered, PostingList<T> matches, ToIntFunction<T> idOf) {
+        requireAllNonNull(ordered, matches, idOf);
+        if (sortKey == null) {
+            PostingList<T> page = matches.slice(offset, getEnd());
+            return new Selection<>(page, new PageResult(offset, page.size(), matches.size(), true),
+                    Optional.of(matches));
+        }
+
+        PostingList<T> page = select(ordered, matches::contains, idOf).getIds();
+        return new Selection<>(page, new PageResult(offset, page.size(), matches.size(), true), Optional.of(matches));
+    }
+
+    /**
+     * Returns the position after the last element of this page among all the matching elements.
+     */
+    private int getEnd() {
+        return (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+    }
+
+    private static int[] append(int[] array, int size, int value) {
+        int[] result = size == array.length ? Arrays.copyOf(array, Math.max(1, size * 2)) : array;
+        result[size] = value;
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Page<?> otherPage)) {
+            return false;
+        }
+
+        return offset == otherPage.offset
+                && limit == otherPage.limit
+                && Objects.equals(sortKey, otherPage.sortKey)
+                && isDescending == otherPage.isDescending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, limit, sortKey, isDescending);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("offset", offset)
+                .add("limit", limit)
+                .add("sortKey", sortKey)
+                .add("isDescending", isDescending)
+                .toString();
+    }
+
+    /**
+     * The page of elements selected, together with all the matching elements if they are known.
+     */
+    public static class Selection<T> {
+        private final PostingList<T> ids;
+        private final PageResult result;
+        private final Optional<PostingList<T>> matches;
+
+        private Selection(PostingList<T> ids, PageResult result, Optional<PostingList<T>> matches) {
+            this.ids = ids;
+            this.result = result;
+            this.matches = matches;
+        }
+
+        /**
+         * Returns the IDs of the elements in the page.
+         */
+        public PostingList<T> getIds() {
+            return ids;
+        }
+
+        public PageResult getResult() {
+            return result;
+        }
+
+        /**
+         * Returns the IDs of all the elements passing the filter, if every element was tested.
+         */
+        public Optional<PostingList<T>> getMatches() {
+            return matches;
+        }
+    }
+}
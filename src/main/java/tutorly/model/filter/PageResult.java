@@ -0,0 +1,97 @@
+package tutorly.model.filter;
+
+import java.util.Objects;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Describes the page of elements shown out of all the elements passing a filter.
+ * The number of matching elements may only be a lower bound if the elements after the page were not all tested.
+ */
+public class PageResult {
+
+    private final int offset;
+    private final int size;
+    private final int matchCount;
+    private final boolean isMatchCountExact;
+
+    /**
+     * Creates a {@code PageResult} of {@code size} elements shown after skipping the first {@code offset} of
+     * {@code matchCount} matching elements.
+     */
+    public PageResult(int offset, int size, int matchCount, boolean isMatchCountExact) {
+        if (offset < 0 || size < 0 || matchCount < size) {
+            throw new IllegalArgumentException("Invalid page of " + size + " at " + offset + " of " + matchCount);
+        }
+        this.offset = offset;
+        this.size = size;
+        this.matchCount = matchCount;
+        this.isMatchCountExact = isMatchCountExact;
+    }
+
+    /**
+     * Returns a {@code PageResult} showing all {@code matchCount} matching elements.
+     */
+    public static PageResult all(int matchCount) {
+        return new PageResult(0, matchCount, matchCount, true);
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of elements passing the filter, or a lower bound of it if {@link #isMatchCountExact()} is
+     * false.
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public boolean isMatchCountExact() {
+        return isMatchCountExact;
+    }
+
+    /**
+     * Returns true if every element passing the filter is shown.
+     */
+    public boolean isComplete() {
+        return offset == 0 && size == matchCount && isMatchCountExact;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PageResult otherPageResult)) {
+            return false;
+        }
+
+        return offset == otherPageResult.offset
+                && size == otherPageResult.size
+                && matchCount == otherPageResult.matchCount
+                && isMatchCountExact == otherPageResult.isMatchCountExact;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(offset, size, matchCount, isMatchCountExact);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("offset", offset)
+                .add("size", size)
+                .add("matchCount", matchCount)
+                .add("isMatchCountExact", isMatchCountExact)
+                .toString();
+    }
+}
@@ -0,0 +1,55 @@
+package tutorly.model.filter;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} with the given ID.
+ */
+public class PersonIdFilter implements Filter<Person> {
+    private final int personId;
+
+    public PersonIdFilter(int personId) {
+        this.personId = personId;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return person -> person.getId() == personId;
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
+        int[] ids = addressBook.getPersonById(personId).isPresent() ? new int[] {personId} : new int[0];
+        return Optional.of(PostingList.of(ids, Person::getId, addressBook::getPersonById));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdFilter otherPersonIdFilter)) {
+            return false;
+        }
+
+        return personId == otherPersonIdFilter.personId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(personId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("personId", personId).toString();
+    }
+
+}
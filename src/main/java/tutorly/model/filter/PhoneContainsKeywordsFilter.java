@@ -3,7 +3,7 @@ package tutorly.model.filter;
 import java.util.List;
 import java.util.function.Predicate;
 
-import tutorly.commons.util.StringUtil;
+import tutorly.commons.util.KeywordMatcher;
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.person.Person;
@@ -13,15 +13,19 @@ import tutorly.model.person.Person;
  */
 public class PhoneContainsKeywordsFilter implements Filter<Person> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a filter matching any of the given {@code keywords}, each of which must be a single word.
+     */
     public PhoneContainsKeywordsFilter(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
-        return person -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+        return person -> matcher.matchesAny(person.getPhone().getNormalizedText());
     }
 
     @Override
@@ -38,6 +42,11 @@ public class PhoneContainsKeywordsFilter implements Filter<Person> {
         return keywords.equals(otherNameContainsKeywordsFilter.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
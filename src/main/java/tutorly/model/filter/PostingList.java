@@ -0,0 +1,229 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * An immutable, sorted set of element IDs looked up from an index, such as the students enrolled in a session.
+ * Membership tests and set operations do not need to evaluate any predicate on the elements themselves.
+ * A posting list looked up from an {@code IdBitmap} tests membership against the bitmap rather than by binary search.
+ * A posting list looked up from an index of the address book can also look up its elements, so that further filters
+ * can be tested on only the elements in it.
+ */
+public class PostingList<T> {
+
+    private final int[] ids;
+    private final ToIntFunction<T> idOf;
+    /** Returns the element with an ID, or null if the elements cannot be looked up. */
+    private final IntFunction<Optional<T>> elementOf;
+    /** The bitmap of the same IDs to test membership against, or null if there is none. */
+    private final IdBitmap bitmap;
+
+    private PostingList(int[] sortedDistinctIds, ToIntFunction<T> idOf, IntFunction<Optional<T>> elementOf) {
+        this(sortedDistinctIds, idOf, elementOf, null);
+    }
+
+    private PostingList(int[] sortedDistinctIds, ToIntFunction<T> idOf, IntFunction<Optional<T>> elementOf,
+            IdBitmap bitmap) {
+        this.ids = sortedDistinctIds;
+        this.idOf = idOf;
+        this.elementOf = elementOf;
+        this.bitmap = bitmap;
+    }
+
+    /**
+     * Returns a {@code PostingList} of the given {@code ids}, where {@code idOf} returns the ID of an element.
+     * The ids need not be sorted or distinct.
+     */
+    public static <T> PostingList<T> of(int[] ids, ToIntFunction<T> idOf) {
+        requireNonNull(ids);
+        requireNonNull(idOf);
+        return new PostingList<>(Arrays.stream(ids).sorted().distinct().toArray(), idOf, null);
+    }
+
+    /**
+     * Returns a {@code PostingList} of the given {@code ids}, where {@code idOf} returns the ID of an element and
+     * {@code elementOf} returns the element with an ID, if it exists. The ids need not be sorted or distinct.
+     */
+    public static <T> PostingList<T> of(int[] ids, ToIntFunction<T> idOf, IntFunction<Optional<T>> elementOf) {
+        requireNonNull(ids);
+        requireNonNull(idOf);
+        requireNonNull(elementOf);
+        return new PostingList<>(Arrays.stream(ids).sorted().distinct().toArray(), idOf, elementOf);
+    }
+
+    /**
+     * Returns a {@code PostingList} of the IDs in {@code bitmap}, which are already sorted and distinct, where
+     * {@code idOf} returns the ID of an element. The bitmap must not be modified afterwards.
+     */
+    static <T> PostingList<T> of(IdBitmap bitmap, ToIntFunction<T> idOf) {
+        requireNonNull(bitmap);
+        requireNonNull(idOf);
+        return new PostingList<>(bitmap.toArray(), idOf, null, bitmap);
+    }
+
+    /**
+     * Returns a {@code PostingList} of the IDs in {@code bitmap}, which are already sorted and distinct, where
+     * {@code idOf} returns the ID of an element and {@code elementOf} returns the element with an ID, if it exists.
+     * The bitmap must not be modified afterwards.
+     */
+    static <T> PostingList<T> of(IdBitmap bitmap, ToIntFunction<T> idOf, IntFunction<Optional<T>> elementOf) {
+        requireNonNull(bitmap);
+        requireNonNull(idOf);
+        requireNonNull(elementOf);
+        return new PostingList<>(bitmap.toArray(), idOf, elementOf, bitmap);
+    }
+
+    /**
+     * Returns true if the ID of {@code element} is in this posting list.
+     */
+    public boolean contains(T element) {
+        int id = idOf.applyAsInt(element);
+        return bitmap == null ? Arrays.binarySearch(ids, id) >= 0 : bitmap.contains(id);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns a copy of the IDs in ascending order.
+     */
+    public int[] toArray() {
+        return ids.clone();
+    }
+
+    /**
+     * Returns a posting list of the IDs from position {@code from}, inclusive, to position {@code to}, exclusive, in
+     * ascending order. Positions past the end of this posting list are ignored.
+     */
+    public PostingList<T> slice(int from, int to) {
+        if (from < 0 || from > to) {
+            throw new IndexOutOfBoundsException("Invalid slice from " + from + " to " + to);
+        }
+        return new PostingList<>(Arrays.copyOfRange(ids, Math.min(from, ids.length), Math.min(to, ids.length)), idOf,
+                elementOf);
+    }
+
+    /**
+     * Returns a posting list of the IDs in this posting list whose elements pass {@code predicate}, testing only the
+     * elements in this posting list, or an empty {@code Optional} if the elements cannot be looked up.
+     * IDs without an element are left out.
+     */
+    public Optional<PostingList<T>> filter(Predicate<T> predicate) {
+        requireNonNull(predicate);
+        if (elementOf == null) {
+            return Optional.empty();
+        }
+
+        int[] result = new int[ids.length];
+        int size = 0;
+        for (int id : ids) {
+            Optional<T> element = elementOf.apply(id);
+            if (element.isPresent() && predicate.test(element.get())) {
+                result[size++] = id;
+            }
+        }
+        return Optional.of(new PostingList<>(Arrays.copyOf(result, size), idOf, elementOf));
+    }
+
+    /**
+     * Returns a posting list of the IDs in both this and {@code other}.
+     */
+    public PostingList<T> intersect(PostingList<T> other) {
+        int[] result = new int[Math.min(ids.length, other.ids.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] < other.ids[j]) {
+                i++;
+            } else if (ids[i] > other.ids[j]) {
+                j++;
+            } else {
+                result[size++] = ids[i];
+                i++;
+                j++;
+            }
+        }
+        return new PostingList<>(Arrays.copyOf(result, size), idOf, elementOfEither(other));
+    }
+
+    /**
+     * Returns a posting list of the IDs in either this or {@code other}.
+     */
+    public PostingList<T> union(PostingList<T> other) {
+        int[] result = new int[ids.length + other.ids.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length || j < other.ids.length) {
+            if (j == other.ids.length || i < ids.length && ids[i] < other.ids[j]) {
+                result[size++] = ids[i++];
+            } else if (i == ids.length || ids[i] > other.ids[j]) {
+                result[size++] = other.ids[j++];
+            } else {
+                result[size++] = ids[i];
+                i++;
+                j++;
+            }
+        }
+        return new PostingList<>(Arrays.copyOf(result, size), idOf, elementOfEither(other));
+    }
+
+    /**
+     * Returns a posting list of the IDs in exactly one of this and {@code other}.
+     */
+    public PostingList<T> symmetricDifference(PostingList<T> other) {
+        int[] result = new int[ids.length + other.ids.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length || j < other.ids.length) {
+            if (j == other.ids.length || i < ids.length && ids[i] < other.ids[j]) {
+                result[size++] = ids[i++];
+            } else if (i == ids.length || ids[i] > other.ids[j]) {
+                result[size++] = other.ids[j++];
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return new PostingList<>(Arrays.copyOf(result, size), idOf, elementOfEither(other));
+    }
+
+    private IntFunction<Optional<T>> elementOfEither(PostingList<T> other) {
+        return elementOf != null ? elementOf : other.elementOf;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PostingList<?> otherPostingList)) {
+            return false;
+        }
+
+        return Arrays.equals(ids, otherPostingList.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("ids", Arrays.toString(ids)).toString();
+    }
+}
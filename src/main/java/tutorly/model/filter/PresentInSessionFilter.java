@@ -0,0 +1,63 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+
+/**
+ * Represents a filter for a {@code Person} who is marked present for the session with the given session ID.
+ */
+public class PresentInSessionFilter implements Filter<Person> {
+    private final int sessionId;
+
+    public PresentInSessionFilter(int sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return lookup(addressBook).get()::contains;
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        int[] studentIds = addressBook.getAttendanceRecordIndex().getPresentStudentIds(sessionId);
+        return Optional.of(PostingList.of(studentIds, Person::getId, addressBook::getPersonById));
+    }
+
+    @Override
+    public boolean dependsOnAddressBook() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PresentInSessionFilter otherPresentInSessionFilter)) {
+            return false;
+        }
+
+        return sessionId == otherPresentInSessionFilter.sessionId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(sessionId);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("sessionId", sessionId).toString();
+    }
+
+}
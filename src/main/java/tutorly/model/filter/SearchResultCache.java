@@ -0,0 +1,165 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.util.MemoryEstimator;
+
+/**
+ * A bounded cache of search results, keyed by {@code Filter}, that evicts the least recently used entry when full.
+ * Each result is stored with the version of the data it was computed from, and is only returned for that version,
+ * so that results invalidated by a write are never used.
+ */
+public class SearchResultCache<T> {
+
+    public static final int DEFAULT_CAPACITY = 32;
+
+    /** Estimated size of an entry, excluding the IDs themselves. */
+    private static final long ENTRY_OVERHEAD = 2 * MemoryEstimator.OBJECT_HEADER_SIZE
+            + 4 * MemoryEstimator.REFERENCE_SIZE + Long.BYTES;
+
+    private final Map<Filter<T>, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int capacity;
+    private long totalSize;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a {@code SearchResultCache} holding at most {@code capacity} results.
+     */
+    public SearchResultCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Creates a {@code SearchResultCache} holding at most the default number of results.
+     */
+    public SearchResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the IDs of the elements passing {@code filter}, if they were cached for the given {@code version}.
+     * A result cached for any other version is discarded.
+     */
+    public Optional<PostingList<T>> get(Filter<T> filter, long version) {
+        requireNonNull(filter);
+
+        Entry<T> entry = entries.get(filter);
+        if (entry != null && entry.version == version) {
+            hits++;
+            return Optional.of(entry.result);
+        }
+
+        if (entry != null) {
+            remove(filter);
+        }
+        misses++;
+        return Optional.empty();
+    }
+
+    /**
+     * Caches {@code result} as the IDs of the elements passing {@code filter} at the given {@code version}, replacing
+     * any previous result for the filter and evicting the least recently used results if the cache is full.
+     */
+    public void put(Filter<T> filter, long version, PostingList<T> result) {
+        requireAllNonNull(filter, result);
+        if (capacity == 0) {
+            return;
+        }
+
+        remove(filter);
+        Entry<T> entry = new Entry<>(version, result);
+        entries.put(filter, entry);
+        totalSize += entry.size;
+
+        Iterator<Entry<T>> leastRecentlyUsed = entries.values().iterator();
+        while (entries.size() > capacity) {
+            totalSize -= leastRecentlyUsed.next().size;
+            leastRecentlyUsed.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes all cached results. The statistics are kept.
+     */
+    public void clear() {
+        entries.clear();
+        totalSize = 0;
+    }
+
+    /**
+     * Returns the number of cached results.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by all cached results.
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    private void remove(Filter<T> filter) {
+        Entry<T> removed = entries.remove(filter);
+        if (removed != null) {
+            totalSize -= removed.size;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("entries", entries.size())
+                .add("capacity", capacity)
+                .add("totalSize", totalSize)
+                .add("hits", hits)
+                .add("misses", misses)
+                .add("evictions", evictions)
+                .toString();
+    }
+
+    /**
+     * A cached result together with the version it was computed from and its estimated size.
+     */
+    private static class Entry<T> {
+        private final long version;
+        private final PostingList<T> result;
+        private final long size;
+
+        Entry(long version, PostingList<T> result) {
+            this.version = version;
+            this.result = result;
+            this.size = ENTRY_OVERHEAD + MemoryEstimator.estimateArray(result.size(), MemoryEstimator.INT_SIZE);
+        }
+    }
+}
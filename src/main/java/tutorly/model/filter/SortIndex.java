@@ -0,0 +1,197 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * An index of elements sorted by a key, kept up to date as elements are added and removed, so that the elements can
+ * be listed in order without sorting them again.
+ * <p>
+ * The key of each element is stored when the element is added, so that the element can still be found after the data
+ * its key is computed from has changed, and moved with {@code SortIndex#update(T)}. Elements with equal keys are
+ * ordered by ID.
+ */
+public class SortIndex<T, K> {
+
+    private final Function<? super T, ? extends K> keyOf;
+    private final Comparator<? super K> keyComparator;
+    private final ToIntFunction<T> idOf;
+    private final Comparator<T> ascending;
+    private final Comparator<T> descending;
+
+    private final List<T> elements = new ArrayList<>();
+    private final Map<Integer, K> keys = new HashMap<>();
+    private final List<T> unmodifiableElements = Collections.unmodifiableList(elements);
+    private final List<T> reversedElements = new AbstractList<>() {
+        @Override
+        public T get(int index) {
+            return elements.get(elements.size() - 1 - index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    };
+
+    /**
+     * Creates an empty {@code SortIndex} ordering elements by {@code keyComparator} applied to their keys.
+     *
+     * @param keyOf Returns the key of an element.
+     * @param idOf Returns the ID of an element.
+     */
+    public SortIndex(Function<? super T, ? extends K> keyOf, Comparator<? super K> keyComparator,
+            ToIntFunction<T> idOf) {
+        requireAllNonNull(keyOf, keyComparator, idOf);
+        this.keyOf = keyOf;
+        this.keyComparator = keyComparator;
+        this.idOf = idOf;
+        this.ascending = (a, b) -> compare(keyOfIndexed(a), idOf.applyAsInt(a), keyOfIndexed(b), idOf.applyAsInt(b));
+        this.descending = ascending.reversed();
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the index, sorting them once rather than inserting them one at a time.
+     * None of the elements may already be in the index.
+     */
+    public void addAll(Iterable<? extends T> toAdd) {
+        requireNonNull(toAdd);
+        for (T element : toAdd) {
+            putKey(element);
+            elements.add(element);
+        }
+        elements.sort(ascending);
+    }
+
+    /**
+     * Adds {@code element} to the index.
+     * The element must not already be in the index.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        K key = putKey(element);
+        int position = search(key, idOf.applyAsInt(element));
+        elements.add(-position - 1, element);
+    }
+
+    /**
+     * Removes the element with the same ID as {@code element} from the index, if there is one.
+     *
+     * @return True if an element was removed.
+     */
+    public boolean remove(T element) {
+        requireNonNull(element);
+        int id = idOf.applyAsInt(element);
+        if (!keys.containsKey(id)) {
+            return false;
+        }
+
+        elements.remove(search(keys.get(id), id));
+        keys.remove(id);
+        return true;
+    }
+
+    /**
+     * Computes the key of {@code element} again and moves it to its new position if the key changed.
+     * Nothing is done if no element with the same ID is in the index.
+     */
+    public void update(T element) {
+        requireNonNull(element);
+        int id = idOf.applyAsInt(element);
+        if (!keys.containsKey(id)) {
+            return;
+        }
+
+        int position = search(keys.get(id), id);
+        K key = keyOf.apply(element);
+        if (keyComparator.compare(key, keys.get(id)) == 0) {
+            elements.set(position, element);
+            return;
+        }
+
+        elements.remove(position);
+        keys.put(id, key);
+        elements.add(-search(key, id) - 1, element);
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        elements.clear();
+        keys.clear();
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the indexed elements in ascending or descending order of their keys.
+     */
+    public List<T> asList(boolean isDescending) {
+        return isDescending ? reversedElements : unmodifiableElements;
+    }
+
+    /**
+     * Returns a comparator that orders elements as they are ordered in this index, in ascending or descending order
+     * of their keys. Elements that are not in the index are compared by their current keys.
+     */
+    public Comparator<T> getComparator(boolean isDescending) {
+        return isDescending ? descending : ascending;
+    }
+
+    private K putKey(T element) {
+        int id = idOf.applyAsInt(element);
+        if (keys.containsKey(id)) {
+            throw new IllegalArgumentException("An element with ID " + id + " is already in the index.");
+        }
+
+        K key = keyOf.apply(element);
+        keys.put(id, key);
+        return key;
+    }
+
+    private K keyOfIndexed(T element) {
+        int id = idOf.applyAsInt(element);
+        return keys.containsKey(id) ? keys.get(id) : keyOf.apply(element);
+    }
+
+    private int compare(K key, int id, K otherKey, int otherId) {
+        int result = keyComparator.compare(key, otherKey);
+        return result != 0 ? result : Integer.compare(id, otherId);
+    }
+
+    /**
+     * Returns the position of the element with the given key and ID, or {@code -(insertion point) - 1} if there is
+     * none, like {@code Collections#binarySearch}.
+     */
+    private int search(K key, int id) {
+        int low = 0;
+        int high = elements.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            T element = elements.get(mid);
+            int midId = idOf.applyAsInt(element);
+            int result = compare(keys.get(midId), midId, key, id);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -0,0 +1,29 @@
+package tutorly.model.filter;
+
+import tutorly.model.ReadOnlyAddressBook;
+
+/**
+ * Represents a key that a list of elements can be sorted by.
+ */
+public interface SortKey<T> {
+
+    /**
+     * Returns the keyword that the user gives to sort by this key.
+     */
+    String getKeyword();
+
+    /**
+     * Returns an empty index that orders elements by this key, reading any data the key depends on other than the
+     * elements themselves from {@code addressBook}.
+     */
+    SortIndex<T, ?> createIndex(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Returns true if the key of an element depends on data in the address book other than the element itself, so
+     * that an index by this key has to be updated when that data changes.
+     */
+    default boolean dependsOnAddressBook() {
+        return false;
+    }
+
+}
@@ -3,7 +3,7 @@ package tutorly.model.filter;
 import java.util.List;
 import java.util.function.Predicate;
 
-import tutorly.commons.util.StringUtil;
+import tutorly.commons.util.KeywordMatcher;
 import tutorly.commons.util.ToStringBuilder;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.session.Session;
@@ -13,15 +13,19 @@ import tutorly.model.session.Session;
  */
 public class SubjectContainsKeywordsFilter implements Filter<Session> {
     private final List<String> keywords;
+    private final KeywordMatcher matcher;
 
+    /**
+     * Creates a filter matching any of the given {@code keywords}, each of which must be a single word.
+     */
     public SubjectContainsKeywordsFilter(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new KeywordMatcher(keywords);
     }
 
     @Override
     public Predicate<Session> toPredicate(ReadOnlyAddressBook addressBook) {
-        return session -> keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(session.getSubject().subjectName, keyword));
+        return session -> matcher.matchesAny(session.getSubject().getNormalizedText());
     }
 
     @Override
@@ -38,6 +42,11 @@ public class SubjectContainsKeywordsFilter implements Filter<Session> {
         return keywords.equals(otherSubjectContainsKeywordsFilter.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
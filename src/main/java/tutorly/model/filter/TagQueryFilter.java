@@ -0,0 +1,166 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorly.commons.util.ToStringBuilder;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
+import tutorly.model.tag.TagIndex;
+
+/**
+ * Represents a filter for a {@code Person} whose tags satisfy a combination of tags with AND, OR and NOT, e.g.
+ * {@code tag:sec4 and not tag:graduated}. It is looked up by combining the bitmaps of the {@code TagIndex} of the
+ * address book, so that no person has to be tested.
+ */
+public class TagQueryFilter implements Filter<Person> {
+
+    private enum Operator {
+        HAS_ANY_TAG,
+        ALL,
+        ANY,
+        NOT
+    }
+
+    private final Operator operator;
+    private final Set<Tag> tags;
+    private final List<TagQueryFilter> operands;
+
+    private TagQueryFilter(Operator operator, Set<Tag> tags, List<TagQueryFilter> operands) {
+        this.operator = operator;
+        this.tags = tags;
+        this.operands = operands;
+    }
+
+    /**
+     * Returns a filter for persons that have any of the given {@code tags}.
+     */
+    public static TagQueryFilter of(Set<Tag> tags) {
+        requireNonNull(tags);
+        return new TagQueryFilter(Operator.HAS_ANY_TAG, Set.copyOf(tags), List.of());
+    }
+
+    /**
+     * Returns a filter for persons that pass all of the given filters.
+     */
+    public static TagQueryFilter all(List<TagQueryFilter> filters) {
+        requireNonNull(filters);
+        return new TagQueryFilter(Operator.ALL, Set.of(), List.copyOf(filters));
+    }
+
+    /**
+     * Returns a filter for persons that pass any of the given filters.
+     */
+    public static TagQueryFilter any(List<TagQueryFilter> filters) {
+        requireNonNull(filters);
+        return new TagQueryFilter(Operator.ANY, Set.of(), List.copyOf(filters));
+    }
+
+    /**
+     * Returns a filter for persons that do not pass the given filter.
+     */
+    public static TagQueryFilter not(TagQueryFilter filter) {
+        requireNonNull(filter);
+        return new TagQueryFilter(Operator.NOT, Set.of(), List.of(filter));
+    }
+
+    @Override
+    public Predicate<Person> toPredicate(ReadOnlyAddressBook addressBook) {
+        return person -> test(person.getTags());
+    }
+
+    @Override
+    public Optional<PostingList<Person>> lookup(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return Optional.of(PostingList.of(evaluate(addressBook.getTagIndex()), Person::getId,
+                addressBook::getPersonById));
+    }
+
+    private boolean test(Set<Tag> personTags) {
+        switch (operator) {
+        case HAS_ANY_TAG:
+            return personTags.stream().anyMatch(tags::contains);
+
+        case ALL:
+            return operands.stream().allMatch(operand -> operand.test(personTags));
+
+        case ANY:
+            return operands.stream().anyMatch(operand -> operand.test(personTags));
+
+        case NOT:
+            return !operands.get(0).test(personTags);
+
+        default:
+            throw new IllegalStateException("Unknown operator: " + operator);
+        }
+    }
+
+    /**
+     * Returns the IDs of the persons in {@code index} that pass this filter.
+     */
+    IdBitmap evaluate(TagIndex index) {
+        switch (operator) {
+        case HAS_ANY_TAG:
+            IdBitmap result = new IdBitmap();
+            for (Tag tag : tags) {
+                result = result.or(index.get(tag));
+            }
+            return result;
+
+        case ALL:
+            return operands.stream()
+                    .map(operand -> operand.evaluate(index))
+                    .reduce(IdBitmap::and)
+                    .orElseGet(index::getAll);
+
+        case ANY:
+            return operands.stream()
+                    .map(operand -> operand.evaluate(index))
+                    .reduce(IdBitmap::or)
+                    .orElseGet(IdBitmap::new);
+
+        case NOT:
+            return index.getAll().andNot(operands.get(0).evaluate(index));
+
+        default:
+            throw new IllegalStateException("Unknown operator: " + operator);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagQueryFilter otherTagQueryFilter)) {
+            return false;
+        }
+
+        return operator == otherTagQueryFilter.operator
+                && tags.equals(otherTagQueryFilter.tags)
+                && operands.equals(otherTagQueryFilter.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, tags, operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operator", operator)
+                .add("tags", tags)
+                .add("operands", operands)
+                .toString();
+    }
+
+}
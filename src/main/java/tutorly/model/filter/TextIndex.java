@@ -0,0 +1,241 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.filter.TextQuery.Clause;
+import tutorly.model.person.Person;
+
+/**
+ * An inverted index of the words in a text of each element, kept up to date as elements are added and removed, used
+ * to find the elements matching a {@code TextQuery} without scanning every text.
+ * <p>
+ * For each word, the index stores the positions at which it occurs in the text of each element. A word is looked up
+ * directly, a prefix by scanning the words in alphabetical order starting from it, and a phrase by checking the
+ * elements containing its rarest word for the other words at the neighbouring positions. Elements are ranked by the
+ * number of times the clauses of the query occur in their texts, and then by key.
+ */
+public class TextIndex<T> {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final Function<? super T, String> textOf;
+    private final ToLongFunction<? super T> keyOf;
+
+    private final Map<Long, T> elements = new HashMap<>();
+    private final Map<Long, List<String>> words = new HashMap<>();
+    private final NavigableMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+
+    /**
+     * Creates an empty {@code TextIndex} of the texts returned by {@code textOf}.
+     *
+     * @param keyOf Returns a key that is unique to each element.
+     */
+    public TextIndex(Function<? super T, String> textOf, ToLongFunction<? super T> keyOf) {
+        requireAllNonNull(textOf, keyOf);
+        this.textOf = textOf;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns an empty index of the memos of persons, keyed by person ID.
+     */
+    public static TextIndex<Person> ofMemos() {
+        return new TextIndex<>(person -> person.getMemo().value, Person::getId);
+    }
+
+    /**
+     * Returns an empty index of the feedback of attendance records, keyed by student and session ID.
+     */
+    public static TextIndex<AttendanceRecord> ofFeedback() {
+        return new TextIndex<>(record -> record.getFeedback().value,
+                record -> (long) record.getStudentId() << Integer.SIZE | record.getSessionId());
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the index.
+     */
+    public void addAll(Iterable<? extends T> toAdd) {
+        requireNonNull(toAdd);
+        toAdd.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code element} to the index, replacing any element with the same key.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        long key = keyOf.applyAsLong(element);
+        remove(key);
+
+        List<String> text = TextQuery.tokenize(textOf.apply(element));
+        elements.put(key, element);
+        if (text.isEmpty()) {
+            return;
+        }
+
+        words.put(key, text);
+        Map<String, int[]> positions = new LinkedHashMap<>();
+        for (int i = 0; i < text.size(); i++) {
+            int[] wordPositions = positions.getOrDefault(text.get(i), NO_POSITIONS);
+            wordPositions = Arrays.copyOf(wordPositions, wordPositions.length + 1);
+            wordPositions[wordPositions.length - 1] = i;
+            positions.put(text.get(i), wordPositions);
+        }
+        positions.forEach((word, wordPositions) ->
+                postings.computeIfAbsent(word, unused -> new HashMap<>()).put(key, wordPositions));
+    }
+
+    /**
+     * Removes the element with the same key as {@code element} from the index, if there is one.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        remove(keyOf.applyAsLong(element));
+    }
+
+    private void remove(long key) {
+        elements.remove(key);
+        List<String> text = words.remove(key);
+        if (text == null) {
+            return;
+        }
+
+        for (String word : text) {
+            Map<Long, int[]> wordPostings = postings.get(word);
+            if (wordPostings != null) {
+                wordPostings.remove(key);
+                if (wordPostings.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code edited} in the index.
+     */
+    public void update(T target, T edited) {
+        requireAllNonNull(target, edited);
+        remove(target);
+        add(edited);
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        elements.clear();
+        words.clear();
+        postings.clear();
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the elements whose texts contain every clause of {@code query}, ranked by the number of times the
+     * clauses occur in their texts. Elements with the same rank are ordered by key.
+     */
+    public List<T> search(TextQuery query) {
+        requireNonNull(query);
+        Map<Long, Integer> scores = null;
+        for (Clause clause : query.getClauses()) {
+            Map<Long, Integer> counts = count(clause, scores);
+            if (scores != null) {
+                // Only the elements containing every previous clause were counted
+                for (Map.Entry<Long, Integer> count : counts.entrySet()) {
+                    count.setValue(count.getValue() + scores.get(count.getKey()));
+                }
+            }
+            scores = counts;
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Map<Long, Integer> rankedScores = scores;
+        return rankedScores.keySet().stream()
+                .sorted(Comparator.comparing((Long key) -> rankedScores.get(key)).reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .map(elements::get)
+                .toList();
+    }
+
+    /**
+     * Returns the number of times {@code clause} occurs in the text of each element containing it, considering only
+     * the elements in {@code candidates} if it is not null.
+     */
+    private Map<Long, Integer> count(Clause clause, Map<Long, Integer> candidates) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (clause.words.size() == 1) {
+            for (Map<Long, int[]> wordPostings : postingsOf(clause.words.get(0), clause.isPrefix)) {
+                wordPostings.forEach((key, positions) -> {
+                    if (candidates == null || candidates.containsKey(key)) {
+                        counts.merge(key, positions.length, Integer::sum);
+                    }
+                });
+            }
+            return counts;
+        }
+
+        // Check the elements containing the rarest word of the phrase for the other words around it
+        int anchor = -1;
+        Map<Long, int[]> anchorPostings = null;
+        for (int i = 0; i < clause.words.size(); i++) {
+            if (clause.isPrefix && i == clause.words.size() - 1) {
+                continue;
+            }
+            Map<Long, int[]> wordPostings = postings.getOrDefault(clause.words.get(i), Map.of());
+            if (anchorPostings == null || wordPostings.size() < anchorPostings.size()) {
+                anchor = i;
+                anchorPostings = wordPostings;
+            }
+        }
+
+        int offset = anchor;
+        anchorPostings.forEach((key, positions) -> {
+            if (candidates != null && !candidates.containsKey(key)) {
+                return;
+            }
+            List<String> text = words.get(key);
+            int count = 0;
+            for (int position : positions) {
+                int start = position - offset;
+                if (start >= 0 && start + clause.words.size() <= text.size() && clause.matchesAt(text, start)) {
+                    count++;
+                }
+            }
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * Returns the postings of {@code word}, or of every word starting with it if {@code isPrefix} is true.
+     */
+    private Collection<Map<Long, int[]>> postingsOf(String word, boolean isPrefix) {
+        if (isPrefix) {
+            return postings.subMap(word, true, word + Character.MAX_VALUE, false).values();
+        }
+
+        Map<Long, int[]> wordPostings = postings.get(word);
+        return wordPostings == null ? List.of() : List.of(wordPostings);
+    }
+}
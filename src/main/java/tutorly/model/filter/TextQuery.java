@@ -0,0 +1,179 @@
+package tutorly.model.filter;
+
+import static java.util.Objects.requireNonNull;
+import static tutorly.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Represents a full-text query, made up of clauses that a text must all contain. A clause is a word, a prefix of a
+ * word ending with {@code *}, or a phrase of consecutive words enclosed in double quotes, the last of which may also
+ * be a prefix, e.g. {@code "needs practice" fraction*}. Matching ignores case and any character that is not a letter
+ * or digit.
+ * Guarantees: immutable; is valid as declared in {@link #isValidQuery(String)}
+ *
+ * @see TextIndex
+ */
+public class TextQuery {
+
+    public static final String MESSAGE_CONSTRAINTS = "A text query should contain at least one word, "
+            + "and every phrase in double quotes should be closed.";
+
+    private static final char QUOTE = '"';
+    private static final String PREFIX_WILDCARD = "*";
+
+    public final String query;
+
+    private final List<Clause> clauses;
+
+    /**
+     * Constructs a {@code TextQuery}.
+     *
+     * @param query A valid query.
+     */
+    public TextQuery(String query) {
+        requireNonNull(query);
+        checkArgument(isValidQuery(query), MESSAGE_CONSTRAINTS);
+        this.query = query;
+        this.clauses = parseClauses(query);
+    }
+
+    /**
+     * Returns true if a given string is a valid text query.
+     */
+    public static boolean isValidQuery(String test) {
+        requireNonNull(test);
+        return test.chars().filter(c -> c == QUOTE).count() % 2 == 0 && !parseClauses(test).isEmpty();
+    }
+
+    /**
+     * Returns the lowercase words of {@code text}, split on any character that is not a letter or digit.
+     */
+    public static List<String> tokenize(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Splits {@code query} into clauses, skipping quoted phrases and words without any letter or digit.
+     */
+    private static List<Clause> parseClauses(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        String[] segments = query.split(String.valueOf(QUOTE), -1);
+        for (int i = 0; i < segments.length; i++) {
+            if (i % 2 == 1) {
+                addClause(clauses, tokenize(segments[i]), segments[i].trim().endsWith(PREFIX_WILDCARD));
+                continue;
+            }
+
+            for (String word : segments[i].trim().split("\\s+")) {
+                addClause(clauses, tokenize(word), word.endsWith(PREFIX_WILDCARD));
+            }
+        }
+        return clauses;
+    }
+
+    private static void addClause(List<Clause> clauses, List<String> words, boolean isPrefix) {
+        if (!words.isEmpty()) {
+            clauses.add(new Clause(words, isPrefix));
+        }
+    }
+
+    List<Clause> getClauses() {
+        return clauses;
+    }
+
+    /**
+     * Returns true if {@code text} contains every clause of this query.
+     */
+    public boolean matches(String text) {
+        return score(tokenize(text)) > 0;
+    }
+
+    /**
+     * Returns the number of times the clauses of this query occur in {@code words}, or 0 if any clause does not.
+     */
+    int score(List<String> words) {
+        int score = 0;
+        for (Clause clause : clauses) {
+            int count = 0;
+            for (int start = 0; start + clause.words.size() <= words.size(); start++) {
+                if (clause.matchesAt(words, start)) {
+                    count++;
+                }
+            }
+            if (count == 0) {
+                return 0;
+            }
+            score += count;
+        }
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TextQuery otherTextQuery)) {
+            return false;
+        }
+
+        return query.equals(otherTextQuery.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("query", query).toString();
+    }
+
+    /**
+     * Consecutive words that a text must contain, the last of which only has to start with the given word if the
+     * clause is a prefix.
+     */
+    static class Clause {
+        final List<String> words;
+        final boolean isPrefix;
+
+        Clause(List<String> words, boolean isPrefix) {
+            this.words = List.copyOf(words);
+            this.isPrefix = isPrefix;
+        }
+
+        /**
+         * Returns true if the word of this clause at {@code index} matches {@code word}.
+         */
+        boolean matchesWord(int index, String word) {
+            String expected = words.get(index);
+            return isPrefix && index == words.size() - 1 ? word.startsWith(expected) : word.equals(expected);
+        }
+
+        /**
+         * Returns true if this clause occurs in {@code text} starting at position {@code start}.
+         */
+        boolean matchesAt(List<String> text, int start) {
+            for (int i = 0; i < words.size(); i++) {
+                if (!matchesWord(i, text.get(start + i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
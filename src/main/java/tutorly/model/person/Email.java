@@ -3,6 +3,8 @@ package tutorly.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.NormalizedText;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -38,6 +40,8 @@ public class Email {
 
     public final String value;
 
+    private NormalizedText normalizedText;
+
     /**
      * Constructs an empty {@code Email} instance.
      */
@@ -70,6 +74,16 @@ public class Email {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the lowercase words of this email, which are computed when first requested.
+     */
+    public NormalizedText getNormalizedText() {
+        if (normalizedText == null) {
+            normalizedText = NormalizedText.of(value);
+        }
+        return normalizedText;
+    }
+
     @Override
     public String toString() {
         return value;
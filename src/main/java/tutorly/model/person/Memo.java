@@ -3,6 +3,8 @@ package tutorly.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.NormalizedText;
+
 /**
  * Represents a Person's memo in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMemo(String)}
@@ -24,6 +26,8 @@ public class Memo {
 
     public final String value;
 
+    private NormalizedText normalizedText;
+
     /**
      * Constructs an empty {@code Memo} instance.
      */
@@ -56,6 +60,16 @@ public class Memo {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the lowercase words of this memo, which are computed when first requested.
+     */
+    public NormalizedText getNormalizedText() {
+        if (normalizedText == null) {
+            normalizedText = NormalizedText.of(value);
+        }
+        return normalizedText;
+    }
+
     @Override
     public String toString() {
         return value;
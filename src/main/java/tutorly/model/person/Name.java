@@ -3,6 +3,8 @@ package tutorly.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.NormalizedText;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -24,6 +26,8 @@ public class Name {
 
     public final String fullName;
 
+    private NormalizedText normalizedText;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -42,6 +46,15 @@ public class Name {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the lowercase words of this name, which are computed when first requested.
+     */
+    public NormalizedText getNormalizedText() {
+        if (normalizedText == null) {
+            normalizedText = NormalizedText.of(fullName);
+        }
+        return normalizedText;
+    }
 
     @Override
     public String toString() {
@@ -64,7 +77,10 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // Consistent with equals, which ignores case
+        return fullName.codePoints()
+                .map(codePoint -> Character.toLowerCase(Character.toUpperCase(codePoint)))
+                .reduce(0, (hash, codePoint) -> 31 * hash + codePoint);
     }
 
 }
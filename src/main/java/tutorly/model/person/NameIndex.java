@@ -0,0 +1,210 @@
+package tutorly.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of persons by the trigrams of their names, used to find persons with names similar to a query without
+ * comparing the query against every name. The index is kept up to date as single persons are added and removed, and
+ * keeps the trigrams of each name, so that they are not split again whenever a name is compared with a query.
+ * <p>
+ * Each word of a name is padded with two spaces in front and one behind before being split into trigrams, so that
+ * the start of a word weighs more than its end. The similarity of two names is the number of trigrams they share
+ * divided by the number of distinct trigrams in either, and only persons sharing at least one trigram with the query
+ * are scored.
+ */
+public class NameIndex {
+
+    /** The similarity a name must reach to be considered a near match of a query. */
+    public static final double MIN_SIMILARITY = 0.3;
+
+    private static final Comparator<Match> BY_SIMILARITY = Comparator.comparingDouble((Match match) -> match.similarity)
+            .reversed()
+            .thenComparingInt(match -> match.person.getId());
+
+    /** The indexed persons and the trigrams of their names, by ID. */
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    /** The IDs of the persons whose names contain each trigram. */
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+
+    /**
+     * Creates a {@code NameIndex} of the given {@code persons}.
+     */
+    public NameIndex(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the index, replacing any person with the same ID.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        Entry entry = new Entry(person, Set.copyOf(trigramsOf(person.getName().fullName)));
+        Entry replaced = entries.put(person.getId(), entry);
+        if (replaced != null) {
+            removePostings(replaced);
+        }
+        for (String trigram : entry.trigrams) {
+            postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is indexed.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.get(person.getId());
+        if (entry != null && entry.person.equals(person)) {
+            entries.remove(person.getId());
+            removePostings(entry);
+        }
+    }
+
+    private void removePostings(Entry entry) {
+        for (String trigram : entry.trigrams) {
+            Set<Integer> ids = postings.get(trigram);
+            ids.remove(entry.person.getId());
+            if (ids.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the trigrams of the name of {@code person}, which are only split again if the person is not indexed.
+     */
+    public Set<String> trigramsOf(Person person) {
+        requireNonNull(person);
+        Entry entry = entries.get(person.getId());
+        return entry != null && entry.person == person
+                ? entry.trigrams
+                : trigramsOf(person.getName().fullName);
+    }
+
+    /**
+     * Returns the distinct trigrams of the words in {@code text}, ignoring case and any character that is not a
+     * letter or digit.
+     */
+    public static Set<String> trigramsOf(String text) {
+        requireNonNull(text);
+        Set<String> trigrams = new HashSet<>();
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the similarity between two sets of trigrams, from 0 (nothing in common) to 1 (identical).
+     */
+    public static double similarity(Set<String> first, Set<String> second) {
+        requireNonNull(first);
+        requireNonNull(second);
+        if (first.isEmpty() || second.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> smaller = first.size() <= second.size() ? first : second;
+        Set<String> larger = smaller == first ? second : first;
+        int shared = 0;
+        for (String trigram : smaller) {
+            if (larger.contains(trigram)) {
+                shared++;
+            }
+        }
+        return similarity(shared, first.size(), second.size());
+    }
+
+    private static double similarity(int shared, int firstCount, int secondCount) {
+        return (double) shared / (firstCount + secondCount - shared);
+    }
+
+    /**
+     * Returns at most {@code limit} persons whose names are near matches of {@code query}, most similar first.
+     * Persons that are equally similar are ordered by ID.
+     */
+    public List<Person> search(String query, int limit) {
+        requireNonNull(query);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative.");
+        }
+
+        Set<String> queryTrigrams = trigramsOf(query);
+        if (queryTrigrams.isEmpty() || limit == 0) {
+            return List.of();
+        }
+
+        // Count the trigrams each person shares with the query, only visiting persons sharing at least one
+        Map<Integer, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (int id : postings.getOrDefault(trigram, Set.of())) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        shared.forEach((id, count) -> {
+            Entry entry = entries.get(id);
+            double similarity = similarity(count, queryTrigrams.size(), entry.trigrams.size());
+            if (similarity >= MIN_SIMILARITY) {
+                matches.add(new Match(entry.person, similarity));
+            }
+        });
+
+        matches.sort(BY_SIMILARITY);
+        return matches.stream()
+                .limit(limit)
+                .map(match -> match.person)
+                .toList();
+    }
+
+    /**
+     * Returns the number of persons in this index.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * A person together with the similarity of their name to a query.
+     */
+    private static class Match {
+        private final Person person;
+        private final double similarity;
+
+        Match(Person person, double similarity) {
+            this.person = person;
+            this.similarity = similarity;
+        }
+    }
+
+    /**
+     * An indexed person together with the trigrams of their name.
+     */
+    private static class Entry {
+        private final Person person;
+        private final Set<String> trigrams;
+
+        Entry(Person person, Set<String> trigrams) {
+            this.person = person;
+            this.trigrams = trigrams;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package tutorly.model.person;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.filter.SortIndex;
+import tutorly.model.filter.SortKey;
+
+/**
+ * The keys that a list of persons can be sorted by.
+ */
+public enum PersonSortKey implements SortKey<Person> {
+    ID("id", false, addressBook -> new SortIndex<>(Person::getId, Comparator.<Integer>naturalOrder(), Person::getId)),
+    NAME("name", false, addressBook -> new SortIndex<>(person -> person.getName().fullName,
+            String.CASE_INSENSITIVE_ORDER, Person::getId)),
+    /** Persons who have never been marked present are ordered before everyone else. */
+    LAST_ATTENDED("lastattended", true, addressBook -> new SortIndex<>(
+            person -> addressBook.getLastAttendedTime(person.getId()).orElse(LocalDateTime.MIN),
+            Comparator.<LocalDateTime>naturalOrder(), Person::getId));
+
+    private final String keyword;
+    private final boolean dependsOnAddressBook;
+    private final Function<ReadOnlyAddressBook, SortIndex<Person, ?>> indexFactory;
+
+    PersonSortKey(String keyword, boolean dependsOnAddressBook,
+            Function<ReadOnlyAddressBook, SortIndex<Person, ?>> indexFactory) {
+        this.keyword = keyword;
+        this.dependsOnAddressBook = dependsOnAddressBook;
+        this.indexFactory = indexFactory;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public SortIndex<Person, ?> createIndex(ReadOnlyAddressBook addressBook) {
+        return indexFactory.apply(addressBook);
+    }
+
+    @Override
+    public boolean dependsOnAddressBook() {
+        return dependsOnAddressBook;
+    }
+}
@@ -3,6 +3,8 @@ package tutorly.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.NormalizedText;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -22,6 +24,8 @@ public class Phone {
 
     public final String value;
 
+    private NormalizedText normalizedText;
+
     /**
      * Constructs an empty {@code Phone} instance.
      */
@@ -54,6 +58,16 @@ public class Phone {
         return test.matches(VALIDATION_REGEX) && test.length() >= MIN_LENGTH && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the lowercase words of this phone number, which are computed when first requested.
+     */
+    public NormalizedText getNormalizedText() {
+        if (normalizedText == null) {
+            normalizedText = NormalizedText.of(value);
+        }
+        return normalizedText;
+    }
+
     @Override
     public String toString() {
         return value;
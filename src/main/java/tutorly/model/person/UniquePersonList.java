@@ -12,16 +12,46 @@ import tutorly.model.uniquelist.UniqueList;
  */
 public class UniquePersonList extends UniqueList<Person> {
 
+    /**
+     * Index of the current persons by name, built lazily, kept up to date as single persons are added, edited and
+     * removed, and discarded when the persons are replaced.
+     */
+    private NameIndex nameIndex;
+
     @Override
     protected boolean isEquivalent(Person a, Person b) {
         return a.isSamePerson(b);
     }
 
+    @Override
+    protected Object getKey(Person person) {
+        return person.getName();
+    }
+
     @Override
     protected int compare(Person a, Person b) {
         return Integer.compare(a.getId(), b.getId());
     }
 
+    @Override
+    protected void onElementsChanged() {
+        nameIndex = null;
+    }
+
+    @Override
+    protected void onElementReplaced(Person removed, Person added) {
+        if (nameIndex == null) {
+            return;
+        }
+
+        if (removed != null) {
+            nameIndex.remove(removed);
+        }
+        if (added != null) {
+            nameIndex.add(added);
+        }
+    }
+
     /**
      * Returns the person with the given ID if it exists.
      *
@@ -29,9 +59,8 @@ public class UniquePersonList extends UniqueList<Person> {
      * @return The person with the given ID.
      */
     public Optional<Person> getPersonById(int id) {
-        return internalList.stream()
-                .filter(person -> person.getId() == id)
-                .findFirst();
+        int index = binarySearch(person -> Integer.compare(person.getId(), id));
+        return index == -1 ? Optional.empty() : Optional.of(elements().get(index));
     }
 
     /**
@@ -41,9 +70,17 @@ public class UniquePersonList extends UniqueList<Person> {
      * @return The person with the given name.
      */
     public Optional<Person> getPersonByName(Name name) {
-        return internalList.stream()
-                .filter(person -> person.getName().equals(name))
-                .findFirst();
+        return findByKey(name);
+    }
+
+    /**
+     * Returns an index of the persons in the list by name.
+     */
+    public NameIndex getNameIndex() {
+        if (nameIndex == null) {
+            nameIndex = new NameIndex(elements());
+        }
+        return nameIndex;
     }
 
 }
@@ -0,0 +1,139 @@
+package tutorly.model.session;
+
+import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import tutorly.commons.util.ToStringBuilder;
+
+/**
+ * Represents a range of dates, inclusive of its start and end date.
+ */
+public class DateRange {
+
+    public static final String MESSAGE_END_BEFORE_START_DATE = "End date must not be before start date.";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Constructs a DateRange with the given start and end dates. End date must not be before start date.
+     *
+     * @param startDate The first date of the range.
+     * @param endDate   The last date of the range.
+     */
+    public DateRange(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException(MESSAGE_END_BEFORE_START_DATE);
+        }
+
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Returns the range from Monday to Sunday of the week containing {@code date}.
+     */
+    public static DateRange weekOf(LocalDate date) {
+        LocalDate monday = date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return new DateRange(monday, monday.plusDays(6));
+    }
+
+    /**
+     * Returns the range of {@code days} dates starting from {@code date}. {@code days} must be positive.
+     */
+    public static DateRange daysFrom(LocalDate date, long days) {
+        if (days <= 0) {
+            throw new IllegalArgumentException("Number of days must be positive.");
+        }
+        return new DateRange(date, date.plusDays(days - 1));
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the number of dates in this range.
+     */
+    public long getDays() {
+        return ChronoUnit.DAYS.between(startDate, endDate) + 1;
+    }
+
+    /**
+     * Checks if a date falls within this range.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    /**
+     * Checks if any date of {@code timeslot} falls within this range.
+     * A timeslot spanning midnight falls on both its start and end date.
+     */
+    public boolean isOverlapping(Timeslot timeslot) {
+        return !timeslot.getEndTime().toLocalDate().isBefore(startDate)
+                && !timeslot.getStartTime().toLocalDate().isAfter(endDate);
+    }
+
+    /**
+     * Returns a timeslot from the start of the first date to the end of the last date of this range.
+     */
+    public Timeslot toTimeslot() {
+        return new Timeslot(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Returns a timeslot from {@code startTime} to {@code endTime} on each date of this range, in chronological
+     * order. If {@code endTime} is not after {@code startTime}, each timeslot ends on the following date.
+     */
+    public List<Timeslot> toDailyTimeslots(LocalTime startTime, LocalTime endTime) {
+        requireAllNonNull(startTime, endTime);
+        List<Timeslot> timeslots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            LocalDate endDateOfTimeslot = endTime.isAfter(startTime) ? date : date.plusDays(1);
+            timeslots.add(new Timeslot(date.atTime(startTime), endDateOfTimeslot.atTime(endTime)));
+        }
+        return timeslots;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DateRange otherDateRange)) {
+            return false;
+        }
+
+        return startDate.equals(otherDateRange.startDate) && endDate.equals(otherDateRange.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startDate, endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .toString();
+    }
+
+}
@@ -0,0 +1,38 @@
+package tutorly.model.session;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.model.filter.SortIndex;
+import tutorly.model.filter.SortKey;
+
+/**
+ * The keys that a list of sessions can be sorted by.
+ */
+public enum SessionSortKey implements SortKey<Session> {
+    ID("id", () -> new SortIndex<>(Session::getId, Comparator.<Integer>naturalOrder(), Session::getId)),
+    TIME("time", () -> new SortIndex<>(session -> session.getTimeslot().getStartTime(),
+            Comparator.<LocalDateTime>naturalOrder(), Session::getId)),
+    SUBJECT("subject", () -> new SortIndex<>(session -> session.getSubject().subjectName,
+            String.CASE_INSENSITIVE_ORDER, Session::getId));
+
+    private final String keyword;
+    private final Supplier<SortIndex<Session, ?>> indexFactory;
+
+    SessionSortKey(String keyword, Supplier<SortIndex<Session, ?>> indexFactory) {
+        this.keyword = keyword;
+        this.indexFactory = indexFactory;
+    }
+
+    @Override
+    public String getKeyword() {
+        return keyword;
+    }
+
+    @Override
+    public SortIndex<Session, ?> createIndex(ReadOnlyAddressBook addressBook) {
+        return indexFactory.get();
+    }
+}
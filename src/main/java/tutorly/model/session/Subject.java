@@ -3,6 +3,8 @@ package tutorly.model.session;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.AppUtil.checkArgument;
 
+import tutorly.commons.util.NormalizedText;
+
 /**
  * Represents a Subject in the system.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
@@ -22,6 +24,8 @@ public class Subject {
 
     public final String subjectName;
 
+    private NormalizedText normalizedText;
+
     /**
      * Constructs a {@code Subject}.
      *
@@ -40,6 +44,16 @@ public class Subject {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the lowercase words of this subject name, which are computed when first requested.
+     */
+    public NormalizedText getNormalizedText() {
+        if (normalizedText == null) {
+            normalizedText = NormalizedText.of(subjectName);
+        }
+        return normalizedText;
+    }
+
     @Override
     public String toString() {
         return subjectName;
@@ -2,6 +2,7 @@ package tutorly.model.session;
 
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -41,6 +42,10 @@ public class Timeslot {
         return endTime;
     }
 
+    public Duration getDuration() {
+        return Duration.between(startTime, endTime);
+    }
+
     /**
      * Checks if this timeslot overlaps with another timeslot.
      *
@@ -51,6 +56,13 @@ public class Timeslot {
         return startTime.isBefore(other.endTime) && endTime.isAfter(other.startTime);
     }
 
+    /**
+     * Returns a copy of this timeslot shifted later by the given number of weeks.
+     */
+    public Timeslot plusWeeks(long weeks) {
+        return new Timeslot(startTime.plusWeeks(weeks), endTime.plusWeeks(weeks));
+    }
+
     /**
      * Checks if a date falls within this timeslot.
      * Inclusive of start and end date.
@@ -0,0 +1,248 @@
+package tutorly.model.session;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * An index of sessions sorted by their start datetime, used to find overlapping sessions without scanning every
+ * session. The index is kept up to date as sessions are added and removed, rather than built again after each change.
+ * Since no indexed session is longer than the longest one, only sessions starting within that duration before the
+ * start of a timeslot and before its end can overlap with it. These sessions are contiguous in the index, so they are
+ * found by two binary searches followed by a scan between them.
+ */
+public class TimeslotIndex {
+
+    /** Orders sessions by start datetime, and sessions starting at the same time by ID. */
+    private static final Comparator<Session> ORDER = Comparator
+            .comparing((Session session) -> session.getTimeslot().getStartTime())
+            .thenComparingInt(Session::getId);
+
+    private final List<Session> sessions;
+    /** The number of indexed sessions of each duration, so that the longest is known after the longest is removed. */
+    private final TreeMap<Duration, Integer> durationCounts = new TreeMap<>();
+
+    /**
+     * Creates a {@code TimeslotIndex} of the given {@code sessions}, sorting them once.
+     */
+    public TimeslotIndex(Collection<Session> sessions) {
+        requireNonNull(sessions);
+        this.sessions = new ArrayList<>(sessions);
+        this.sessions.sort(ORDER);
+        this.sessions.forEach(session -> durationCounts.merge(session.getTimeslot().getDuration(), 1, Integer::sum));
+    }
+
+    /**
+     * Adds {@code session} to the index.
+     * The session must not already be in the index.
+     */
+    public void add(Session session) {
+        requireNonNull(session);
+        int position = search(session);
+        if (position >= 0) {
+            throw new IllegalArgumentException("Session " + session.getId() + " is already in the index.");
+        }
+
+        sessions.add(-position - 1, session);
+        durationCounts.merge(session.getTimeslot().getDuration(), 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code session} from the index, if it is in the index.
+     *
+     * @return True if the session was removed.
+     */
+    public boolean remove(Session session) {
+        requireNonNull(session);
+        int position = search(session);
+        if (position < 0 || !sessions.get(position).equals(session)) {
+            return false;
+        }
+
+        sessions.remove(position);
+        durationCounts.computeIfPresent(session.getTimeslot().getDuration(), (duration, count) ->
+                count == 1 ? null : count - 1);
+        return true;
+    }
+
+    /**
+     * Returns the indexed sessions whose timeslots overlap with {@code timeslot}, in order of their start datetime.
+     */
+    public List<Session> getOverlappingSessions(Timeslot timeslot) {
+        requireNonNull(timeslot);
+
+        List<Session> overlapping = new ArrayList<>();
+        int end = firstStartingAfter(timeslot.getEndTime().minusNanos(1));
+        for (int i = firstStartingAfter(timeslot.getStartTime().minus(getMaxDuration())); i < end; i++) {
+            if (sessions.get(i).getTimeslot().isOverlapping(timeslot)) {
+                overlapping.add(sessions.get(i));
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns the indexed sessions on any date of {@code dateRange}, in order of their start datetime.
+     * A session spanning midnight is on both its start and end date.
+     */
+    public List<Session> getSessionsOn(DateRange dateRange) {
+        requireNonNull(dateRange);
+        // a session is on a date of the range if it ends at or after the start of the range, and starts before the
+        // day after the range
+        return getOverlappingSessions(new Timeslot(dateRange.getStartDate().atStartOfDay().minusNanos(1),
+                dateRange.getEndDate().plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * Returns the number of indexed sessions on each date of {@code dateRange} that has any, in order of date.
+     * A session spanning midnight is counted on both its start and end date.
+     */
+    public SortedMap<LocalDate, Integer> countSessionsByDate(DateRange dateRange) {
+        requireNonNull(dateRange);
+
+        SortedMap<LocalDate, Integer> counts = new TreeMap<>();
+        for (Session session : getSessionsOn(dateRange)) {
+            Timeslot timeslot = session.getTimeslot();
+            LocalDate date = max(timeslot.getStartTime().toLocalDate(), dateRange.getStartDate());
+            LocalDate lastDate = min(timeslot.getEndTime().toLocalDate(), dateRange.getEndDate());
+            for (; !date.isAfter(lastDate); date = date.plusDays(1)) {
+                counts.merge(date, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the longest timeslots within {@code windows} that do not overlap with any indexed session and are at
+     * least {@code duration} long, in chronological order. The windows must be in chronological order and must not
+     * overlap with each other.
+     * <p>
+     * The sessions overlapping any window are merged into disjoint busy timeslots, which are then swept together with
+     * the windows, so the search takes a single pass over the sessions found.
+     */
+    public List<Timeslot> getFreeTimeslots(List<Timeslot> windows, Duration duration) {
+        requireNonNull(windows);
+        requireNonNull(duration);
+        if (windows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Timeslot> busy = mergeOverlapping(getOverlappingSessions(new Timeslot(windows.get(0).getStartTime(),
+                windows.get(windows.size() - 1).getEndTime())));
+        List<Timeslot> free = new ArrayList<>();
+        int first = 0;
+        for (Timeslot window : windows) {
+            while (first < busy.size() && !busy.get(first).getEndTime().isAfter(window.getStartTime())) {
+                first++;
+            }
+
+            LocalDateTime freeFrom = window.getStartTime();
+            for (int i = first; i < busy.size() && busy.get(i).getStartTime().isBefore(window.getEndTime()); i++) {
+                addIfLongEnough(free, freeFrom, busy.get(i).getStartTime(), duration);
+                freeFrom = max(freeFrom, busy.get(i).getEndTime());
+            }
+            addIfLongEnough(free, freeFrom, window.getEndTime(), duration);
+        }
+        return free;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    private Duration getMaxDuration() {
+        return durationCounts.isEmpty() ? Duration.ZERO : durationCounts.lastKey();
+    }
+
+    /**
+     * Returns the position of {@code session}, or of another session with the same start datetime and ID, or
+     * {@code -(insertion point) - 1} if there is none, like {@code Collections#binarySearch}.
+     */
+    private int search(Session session) {
+        int low = 0;
+        int high = sessions.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = ORDER.compare(sessions.get(mid), session);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the union of the timeslots of {@code sessions}, which must be in order of their start datetime, as
+     * disjoint timeslots in chronological order.
+     */
+    private static List<Timeslot> mergeOverlapping(List<Session> sessions) {
+        List<Timeslot> merged = new ArrayList<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (Session session : sessions) {
+            Timeslot timeslot = session.getTimeslot();
+            if (end != null && !timeslot.getStartTime().isAfter(end)) {
+                end = max(end, timeslot.getEndTime());
+                continue;
+            }
+
+            if (end != null) {
+                merged.add(new Timeslot(start, end));
+            }
+            start = timeslot.getStartTime();
+            end = timeslot.getEndTime();
+        }
+        if (end != null) {
+            merged.add(new Timeslot(start, end));
+        }
+        return merged;
+    }
+
+    private static void addIfLongEnough(List<Timeslot> timeslots, LocalDateTime start, LocalDateTime end,
+            Duration duration) {
+        if (end.isAfter(start) && Duration.between(start, end).compareTo(duration) >= 0) {
+            timeslots.add(new Timeslot(start, end));
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate max(LocalDate first, LocalDate second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+    private static LocalDate min(LocalDate first, LocalDate second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    /**
+     * Returns the position of the first session starting strictly after {@code dateTime}.
+     */
+    private int firstStartingAfter(LocalDateTime dateTime) {
+        int low = 0;
+        int high = sessions.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sessions.get(mid).getTimeslot().getStartTime().isAfter(dateTime)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -12,16 +12,46 @@ import tutorly.model.uniquelist.UniqueList;
  */
 public class UniqueSessionList extends UniqueList<Session> {
 
+    /**
+     * Index of the current sessions by timeslot, built lazily, kept up to date as single sessions are added, edited
+     * and removed, and discarded when the sessions are replaced.
+     */
+    private TimeslotIndex timeslotIndex;
+
     @Override
     protected boolean isEquivalent(Session a, Session b) {
         return a.isSameSession(b);
     }
 
+    @Override
+    protected Object getKey(Session session) {
+        return session.getId();
+    }
+
     @Override
     protected int compare(Session a, Session b) {
         return Integer.compare(a.getId(), b.getId());
     }
 
+    @Override
+    protected void onElementsChanged() {
+        timeslotIndex = null;
+    }
+
+    @Override
+    protected void onElementReplaced(Session removed, Session added) {
+        if (timeslotIndex == null) {
+            return;
+        }
+
+        if (removed != null) {
+            timeslotIndex.remove(removed);
+        }
+        if (added != null) {
+            timeslotIndex.add(added);
+        }
+    }
+
     /**
      * Returns the session with the given ID if it exists.
      *
@@ -29,22 +59,17 @@ public class UniqueSessionList extends UniqueList<Session> {
      * @return The session with the given ID.
      */
     public Optional<Session> getSessionById(int id) {
-        return internalList.stream()
-                .filter(session -> session.getId() == id)
-                .findFirst();
+        int index = binarySearch(session -> Integer.compare(session.getId(), id));
+        return index == -1 ? Optional.empty() : Optional.of(elements().get(index));
     }
 
     /**
-     * Returns true if the session {@code toCheck} overlaps with any existing sessions in the list.
-     * This is done by checking if the timeslot of the session overlaps with any other session's timeslot.
-     * Conflicts with the same session are ignored.
-     *
-     * @param toCheck The session to check for overlap.
-     * @return True if there is an overlapping session, false otherwise.
+     * Returns an index of the sessions in the list by timeslot.
      */
-    public boolean hasOverlappingSession(Session toCheck) {
-        return internalList.stream()
-                .anyMatch(session -> !session.isSameSession(toCheck)
-                        && session.hasOverlappingTimeslot(toCheck));
+    public TimeslotIndex getTimeslotIndex() {
+        if (timeslotIndex == null) {
+            timeslotIndex = new TimeslotIndex(elements());
+        }
+        return timeslotIndex;
     }
 }
@@ -0,0 +1,81 @@
+package tutorly.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import tutorly.model.filter.IdBitmap;
+import tutorly.model.person.Person;
+
+/**
+ * An index of the IDs of persons by tag, kept up to date as persons are added, edited and removed, so that tags can be
+ * combined with AND, OR and NOT as operations on bitmaps instead of testing the tags of every person.
+ * The bitmaps returned are copies, so they are not affected by later changes to the index, nor the index by changes
+ * to them.
+ */
+public class TagIndex {
+
+    private final Map<Tag, IdBitmap> bitmaps = new HashMap<>();
+    private final IdBitmap all = new IdBitmap();
+
+    /**
+     * Creates a {@code TagIndex} of the given {@code persons}.
+     */
+    public TagIndex(Iterable<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        all.add(person.getId());
+        for (Tag tag : person.getTags()) {
+            bitmaps.computeIfAbsent(tag, unused -> new IdBitmap()).add(person.getId());
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        all.remove(person.getId());
+        for (Tag tag : person.getTags()) {
+            IdBitmap bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                bitmap.remove(person.getId());
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code edited} in the index.
+     */
+    public void update(Person target, Person edited) {
+        remove(target);
+        add(edited);
+    }
+
+    /**
+     * Returns a copy of the IDs of the persons with {@code tag}.
+     */
+    public IdBitmap get(Tag tag) {
+        requireNonNull(tag);
+        IdBitmap bitmap = bitmaps.get(tag);
+        return bitmap == null ? new IdBitmap() : bitmap.copy();
+    }
+
+    /**
+     * Returns a copy of the IDs of every person in the index.
+     */
+    public IdBitmap getAll() {
+        return all.copy();
+    }
+}
@@ -3,9 +3,15 @@ package tutorly.model.uniquelist;
 import static java.util.Objects.requireNonNull;
 import static tutorly.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ObservableListUtil;
@@ -21,6 +27,13 @@ import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
  * Order can be enforced by implementing {@code UniqueList<T>#compare(T, T)}. This guarantees that the list will always
  * be sorted in the defined order.
  * <p>
+ * Mutations can be batched using {@code UniqueList<T>#beginBatch()}. While a batch is in progress, mutations are
+ * applied to a private working copy and are only published to the observable list, with a single change event, when
+ * the batch is committed. Queries on this list reflect the working copy.
+ * <p>
+ * Subclasses whose elements have a key that decides equivalence can implement {@code UniqueList<T>#getKey(T)}, so
+ * that checking for an equivalent element takes a hash lookup rather than a pass over the whole list.
+ * <p>
  * Supports a minimal set of list operations.
  */
 public class UniqueList<T> implements Iterable<T> {
@@ -28,12 +41,23 @@ public class UniqueList<T> implements Iterable<T> {
     protected final ObservableList<T> internalList = ObservableListUtil.arrayList();
     protected final ObservableList<T> internalUnmodifiableList = ObservableListUtil.unmodifiableList(internalList);
 
+    private List<T> pending;
+    private boolean isPendingModified;
+    private long version;
+
+    /** The current elements by key, built lazily, kept up to date by single-element mutations. */
+    private Map<Object, T> elementsByKey;
+
     /**
      * Returns true if the list contains an equivalent element as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(element -> isEquivalent(element, toCheck));
+        Object key = getKey(toCheck);
+        if (key != null) {
+            return elementsByKey().containsKey(key);
+        }
+        return elements().stream().anyMatch(element -> isEquivalent(element, toCheck));
     }
 
     /**
@@ -41,7 +65,11 @@ public class UniqueList<T> implements Iterable<T> {
      */
     public Optional<T> find(T toFind) {
         requireNonNull(toFind);
-        return internalList.stream()
+        Object key = getKey(toFind);
+        if (key != null) {
+            return findByKey(key);
+        }
+        return elements().stream()
                 .filter(element -> isEquivalent(element, toFind))
                 .findFirst();
     }
@@ -56,8 +84,10 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.add(toAdd);
-        internalList.sort(this::compare);
+        List<T> elements = elements();
+        elements.add(upperBound(elements, toAdd), toAdd);
+        keyAdded(toAdd);
+        markModified(null, toAdd);
     }
 
     /**
@@ -68,7 +98,8 @@ public class UniqueList<T> implements Iterable<T> {
     public void set(T target, T edited) {
         requireAllNonNull(target, edited);
 
-        int index = internalList.indexOf(target);
+        List<T> elements = elements();
+        int index = elements.indexOf(target);
         if (index == -1) {
             throw new ElementNotFoundException();
         }
@@ -77,8 +108,35 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.set(index, edited);
-        internalList.sort(this::compare);
+        elements.set(index, edited);
+        if (!isOrderedAt(elements, index)) {
+            elements.sort(this::compare);
+        }
+        keyRemoved(target);
+        keyAdded(edited);
+        markModified(target, edited);
+    }
+
+    /**
+     * Notifies observers of the list that {@code element} has to be re-evaluated, such as by a filtered view whose
+     * filter depends on data outside this list. The list itself is not modified.
+     * If a batch is in progress, nothing is done, as committing the batch publishes every element again.
+     * The element must exist in the list.
+     */
+    public void refresh(T element) {
+        requireNonNull(element);
+        if (isInBatch()) {
+            return;
+        }
+
+        int index = binarySearch(other -> compare(other, element));
+        if (index < 0 || !internalList.get(index).equals(element)) {
+            index = internalList.indexOf(element);
+        }
+        if (index == -1) {
+            throw new ElementNotFoundException();
+        }
+        internalList.set(index, element);
     }
 
     /**
@@ -87,9 +145,11 @@ public class UniqueList<T> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!elements().remove(toRemove)) {
             throw new ElementNotFoundException();
         }
+        keyRemoved(toRemove);
+        markModified(toRemove, null);
     }
 
     /**
@@ -97,7 +157,7 @@ public class UniqueList<T> implements Iterable<T> {
      * {@code replacement} must not contain duplicate elements.
      */
     public void setAll(UniqueList<T> replacement) {
-        setAll(replacement.internalList);
+        setAll(replacement.elements());
     }
 
     /**
@@ -110,8 +170,70 @@ public class UniqueList<T> implements Iterable<T> {
             throw new DuplicateElementException();
         }
 
-        internalList.setAll(replacement);
-        internalList.sort(this::compare);
+        List<T> sorted = new ArrayList<>(replacement);
+        sorted.sort(this::compare);
+        replaceElements(sorted);
+    }
+
+    /**
+     * Starts a batch of mutations.
+     * Subsequent mutations are not visible through {@code UniqueList<T>#asUnmodifiableObservableList()} until the
+     * batch is committed.
+     *
+     * @throws IllegalStateException if a batch is already in progress.
+     */
+    public void beginBatch() {
+        if (isInBatch()) {
+            throw new IllegalStateException("A batch is already in progress.");
+        }
+
+        pending = new ArrayList<>(internalList);
+        isPendingModified = false;
+    }
+
+    /**
+     * Publishes all mutations made since the batch started as a single change to the observable list.
+     * No change is fired if the batch did not modify the list.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void commitBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
+
+        List<T> committed = pending;
+        pending = null;
+        if (isPendingModified) {
+            internalList.setAll(committed);
+        }
+    }
+
+    /**
+     * Discards all mutations made since the batch started.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    public void rollbackBatch() {
+        if (!isInBatch()) {
+            throw new IllegalStateException("No batch is in progress.");
+        }
+
+        pending = null;
+        elementsByKey = null;
+        elementsChanged();
+    }
+
+    public boolean isInBatch() {
+        return pending != null;
+    }
+
+    /**
+     * Returns a number that increases whenever the current elements of the list change, including when a batch is
+     * rolled back. Results derived from the list remain valid as long as its version is unchanged.
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -126,19 +248,21 @@ public class UniqueList<T> implements Iterable<T> {
      * returns {@code Integer.MAX_VALUE}.
      */
     public int size() {
-        return internalList.size();
+        return elements().size();
     }
 
     /**
      * Removes all elements from the list.
      */
     public void clear() {
-        internalList.clear();
+        elements().clear();
+        elementsByKey = null;
+        markModified();
     }
 
     @Override
     public Iterator<T> iterator() {
-        return internalList.iterator();
+        return elements().iterator();
     }
 
     @Override
@@ -152,23 +276,154 @@ public class UniqueList<T> implements Iterable<T> {
             return false;
         }
 
-        return internalList.equals(otherUniqueList.internalList);
+        return elements().equals(otherUniqueList.elements());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return elements().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return elements().toString();
+    }
+
+    /**
+     * Returns the current elements of the list, including any mutations pending in a batch.
+     */
+    protected List<T> elements() {
+        return isInBatch() ? pending : internalList;
+    }
+
+    /**
+     * Returns the current element with the given {@code key}, if there is one.
+     * Must only be called if elements have keys.
+     */
+    protected Optional<T> findByKey(Object key) {
+        requireNonNull(key);
+        return Optional.ofNullable(elementsByKey().get(key));
+    }
+
+    /**
+     * Returns the index of a current element for which {@code comparison} returns zero, or -1 if there is none.
+     * {@code comparison} must be consistent with the order of the list, returning a negative integer for elements
+     * ordered before the one being searched for and a positive integer for elements ordered after it.
+     */
+    protected int binarySearch(ToIntFunction<T> comparison) {
+        List<T> elements = elements();
+        int low = 0;
+        int high = elements.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = comparison.applyAsInt(elements.get(mid));
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the current elements of the list with the already sorted {@code sorted}, publishing a single change.
+     */
+    private void replaceElements(List<T> sorted) {
+        elementsByKey = null;
+        if (isInBatch()) {
+            pending = sorted;
+            markModified();
+        } else {
+            internalList.setAll(sorted);
+            elementsChanged();
+        }
+    }
+
+    /**
+     * Returns true if the element at {@code index} is ordered correctly with respect to its neighbours.
+     */
+    private boolean isOrderedAt(List<T> list, int index) {
+        T element = list.get(index);
+        return (index == 0 || compare(list.get(index - 1), element) <= 0)
+                && (index == list.size() - 1 || compare(element, list.get(index + 1)) <= 0);
+    }
+
+    private Map<Object, T> elementsByKey() {
+        if (elementsByKey == null) {
+            elementsByKey = new HashMap<>();
+            for (T element : elements()) {
+                elementsByKey.put(getKey(element), element);
+            }
+        }
+        return elementsByKey;
+    }
+
+    private void keyAdded(T element) {
+        if (elementsByKey != null) {
+            elementsByKey.put(getKey(element), element);
+        }
+    }
+
+    private void keyRemoved(T element) {
+        if (elementsByKey != null) {
+            elementsByKey.remove(getKey(element), element);
+        }
+    }
+
+    private void markModified() {
+        if (isInBatch()) {
+            isPendingModified = true;
+        }
+        elementsChanged();
+    }
+
+    /**
+     * Marks the list as modified by the replacement of {@code removed} with {@code added}, either of which is null if
+     * an element was only added or only removed.
+     */
+    private void markModified(T removed, T added) {
+        if (isInBatch()) {
+            isPendingModified = true;
+        }
+        version++;
+        onElementReplaced(removed, added);
+    }
+
+    private void elementsChanged() {
+        version++;
+        onElementsChanged();
+    }
+
+    /**
+     * Returns the index after the last element in the sorted {@code list} that is not ordered after {@code element}.
+     * Inserting at this index keeps the list sorted, with ties kept in insertion order.
+     */
+    private int upperBound(List<T> list, T element) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(list.get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /**
      * Returns true if the list contains only unique elements.
      */
     private boolean elementsAreUnique(List<T> list) {
+        if (!list.isEmpty() && getKey(list.get(0)) != null) {
+            Set<Object> keys = new HashSet<>();
+            return list.stream().allMatch(element -> keys.add(getKey(element)));
+        }
+
         for (int i = 0; i < list.size() - 1; i++) {
             for (int j = i + 1; j < list.size(); j++) {
                 if (isEquivalent(list.get(i), list.get(j))) {
@@ -179,6 +434,21 @@ public class UniqueList<T> implements Iterable<T> {
         return true;
     }
 
+    /**
+     * Called whenever the current elements of the list change, including when a batch is rolled back.
+     * Subclasses that maintain derived data, such as indexes, can override this to invalidate it.
+     */
+    protected void onElementsChanged() {}
+
+    /**
+     * Called instead of {@code UniqueList<T>#onElementsChanged()} when a single element is added, removed or replaced,
+     * with the element removed and the element added, either of which is null if there is none.
+     * Subclasses that can update derived data in place can override this, which otherwise invalidates it.
+     */
+    protected void onElementReplaced(T removed, T added) {
+        onElementsChanged();
+    }
+
     /**
      * Returns true if two elements are equivalent, and false otherwise.
      */
@@ -186,6 +456,14 @@ public class UniqueList<T> implements Iterable<T> {
         return element1.equals(element2);
     }
 
+    /**
+     * Returns a key of {@code element} that is equal to the key of another element exactly when the two elements are
+     * equivalent, or null if elements have no such key, in which case elements are compared one by one.
+     */
+    protected Object getKey(T element) {
+        return null;
+    }
+
     /**
      * Compares two elements and returns an integer indicating their order.
      *
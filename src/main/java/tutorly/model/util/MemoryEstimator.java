@@ -0,0 +1,81 @@
+package tutorly.model.util;
+
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.model.tag.Tag;
+
+/**
+ * Contains utility methods for estimating the number of bytes retained by model objects.
+ * The estimates assume a 64-bit JVM with compressed class pointers and are intended for budgeting, not profiling.
+ */
+public class MemoryEstimator {
+
+    public static final long OBJECT_HEADER_SIZE = 16;
+    public static final long REFERENCE_SIZE = 8;
+    public static final long INT_SIZE = 4;
+    public static final long STRING_OVERHEAD = 40;
+    public static final long ARRAY_OVERHEAD = 16;
+
+    /** Wrapper objects (e.g. {@code Name}, {@code Phone}) each hold a single string reference. */
+    private static final long WRAPPER_SIZE = OBJECT_HEADER_SIZE + REFERENCE_SIZE;
+    private static final long HASH_SET_OVERHEAD = 64;
+    private static final long HASH_SET_ENTRY_SIZE = 32;
+    private static final long LOCAL_DATE_TIME_SIZE = 72;
+
+    /**
+     * Returns the estimated size of {@code s}, assuming two bytes per character.
+     */
+    public static long estimate(String s) {
+        return STRING_OVERHEAD + 2L * s.length();
+    }
+
+    /**
+     * Returns the estimated size of {@code person} including all of its fields.
+     */
+    public static long estimate(Person person) {
+        long size = OBJECT_HEADER_SIZE + INT_SIZE + 6 * REFERENCE_SIZE + HASH_SET_OVERHEAD
+                + 5 * WRAPPER_SIZE
+                + estimate(person.getName().fullName)
+                + estimate(person.getPhone().value)
+                + estimate(person.getEmail().value)
+                + estimate(person.getAddress().value)
+                + estimate(person.getMemo().value);
+        for (Tag tag : person.getTags()) {
+            size += HASH_SET_ENTRY_SIZE + WRAPPER_SIZE + estimate(tag.tagName);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the estimated size of {@code session} including all of its fields.
+     */
+    public static long estimate(Session session) {
+        return OBJECT_HEADER_SIZE + INT_SIZE + 2 * REFERENCE_SIZE
+                + estimate(session.getTimeslot())
+                + WRAPPER_SIZE + estimate(session.getSubject().subjectName);
+    }
+
+    /**
+     * Returns the estimated size of {@code timeslot} including its start and end times.
+     */
+    public static long estimate(Timeslot timeslot) {
+        return OBJECT_HEADER_SIZE + 2 * REFERENCE_SIZE + 2 * LOCAL_DATE_TIME_SIZE;
+    }
+
+    /**
+     * Returns the estimated size of {@code record} including its feedback.
+     */
+    public static long estimate(AttendanceRecord record) {
+        return OBJECT_HEADER_SIZE + 3 * INT_SIZE + REFERENCE_SIZE
+                + WRAPPER_SIZE + estimate(record.getFeedback().value);
+    }
+
+    /**
+     * Returns the estimated size of an array of {@code length} elements each taking {@code elementSize} bytes.
+     */
+    public static long estimateArray(int length, long elementSize) {
+        return ARRAY_OVERHEAD + length * elementSize;
+    }
+}
@@ -80,6 +80,10 @@ class JsonSerializableAddressBook {
             throw new IllegalValueException(MESSAGE_ILLEGAL_NEXT_SESSION_ID);
         }
 
+        // Replay all elements as one batch so that each list is sorted and published once.
+        // If any element is invalid, the address book is discarded along with its pending batch.
+        addressBook.beginBatch();
+
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
             if (addressBook.hasPerson(person)) {
@@ -110,6 +114,7 @@ class JsonSerializableAddressBook {
             addressBook.addAttendanceRecord(attendanceRecord);
         }
 
+        addressBook.commitBatch();
         return addressBook;
     }
 }
@@ -1,12 +1,21 @@
 package tutorly.ui;
 
+import java.util.List;
+import java.util.function.BiConsumer;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.MenuButton;
+import javafx.scene.control.MenuItem;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import tutorly.logic.Messages;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.SortKey;
 
 /**
  * Panel containing the list of items.
@@ -14,6 +23,12 @@ import javafx.scene.layout.Region;
 public abstract class ListPanel<T> extends UiPart<Region> {
     private static final String FXML = "ListPanel.fxml";
 
+    @FXML
+    private MenuButton sortMenu;
+
+    @FXML
+    private Label pageSummary;
+
     @FXML
     private ListView<T> listView;
 
@@ -46,6 +61,33 @@ public abstract class ListPanel<T> extends UiPart<Region> {
         listView.getSelectionModel().select(item);
     }
 
+    /**
+     * Shows which items out of all the matching items are in the list, or hides it if every matching item is.
+     */
+    public void setPageSummary(PageResult page) {
+        boolean isPartial = !page.isComplete();
+        pageSummary.setText(isPartial ? Messages.formatPage(page) : "");
+        pageSummary.setVisible(isPartial);
+        pageSummary.setManaged(isPartial);
+    }
+
+    /**
+     * Shows a menu of the given {@code sortKeys}, each of which can be chosen in ascending or descending order.
+     * {@code onSort} is called with the chosen key and whether it is in descending order.
+     */
+    public void setSortKeys(List<? extends SortKey<T>> sortKeys, BiConsumer<SortKey<T>, Boolean> onSort) {
+        sortMenu.getItems().clear();
+        for (SortKey<T> sortKey : sortKeys) {
+            MenuItem ascending = new MenuItem(sortKey.getKeyword());
+            ascending.setOnAction(event -> onSort.accept(sortKey, false));
+            MenuItem descending = new MenuItem(sortKey.getKeyword() + " (descending)");
+            descending.setOnAction(event -> onSort.accept(sortKey, true));
+            sortMenu.getItems().addAll(ascending, descending);
+        }
+        sortMenu.setVisible(true);
+        sortMenu.setManaged(true);
+    }
+
     /**
      * Returns the graphic for the given item.
      */
@@ -2,6 +2,7 @@ package tutorly.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -20,10 +21,14 @@ import tutorly.logic.commands.AttendanceMarkSessionCommand;
 import tutorly.logic.commands.AttendanceUnmarkSessionCommand;
 import tutorly.logic.commands.Command;
 import tutorly.logic.commands.CommandResult;
+import tutorly.logic.commands.SortSessionCommand;
+import tutorly.logic.commands.SortStudentCommand;
 import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.person.Identity;
+import tutorly.model.person.PersonSortKey;
+import tutorly.model.session.SessionSortKey;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -129,10 +134,14 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook());
+        personListPanel.setSortKeys(List.of(PersonSortKey.values()), (sortKey, isDescending) ->
+                runCommand(new SortStudentCommand(sortKey, isDescending)));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        sessionListPanel = new SessionListPanel(logic.getFilteredSessionList());
+        sessionListPanel = new SessionListPanel(logic.getFilteredSessionList(), logic.getAddressBook());
+        sessionListPanel.setSortKeys(List.of(SessionSortKey.values()), (sortKey, isDescending) ->
+                runCommand(new SortSessionCommand(sortKey, isDescending)));
         sessionListPanelPlaceholder.getChildren().add(sessionListPanel.getRoot());
 
         attendanceRecordListPanel = new AttendanceRecordListPanel(logic.getAttendanceRecordList(),
@@ -199,6 +208,7 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            updatePageSummaries();
 
             if (commandResult.shouldSwitchTab()) {
                 tabPane.getSelectionModel().select(commandResult.getTab().getTabId());
@@ -224,6 +234,14 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Updates the summaries of the pages shown in the student and session lists.
+     */
+    private void updatePageSummaries() {
+        personListPanel.setPageSummary(logic.getFilteredPersonListPage());
+        sessionListPanel.setPageSummary(logic.getFilteredSessionListPage());
+    }
+
     /**
      * Toggles the attendance record of a student for a session.
      */
@@ -233,14 +251,20 @@ public class MainWindow extends UiPart<Stage> {
         Command command = record.getAttendance()
                 ? new AttendanceUnmarkSessionCommand(new Identity(record.getStudentId()), record.getSessionId())
                 : new AttendanceMarkSessionCommand(new Identity(record.getStudentId()), record.getSessionId());
+        runCommand(command);
+        return null;
+    }
 
+    /**
+     * Executes a command triggered from the UI rather than typed by the user, and shows its result.
+     */
+    private void runCommand(Command command) {
         try {
             CommandResult commandResult = logic.execute(command);
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            updatePageSummaries();
         } catch (CommandException e) {
             resultDisplay.setFeedbackToUser(e.getMessage());
         }
-
-        return null;
     }
 }
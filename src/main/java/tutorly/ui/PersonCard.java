@@ -8,6 +8,8 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import tutorly.logic.Messages;
+import tutorly.model.attendancerecord.AttendanceCounts;
 import tutorly.model.person.Address;
 import tutorly.model.person.Email;
 import tutorly.model.person.Memo;
@@ -43,9 +45,9 @@ public class PersonCard extends UiPart<Region> {
     private VBox container;
 
     /**
-     * Creates a {@code PersonCard} with the given {@code Person}.
+     * Creates a {@code PersonCard} with the given {@code Person} and its attendance {@code counts}.
      */
-    public PersonCard(Person person, boolean isSelected) {
+    public PersonCard(Person person, AttendanceCounts counts, boolean isSelected) {
         super(FXML);
         this.person = person;
         id.setText(person.getId() + ". ");
@@ -75,5 +77,10 @@ public class PersonCard extends UiPart<Region> {
             container.getChildren().add(
                     new IconLabel(Icons.getMemoIcon(), person.getMemo().value, isSelected).getRoot());
         }
+
+        if (counts.getEnrolled() > 0) {
+            container.getChildren().add(
+                    new IconLabel(Icons.getCalendarIcon(), Messages.formatAttendance(counts), isSelected).getRoot());
+        }
     }
 }
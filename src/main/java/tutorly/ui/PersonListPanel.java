@@ -2,6 +2,7 @@ package tutorly.ui;
 
 import javafx.collections.ObservableList;
 import javafx.scene.layout.Region;
+import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.person.Person;
 
 /**
@@ -9,13 +10,20 @@ import tutorly.model.person.Person;
  */
 public class PersonListPanel extends ListPanel<Person> {
 
-    public PersonListPanel(ObservableList<Person> personList) {
+    private final ReadOnlyAddressBook addressBook;
+
+    /**
+     * Creates a {@code PersonListPanel} of {@code personList}, with attendance counts from {@code addressBook}.
+     */
+    public PersonListPanel(ObservableList<Person> personList, ReadOnlyAddressBook addressBook) {
         super(personList);
+        this.addressBook = addressBook;
     }
 
     @Override
     protected UiPart<Region> getItemGraphic(Person person) {
-        return new PersonCard(person, getSelected().contains(person));
+        return new PersonCard(person, addressBook.getAttendanceStats().ofStudent(person.getId()),
+                getSelected().contains(person));
     };
 
 }
@@ -6,6 +6,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import tutorly.logic.Messages;
+import tutorly.model.attendancerecord.AttendanceCounts;
 import tutorly.model.session.Session;
 
 /**
@@ -35,9 +36,9 @@ public class SessionCard extends UiPart<Region> {
     private VBox container;
 
     /**
-     * Creates a {@code SessionCard} with the given {@code Session}.
+     * Creates a {@code SessionCard} with the given {@code Session} and its attendance {@code counts}.
      */
-    public SessionCard(Session session, boolean isSelected) {
+    public SessionCard(Session session, AttendanceCounts counts, boolean isSelected) {
         super(FXML);
         this.session = session;
         id.setText(session.getId() + ". ");
@@ -46,5 +47,10 @@ public class SessionCard extends UiPart<Region> {
 
         container.getChildren().add(
                 new IconLabel(Icons.getCalendarIcon(), Messages.format(session.getTimeslot()), isSelected).getRoot());
+
+        if (counts.getEnrolled() > 0) {
+            container.getChildren().add(
+                    new IconLabel(Icons.getCalendarIcon(), Messages.formatAttendance(counts), isSelected).getRoot());
+        }
     }
 }
@@ -2,6 +2,7 @@ package tutorly.ui;
 
 import javafx.collections.ObservableList;
 import javafx.scene.layout.Region;
+import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.session.Session;
 
 /**
@@ -9,13 +10,20 @@ import tutorly.model.session.Session;
  */
 public class SessionListPanel extends ListPanel<Session> {
 
-    public SessionListPanel(ObservableList<Session> sessionList) {
+    private final ReadOnlyAddressBook addressBook;
+
+    /**
+     * Creates a {@code SessionListPanel} of {@code sessionList}, with attendance counts from {@code addressBook}.
+     */
+    public SessionListPanel(ObservableList<Session> sessionList, ReadOnlyAddressBook addressBook) {
         super(sessionList);
+        this.addressBook = addressBook;
     }
 
     @Override
     protected UiPart<Region> getItemGraphic(Session session) {
-        return new SessionCard(session, getSelected().contains(session));
+        return new SessionCard(session, addressBook.getAttendanceStats().ofSession(session.getId()),
+                getSelected().contains(session));
     };
 
 }
@@ -0,0 +1,279 @@
+package tutorly.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.commons.util.JsonUtil;
+import tutorly.logic.Logic;
+import tutorly.logic.LogicManager;
+import tutorly.logic.commands.AddStudentCommand;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.storage.JsonAddressBookStorage;
+import tutorly.storage.JsonUserPrefsStorage;
+import tutorly.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String TOKEN = "secret";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private ExecutorService modelThread;
+    private Model model;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        Logic logic = new LogicManager(model, storage);
+
+        modelThread = Executors.newSingleThreadExecutor();
+        server = modelThread.submit(() -> new ApiServer(logic, modelThread, 0, TOKEN)).get();
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        modelThread.submit(server::stop).get();
+        modelThread.shutdownNow();
+    }
+
+    @Test
+    public void getStudents_noQuery_listsAllStudents() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH);
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        assertEquals(7, parseList(response).size());
+    }
+
+    @Test
+    public void getStudents_query_listsMatchingStudents() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "?q=" + encode("n/alice"));
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        List<?> students = parseList(response);
+        assertEquals(1, students.size());
+        Map<?, ?> student = (Map<?, ?>) students.get(0);
+        assertEquals(ALICE.getId(), student.get("id"));
+        assertEquals(ALICE.getName().fullName, student.get("name"));
+        assertEquals(List.of("friends"), student.get("tags"));
+    }
+
+    @Test
+    public void getStudents_queryWithPage_listsPageOfMatchingStudents() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "?q="
+                + encode("ses/" + MATH_SESSION.getId() + " offset/1 limit/2 sort/name"));
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertEquals(List.of(BENSON.getId(), DANIEL.getId()), parseList(response).stream()
+                .map(student -> ((Map<?, ?>) student).get("id"))
+                .toList());
+    }
+
+    @Test
+    public void getStudents_invalidQuery_badRequest() throws Exception {
+        HttpResponse<String> response = get(ApiServer.STUDENTS_PATH + "?q=" + encode("name:ali and"));
+
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, response.statusCode());
+        assertTrue(parseMap(response).containsKey("error"));
+    }
+
+    @Test
+    public void getSessions_listsSessions() throws Exception {
+        assertEquals(2, parseList(get(ApiServer.SESSIONS_PATH)).size());
+        assertEquals(1, parseList(get(ApiServer.SESSIONS_PATH + "?q=" + encode("sub/English"))).size());
+    }
+
+    @Test
+    public void getAttendance_filters_listsMatchingRecords() throws Exception {
+        assertEquals(8, parseList(get(ApiServer.ATTENDANCE_PATH)).size());
+        assertEquals(4, parseList(get(ApiServer.ATTENDANCE_PATH + "?session=1")).size());
+        assertEquals(1, parseList(get(ApiServer.ATTENDANCE_PATH + "?session=1&student=1")).size());
+    }
+
+    @Test
+    public void getAttendance_invalidId_badRequest() throws Exception {
+        HttpResponse<String> response = get(ApiServer.ATTENDANCE_PATH + "?student=abc");
+
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, response.statusCode());
+        assertEquals(String.format(ApiServer.MESSAGE_INVALID_ID, ApiServer.STUDENT_PARAMETER),
+                parseMap(response).get("error"));
+    }
+
+    @Test
+    public void postCommand_validCommand_changesModel() throws Exception {
+        assertEquals(7, parseList(get(ApiServer.STUDENTS_PATH)).size());
+
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH,
+                "{\"command\": \"" + AddStudentCommand.COMMAND_STRING + " n/Amy Bee\"}");
+
+        assertEquals(ApiServer.STATUS_OK, response.statusCode());
+        assertTrue(parseMap(response).containsKey("feedback"));
+        assertEquals(8, model.getPersonList().size());
+        assertEquals(8, parseList(get(ApiServer.STUDENTS_PATH)).size());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        assertEquals(ApiServer.STATUS_BAD_REQUEST, post(ApiServer.COMMANDS_PATH, "{\"command\": \"fly\"}")
+                .statusCode());
+        assertEquals(ApiServer.MESSAGE_MISSING_COMMAND, parseMap(post(ApiServer.COMMANDS_PATH, "{}")).get("error"));
+        assertEquals(ApiServer.MESSAGE_INVALID_REQUEST, parseMap(post(ApiServer.COMMANDS_PATH, "not json"))
+                .get("error"));
+        assertEquals(7, model.getPersonList().size());
+    }
+
+    @Test
+    public void request_unknownPathOrMethod_rejected() throws Exception {
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get(ApiServer.STUDENTS_PATH + "/1").statusCode());
+        assertEquals(ApiServer.STATUS_NOT_FOUND, get("/api").statusCode());
+        assertEquals(ApiServer.STATUS_METHOD_NOT_ALLOWED, post(ApiServer.STUDENTS_PATH, "{}").statusCode());
+        assertEquals(ApiServer.STATUS_METHOD_NOT_ALLOWED, get(ApiServer.COMMANDS_PATH).statusCode());
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaType() throws Exception {
+        String body = "{\"command\": \"" + AddStudentCommand.COMMAND_STRING + " n/Amy Bee\"}";
+        HttpResponse<String> response = send(request(ApiServer.COMMANDS_PATH)
+                .header("Content-Type", "text/plain").POST(HttpRequest.BodyPublishers.ofString(body)));
+        assertEquals(ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNSUPPORTED_MEDIA_TYPE, parseMap(response).get("error"));
+
+        // no content type
+        assertEquals(ApiServer.STATUS_UNSUPPORTED_MEDIA_TYPE, send(request(ApiServer.COMMANDS_PATH)
+                .POST(HttpRequest.BodyPublishers.ofString(body))).statusCode());
+        assertEquals(7, model.getPersonList().size());
+    }
+
+    @Test
+    public void request_withOrigin_forbidden() throws Exception {
+        HttpResponse<String> response = send(request(ApiServer.STUDENTS_PATH)
+                .header("Origin", "http://example.com").GET());
+        assertEquals(ApiServer.STATUS_FORBIDDEN, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_FORBIDDEN_ORIGIN, parseMap(response).get("error"));
+
+        String body = "{\"command\": \"" + AddStudentCommand.COMMAND_STRING + " n/Amy Bee\"}";
+        assertEquals(ApiServer.STATUS_FORBIDDEN, send(request(ApiServer.COMMANDS_PATH)
+                .header("Origin", "null").header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))).statusCode());
+        assertEquals(7, model.getPersonList().size());
+    }
+
+    @Test
+    public void request_nonLocalHost_forbidden() throws Exception {
+        assertTrue(rawGet("attacker.example:" + server.getPort()).startsWith("HTTP/1.1 "
+                + ApiServer.STATUS_FORBIDDEN));
+        assertTrue(rawGet("localhost.attacker.example").startsWith("HTTP/1.1 " + ApiServer.STATUS_FORBIDDEN));
+        assertTrue(rawGet("127.0.0.1:" + server.getPort()).startsWith("HTTP/1.1 " + ApiServer.STATUS_OK));
+    }
+
+    @Test
+    public void request_missingOrWrongToken_unauthorized() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(ApiServer.STUDENTS_PATH)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, response.statusCode());
+        assertEquals(ApiServer.MESSAGE_UNAUTHORIZED, parseMap(response).get("error"));
+
+        assertEquals(ApiServer.STATUS_UNAUTHORIZED, client.send(HttpRequest.newBuilder(uri(ApiServer.STUDENTS_PATH))
+                .header("Authorization", "Bearer wrong").GET().build(), HttpResponse.BodyHandlers.ofString())
+                .statusCode());
+    }
+
+    @Test
+    public void getHostName() {
+        assertEquals("localhost", ApiServer.getHostName("LocalHost:8080"));
+        assertEquals("127.0.0.1", ApiServer.getHostName("127.0.0.1"));
+        assertEquals("[::1]", ApiServer.getHostName("[::1]:8080"));
+        assertEquals("[::1]", ApiServer.getHostName("[::1]"));
+    }
+
+    @Test
+    public void parseQuery() {
+        assertEquals(Map.of(), ApiServer.parseQuery(null));
+        assertEquals(Map.of("q", "n/a b", "session", ""), ApiServer.parseQuery("q=n%2Fa+b&session"));
+        assertEquals(Map.of("student", "2"), ApiServer.parseQuery("student=1&student=2"));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return send(request(path).GET());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return send(request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + TOKEN);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Sends a GET request for the students with the {@code Host} header {@code host}, which {@code HttpClient} does
+     * not allow to be set, and returns the status line of the response.
+     */
+    private String rawGet(String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + ApiServer.STUDENTS_PATH + " HTTP/1.1\r\nHost: " + host + "\r\nAuthorization: Bearer "
+                    + TOKEN + "\r\nConnection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static List<?> parseList(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), List.class);
+    }
+
+    private static Map<?, ?> parseMap(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+}
@@ -0,0 +1,57 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRow_plainFields_splitOnSeparator() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("a,b,c\r\n,x,\n"));
+        assertEquals(Optional.of(List.of("a", "b", "c")), reader.readRow());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(Optional.of(List.of("", "x", "")), reader.readRow());
+        assertEquals(2, reader.getLineNumber());
+        assertEquals(Optional.empty(), reader.readRow());
+    }
+
+    @Test
+    public void readRow_quotedFields_unquoted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"a,b\",\"say \"\"hi\"\"\",\"\",\" c \""));
+        assertEquals(Optional.of(List.of("a,b", "say \"hi\"", "", " c ")), reader.readRow());
+        assertEquals(Optional.empty(), reader.readRow());
+    }
+
+    @Test
+    public void readRow_lineBreaksInQuotedField_lineNumbersCounted() throws Exception {
+        CsvReader reader = new CsvReader(new StringReader("\"first\r\nsecond\nthird\",x\n\n\r\nnext\r"));
+        assertEquals(Optional.of(List.of("first\r\nsecond\nthird", "x")), reader.readRow());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(Optional.of(List.of("next")), reader.readRow());
+        assertEquals(6, reader.getLineNumber());
+        assertEquals(Optional.empty(), reader.readRow());
+    }
+
+    @Test
+    public void readRow_rowsWrittenByCsvUtil_sameFields() throws Exception {
+        List<String> fields = List.of("plain", "a,b", "\"quoted\"", " padded ", "multi\nline", "");
+        CsvReader reader = new CsvReader(new StringReader(CsvUtil.toRow(fields)));
+        assertEquals(Optional.of(fields), reader.readRow());
+    }
+
+    @Test
+    public void readRow_malformedQuotes_throwsIoException() throws Exception {
+        CsvReader unclosed = new CsvReader(new StringReader("a\n\"b,c\nd"));
+        assertEquals(Optional.of(List.of("a")), unclosed.readRow());
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNCLOSED_QUOTE, 2), unclosed::readRow);
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_CHARACTER_AFTER_QUOTE, 1), () ->
+                new CsvReader(new StringReader("\"a\"b,c")).readRow());
+    }
+}
@@ -0,0 +1,39 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void toRow_plainFields_joinedWithCommas() {
+        assertEquals("1,Alice Pauline,,friends", CsvUtil.toRow(List.of("1", "Alice Pauline", "", "friends")));
+        assertEquals("", CsvUtil.toRow(List.of()));
+    }
+
+    @Test
+    public void toRow_specialCharacters_quoted() {
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\" padded \"",
+                CsvUtil.toRow(List.of("a,b", "say \"hi\"", "two\nlines", " padded ")));
+    }
+
+    @Test
+    public void toRow_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.toRow(null));
+        assertThrows(NullPointerException.class, () -> CsvUtil.toRow(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void writeRow_endsWithLineBreak() throws Exception {
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeRow(writer, List.of("id", "name"));
+        CsvUtil.writeRow(writer, List.of("1", "Alice, Pauline"));
+        assertEquals("id,name\r\n1,\"Alice, Pauline\"\r\n", writer.toString());
+    }
+}
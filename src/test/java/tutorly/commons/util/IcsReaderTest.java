@@ -0,0 +1,61 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.commons.util.IcsReader.Event;
+
+public class IcsReaderTest {
+
+    @Test
+    public void readEvent_events_propertiesAndParametersRead() throws Exception {
+        IcsReader reader = new IcsReader(new StringReader("BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "BEGIN:VTIMEZONE\r\n"
+                + "DTSTART:19700101T000000\r\n"
+                + "END:VTIMEZONE\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "dtstart;TZID=\"Asia/Singapore\";X-NOTE=\"a;b:c\":20250325T100000\r\n"
+                + "SUMMARY:Math\\, \r\n"
+                + " Algebra\r\n"
+                + "BEGIN:VALARM\r\n"
+                + "SUMMARY:Reminder\r\n"
+                + "END:VALARM\r\n"
+                + "SUMMARY:Ignored\r\n"
+                + "END:VEVENT\r\n"
+                + "\r\n"
+                + "BEGIN:VEVENT\n"
+                + "SUMMARY:English\n"
+                + "END:VEVENT\n"
+                + "END:VCALENDAR\r\n"));
+
+        Event first = reader.readEvent().get();
+        assertEquals(6, first.getLineNumber());
+        assertEquals("20250325T100000", first.get("DTSTART").get().getValue());
+        assertEquals(Optional.of("Asia/Singapore"), first.get("dtstart").get().getParameter("tzid"));
+        assertEquals(Optional.of("a;b:c"), first.get("DTSTART").get().getParameter("X-NOTE"));
+        assertEquals("Math\\, Algebra", first.get("SUMMARY").get().getValue());
+        assertTrue(first.get("DTEND").isEmpty());
+
+        Event second = reader.readEvent().get();
+        assertEquals(16, second.getLineNumber());
+        assertEquals("English", second.get("SUMMARY").get().getValue());
+
+        assertEquals(Optional.empty(), reader.readEvent());
+    }
+
+    @Test
+    public void readEvent_malformedEvent_throwsIoException() throws Exception {
+        assertThrows(IOException.class, String.format(IcsReader.MESSAGE_UNCLOSED_EVENT, 2), () ->
+                new IcsReader(new StringReader("BEGIN:VCALENDAR\nBEGIN:VEVENT\nSUMMARY:Math\n")).readEvent());
+        assertThrows(IOException.class, String.format(IcsReader.MESSAGE_MALFORMED_LINE, 2), () ->
+                new IcsReader(new StringReader("BEGIN:VEVENT\nSUMMARY Math\nEND:VEVENT\n")).readEvent());
+    }
+}
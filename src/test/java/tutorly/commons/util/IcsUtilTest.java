@@ -0,0 +1,44 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+public class IcsUtilTest {
+
+    private static String writeProperty(String name, String value) throws Exception {
+        StringWriter writer = new StringWriter();
+        IcsUtil.writeProperty(writer, name, value);
+        return writer.toString();
+    }
+
+    @Test
+    public void writeProperty_shortLine_notFolded() throws Exception {
+        assertEquals("SUMMARY:Math\r\n", writeProperty("SUMMARY", "Math"));
+    }
+
+    @Test
+    public void writeProperty_longLine_foldedWithinOctetLimit() throws Exception {
+        String value = "a".repeat(100) + "é".repeat(50) + "😀".repeat(10);
+        String written = writeProperty("DESCRIPTION", value);
+
+        String[] lines = written.split("\r\n");
+        for (String line : lines) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+        assertEquals("DESCRIPTION:" + value, written.replace("\r\n ", "").replace("\r\n", ""));
+    }
+
+    @Test
+    public void escapeText_specialCharacters_escapedAndUnescaped() {
+        String text = "Students: Amy, Bob; back\\slash\nnext line";
+        String escaped = IcsUtil.escapeText(text);
+        assertEquals("Students: Amy\\, Bob\\; back\\\\slash\\nnext line", escaped);
+        assertEquals(text, IcsUtil.unescapeText(escaped));
+        assertEquals("a\nb", IcsUtil.unescapeText("a\\Nb"));
+    }
+}
@@ -0,0 +1,42 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class KeywordMatcherTest {
+
+    @Test
+    public void constructor_invalidKeywords_throwsException() {
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(null));
+        assertThrows(NullPointerException.class, () -> new KeywordMatcher(Arrays.asList("abc", null)));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(List.of("  ")));
+        assertThrows(IllegalArgumentException.class, () -> new KeywordMatcher(List.of("aaa BBB")));
+    }
+
+    @Test
+    public void matchesAny() {
+        NormalizedText text = NormalizedText.of("  AAA   bBb   ccc@1  ");
+
+        // No keywords
+        assertFalse(new KeywordMatcher(Collections.emptyList()).matchesAny(text));
+
+        // Partial and mixed-case matches
+        assertTrue(new KeywordMatcher(List.of("bb")).matchesAny(text));
+        assertTrue(new KeywordMatcher(List.of("  CCc@1  ")).matchesAny(text));
+        assertTrue(new KeywordMatcher(List.of("zzz", "aaa")).matchesAny(text));
+
+        // Keyword bigger than any word, or spanning two words
+        assertFalse(new KeywordMatcher(List.of("bbbb")).matchesAny(text));
+        assertFalse(new KeywordMatcher(List.of("aaabbb")).matchesAny(text));
+
+        // Empty text
+        assertFalse(new KeywordMatcher(List.of("abc")).matchesAny(NormalizedText.of("    ")));
+    }
+}
@@ -0,0 +1,37 @@
+package tutorly.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class NormalizedTextTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> NormalizedText.of(null));
+    }
+
+    @Test
+    public void of_splitsAndLowercasesWords() {
+        assertEquals("aaa bbb ccc@1", NormalizedText.of("  AAA   bBb \n ccc@1  ").toString());
+        assertEquals(3, NormalizedText.of("  AAA   bBb \n ccc@1  ").wordCount());
+        assertEquals(0, NormalizedText.of("").wordCount());
+        assertEquals(0, NormalizedText.of("   ").wordCount());
+    }
+
+    @Test
+    public void equals() {
+        NormalizedText text = NormalizedText.of("Alex Yeoh");
+
+        assertTrue(text.equals(text));
+        assertTrue(text.equals(NormalizedText.of("alex   YEOH")));
+        assertEquals(text.hashCode(), NormalizedText.of("alex   YEOH").hashCode());
+
+        assertFalse(text.equals(null));
+        assertFalse(text.equals("alex yeoh"));
+        assertFalse(text.equals(NormalizedText.of("Alex")));
+    }
+}
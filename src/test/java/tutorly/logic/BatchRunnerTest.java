@@ -0,0 +1,145 @@
+package tutorly.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.logic.commands.AddStudentCommand;
+import tutorly.logic.commands.DeleteStudentCommand;
+import tutorly.logic.commands.ExitCommand;
+import tutorly.logic.commands.ListStudentCommand;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.ReadOnlyAddressBook;
+import tutorly.storage.JsonAddressBookStorage;
+import tutorly.storage.JsonUserPrefsStorage;
+import tutorly.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager();
+    private CountingStorage storage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorage(temporaryFolder);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, BatchRunner.MESSAGE_INVALID_SAVE_INTERVAL, () ->
+                new BatchRunner(logic, -1));
+    }
+
+    @Test
+    public void run_script_printsResultsAndSavesOnce() throws Exception {
+        String script = "# nightly changes\n"
+                + AddStudentCommand.COMMAND_STRING + " n/Amy Bee\n"
+                + "\n"
+                + "   " + AddStudentCommand.COMMAND_STRING + " n/Bob Choo  \n"
+                + DeleteStudentCommand.COMMAND_STRING + " 9\n"
+                + ListStudentCommand.COMMAND_STRING + "\n";
+        StringWriter output = new StringWriter();
+
+        BatchRunner.Summary summary = new BatchRunner(logic, 0).run(new StringReader(script),
+                new PrintWriter(output));
+
+        assertEquals(4, summary.getCommandCount());
+        assertEquals(3, summary.getSucceededCount());
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(1, summary.getSaveCount());
+        assertEquals(1, storage.saveCount);
+        assertEquals(2, model.getPersonList().size());
+        assertTrue(storage.readAddressBook().isPresent());
+
+        String[] lines = output.toString().split("\\R");
+        assertEquals(String.format(BatchRunner.MESSAGE_COMMAND, AddStudentCommand.COMMAND_STRING + " n/Amy Bee"),
+                lines[0]);
+        assertEquals(String.format(BatchRunner.MESSAGE_COMMAND, AddStudentCommand.COMMAND_STRING + " n/Bob Choo"),
+                lines[2]);
+        assertEquals(String.format(BatchRunner.MESSAGE_COMMAND, DeleteStudentCommand.COMMAND_STRING + " 9"),
+                lines[4]);
+        assertTrue(lines[5].startsWith(String.format(BatchRunner.MESSAGE_ERROR, 5, "")));
+        assertEquals(ListStudentCommand.MESSAGE_SUCCESS, lines[7]);
+    }
+
+    @Test
+    public void run_saveInterval_savesPeriodically() throws Exception {
+        String script = (ListStudentCommand.COMMAND_STRING + "\n").repeat(5);
+
+        BatchRunner.Summary summary = new BatchRunner(logic, 2).run(new StringReader(script),
+                new PrintWriter(new StringWriter()));
+
+        assertEquals(5, summary.getCommandCount());
+        assertEquals(3, summary.getSaveCount());
+        assertEquals(3, storage.saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        String script = AddStudentCommand.COMMAND_STRING + " n/Amy Bee\n"
+                + ExitCommand.COMMAND_STRING + "\n"
+                + AddStudentCommand.COMMAND_STRING + " n/Bob Choo\n";
+
+        BatchRunner.Summary summary = new BatchRunner(logic, 0).run(new StringReader(script),
+                new PrintWriter(new StringWriter()));
+
+        assertEquals(2, summary.getCommandCount());
+        assertEquals(1, model.getPersonList().size());
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void run_noCommands_doesNotSave() throws Exception {
+        BatchRunner.Summary summary = new BatchRunner(logic, 1).run(new StringReader("# nothing to do\n\n"),
+                new PrintWriter(new StringWriter()));
+
+        assertEquals(0, summary.getCommandCount());
+        assertEquals(0, summary.getSaveCount());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void run_afterRun_savesEveryCommandAgain() throws Exception {
+        new BatchRunner(logic, 0).run(new StringReader(ListStudentCommand.COMMAND_STRING + "\n"),
+                new PrintWriter(new StringWriter()));
+        assertEquals(1, storage.saveCount);
+
+        logic.execute(ListStudentCommand.COMMAND_STRING);
+        logic.execute(ListStudentCommand.COMMAND_STRING);
+        assertEquals(3, storage.saveCount);
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times the address book is saved.
+     */
+    private static class CountingStorage extends StorageManager {
+        private int saveCount = 0;
+
+        CountingStorage(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("addressBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import tutorly.logic.commands.AddStudentCommand;
 import tutorly.logic.commands.CommandResult;
+import tutorly.logic.commands.CompoundCommand;
 import tutorly.logic.commands.DeleteStudentCommand;
 import tutorly.logic.commands.ListStudentCommand;
 import tutorly.logic.commands.UndoCommand;
@@ -86,6 +87,25 @@ public class LogicManagerTest {
                 expectedModel);
     }
 
+    @Test
+    public void execute_multipleCommands_undoneTogether() throws Exception {
+        logic.execute(AddStudentCommand.COMMAND_STRING + " n/Amy Bee; " + AddStudentCommand.COMMAND_STRING
+                + " n/Bob Choo");
+        assertEquals(2, model.getPersonList().size());
+
+        logic.execute(UndoCommand.COMMAND_STRING);
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_multipleCommandsOneFails_throwsCommandException() {
+        String commands = AddStudentCommand.COMMAND_STRING + " n/Amy Bee; " + DeleteStudentCommand.COMMAND_STRING
+                + " 9";
+        assertCommandException(commands, String.format(CompoundCommand.MESSAGE_COMMAND_FAILED, 2, 2,
+                MESSAGE_PERSON_NOT_FOUND));
+        assertEquals(new ModelManager(), model);
+    }
+
     @Test
     public void execute_undoCommandNothingToUndo_throwsCommandException() {
         String undoCommand = "undo";
@@ -1,6 +1,7 @@
 package tutorly.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -9,8 +10,12 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.parser.Prefix;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
 import tutorly.model.person.Address;
 import tutorly.model.person.Email;
+import tutorly.model.person.Identity;
 import tutorly.model.person.Memo;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
@@ -33,6 +38,24 @@ public class MessagesTest {
         assertEquals(expectedMessage, Messages.getErrorMessageForDuplicatePrefixes(p1, p2));
     }
 
+    @Test
+    public void getErrorMessageForPersonNotFound() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        // identified by ID -> no suggestions
+        assertEquals(Messages.MESSAGE_PERSON_NOT_FOUND,
+                Messages.getErrorMessageForPersonNotFound(model, new Identity(99)));
+
+        // no similar names -> no suggestions
+        assertEquals(Messages.MESSAGE_PERSON_NOT_FOUND,
+                Messages.getErrorMessageForPersonNotFound(model, new Identity(new Name("Zhang Wei"))));
+
+        // similar names -> suggested
+        assertEquals(Messages.MESSAGE_PERSON_NOT_FOUND + " "
+                + String.format(Messages.MESSAGE_DID_YOU_MEAN, "Alice Pauline"),
+                Messages.getErrorMessageForPersonNotFound(model, new Identity(new Name("Alise Pauline"))));
+    }
+
     @Test
     public void format_person_correctFormatting() {
         Name name = new Name("John Doe");
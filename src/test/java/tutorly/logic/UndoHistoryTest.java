@@ -0,0 +1,98 @@
+package tutorly.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.ClearCommand;
+import tutorly.logic.commands.Command;
+import tutorly.logic.commands.CommandResult;
+import tutorly.model.Model;
+
+public class UndoHistoryTest {
+
+    @Test
+    public void constructor_negativeBudget_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new UndoHistory(-1));
+    }
+
+    @Test
+    public void push_withinBudget_retainsAllEntries() {
+        UndoHistory history = new UndoHistory(300);
+        Command first = new SizedCommand(100);
+        Command second = new SizedCommand(100);
+        history.push(first);
+        history.push(second);
+
+        assertEquals(2, history.size());
+        assertEquals(200, history.getTotalSize());
+        assertEquals(Optional.of(second), history.pop());
+        assertEquals(Optional.of(first), history.pop());
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.getTotalSize());
+    }
+
+    @Test
+    public void push_exceedsBudget_evictsOldestEntries() {
+        UndoHistory history = new UndoHistory(250);
+        Command first = new SizedCommand(100);
+        Command second = new SizedCommand(100);
+        Command third = new SizedCommand(100);
+        history.push(first);
+        history.push(second);
+        history.push(third);
+
+        assertEquals(2, history.size());
+        assertEquals(200, history.getTotalSize());
+        assertEquals(Optional.of(third), history.pop());
+        assertEquals(Optional.of(second), history.pop());
+        assertEquals(Optional.empty(), history.pop());
+    }
+
+    @Test
+    public void push_entryLargerThanBudget_clearsHistory() {
+        UndoHistory history = new UndoHistory(150);
+        history.push(new SizedCommand(100));
+        history.push(new SizedCommand(200));
+
+        assertTrue(history.isEmpty());
+        assertEquals(0, history.getTotalSize());
+    }
+
+    @Test
+    public void push_clearCommand_accountsForRetainedElements() {
+        ClearCommand emptyRestore = new ClearCommand();
+        ClearCommand typicalRestore = new ClearCommand(getTypicalAddressBook());
+        assertTrue(typicalRestore.estimateSize() > emptyRestore.estimateSize());
+
+        UndoHistory history = new UndoHistory(typicalRestore.estimateSize() - 1);
+        history.push(typicalRestore);
+        assertTrue(history.isEmpty());
+    }
+
+    /**
+     * A command with a fixed estimated size.
+     */
+    private static class SizedCommand extends Command {
+        private final long size;
+
+        SizedCommand(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public CommandResult execute(Model model) {
+            return new CommandResult("");
+        }
+
+        @Override
+        public long estimateSize() {
+            return size;
+        }
+    }
+}
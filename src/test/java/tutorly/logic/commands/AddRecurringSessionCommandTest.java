@@ -0,0 +1,142 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_TIMESLOT;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.model.AddressBook;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+
+public class AddRecurringSessionCommandTest {
+
+    private static final Subject SUBJECT = new Subject("Physics");
+    private static final Timeslot FIRST_TIMESLOT = new Timeslot(LocalDateTime.of(2025, 4, 1, 10, 0),
+            LocalDateTime.of(2025, 4, 1, 12, 0));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private static List<Timeslot> weekly(Timeslot first, int occurrences) {
+        List<Timeslot> timeslots = new ArrayList<>();
+        for (int i = 0; i < occurrences; i++) {
+            timeslots.add(first.plusWeeks(i));
+        }
+        return timeslots;
+    }
+
+    @Test
+    public void constructor_invalidArgs_throwsException() {
+        assertThrows(NullPointerException.class, () -> new AddRecurringSessionCommand(null, SUBJECT));
+        assertThrows(NullPointerException.class, () -> new AddRecurringSessionCommand(List.of(FIRST_TIMESLOT), null));
+        assertThrows(IllegalArgumentException.class, () -> new AddRecurringSessionCommand(List.of(), SUBJECT));
+    }
+
+    @Test
+    public void execute_noOverlaps_allOccurrencesAdded() throws Exception {
+        int sessionCount = model.getAddressBook().getSessionList().size();
+        List<Timeslot> timeslots = weekly(FIRST_TIMESLOT, 500);
+
+        CommandResult commandResult = new AddRecurringSessionCommand(timeslots, SUBJECT).execute(model);
+
+        assertEquals(String.format(AddRecurringSessionCommand.MESSAGE_SUCCESS, 500,
+                Messages.format(FIRST_TIMESLOT), Messages.format(timeslots.get(499))),
+                commandResult.getFeedbackToUser());
+        assertEquals(sessionCount + 500, model.getAddressBook().getSessionList().size());
+
+        int[] expectedIds = new int[500];
+        for (int i = 0; i < 500; i++) {
+            expectedIds[i] = 3 + i;
+            Session session = model.getSessionById(3 + i).orElseThrow();
+            assertEquals(timeslots.get(i), session.getTimeslot());
+            assertEquals(SUBJECT, session.getSubject());
+        }
+        assertEquals(new BulkDeleteSessionCommand(expectedIds), commandResult.getReverseCommand());
+    }
+
+    @Test
+    public void execute_undo_removesAllOccurrences() throws Exception {
+        int sessionCount = model.getAddressBook().getSessionList().size();
+        CommandResult commandResult = new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 10), SUBJECT)
+                .execute(model);
+
+        CommandResult undoResult = commandResult.getReverseCommand().execute(model);
+        assertEquals(String.format(BulkDeleteSessionCommand.MESSAGE_SUCCESS, 10), undoResult.getFeedbackToUser());
+        assertEquals(sessionCount, model.getAddressBook().getSessionList().size());
+    }
+
+    @Test
+    public void execute_occurrenceOverlapsExistingSession_allOccurrencesAdded() throws Exception {
+        int sessionCount = model.getAddressBook().getSessionList().size();
+        Timeslot first = new Timeslot(ENGLISH_TIMESLOT.getStartTime().minusWeeks(2).plusHours(1),
+                ENGLISH_TIMESLOT.getEndTime().minusWeeks(2).plusHours(1));
+
+        new AddRecurringSessionCommand(weekly(first, 4), SUBJECT).execute(model);
+
+        assertEquals(sessionCount + 4, model.getAddressBook().getSessionList().size());
+    }
+
+    @Test
+    public void execute_occurrencesOverlapEachOther_throwsCommandException() {
+        Timeslot weekLong = new Timeslot(LocalDateTime.of(2025, 4, 1, 10, 0),
+                LocalDateTime.of(2025, 4, 8, 11, 0));
+        List<Timeslot> timeslots = weekly(weekLong, 2);
+
+        assertCommandFailure(new AddRecurringSessionCommand(timeslots, SUBJECT), model,
+                String.format(AddRecurringSessionCommand.MESSAGE_OCCURRENCE_OVERLAP,
+                        Messages.format(timeslots.get(1))));
+    }
+
+    @Test
+    public void execute_notEnoughSessionIds_throwsCommandException() {
+        // only Integer.MAX_VALUE - 2 and Integer.MAX_VALUE - 1 are left
+        Model nearlyFullModel = new ModelManager(new AddressBook(1, Integer.MAX_VALUE - 2), new UserPrefs());
+
+        assertCommandFailure(new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 3), SUBJECT), nearlyFullModel,
+                AddRecurringSessionCommand.MESSAGE_LIMIT_REACHED);
+    }
+
+    @Test
+    public void execute_justEnoughSessionIds_allOccurrencesAdded() throws Exception {
+        Model nearlyFullModel = new ModelManager(new AddressBook(1, Integer.MAX_VALUE - 2), new UserPrefs());
+
+        new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 2), SUBJECT).execute(nearlyFullModel);
+        assertEquals(2, nearlyFullModel.getAddressBook().getSessionList().size());
+    }
+
+    @Test
+    public void equals() {
+        AddRecurringSessionCommand command = new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 3), SUBJECT);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 3), SUBJECT)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new ClearCommand()));
+        assertNotEquals(command, new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 2), SUBJECT));
+        assertNotEquals(command, new AddRecurringSessionCommand(weekly(FIRST_TIMESLOT, 3), new Subject("Math")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Timeslot> timeslots = List.of(FIRST_TIMESLOT);
+        AddRecurringSessionCommand command = new AddRecurringSessionCommand(timeslots, SUBJECT);
+        String expected = AddRecurringSessionCommand.class.getCanonicalName()
+                + "{timeslots=" + timeslots + ", subject=" + SUBJECT + "}";
+        assertEquals(expected, command.toString());
+    }
+}
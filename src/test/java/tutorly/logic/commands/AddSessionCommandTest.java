@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -18,8 +19,13 @@ import tutorly.logic.commands.exceptions.CommandException;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.ReadOnlyUserPrefs;
+import tutorly.model.Transaction;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.SearchResultCache;
+import tutorly.model.filter.SortKey;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
@@ -57,11 +63,12 @@ public class AddSessionCommandTest {
     }
 
     @Test
-    void execute_overlappingSession_throwsException() throws CommandException {
+    void execute_overlappingSession_success() throws CommandException {
         addSessionCommand.execute(model);
-        Session overlappingSession = new SessionBuilder().withTimeslot(session.getTimeslot()).withId(2).build();
-        AddSessionCommand overlappingCommand = new AddSessionCommand(overlappingSession);
-        assertThrows(CommandException.class, () -> overlappingCommand.execute(model));
+        Session overlappingSession = new SessionBuilder().withTimeslot(session.getTimeslot()).withSubject("Physics")
+                .withId(2).build();
+        new AddSessionCommand(overlappingSession).execute(model);
+        assertTrue(model.hasSession(overlappingSession));
     }
 
     @Test
@@ -130,6 +137,11 @@ public class AddSessionCommandTest {
         public void setAddressBook(ReadOnlyAddressBook addressBook) {
         }
 
+        @Override
+        public <E extends Exception> void batch(Transaction<E> transaction) throws E {
+            transaction.run(this);
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return false;
@@ -162,6 +174,11 @@ public class AddSessionCommandTest {
             return Optional.empty();
         }
 
+        @Override
+        public List<Person> getSimilarPersons(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getPersonList() {
             return null;
@@ -191,18 +208,53 @@ public class AddSessionCommandTest {
         public void updateFilteredPersonList(Filter<Person> predicate) {
         }
 
+        @Override
+        public void updateFilteredPersonList(Filter<Person> filter, Page<Person> page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(SortKey<Person> sortKey, boolean isDescending) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PageResult getFilteredPersonListPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredSessionList(Filter<Session> predicate) {
         }
 
         @Override
-        public boolean hasSession(Session session) {
-            return sessions.contains(session);
+        public void updateFilteredSessionList(Filter<Session> filter, Page<Session> page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredSessionList(SortKey<Session> sortKey, boolean isDescending) {
+            throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean hasOverlappingSession(Session session) {
-            return sessions.hasOverlappingSession(session);
+        public PageResult getFilteredSessionListPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchResultCache<Person> getPersonSearchResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchResultCache<Session> getSessionSearchResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSession(Session session) {
+            return sessions.contains(session);
         }
 
         @Override
@@ -21,8 +21,13 @@ import tutorly.model.AddressBook;
 import tutorly.model.Model;
 import tutorly.model.ReadOnlyAddressBook;
 import tutorly.model.ReadOnlyUserPrefs;
+import tutorly.model.Transaction;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.SearchResultCache;
+import tutorly.model.filter.SortKey;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
 import tutorly.model.person.Person;
@@ -138,6 +143,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public <E extends Exception> void batch(Transaction<E> transaction) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -168,6 +178,11 @@ public class AddStudentCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getSimilarPersons(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -197,18 +212,53 @@ public class AddStudentCommandTest {
         public void updateFilteredPersonList(Filter<Person> predicate) {
         }
 
+        @Override
+        public void updateFilteredPersonList(Filter<Person> filter, Page<Person> page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(SortKey<Person> sortKey, boolean isDescending) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PageResult getFilteredPersonListPage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredSessionList(Filter<Session> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean hasSession(Session toCreate) {
+        public void updateFilteredSessionList(Filter<Session> filter, Page<Session> page) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredSessionList(SortKey<Session> sortKey, boolean isDescending) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PageResult getFilteredSessionListPage() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public boolean hasOverlappingSession(Session toCheck) {
+        public SearchResultCache<Person> getPersonSearchResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public SearchResultCache<Session> getSessionSearchResultCache() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasSession(Session toCreate) {
             throw new AssertionError("This method should not be called.");
         }
 
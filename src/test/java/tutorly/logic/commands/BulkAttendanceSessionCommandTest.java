@@ -0,0 +1,142 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.person.Identity;
+
+public class BulkAttendanceSessionCommandTest {
+    private static final int INVALID_ID = 999;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullIdentities_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BulkAttendanceSessionCommand(null, 1, true));
+    }
+
+    @Test
+    public void execute_markAll_marksAllStudentsInSession() throws Exception {
+        CommandResult commandResult = new BulkAttendanceSessionCommand(MATH_SESSION.getId(), true).execute(model);
+
+        assertEquals(String.format(BulkAttendanceSessionCommand.MESSAGE_MARK_SUCCESS, 2, Messages.format(MATH_SESSION))
+                + String.format(BulkAttendanceSessionCommand.MESSAGE_SKIPPED, 2), commandResult.getFeedbackToUser());
+        assertTrue(model.getAttendanceRecordList().stream()
+                .filter(record -> record.getSessionId() == MATH_SESSION.getId())
+                .allMatch(AttendanceRecord::getAttendance));
+        assertEquals(new BulkAttendanceSessionCommand(
+                List.of(new Identity(DANIEL.getId()), new Identity(ELLE.getId())), MATH_SESSION.getId(), false),
+                commandResult.getReverseCommand());
+    }
+
+    @Test
+    public void execute_unmarkSelected_unmarksOnlySelectedStudents() throws Exception {
+        BulkAttendanceSessionCommand command = new BulkAttendanceSessionCommand(
+                List.of(new Identity(ALICE.getName()), new Identity(DANIEL.getId())), MATH_SESSION.getId(), false);
+        CommandResult commandResult = command.execute(model);
+
+        assertEquals(String.format(BulkAttendanceSessionCommand.MESSAGE_UNMARK_SUCCESS, 1,
+                Messages.format(MATH_SESSION)) + String.format(BulkAttendanceSessionCommand.MESSAGE_SKIPPED, 1),
+                commandResult.getFeedbackToUser());
+        assertEquals(new BulkAttendanceSessionCommand(List.of(new Identity(ALICE.getId())), MATH_SESSION.getId(), true),
+                commandResult.getReverseCommand());
+    }
+
+    @Test
+    public void execute_reverseCommand_restoresOriginalRecords() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        Command reverseCommand = new BulkAttendanceSessionCommand(MATH_SESSION.getId(), true)
+                .execute(model).getReverseCommand();
+        assertNotEquals(expectedModel.getAttendanceRecordList(), model.getAttendanceRecordList());
+
+        reverseCommand.execute(model);
+        assertEquals(expectedModel.getAttendanceRecordList(), model.getAttendanceRecordList());
+    }
+
+    @Test
+    public void execute_nothingToUpdate_throwsCommandException() throws Exception {
+        BulkAttendanceSessionCommand command = new BulkAttendanceSessionCommand(MATH_SESSION.getId(), true);
+        command.execute(model);
+
+        assertThrows(CommandException.class, String.format(BulkAttendanceSessionCommand.MESSAGE_NOTHING_TO_UPDATE,
+                Messages.format(MATH_SESSION)), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_studentNotEnrolled_throwsCommandException() {
+        BulkAttendanceSessionCommand command = new BulkAttendanceSessionCommand(
+                List.of(new Identity(ALICE.getId()), new Identity(CARL.getId())), MATH_SESSION.getId(), true);
+
+        assertThrows(CommandException.class, String.format(BulkAttendanceSessionCommand.MESSAGE_RECORD_NOT_FOUND,
+                CARL.getName().fullName, Messages.format(MATH_SESSION)), () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_invalidStudent_throwsCommandException() {
+        BulkAttendanceSessionCommand command = new BulkAttendanceSessionCommand(
+                List.of(new Identity(INVALID_ID)), MATH_SESSION.getId(), true);
+        assertThrows(CommandException.class, Messages.MESSAGE_PERSON_NOT_FOUND, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_invalidSessionId_throwsCommandException() {
+        BulkAttendanceSessionCommand command = new BulkAttendanceSessionCommand(INVALID_ID, true);
+        assertThrows(CommandException.class, Messages.MESSAGE_SESSION_NOT_FOUND, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        List<Identity> identities = List.of(new Identity(ALICE.getId()));
+        BulkAttendanceSessionCommand markAllCommand = new BulkAttendanceSessionCommand(1, true);
+        BulkAttendanceSessionCommand markAliceCommand = new BulkAttendanceSessionCommand(identities, 1, true);
+
+        // same object -> returns true
+        assertEquals(markAllCommand, markAllCommand);
+
+        // same values -> returns true
+        assertEquals(markAllCommand, new BulkAttendanceSessionCommand(1, true));
+        assertEquals(markAliceCommand, new BulkAttendanceSessionCommand(List.copyOf(identities), 1, true));
+
+        // different types -> returns false
+        assertNotEquals(1, markAllCommand);
+
+        // null -> returns false
+        assertNotEquals(null, markAllCommand);
+
+        // different students -> returns false
+        assertNotEquals(markAllCommand, markAliceCommand);
+
+        // different session -> returns false
+        assertNotEquals(markAllCommand, new BulkAttendanceSessionCommand(2, true));
+
+        // different presence -> returns false
+        assertNotEquals(markAllCommand, new BulkAttendanceSessionCommand(1, false));
+    }
+
+    @Test
+    public void toStringMethod() {
+        BulkAttendanceSessionCommand command = new BulkAttendanceSessionCommand(1, true);
+        String expected = BulkAttendanceSessionCommand.class.getCanonicalName()
+                + "{identities=Optional.empty, sessionId=1, presence=true}";
+        assertEquals(expected, command.toString());
+    }
+}
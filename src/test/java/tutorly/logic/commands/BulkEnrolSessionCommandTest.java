@@ -0,0 +1,190 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
+import static tutorly.testutil.TypicalAddressBook.MATH_TIMESLOT;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
+import tutorly.model.person.Identity;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.tag.Tag;
+import tutorly.testutil.SessionBuilder;
+
+public class BulkEnrolSessionCommandTest {
+    private static final int INVALID_ID = 999;
+    private static final Optional<Filter<Person>> FRIENDS_FILTER =
+            Optional.of(new HasTagFilter(Set.of(new Tag("friends"))));
+    private static final Session NEXT_WEEK_SESSION = new SessionBuilder(MATH_SESSION_OVERLAP)
+            .withTimeslot(MATH_TIMESLOT.plusWeeks(1)).build();
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArg_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BulkEnrolSessionCommand(null, Optional.empty(), 1));
+        assertThrows(NullPointerException.class, () -> new BulkEnrolSessionCommand(List.of(), null, 1));
+    }
+
+    @Test
+    public void execute_identitiesAndFilter_enrolsAllSelectedStudents() throws Exception {
+        model.addSession(NEXT_WEEK_SESSION);
+        int sessionId = NEXT_WEEK_SESSION.getId();
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(new Identity(GEORGE.getId()), new Identity(CARL.getName())), FRIENDS_FILTER, sessionId);
+
+        CommandResult commandResult = command.execute(model);
+        assertEquals(String.format(BulkEnrolSessionCommand.MESSAGE_SUCCESS, 5, Messages.format(NEXT_WEEK_SESSION)),
+                commandResult.getFeedbackToUser());
+
+        for (Person person : List.of(ALICE, BENSON, CARL, DANIEL, GEORGE)) {
+            assertTrue(model.hasAttendanceRecord(new AttendanceRecord(
+                    person.getId(), sessionId, EnrolSessionCommand.DEFAULT_PRESENCE, Feedback.empty())));
+        }
+        assertEquals(new BulkUnenrolSessionCommand(new int[] {GEORGE.getId(), CARL.getId(), ALICE.getId(),
+                BENSON.getId(), DANIEL.getId()}, sessionId), commandResult.getReverseCommand());
+    }
+
+    @Test
+    public void execute_someStudentsAlreadyEnrolled_skipsEnrolledStudents() throws Exception {
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(new Identity(CARL.getId())), FRIENDS_FILTER, MATH_SESSION.getId());
+
+        CommandResult commandResult = command.execute(model);
+        assertEquals(String.format(BulkEnrolSessionCommand.MESSAGE_SUCCESS, 1, Messages.format(MATH_SESSION))
+                + String.format(BulkEnrolSessionCommand.MESSAGE_SKIPPED, 3), commandResult.getFeedbackToUser());
+        assertEquals(new BulkUnenrolSessionCommand(new int[] {CARL.getId()}, MATH_SESSION.getId()),
+                commandResult.getReverseCommand());
+    }
+
+    @Test
+    public void execute_someStudentsInOverlappingSession_skipsConflictingStudents() throws Exception {
+        model.addSession(MATH_SESSION_OVERLAP);
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(new Identity(CARL.getId()), new Identity(GEORGE.getId())), FRIENDS_FILTER,
+                MATH_SESSION_OVERLAP.getId());
+
+        CommandResult commandResult = command.execute(model);
+        assertEquals(String.format(BulkEnrolSessionCommand.MESSAGE_SUCCESS, 2, Messages.format(MATH_SESSION_OVERLAP))
+                + String.format(BulkEnrolSessionCommand.MESSAGE_CONFLICTS_SKIPPED, 3),
+                commandResult.getFeedbackToUser());
+        assertFalse(model.hasAttendanceRecord(
+                new AttendanceRecord(ALICE.getId(), MATH_SESSION_OVERLAP.getId(), false, Feedback.empty())));
+    }
+
+    @Test
+    public void execute_allStudentsInOverlappingSession_throwsCommandException() {
+        model.addSession(MATH_SESSION_OVERLAP);
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(), FRIENDS_FILTER, MATH_SESSION_OVERLAP.getId());
+        assertThrows(CommandException.class,
+                BulkEnrolSessionCommand.MESSAGE_ALL_CONFLICTING, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_reverseCommand_restoresOriginalRecords() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(new Identity(GEORGE.getId())), FRIENDS_FILTER, ENGLISH_SESSION.getId());
+
+        Command reverseCommand = command.execute(model).getReverseCommand();
+        assertNotEquals(expectedModel.getAttendanceRecordList(), model.getAttendanceRecordList());
+
+        reverseCommand.execute(model);
+        assertEquals(expectedModel.getAttendanceRecordList(), model.getAttendanceRecordList());
+    }
+
+    @Test
+    public void execute_allStudentsAlreadyEnrolled_throwsCommandException() {
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(List.of(), FRIENDS_FILTER, MATH_SESSION.getId());
+        assertThrows(CommandException.class,
+                BulkEnrolSessionCommand.MESSAGE_ALL_ENROLLED, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_noStudentsSelected_throwsCommandException() {
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(), Optional.of(new HasTagFilter(Set.of(new Tag("unknown")))), MATH_SESSION.getId());
+        assertThrows(CommandException.class,
+                BulkEnrolSessionCommand.MESSAGE_NO_STUDENTS_SELECTED, () -> command.execute(model));
+    }
+
+    @Test
+    public void execute_invalidIdentity_throwsCommandExceptionWithoutEnrolling() {
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(
+                List.of(new Identity(GEORGE.getId()), new Identity(INVALID_ID)), Optional.empty(),
+                MATH_SESSION.getId());
+
+        assertThrows(CommandException.class, Messages.MESSAGE_PERSON_NOT_FOUND, () -> command.execute(model));
+        assertFalse(model.hasAttendanceRecord(
+                new AttendanceRecord(GEORGE.getId(), MATH_SESSION.getId(), false, Feedback.empty())));
+    }
+
+    @Test
+    public void execute_invalidSessionId_throwsCommandException() {
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(List.of(), FRIENDS_FILTER, INVALID_ID);
+        assertThrows(CommandException.class, Messages.MESSAGE_SESSION_NOT_FOUND, () -> command.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        List<Identity> identities = List.of(new Identity(ALICE.getId()), new Identity(BENSON.getId()));
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(identities, FRIENDS_FILTER, 1);
+
+        // same object -> returns true
+        assertEquals(command, command);
+
+        // same values -> returns true
+        assertEquals(command, new BulkEnrolSessionCommand(List.copyOf(identities), FRIENDS_FILTER, 1));
+
+        // different types -> returns false
+        assertNotEquals(1, command);
+
+        // null -> returns false
+        assertNotEquals(null, command);
+
+        // different identities -> returns false
+        assertNotEquals(command, new BulkEnrolSessionCommand(List.of(), FRIENDS_FILTER, 1));
+
+        // different filter -> returns false
+        assertNotEquals(command, new BulkEnrolSessionCommand(identities, Optional.empty(), 1));
+
+        // different session -> returns false
+        assertNotEquals(command, new BulkEnrolSessionCommand(identities, FRIENDS_FILTER, 2));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Identity> identities = List.of(new Identity(ALICE.getId()));
+        BulkEnrolSessionCommand command = new BulkEnrolSessionCommand(identities, Optional.empty(), 1);
+        String expected = BulkEnrolSessionCommand.class.getCanonicalName()
+                + "{identities=" + identities + ", filter=" + Optional.empty() + ", sessionId=1}";
+        assertEquals(expected, command.toString());
+    }
+}
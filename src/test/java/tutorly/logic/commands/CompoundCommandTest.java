@@ -0,0 +1,116 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.person.Identity;
+import tutorly.model.person.Name;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+import tutorly.ui.Tab;
+
+public class CompoundCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_invalidCommands_throwsException() {
+        assertThrows(NullPointerException.class, () -> new CompoundCommand(null));
+        assertThrows(IllegalArgumentException.class, () -> new CompoundCommand(List.of()));
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_appliesAllAndUndoesTogether() throws Exception {
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        CompoundCommand command = new CompoundCommand(List.of(new AddStudentCommand(amy),
+                new EnrolSessionCommand(new Identity(new Name("Amy Bee")), MATH_SESSION.getId()),
+                new EnrolSessionCommand(new Identity(CARL.getId()), MATH_SESSION.getId())));
+
+        CommandResult result = command.execute(model);
+
+        Person addedAmy = model.getPersonByName(new Name("Amy Bee")).get();
+        assertEquals(String.format(AddStudentCommand.MESSAGE_SUCCESS, Messages.format(addedAmy)) + "\n"
+                + String.format(EnrolSessionCommand.MESSAGE_SUCCESS, "Amy Bee", Messages.format(MATH_SESSION)) + "\n"
+                + String.format(EnrolSessionCommand.MESSAGE_SUCCESS, CARL.getName().fullName,
+                        Messages.format(MATH_SESSION)),
+                result.getFeedbackToUser());
+        AttendanceRecord carlRecord = new AttendanceRecord(CARL.getId(), MATH_SESSION.getId(),
+                EnrolSessionCommand.DEFAULT_PRESENCE, Feedback.empty());
+        assertEquals(Tab.attendanceRecord(MATH_SESSION, carlRecord), result.getTab());
+        assertTrue(model.hasAttendanceRecord(new AttendanceRecord(addedAmy.getId(), MATH_SESSION.getId(),
+                EnrolSessionCommand.DEFAULT_PRESENCE, Feedback.empty())));
+        assertTrue(model.hasAttendanceRecord(carlRecord));
+
+        // a single reverse command undoes every command, starting from the last
+        assertTrue(result.getReverseCommand() instanceof CompoundCommand);
+        result.getReverseCommand().execute(model);
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+    }
+
+    @Test
+    public void execute_commandFails_noChanges() {
+        CompoundCommand command = new CompoundCommand(List.of(
+                new AddStudentCommand(new PersonBuilder().withName("Amy Bee").build()),
+                new EnrolSessionCommand(new Identity(CARL.getId()), MATH_SESSION.getId()),
+                new AddStudentCommand(new PersonBuilder(ALICE).withId(0).build())));
+
+        assertCommandFailure(command, model, String.format(CompoundCommand.MESSAGE_COMMAND_FAILED, 3, 3,
+                Messages.MESSAGE_DUPLICATE_PERSON));
+        assertFalse(model.getPersonByName(new Name("Amy Bee")).isPresent());
+
+        // IDs assigned by the failed commands are reused
+        Person amy = new PersonBuilder().withName("Amy Bee").build();
+        model.addPerson(amy);
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, amy.getId());
+    }
+
+    @Test
+    public void execute_noReversibleCommands_noReverseCommand() throws Exception {
+        CompoundCommand command = new CompoundCommand(List.of(new ListStudentCommand(), new ListSessionCommand()));
+        assertFalse(command.execute(model).hasReverseCommand());
+    }
+
+    @Test
+    public void estimateSize_includesCommands() {
+        Command deleteCommand = new DeleteStudentCommand(new Identity(1));
+        assertTrue(new CompoundCommand(List.of(deleteCommand, deleteCommand)).estimateSize()
+                > 2 * deleteCommand.estimateSize());
+    }
+
+    @Test
+    public void equals() {
+        CompoundCommand command = new CompoundCommand(List.of(new DeleteStudentCommand(new Identity(1))));
+
+        // same values -> returns true
+        assertTrue(command.equals(new CompoundCommand(List.of(new DeleteStudentCommand(new Identity(1))))));
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different types -> returns false
+        assertFalse(command.equals(new DeleteStudentCommand(new Identity(1))));
+
+        // different commands -> returns false
+        assertFalse(command.equals(new CompoundCommand(List.of(new DeleteStudentCommand(new Identity(2))))));
+    }
+}
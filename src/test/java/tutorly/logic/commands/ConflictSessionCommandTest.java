@@ -0,0 +1,52 @@
+package tutorly.logic.commands;
+
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.ui.Tab;
+
+public class ConflictSessionCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noConflicts_showsZero() {
+        CommandResult expectedResult = new CommandResult.Builder(String.format(ConflictSessionCommand.MESSAGE_SUCCESS,
+                0)).withTab(Tab.session()).build();
+        assertCommandSuccess(new ConflictSessionCommand(), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_overlappingEnrolments_listsConflicts() {
+        for (Model m : List.of(model, expectedModel)) {
+            m.addSession(MATH_SESSION_OVERLAP);
+            m.addAttendanceRecord(new AttendanceRecord(DANIEL.getId(), MATH_SESSION_OVERLAP.getId(), false,
+                    Feedback.empty()));
+            m.addAttendanceRecord(new AttendanceRecord(ALICE.getId(), MATH_SESSION_OVERLAP.getId(), false,
+                    Feedback.empty()));
+        }
+
+        String expectedMessage = String.format(ConflictSessionCommand.MESSAGE_SUCCESS, 2) + ":\n"
+                + String.format(ConflictSessionCommand.MESSAGE_CONFLICT, ALICE.getName().fullName,
+                        Messages.format(MATH_SESSION), Messages.format(MATH_SESSION_OVERLAP)) + "\n"
+                + String.format(ConflictSessionCommand.MESSAGE_CONFLICT, DANIEL.getName().fullName,
+                        Messages.format(MATH_SESSION), Messages.format(MATH_SESSION_OVERLAP));
+        CommandResult expectedResult = new CommandResult.Builder(expectedMessage).withTab(Tab.session()).build();
+        assertCommandSuccess(new ConflictSessionCommand(), model, expectedResult, expectedModel);
+    }
+}
@@ -15,6 +15,7 @@ import tutorly.model.Model;
 import tutorly.model.ModelManager;
 import tutorly.model.UserPrefs;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Name;
 import tutorly.model.person.Person;
 
 /**
@@ -47,6 +48,14 @@ public class DeleteStudentCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_PERSON_NOT_FOUND);
     }
 
+    @Test
+    public void execute_misspeltName_throwsCommandExceptionWithSuggestions() {
+        DeleteStudentCommand deleteCommand = new DeleteStudentCommand(new Identity(new Name("Meier")));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_PERSON_NOT_FOUND + " "
+                + String.format(Messages.MESSAGE_DID_YOU_MEAN, "Benson Meier, Daniel Meier"));
+    }
+
     @Test
     public void equals() {
         Identity identityFirst = new Identity(1);
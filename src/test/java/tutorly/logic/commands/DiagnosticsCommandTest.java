@@ -0,0 +1,32 @@
+package tutorly.logic.commands;
+
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+
+public class DiagnosticsCommandTest {
+
+    @Test
+    public void execute_showsCacheStatistics() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        for (Model m : List.of(model, expectedModel)) {
+            m.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("meier")));
+            m.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS);
+            m.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("meier")));
+        }
+
+        String expectedMessage = String.format(DiagnosticsCommand.MESSAGE_CACHE_STATISTICS, "Student", 2, 32,
+                expectedModel.getPersonSearchResultCache().getTotalSize(), 2, 2, 50.0, 0) + "\n"
+                + String.format(DiagnosticsCommand.MESSAGE_CACHE_STATISTICS, "Session", 0, 32, 0, 0, 1, 0.0, 0);
+        assertCommandSuccess(new DiagnosticsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
 import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
 import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
+import static tutorly.testutil.TypicalAddressBook.MATH_TIMESLOT;
 import static tutorly.testutil.TypicalAddressBook.MATH_TIMESLOT_OVERLAP;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
@@ -53,12 +56,30 @@ public class EditSessionCommandTest {
     }
 
     @Test
-    public void execute_sessionOverlap_throwsCommandException() {
+    public void execute_overlapWithoutSharedStudents_success() {
+        Session session = new SessionBuilder(MATH_SESSION_OVERLAP).withTimeslot(MATH_TIMESLOT.plusWeeks(1)).build();
+        model.addSession(session);
+        Session editedSession = new SessionBuilder(session).withTimeslot(MATH_TIMESLOT_OVERLAP).build();
+        EditSessionDescriptor descriptor = new EditSessionDescriptorBuilder(editedSession).build();
+        EditSessionCommand editCommand = new EditSessionCommand(session.getId(), descriptor);
+
+        String expectedMessage = String.format(EditSessionCommand.MESSAGE_EDIT_SESSION_SUCCESS,
+                Messages.format(editedSession));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.setSession(session, editedSession);
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_enrolledStudentScheduleConflict_throwsCommandException() {
         Session editedSession = new SessionBuilder(ENGLISH_SESSION).withTimeslot(MATH_TIMESLOT_OVERLAP).build();
         EditSessionDescriptor descriptor = new EditSessionDescriptorBuilder(editedSession).build();
         EditSessionCommand editCommand = new EditSessionCommand(ENGLISH_SESSION.getId(), descriptor);
 
-        String expectedMessage = String.format(Messages.MESSAGE_SESSION_OVERLAP);
+        String expectedMessage = String.format(Messages.MESSAGE_SCHEDULE_CONFLICT, ALICE.getName().fullName,
+                Messages.format(MATH_SESSION));
 
         assertCommandFailure(editCommand, model, expectedMessage);
     }
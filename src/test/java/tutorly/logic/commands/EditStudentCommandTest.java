@@ -2,6 +2,7 @@ package tutorly.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.DESC_AMY;
 import static tutorly.logic.commands.CommandTestUtil.DESC_BOB;
 import static tutorly.logic.commands.CommandTestUtil.VALID_NAME_BOB;
@@ -147,6 +148,16 @@ public class EditStudentCommandTest {
         assertNotEquals(standardCommand, new EditStudentCommand(IDENTITY_SECOND_PERSON, DESC_BOB));
     }
 
+    @Test
+    public void estimateSize_longMemo_countsMemo() {
+        EditStudentCommand shortMemoCommand = new EditStudentCommand(IDENTITY_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withMemo("a").build());
+        EditStudentCommand longMemoCommand = new EditStudentCommand(IDENTITY_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withMemo("a".repeat(200)).build());
+        assertTrue(longMemoCommand.estimateSize() >= shortMemoCommand.estimateSize() + 2 * 199);
+        assertTrue(shortMemoCommand.estimateSize() > Command.DEFAULT_ESTIMATED_SIZE);
+    }
+
     @Test
     public void toStringMethod() {
         EditPersonDescriptor editPersonDescriptor = new EditPersonDescriptor();
@@ -8,6 +8,7 @@ import static tutorly.testutil.TypicalAddressBook.ALICE;
 import static tutorly.testutil.TypicalAddressBook.BENSON;
 import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
 import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,15 @@ public class EnrolSessionCommandTest {
         assertTrue(model.hasAttendanceRecord(expectedRecord));
     }
 
+    @Test
+    public void execute_studentInOverlappingSession_throwsCommandException() {
+        model.addSession(MATH_SESSION_OVERLAP);
+        EnrolSessionCommand enrolSessionCommand = new EnrolSessionCommand(bensonIdentity, MATH_SESSION_OVERLAP.getId());
+
+        assertThrows(CommandException.class, String.format(Messages.MESSAGE_SCHEDULE_CONFLICT,
+                BENSON.getName().fullName, Messages.format(MATH_SESSION)), () -> enrolSessionCommand.execute(model));
+    }
+
     @Test
     public void execute_invalidIdentity_throwsCommandException() {
         EnrolSessionCommand enrolSessionCommand =
@@ -0,0 +1,139 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.logic.Messages;
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.filter.DateRangeSessionFilter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.session.DateRange;
+import tutorly.testutil.TypicalAddressBook;
+
+public class ExportCommandTest {
+
+    private static final DateRangeSessionFilter MATH_DAY = new DateRangeSessionFilter(
+            new DateRange(LocalDate.of(2025, 3, 25), LocalDate.of(2025, 3, 25)));
+    private static final NameContainsKeywordsFilter MEIER = new NameContainsKeywordsFilter(List.of("meier"));
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_students_allStudentsWritten() throws Exception {
+        Path file = tempDir.resolve("students.csv");
+        assertCommandSuccess(new ExportCommand(Type.STUDENTS, file, Optional.empty(), Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 7, "students", file), expectedModel);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(8, lines.size());
+        assertEquals("id,name,phone,email,address,tags,memo", lines.get(0));
+        assertEquals("1,Alice Pauline,94351253,alice@example.com,\"123, Jurong West Ave 6, #08-111\",friends,",
+                lines.get(1));
+        assertEquals("2,Benson Meier,98765432,johnd@example.com,\"311, Clementi Ave 2, #02-25\","
+                + "\"friends,owesMoney\",", lines.get(2));
+    }
+
+    @Test
+    public void execute_studentsMatchingQuery_onlyMatchingStudentsWritten() throws Exception {
+        Path file = tempDir.resolve("nested").resolve("students.csv");
+        assertCommandSuccess(new ExportCommand(Type.STUDENTS, file, Optional.of(MEIER), Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 2, "students", file), expectedModel);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(1).startsWith("2,Benson Meier,"));
+        assertTrue(lines.get(2).startsWith("4,Daniel Meier,"));
+    }
+
+    @Test
+    public void execute_sessionsOnDate_onlySessionsOnDateWritten() throws Exception {
+        Path file = tempDir.resolve("sessions.csv");
+        assertCommandSuccess(new ExportCommand(Type.SESSIONS, file, Optional.empty(), Optional.of(MATH_DAY)), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, "sessions", file), expectedModel);
+
+        assertEquals(List.of("id,subject,timeslot",
+                "1,Math," + Messages.format(TypicalAddressBook.MATH_SESSION.getTimeslot())),
+                Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_attendanceFiltered_joinedRowsWritten() throws Exception {
+        Path file = tempDir.resolve("attendance.csv");
+        assertCommandSuccess(new ExportCommand(Type.ATTENDANCE, file, Optional.of(MEIER), Optional.of(MATH_DAY)),
+                model, String.format(ExportCommand.MESSAGE_SUCCESS, 2, "attendance", file), expectedModel);
+
+        String mathTimeslot = Messages.format(TypicalAddressBook.MATH_SESSION.getTimeslot());
+        assertEquals(List.of("student_id,student_name,session_id,subject,timeslot,present,feedback",
+                "2,Benson Meier,1,Math," + mathTimeslot + ",true,",
+                "4,Daniel Meier,1,Math," + mathTimeslot + ",false,"),
+                Files.readAllLines(file));
+    }
+
+    @Test
+    public void execute_calendarOnDate_eventsWritten() throws Exception {
+        Path file = tempDir.resolve("sessions.ics");
+        assertCommandSuccess(new ExportCommand(Type.CALENDAR, file, Optional.empty(), Optional.of(MATH_DAY)), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, "sessions", file), expectedModel);
+
+        // the description is folded onto a second line, which is unfolded here
+        List<String> lines = List.of(Files.readString(file).replace("\r\n ", "").split("\r\n"));
+        assertEquals(List.of("BEGIN:VCALENDAR", "VERSION:2.0", "PRODID:" + ExportCommand.CALENDAR_PRODUCT_ID,
+                "BEGIN:VEVENT", "UID:session-1@tutorly"), lines.subList(0, 5));
+        assertTrue(lines.get(5).matches("DTSTAMP:\\d{8}T\\d{6}Z"));
+        assertEquals(List.of("DTSTART:20250325T100000", "DTEND:20250325T120000", "SUMMARY:Math",
+                "DESCRIPTION:Students: Alice Pauline\\, Benson Meier\\, Daniel Meier\\, Elle Meyer",
+                "END:VEVENT", "END:VCALENDAR"), lines.subList(6, lines.size()));
+    }
+
+    @Test
+    public void execute_fileIsDirectory_throwsCommandException() {
+        ExportCommand command = new ExportCommand(Type.STUDENTS, tempDir, Optional.empty(), Optional.empty());
+        CommandException thrown = assertThrows(CommandException.class, () -> command.execute(model));
+        assertTrue(thrown.getMessage().startsWith(String.format(ExportCommand.MESSAGE_EXPORT_FAILED, tempDir, "")));
+    }
+
+    @Test
+    public void equals() {
+        Path file = tempDir.resolve("students.csv");
+        ExportCommand command = new ExportCommand(Type.STUDENTS, file, Optional.empty(), Optional.empty());
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new ExportCommand(Type.STUDENTS, file, Optional.empty(), Optional.empty())));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different fields -> returns false
+        assertFalse(command.equals(new ExportCommand(Type.ATTENDANCE, file, Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(new ExportCommand(Type.STUDENTS, tempDir, Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(new ExportCommand(Type.STUDENTS, file, Optional.of(MEIER), Optional.empty())));
+        assertFalse(command.equals(new ExportCommand(Type.STUDENTS, file, Optional.empty(), Optional.of(MATH_DAY))));
+    }
+}
@@ -0,0 +1,65 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.session.DateRange;
+import tutorly.model.session.Timeslot;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for FreeSlotSessionCommand.
+ */
+public class FreeSlotSessionCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Timeslot> windows = new DateRange(LocalDate.of(2025, 3, 25), LocalDate.of(2025, 3, 26))
+            .toDailyTimeslots(LocalTime.of(9, 0), LocalTime.of(13, 0));
+
+    @Test
+    public void constructor_nonPositiveDuration_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotSessionCommand(windows, Duration.ZERO));
+    }
+
+    @Test
+    public void execute_workingHours_freeTimeslotsFound() {
+        String expectedMessage = String.format(FreeSlotSessionCommand.MESSAGE_SUCCESS, 3, "1h") + ":\n"
+                + "25 Mar 2025 9:00 - 10:00\n"
+                + "25 Mar 2025 12:00 - 13:00\n"
+                + "26 Mar 2025 10:00 - 13:00";
+        assertCommandSuccess(new FreeSlotSessionCommand(windows, Duration.ofHours(1)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noFreeTimeslots_noneFound() {
+        String expectedMessage = String.format(FreeSlotSessionCommand.MESSAGE_SUCCESS, 0, "4h30m");
+        assertCommandSuccess(new FreeSlotSessionCommand(windows, Duration.ofMinutes(270)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotSessionCommand command = new FreeSlotSessionCommand(windows, Duration.ofHours(1));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FreeSlotSessionCommand(windows, Duration.ofMinutes(60))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+        assertFalse(command.equals(new FreeSlotSessionCommand(windows, Duration.ofHours(2))));
+        assertFalse(command.equals(new FreeSlotSessionCommand(windows.subList(0, 1), Duration.ofHours(1))));
+    }
+}
@@ -0,0 +1,82 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.ui.Tab;
+
+public class HoursSessionCommandTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        HoursSessionCommand allMonthsCommand = new HoursSessionCommand(Optional.empty());
+        HoursSessionCommand marchCommand = new HoursSessionCommand(Optional.of(MARCH));
+
+        // same object -> returns true
+        assertTrue(marchCommand.equals(marchCommand));
+
+        // same values -> returns true
+        assertTrue(marchCommand.equals(new HoursSessionCommand(Optional.of(MARCH))));
+
+        // different types -> returns false
+        assertFalse(marchCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(marchCommand.equals(null));
+
+        // different month -> returns false
+        assertFalse(marchCommand.equals(allMonthsCommand));
+        assertFalse(marchCommand.equals(new HoursSessionCommand(Optional.of(MARCH.plusMonths(1)))));
+    }
+
+    @Test
+    public void execute_noHours_showsNoHours() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        CommandResult expectedResult = new CommandResult.Builder(HoursSessionCommand.MESSAGE_NO_HOURS)
+                .withTab(Tab.session()).build();
+        assertCommandSuccess(new HoursSessionCommand(Optional.empty()), emptyModel, expectedResult,
+                new ModelManager(new AddressBook(), new UserPrefs()));
+
+        expectedResult = new CommandResult.Builder(String.format(HoursSessionCommand.MESSAGE_NO_HOURS_IN_MONTH,
+                "Apr 2025")).withTab(Tab.session()).build();
+        assertCommandSuccess(new HoursSessionCommand(Optional.of(MARCH.plusMonths(1))), model, expectedResult,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_allMonths_showsHoursByMonth() {
+        String expectedMessage = HoursSessionCommand.MESSAGE_MONTHS + "\n  Mar 2025: 8h";
+        CommandResult expectedResult = new CommandResult.Builder(expectedMessage).withTab(Tab.session()).build();
+        assertCommandSuccess(new HoursSessionCommand(Optional.empty()), model, expectedResult, expectedModel);
+    }
+
+    @Test
+    public void execute_month_showsHoursBySubjectAndStudent() {
+        String expectedMessage = String.format(HoursSessionCommand.MESSAGE_MONTH, "Mar 2025", "8h") + "\n"
+                + HoursSessionCommand.MESSAGE_SUBJECT + "\n"
+                + "  English: 4h\n"
+                + "  Math: 4h\n"
+                + HoursSessionCommand.MESSAGE_STUDENT + "\n"
+                + "  Alice Pauline: 4h\n"
+                + "  Benson Meier: 2h\n"
+                + "  Carl Kurz: 2h";
+        CommandResult expectedResult = new CommandResult.Builder(expectedMessage).withTab(Tab.session()).build();
+        assertCommandSuccess(new HoursSessionCommand(Optional.of(MARCH)), model, expectedResult, expectedModel);
+    }
+}
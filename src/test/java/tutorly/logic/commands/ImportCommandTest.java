@@ -0,0 +1,344 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorly.logic.Messages;
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.AddressBook;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.person.Email;
+import tutorly.model.person.Identity;
+import tutorly.model.person.Person;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path write(String fileName, String content) throws Exception {
+        Path file = tempDir.resolve(fileName);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    @Test
+    public void execute_students_allStudentsAddedWithNewIds() throws Exception {
+        Path file = write("students.csv", "id,name,phone,email,address,tags,memo\r\n"
+                + "1,Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",\"friends,owesMoney\",Needs help\r\n"
+                + "2,Bob Choo,,,,,\r\n");
+
+        CommandResult result = new ImportCommand(Type.STUDENTS, file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "students", file), result.getFeedbackToUser());
+        assertEquals(new BulkDeleteStudentCommand(new int[] {8, 9}), result.getReverseCommand());
+        Person amy = model.getPersonById(8).get();
+        assertEquals("Amy Bee", amy.getName().fullName);
+        assertEquals("Block 312, Amy Street 1", amy.getAddress().value);
+        assertEquals(Set.of("friends", "owesMoney"),
+                amy.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toSet()));
+        assertEquals(Email.empty(), model.getPersonById(9).get().getEmail());
+
+        result.getReverseCommand().execute(model);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidStudents_nothingImported() throws Exception {
+        Path file = write("students.csv", "name,email\n"
+                + "Amy Bee,amy@example.com\n"
+                + "Bob Choo,not an email\n"
+                + "alice pauline,\n"
+                + "Amy Bee,\n"
+                + "Carl,carl@example.com,extra\n");
+
+        assertCommandFailure(new ImportCommand(Type.STUDENTS, file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, file, 4)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, Email.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, Messages.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, Messages.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 2, 3)));
+    }
+
+    @Test
+    public void execute_manyInvalidRows_firstFewReported() throws Exception {
+        String rows = IntStream.range(0, ImportCommand.MAX_REPORTED_ROWS + 3)
+                .mapToObj(i -> "Student " + i + ",invalid\n")
+                .collect(Collectors.joining());
+        Path file = write("students.csv", "name,email\n" + rows);
+
+        CommandException e = assertThrows(CommandException.class, () ->
+                new ImportCommand(Type.STUDENTS, file).execute(model));
+        assertTrue(e.getMessage().endsWith(String.format(ImportCommand.MESSAGE_MORE_INVALID_ROWS, 3)));
+        assertTrue(e.getMessage().contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 2,
+                Email.MESSAGE_CONSTRAINTS)));
+    }
+
+    @Test
+    public void execute_exportedStudents_roundTrip() throws Exception {
+        Path file = tempDir.resolve("students.csv");
+        new ExportCommand(Type.STUDENTS, file, Optional.empty(), Optional.empty()).execute(model);
+
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(Type.STUDENTS, file).execute(emptyModel);
+
+        assertEquals(model.getAddressBook().getPersonList(), emptyModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_sessions_allSessionsAdded() throws Exception {
+        Path file = write("sessions.csv", "subject,timeslot\n"
+                + "Physics,1 Apr 2025 10:00-12:00\n"
+                + "Chemistry,\"2 Apr 2025 10:00 - 12:00\"\n");
+
+        CommandResult result = new ImportCommand(Type.SESSIONS, file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "sessions", file), result.getFeedbackToUser());
+        assertEquals(new BulkDeleteSessionCommand(new int[] {3, 4}), result.getReverseCommand());
+        assertEquals("Physics", model.getSessionById(3).map(Session::getSubject).get().subjectName);
+        assertEquals("Chemistry", model.getSessionById(4).map(Session::getSubject).get().subjectName);
+    }
+
+    @Test
+    public void execute_overlappingSessions_allSessionsAdded() throws Exception {
+        Path file = write("sessions.csv", "subject,timeslot\n"
+                + "Physics,1 Apr 2025 10:00-12:00\n"
+                + "Chemistry,1 Apr 2025 11:00-13:00\n"
+                + "Biology,25 Mar 2025 11:00-13:00\n");
+
+        CommandResult result = new ImportCommand(Type.SESSIONS, file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, "sessions", file), result.getFeedbackToUser());
+        assertEquals(new BulkDeleteSessionCommand(new int[] {3, 4, 5}), result.getReverseCommand());
+    }
+
+    @Test
+    public void execute_calendar_allEventsAddedAsSessions() throws Exception {
+        Path file = write("sessions.ics", String.join("\r\n", "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT", "DTSTART:20250401T100000", "DTEND:20250401T120000", "SUMMARY:Physics", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250402T090000", "DURATION:PT1H30M", "SUMMARY:Chem", " istry", "END:VEVENT",
+                "END:VCALENDAR", ""));
+
+        CommandResult result = new ImportCommand(Type.CALENDAR, file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "sessions", file), result.getFeedbackToUser());
+        assertEquals(new BulkDeleteSessionCommand(new int[] {3, 4}), result.getReverseCommand());
+        assertEquals(new Timeslot(LocalDateTime.of(2025, 4, 1, 10, 0), LocalDateTime.of(2025, 4, 1, 12, 0)),
+                model.getSessionById(3).get().getTimeslot());
+        Session chemistry = model.getSessionById(4).get();
+        assertEquals("Chemistry", chemistry.getSubject().subjectName);
+        assertEquals(new Timeslot(LocalDateTime.of(2025, 4, 2, 9, 0), LocalDateTime.of(2025, 4, 2, 10, 30)),
+                chemistry.getTimeslot());
+    }
+
+    @Test
+    public void execute_invalidEvents_nothingImported() throws Exception {
+        Path file = write("sessions.ics", String.join("\n", "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT", "DTSTART;VALUE=DATE:20250401", "SUMMARY:Physics", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250402T100000", "DTEND:20250402T120000", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250325T110000", "DTEND:20250325T130000", "SUMMARY:Physics", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250403T110000", "DTEND:20250403T130000", "SUMMARY:Physics", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250403T100000", "DTEND:20250403T120000", "SUMMARY:Physics", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART;TZID=Nowhere:20250404T100000", "DTEND:20250404T120000", "SUMMARY:Physics",
+                "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250405T100000", "DTEND:20250405T120000", "SUMMARY:Physics",
+                "RRULE:FREQ=WEEKLY;COUNT=4", "END:VEVENT",
+                "BEGIN:VEVENT", "DTSTART:20250406T100000", "DTEND:20250406T120000", "SUMMARY:Physics",
+                "EXDATE:20250413T100000", "END:VEVENT",
+                "END:VCALENDAR"));
+
+        assertCommandFailure(new ImportCommand(Type.CALENDAR, file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, file, 5)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, ImportCommand.MESSAGE_ALL_DAY_EVENT)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(ImportCommand.MESSAGE_MISSING_PROPERTY, "SUMMARY"))
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 25,
+                        String.format(ImportCommand.MESSAGE_UNKNOWN_TIME_ZONE, "Nowhere", "DTSTART"))
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 30,
+                        String.format(ImportCommand.MESSAGE_RECURRING_EVENT, "RRULE"))
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 36,
+                        String.format(ImportCommand.MESSAGE_RECURRING_EVENT, "EXDATE")));
+    }
+
+    @Test
+    public void execute_exportedCalendar_roundTrip() throws Exception {
+        Path file = tempDir.resolve("sessions.ics");
+        new ExportCommand(Type.CALENDAR, file, Optional.empty(), Optional.empty()).execute(model);
+
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(Type.CALENDAR, file).execute(emptyModel);
+
+        assertEquals(model.getAddressBook().getSessionList(), emptyModel.getAddressBook().getSessionList());
+    }
+
+    @Test
+    public void execute_attendance_allRecordsAdded() throws Exception {
+        Path file = write("attendance.csv", "student_id,student_name,session_id,present,feedback\n"
+                + "3,,1,true,\"Good, but rushed\"\n"
+                + ",George Best,2,,\n");
+
+        CommandResult result = new ImportCommand(Type.ATTENDANCE, file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, "attendance", file),
+                result.getFeedbackToUser());
+        assertEquals(new BulkDeleteAttendanceCommand(new int[] {3, 7}, new int[] {1, 2}), result.getReverseCommand());
+        assertTrue(model.getAttendanceRecordList().contains(
+                new AttendanceRecord(3, 1, true, new Feedback("Good, but rushed"))));
+        assertTrue(model.getAttendanceRecordList().contains(new AttendanceRecord(7, 2, false, Feedback.empty())));
+
+        result.getReverseCommand().execute(model);
+        assertFalse(model.hasAttendanceRecord(new AttendanceRecord(3, 1, false, Feedback.empty())));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidAttendance_nothingImported() throws Exception {
+        Path file = write("attendance.csv", "student_id,session_id,present\n"
+                + "1,1,true\n"
+                + "99,1,true\n"
+                + "3,99,true\n"
+                + "3,1,maybe\n"
+                + "7,2,false\n"
+                + "7,2,true\n");
+
+        assertCommandFailure(new ImportCommand(Type.ATTENDANCE, file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, file, 5)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2,
+                        EnrolSessionCommand.MESSAGE_DUPLICATE_ENROLMENT)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, Messages.MESSAGE_PERSON_NOT_FOUND)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, Messages.MESSAGE_SESSION_NOT_FOUND)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, ImportCommand.MESSAGE_INVALID_PRESENT)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 7,
+                        EnrolSessionCommand.MESSAGE_DUPLICATE_ENROLMENT));
+    }
+
+    @Test
+    public void execute_overlappingEnrolments_nothingImported() throws Exception {
+        model.addSession(MATH_SESSION_OVERLAP);
+        Path file = write("attendance.csv", "student_id,session_id\n"
+                + "1,3\n"
+                + "7,1\n"
+                + "7,3\n");
+
+        assertCommandFailure(new ImportCommand(Type.ATTENDANCE, file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, file, 2)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, String.format(
+                        Messages.MESSAGE_SCHEDULE_CONFLICT, ALICE.getName().fullName, Messages.format(MATH_SESSION)))
+                // the overlapping session is enrolled in by an earlier row
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, String.format(
+                        Messages.MESSAGE_SCHEDULE_CONFLICT, "George Best", Messages.format(MATH_SESSION))));
+    }
+
+    @Test
+    public void execute_sameStudentByIdAndNameOrNoSession_nothingImported() throws Exception {
+        Path file = write("attendance.csv", "student_id,student_name,session_id\n"
+                + "7,,1\n"
+                + ",George Best,1\n"
+                + ",George Best,\n");
+
+        assertCommandFailure(new ImportCommand(Type.ATTENDANCE, file), model,
+                String.format(ImportCommand.MESSAGE_INVALID_ROWS, file, 2)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3,
+                        EnrolSessionCommand.MESSAGE_DUPLICATE_ENROLMENT)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, ImportCommand.MESSAGE_MISSING_SESSION));
+    }
+
+    @Test
+    public void execute_exportedDataWithNewIds_attendanceMatchedByNameAndTimeslot() throws Exception {
+        Path students = tempDir.resolve("students.csv");
+        Path sessions = tempDir.resolve("sessions.csv");
+        Path attendance = tempDir.resolve("attendance.csv");
+        new ExportCommand(Type.STUDENTS, students, Optional.empty(), Optional.empty()).execute(model);
+        new ExportCommand(Type.SESSIONS, sessions, Optional.empty(), Optional.empty()).execute(model);
+        new ExportCommand(Type.ATTENDANCE, attendance, Optional.empty(), Optional.empty()).execute(model);
+
+        // the imported students and sessions are given IDs from 100 and 200
+        Model otherModel = new ModelManager(new AddressBook(100, 200), new UserPrefs());
+        new ImportCommand(Type.STUDENTS, students).execute(otherModel);
+        new ImportCommand(Type.SESSIONS, sessions).execute(otherModel);
+        new ImportCommand(Type.ATTENDANCE, attendance).execute(otherModel);
+
+        assertEquals(model.getAttendanceRecordList().size(), otherModel.getAttendanceRecordList().size());
+        for (AttendanceRecord record : model.getAttendanceRecordList()) {
+            Person person = otherModel.getPersonByIdentity(new Identity(
+                    model.getPersonById(record.getStudentId()).get().getName())).get();
+            Session session = model.getSessionById(record.getSessionId()).get();
+            Session otherSession = otherModel.getSessionList().stream()
+                    .filter(other -> other.getTimeslot().equals(session.getTimeslot()))
+                    .findFirst().get();
+            assertTrue(otherModel.getAttendanceRecordList().contains(new AttendanceRecord(person.getId(),
+                    otherSession.getId(), record.getAttendance(), record.getFeedback())));
+        }
+    }
+
+    @Test
+    public void execute_missingHeaderOrColumn_throwsCommandException() throws Exception {
+        Path empty = write("empty.csv", "\n\n");
+        assertCommandFailure(new ImportCommand(Type.STUDENTS, empty), model,
+                String.format(ImportCommand.MESSAGE_IMPORT_FAILED, empty, ImportCommand.MESSAGE_NO_HEADER));
+
+        Path noTimeslot = write("sessions.csv", "id,subject\n1,Math\n");
+        assertCommandFailure(new ImportCommand(Type.SESSIONS, noTimeslot), model,
+                String.format(ImportCommand.MESSAGE_IMPORT_FAILED, noTimeslot,
+                        String.format(ImportCommand.MESSAGE_MISSING_COLUMN, "timeslot")));
+    }
+
+    @Test
+    public void execute_unreadableFile_throwsCommandException() throws Exception {
+        Path unclosed = write("unclosed.csv", "name\n\"Amy Bee\n");
+        assertCommandFailure(new ImportCommand(Type.STUDENTS, unclosed), model,
+                String.format(ImportCommand.MESSAGE_IMPORT_FAILED, unclosed, "Line 2: a quoted field is not closed"));
+    }
+
+    @Test
+    public void equals() {
+        Path file = tempDir.resolve("students.csv");
+        ImportCommand importStudents = new ImportCommand(Type.STUDENTS, file);
+
+        // same object -> returns true
+        assertTrue(importStudents.equals(importStudents));
+
+        // same values -> returns true
+        assertTrue(importStudents.equals(new ImportCommand(Type.STUDENTS, file)));
+
+        // different types -> returns false
+        assertFalse(importStudents.equals(1));
+
+        // null -> returns false
+        assertFalse(importStudents.equals(null));
+
+        // different type of rows -> returns false
+        assertFalse(importStudents.equals(new ImportCommand(Type.SESSIONS, file)));
+
+        // different file -> returns false
+        assertFalse(importStudents.equals(new ImportCommand(Type.STUDENTS, tempDir.resolve("other.csv"))));
+    }
+}
@@ -1,5 +1,7 @@
 package tutorly.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorly.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
@@ -8,9 +10,12 @@ import static tutorly.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import tutorly.logic.Messages;
 import tutorly.model.Model;
 import tutorly.model.ModelManager;
 import tutorly.model.UserPrefs;
+import tutorly.model.filter.Page;
+import tutorly.model.person.Person;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListStudentCommand.
@@ -36,4 +41,24 @@ public class ListStudentCommandTest {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListStudentCommand(), model, ListStudentCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_page_showsPage() {
+        Page<Person> page = new Page<>(0, 2, null, false);
+        expectedModel.updateFilteredPersonList(Model.FILTER_SHOW_ALL_PERSONS, page);
+        String expectedMessage = ListStudentCommand.MESSAGE_SUCCESS + ". "
+                + String.format(Messages.MESSAGE_PAGE_SHOWN, "1-2", "7");
+        assertCommandSuccess(new ListStudentCommand(page), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        ListStudentCommand listCommand = new ListStudentCommand();
+
+        assertTrue(listCommand.equals(listCommand));
+        assertTrue(listCommand.equals(new ListStudentCommand(Page.all())));
+        assertFalse(listCommand.equals(null));
+        assertFalse(listCommand.equals(1));
+        assertFalse(listCommand.equals(new ListStudentCommand(new Page<>(0, 2, null, false))));
+    }
 }
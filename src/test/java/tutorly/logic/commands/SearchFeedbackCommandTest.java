@@ -0,0 +1,98 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.CARL_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.TextQuery;
+import tutorly.ui.Tab;
+
+public class SearchFeedbackCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        SearchFeedbackCommand firstCommand = new SearchFeedbackCommand(new TextQuery("fract*"));
+        SearchFeedbackCommand secondCommand = new SearchFeedbackCommand(new TextQuery("\"needs practice\""));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new SearchFeedbackCommand(new TextQuery("fract*"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_noMatches_showsZero() {
+        CommandResult expectedResult = new CommandResult.Builder(String.format(SearchFeedbackCommand.MESSAGE_SUCCESS,
+                0)).withTab(Tab.session()).build();
+        assertCommandSuccess(new SearchFeedbackCommand(new TextQuery("practice")), model, expectedResult,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_matchingFeedback_listsMostRelevantFirst() {
+        AttendanceRecord aliceMath = withFeedback(ALICE_ATTEND_MATH, "Needs practice with fractions");
+        AttendanceRecord aliceEnglish = withFeedback(ALICE_ATTEND_ENGLISH, "Good essay");
+        AttendanceRecord carlEnglish = withFeedback(CARL_ATTEND_ENGLISH, "Practice, practice and more practice");
+        for (Model m : List.of(model, expectedModel)) {
+            m.setAttendanceRecord(ALICE_ATTEND_MATH, aliceMath);
+            m.setAttendanceRecord(ALICE_ATTEND_ENGLISH, aliceEnglish);
+            m.setAttendanceRecord(CARL_ATTEND_ENGLISH, carlEnglish);
+        }
+
+        String expectedMessage = String.format(SearchFeedbackCommand.MESSAGE_SUCCESS, 2) + ":\n"
+                + String.format(SearchFeedbackCommand.MESSAGE_RECORD, CARL.getName().fullName,
+                        ENGLISH_SESSION.getId(), Messages.format(ENGLISH_SESSION.getTimeslot()),
+                        carlEnglish.getFeedback().value) + "\n"
+                + String.format(SearchFeedbackCommand.MESSAGE_RECORD, ALICE.getName().fullName,
+                        MATH_SESSION.getId(), Messages.format(MATH_SESSION.getTimeslot()),
+                        aliceMath.getFeedback().value);
+        CommandResult expectedResult = new CommandResult.Builder(expectedMessage).withTab(Tab.session()).build();
+        assertCommandSuccess(new SearchFeedbackCommand(new TextQuery("PRACT*")), model, expectedResult,
+                expectedModel);
+    }
+
+    @Test
+    public void toStringMethod() {
+        TextQuery query = new TextQuery("fract*");
+        SearchFeedbackCommand command = new SearchFeedbackCommand(query);
+        String expected = SearchFeedbackCommand.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    private static AttendanceRecord withFeedback(AttendanceRecord record, String feedback) {
+        return new AttendanceRecord(record.getStudentId(), record.getSessionId(), record.getAttendance(),
+                new Feedback(feedback));
+    }
+}
@@ -21,9 +21,12 @@ import tutorly.model.Model;
 import tutorly.model.ModelManager;
 import tutorly.model.UserPrefs;
 import tutorly.model.filter.AnyFilter;
+import tutorly.model.filter.DateRangeSessionFilter;
 import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
 
 /**
@@ -57,6 +60,10 @@ public class SearchSessionCommandTest {
 
         // different filter -> returns false
         assertFalse(searchFirstCommand.equals(searchSecondCommand));
+
+        // different date range -> returns false
+        assertFalse(searchFirstCommand.equals(new SearchSessionCommand(firstFilter, Page.all(),
+                new DateRange(validDate, validDate.plusDays(1)))));
     }
 
     @Test
@@ -85,6 +92,19 @@ public class SearchSessionCommandTest {
         assertEquals(expectedResult, model.getFilteredSessionList());
     }
 
+    @Test
+    public void execute_dateRange_sessionsSummarisedByDate() {
+        DateRange dateRange = new DateRange(LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 30));
+        Filter<Session> filter = Filter.any(List.of(new DateRangeSessionFilter(dateRange)));
+        String expectedMessage = String.format(MESSAGE_SESSIONS_LISTED_OVERVIEW, 2) + "\n"
+                + "2 sessions from 24 Mar 2025 to 30 Mar 2025: 25 Mar 2025 (1), 26 Mar 2025 (1)";
+
+        SearchSessionCommand command = new SearchSessionCommand(filter, Page.all(), dateRange);
+        expectedModel.updateFilteredSessionList(filter);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(getTypicalSessions(), model.getFilteredSessionList());
+    }
+
     @Test
     public void toStringMethod() {
         DateSessionFilter dateFilter = new DateSessionFilter(validDate);
@@ -94,7 +114,7 @@ public class SearchSessionCommandTest {
 
         String expected = SearchSessionCommand.class.getCanonicalName()
                 + "{filter=" + AnyFilter.class.getCanonicalName()
-                + "{filters=[" + dateFilter + ", " + subjectFilter + "]}}";
+                + "{filters=[" + dateFilter + ", " + subjectFilter + "]}, page=" + Page.all() + ", dateRange=null}";
         assertEquals(expected, searchCommand.toString());
     }
 
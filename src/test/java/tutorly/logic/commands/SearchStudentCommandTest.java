@@ -28,6 +28,7 @@ import tutorly.model.filter.AnyFilter;
 import tutorly.model.filter.AttendSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.Page;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
 
@@ -106,7 +107,8 @@ public class SearchStudentCommandTest {
 
         String expected = SearchStudentCommand.class.getCanonicalName()
                 + "{filter=" + AnyFilter.class.getCanonicalName()
-                + "{filters=[" + sessionFilter + ", " + nameFilter + ", " + phoneFilter + "]}}";
+                + "{filters=[" + sessionFilter + ", " + nameFilter + ", " + phoneFilter + "]}"
+                + ", page=" + Page.all() + "}";
         assertEquals(expected, searchCommand.toString());
     }
 
@@ -0,0 +1,64 @@
+package tutorly.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+import tutorly.model.person.PersonSortKey;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for SortStudentCommand.
+ */
+public class SortStudentCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_ascending_success() {
+        expectedModel.sortFilteredPersonList(PersonSortKey.NAME, false);
+        String expectedMessage = String.format(SortStudentCommand.MESSAGE_SUCCESS, "name");
+        assertCommandSuccess(new SortStudentCommand(PersonSortKey.NAME, false), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_descending_success() {
+        expectedModel.sortFilteredPersonList(PersonSortKey.LAST_ATTENDED, true);
+        String expectedMessage = String.format(SortStudentCommand.MESSAGE_SUCCESS_DESCENDING, "lastattended");
+        assertCommandSuccess(new SortStudentCommand(PersonSortKey.LAST_ATTENDED, true), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SortStudentCommand sortCommand = new SortStudentCommand(PersonSortKey.NAME, false);
+
+        // same values -> returns true
+        assertTrue(sortCommand.equals(sortCommand));
+        assertTrue(sortCommand.equals(new SortStudentCommand(PersonSortKey.NAME, false)));
+
+        // different types -> returns false
+        assertFalse(sortCommand.equals(null));
+        assertFalse(sortCommand.equals(1));
+
+        // different values -> returns false
+        assertFalse(sortCommand.equals(new SortStudentCommand(PersonSortKey.ID, false)));
+        assertFalse(sortCommand.equals(new SortStudentCommand(PersonSortKey.NAME, true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortStudentCommand sortCommand = new SortStudentCommand(PersonSortKey.NAME, true);
+        String expected = SortStudentCommand.class.getCanonicalName() + "{sortKey=" + PersonSortKey.NAME
+                + ", isDescending=true}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
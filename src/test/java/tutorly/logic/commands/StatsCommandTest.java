@@ -0,0 +1,37 @@
+package tutorly.logic.commands;
+
+import static tutorly.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.Model;
+import tutorly.model.ModelManager;
+import tutorly.model.UserPrefs;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_showsNoCounts() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+
+        String expectedMessage = "Overall: 0 enrolled, 0 present, 0 absent (0% attendance), 0 with feedback";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_typicalAddressBook_showsCountsBySubjectAndMonth() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        String expectedMessage = "Overall: 8 enrolled, 4 present, 4 absent (50% attendance), 0 with feedback\n"
+                + StatsCommand.MESSAGE_SUBJECT + "\n"
+                + "  English: 4 enrolled, 2 present, 2 absent (50% attendance), 0 with feedback\n"
+                + "  Math: 4 enrolled, 2 present, 2 absent (50% attendance), 0 with feedback\n"
+                + StatsCommand.MESSAGE_MONTH + "\n"
+                + "  Mar 2025: 8 enrolled, 4 present, 4 absent (50% attendance), 0 with feedback";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,106 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.commands.CommandTestUtil.SUBJECT_DESC;
+import static tutorly.logic.commands.CommandTestUtil.TIMESLOT_DESC;
+import static tutorly.logic.parser.CliSyntax.PREFIX_COUNT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_EVERY;
+import static tutorly.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TIMESLOT;
+import static tutorly.logic.parser.CliSyntax.PREFIX_UNTIL;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.logic.commands.AddRecurringSessionCommand;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+
+public class AddRecurringSessionCommandParserTest {
+
+    private static final String BASE_INPUT = " " + PREFIX_TIMESLOT + "25 Mar 2025 10:00-12:00 "
+            + PREFIX_SUBJECT + "Mathematics";
+    private static final Timeslot FIRST = new Timeslot(LocalDateTime.of(2025, 3, 25, 10, 0),
+            LocalDateTime.of(2025, 3, 25, 12, 0));
+    private static final Subject SUBJECT = new Subject("Mathematics");
+
+    private final AddRecurringSessionCommandParser parser = new AddRecurringSessionCommandParser();
+
+    @Test
+    public void parse_count_success() {
+        AddRecurringSessionCommand expectedCommand = new AddRecurringSessionCommand(
+                List.of(FIRST, FIRST.plusWeeks(1), FIRST.plusWeeks(2)), SUBJECT);
+        assertParseSuccess(parser, BASE_INPUT + " " + PREFIX_COUNT + "3", expectedCommand);
+    }
+
+    @Test
+    public void parse_untilBiweekly_success() {
+        // 22 Apr is exactly 4 weeks after the first occurrence and is included
+        AddRecurringSessionCommand expectedCommand = new AddRecurringSessionCommand(
+                List.of(FIRST, FIRST.plusWeeks(2), FIRST.plusWeeks(4)), SUBJECT);
+        assertParseSuccess(parser, BASE_INPUT + " " + PREFIX_EVERY + "2 " + PREFIX_UNTIL + "22 Apr 2025",
+                expectedCommand);
+        assertParseSuccess(parser, BASE_INPUT + " " + PREFIX_EVERY + "2 " + PREFIX_UNTIL + "5 May 2025",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_untilSameDay_singleOccurrence() {
+        assertParseSuccess(parser, BASE_INPUT + " " + PREFIX_UNTIL + "25 Mar 2025",
+                new AddRecurringSessionCommand(List.of(FIRST), SUBJECT));
+    }
+
+    @Test
+    public void parse_missingOrBothEndConditions_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecurringSessionCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, BASE_INPUT, expectedMessage);
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_COUNT + "3 " + PREFIX_UNTIL + "22 Apr 2025",
+                expectedMessage);
+    }
+
+    @Test
+    public void parse_missingTimeslotOrSubject_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AddRecurringSessionCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, SUBJECT_DESC + " " + PREFIX_COUNT + "3", expectedMessage);
+        assertParseFailure(parser, TIMESLOT_DESC + " " + PREFIX_COUNT + "3", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidEvery_throwsParseException() {
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_EVERY + "0 " + PREFIX_COUNT + "3",
+                AddRecurringSessionCommandParser.MESSAGE_INVALID_EVERY);
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_EVERY + "53 " + PREFIX_COUNT + "3",
+                AddRecurringSessionCommandParser.MESSAGE_INVALID_EVERY);
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_COUNT + "-1",
+                AddRecurringSessionCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_COUNT + "1001",
+                AddRecurringSessionCommandParser.MESSAGE_TOO_MANY_OCCURRENCES);
+    }
+
+    @Test
+    public void parse_invalidUntil_throwsParseException() {
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_UNTIL + "24 Mar 2025",
+                AddRecurringSessionCommandParser.MESSAGE_UNTIL_BEFORE_START);
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_UNTIL + "2025-04-22",
+                ParserUtil.MESSAGE_INVALID_DATE_FORMAT);
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_UNTIL + "1 Jan 2050",
+                AddRecurringSessionCommandParser.MESSAGE_TOO_MANY_OCCURRENCES);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_throwsParseException() {
+        assertParseFailure(parser, BASE_INPUT + " " + PREFIX_COUNT + "3 " + PREFIX_COUNT + "4",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_COUNT));
+    }
+}
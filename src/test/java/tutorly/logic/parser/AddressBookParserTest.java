@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorly.logic.parser.CliSyntax.PREFIX_COUNT;
 import static tutorly.logic.parser.CliSyntax.PREFIX_DATE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_FEEDBACK;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
@@ -14,33 +15,48 @@ import static tutorly.logic.parser.ParserUtil.DATE_FORMATTER;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalIdentities.IDENTITY_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import tutorly.logic.commands.AddRecurringSessionCommand;
 import tutorly.logic.commands.AddSessionCommand;
 import tutorly.logic.commands.AddStudentCommand;
 import tutorly.logic.commands.AttendanceFeedbackCommand;
 import tutorly.logic.commands.AttendanceMarkSessionCommand;
 import tutorly.logic.commands.AttendanceUnmarkSessionCommand;
 import tutorly.logic.commands.ClearCommand;
+import tutorly.logic.commands.ConflictSessionCommand;
 import tutorly.logic.commands.DeleteSessionCommand;
 import tutorly.logic.commands.DeleteStudentCommand;
+import tutorly.logic.commands.DiagnosticsCommand;
 import tutorly.logic.commands.EditSessionCommand;
 import tutorly.logic.commands.EditSessionCommand.EditSessionDescriptor;
 import tutorly.logic.commands.EditStudentCommand;
 import tutorly.logic.commands.EditStudentCommand.EditPersonDescriptor;
 import tutorly.logic.commands.EnrolSessionCommand;
 import tutorly.logic.commands.ExitCommand;
+import tutorly.logic.commands.ExportCommand;
+import tutorly.logic.commands.FreeSlotSessionCommand;
 import tutorly.logic.commands.HelpCommand;
+import tutorly.logic.commands.HoursSessionCommand;
+import tutorly.logic.commands.ImportCommand;
 import tutorly.logic.commands.ListSessionCommand;
 import tutorly.logic.commands.ListStudentCommand;
+import tutorly.logic.commands.SearchFeedbackCommand;
 import tutorly.logic.commands.SearchSessionCommand;
 import tutorly.logic.commands.SearchStudentCommand;
 import tutorly.logic.commands.SessionCommand;
+import tutorly.logic.commands.SortSessionCommand;
+import tutorly.logic.commands.SortStudentCommand;
+import tutorly.logic.commands.StatsCommand;
 import tutorly.logic.commands.StudentCommand;
 import tutorly.logic.commands.UndoCommand;
 import tutorly.logic.commands.UnenrolSessionCommand;
@@ -50,11 +66,16 @@ import tutorly.model.filter.AttendSessionFilter;
 import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.Page;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
+import tutorly.model.filter.TextQuery;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
+import tutorly.model.session.SessionSortKey;
 import tutorly.testutil.EditPersonDescriptorBuilder;
 import tutorly.testutil.EditSessionDescriptorBuilder;
 import tutorly.testutil.PersonBuilder;
@@ -66,6 +87,30 @@ public class AddressBookParserTest {
 
     private final AddressBookParser parser = new AddressBookParser();
 
+    @Test
+    public void parseCommand_diagnostics() throws Exception {
+        assertTrue(parser.parse(DiagnosticsCommand.COMMAND_STRING) instanceof DiagnosticsCommand);
+        assertTrue(parser.parse(DiagnosticsCommand.COMMAND_STRING + " 3") instanceof DiagnosticsCommand);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        assertEquals(new ExportCommand(ExportCommand.Type.SESSIONS, Paths.get("sessions.csv"), Optional.empty(),
+                Optional.empty()), parser.parse(ExportCommand.COMMAND_STRING + " sessions file/sessions.csv"));
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(ExportCommand.Type.STUDENTS, Paths.get("students.csv")),
+                parser.parse(ImportCommand.COMMAND_STRING + " students file/students.csv"));
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parse(StatsCommand.COMMAND_STRING) instanceof StatsCommand);
+        assertTrue(parser.parse(StatsCommand.COMMAND_STRING + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parse(HelpCommand.COMMAND_STRING) instanceof HelpCommand);
@@ -111,6 +156,8 @@ public class AddressBookParserTest {
     public void parseCommand_studentList() throws Exception {
         assertTrue(parser.parse(ListStudentCommand.COMMAND_STRING) instanceof ListStudentCommand);
         assertTrue(parser.parse(ListStudentCommand.COMMAND_STRING + " 3") instanceof ListStudentCommand);
+        assertEquals(new ListStudentCommand(new Page<>(0, 5, PersonSortKey.NAME, false)),
+                parser.parse(ListStudentCommand.COMMAND_STRING + " limit/5 sort/name"));
     }
 
     @Test
@@ -138,6 +185,44 @@ public class AddressBookParserTest {
         assertEquals(new SearchStudentCommand(filter), command);
     }
 
+    @Test
+    public void parseCommand_studentSort() throws Exception {
+        assertEquals(new SortStudentCommand(PersonSortKey.LAST_ATTENDED, true),
+                parser.parse(SortStudentCommand.COMMAND_STRING + " -lastattended"));
+    }
+
+    @Test
+    public void parseCommand_sessionFree() throws Exception {
+        DateRange dateRange = new DateRange(LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 30));
+        assertEquals(new FreeSlotSessionCommand(List.of(dateRange.toTimeslot()), Duration.ofHours(2)),
+                parser.parse(FreeSlotSessionCommand.COMMAND_STRING + " d/24 Mar 2025..30 Mar 2025 dur/2h"));
+    }
+
+    @Test
+    public void parseCommand_sessionConflicts() throws Exception {
+        assertTrue(parser.parse(ConflictSessionCommand.COMMAND_STRING) instanceof ConflictSessionCommand);
+        assertTrue(parser.parse(ConflictSessionCommand.COMMAND_STRING + " 3") instanceof ConflictSessionCommand);
+    }
+
+    @Test
+    public void parseCommand_sessionHours() throws Exception {
+        assertEquals(new HoursSessionCommand(Optional.empty()), parser.parse(HoursSessionCommand.COMMAND_STRING));
+        assertEquals(new HoursSessionCommand(Optional.of(YearMonth.of(2025, 3))),
+                parser.parse(HoursSessionCommand.COMMAND_STRING + " Mar 2025"));
+    }
+
+    @Test
+    public void parseCommand_sessionFeedbacks() throws Exception {
+        assertEquals(new SearchFeedbackCommand(new TextQuery("fract*")),
+                parser.parse(SearchFeedbackCommand.COMMAND_STRING + " fract*"));
+    }
+
+    @Test
+    public void parseCommand_sessionSort() throws Exception {
+        assertEquals(new SortSessionCommand(SessionSortKey.TIME, false),
+                parser.parse(SortSessionCommand.COMMAND_STRING + " time"));
+    }
+
     @Test
     public void parseCommand_studentDelete() throws Exception {
         DeleteStudentCommand command = (DeleteStudentCommand) parser.parse(
@@ -152,6 +237,16 @@ public class AddressBookParserTest {
         assertEquals(new AddSessionCommand(session), command);
     }
 
+    @Test
+    public void parseCommand_sessionRecur() throws Exception {
+        Session session = new SessionBuilder().build();
+        AddRecurringSessionCommand command = (AddRecurringSessionCommand) parser.parse(
+                AddRecurringSessionCommand.COMMAND_STRING + " " + SessionUtil.getSessionDetails(session)
+                        + " " + PREFIX_COUNT + "2");
+        assertEquals(new AddRecurringSessionCommand(
+                List.of(session.getTimeslot(), session.getTimeslot().plusWeeks(1)), session.getSubject()), command);
+    }
+
     @Test
     public void parseCommand_sessionList() throws Exception {
         assertTrue(parser.parse(ListSessionCommand.COMMAND_STRING) instanceof ListSessionCommand);
@@ -4,15 +4,21 @@ import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.commands.CommandTestUtil.ID_DESC_SESSION;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ID_AMY;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ID_SESSION;
+import static tutorly.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static tutorly.logic.parser.CliSyntax.PREFIX_ALL;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorly.model.person.Identity.MESSAGE_INVALID_IDENTITY;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.commands.AttendanceUnmarkSessionCommand;
+import tutorly.logic.commands.BulkAttendanceSessionCommand;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Name;
 
 public class AttendanceUnmarkSessionCommandParserTest {
     private static final String MESSAGE_INVALID_FORMAT =
@@ -36,6 +42,39 @@ public class AttendanceUnmarkSessionCommandParserTest {
         assertParseFailure(parser, "-1 " + ID_DESC_SESSION, MESSAGE_INVALID_IDENTITY);
     }
 
+    @Test
+    public void parse_allPrefix_returnsBulkAttendanceSessionCommand() {
+        assertParseSuccess(parser, " " + PREFIX_ALL + ID_DESC_SESSION,
+                new BulkAttendanceSessionCommand(Integer.parseInt(VALID_ID_SESSION), false));
+    }
+
+    @Test
+    public void parse_allPrefixWithIdentifiersOrValue_failure() {
+        assertParseFailure(parser, VALID_ID_AMY + " " + PREFIX_ALL + ID_DESC_SESSION, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_ALL + "1" + ID_DESC_SESSION, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_studentNamedAll_returnsAttendanceUnmarkSessionCommand() {
+        assertParseSuccess(parser, "All" + ID_DESC_SESSION,
+                new AttendanceUnmarkSessionCommand(new Identity(new Name("All")), Integer.parseInt(VALID_ID_SESSION)));
+    }
+
+    @Test
+    public void parse_nameWithComma_returnsAttendanceUnmarkSessionCommand() {
+        assertParseSuccess(parser, "Doe, John" + ID_DESC_SESSION,
+                new AttendanceUnmarkSessionCommand(new Identity(new Name("Doe, John")),
+                        Integer.parseInt(VALID_ID_SESSION)));
+    }
+
+    @Test
+    public void parse_multipleIdentifiers_returnsBulkAttendanceSessionCommand() {
+        assertParseSuccess(parser, VALID_ID_AMY + " | " + VALID_NAME_BOB + ID_DESC_SESSION,
+                new BulkAttendanceSessionCommand(
+                        List.of(new Identity(Integer.parseInt(VALID_ID_AMY)), new Identity(new Name(VALID_NAME_BOB))),
+                        Integer.parseInt(VALID_ID_SESSION), false));
+    }
+
     @Test
     public void parse_validArgs_success() {
         assertParseSuccess(
@@ -0,0 +1,86 @@
+package tutorly.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.AddStudentCommand;
+import tutorly.logic.commands.CompoundCommand;
+import tutorly.logic.commands.DeleteStudentCommand;
+import tutorly.logic.commands.HelpCommand;
+import tutorly.logic.commands.StudentCommand;
+import tutorly.logic.commands.UndoCommand;
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.person.Identity;
+
+public class CommandLineParserTest {
+
+    private final CommandLineParser parser = new CommandLineParser();
+
+    @Test
+    public void parse_singleCommand_returnsCommand() throws Exception {
+        assertEquals(new DeleteStudentCommand(new Identity(1)),
+                parser.parse(DeleteStudentCommand.COMMAND_STRING + " 1"));
+
+        // trailing separator
+        assertEquals(new DeleteStudentCommand(new Identity(1)),
+                parser.parse(DeleteStudentCommand.COMMAND_STRING + " 1 ; "));
+    }
+
+    @Test
+    public void parse_multipleCommands_returnsCompoundCommand() throws Exception {
+        assertEquals(new CompoundCommand(List.of(new DeleteStudentCommand(new Identity(1)),
+                        new DeleteStudentCommand(new Identity(2)))),
+                parser.parse(DeleteStudentCommand.COMMAND_STRING + " 1; " + DeleteStudentCommand.COMMAND_STRING
+                        + " 2"));
+    }
+
+    @Test
+    public void parse_doubledSeparator_parsedAsSemicolon() throws Exception {
+        String command = AddStudentCommand.COMMAND_STRING + " n/Amy Bee m/Bring pens;;paper";
+        assertEquals(new AddressBookParser().parse(AddStudentCommand.COMMAND_STRING
+                + " n/Amy Bee m/Bring pens;paper"), parser.parse(command));
+    }
+
+    @Test
+    public void parse_invalidCommandInLine_throwsParseException() {
+        assertThrows(ParseException.class, String.format(CommandLineParser.MESSAGE_INVALID_COMMAND, 2, 2,
+                MESSAGE_UNKNOWN_COMMAND), () -> parser.parse(DeleteStudentCommand.COMMAND_STRING + " 1; "
+                + StudentCommand.COMMAND_WORD + " unknown"));
+    }
+
+    @Test
+    public void parse_separatorNotBeforeCommandWord_parsedAsSemicolon() throws Exception {
+        String command = AddStudentCommand.COMMAND_STRING + " n/Amy Bee a/Blk 1; #02-03 m/Bring pens; paper";
+        assertEquals(new AddressBookParser().parse(command), parser.parse(command));
+
+        // separator before a command word in a value
+        command = AddStudentCommand.COMMAND_STRING + " n/Amy Bee m/Bring pens;; " + StudentCommand.COMMAND_WORD
+                + " card";
+        assertEquals(new AddressBookParser().parse(AddStudentCommand.COMMAND_STRING + " n/Amy Bee m/Bring pens; "
+                + StudentCommand.COMMAND_WORD + " card"), parser.parse(command));
+    }
+
+    @Test
+    public void parse_undoWithOtherCommands_throwsParseException() {
+        assertThrows(ParseException.class, CommandLineParser.MESSAGE_UNDO_NOT_ALONE, () ->
+                parser.parse(DeleteStudentCommand.COMMAND_STRING + " 1; " + UndoCommand.COMMAND_STRING));
+    }
+
+    @Test
+    public void parse_undoAlone_returnsUndoCommand() throws Exception {
+        assertTrue(parser.parse(UndoCommand.COMMAND_STRING + ";") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parse_blankCommands_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+                -> parser.parse(" ; ;"));
+    }
+}
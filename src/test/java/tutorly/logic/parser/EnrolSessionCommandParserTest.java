@@ -2,17 +2,34 @@ package tutorly.logic.parser;
 
 import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorly.logic.commands.CommandTestUtil.ID_DESC_SESSION;
+import static tutorly.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static tutorly.logic.commands.CommandTestUtil.TAG_DESC_HUSBAND;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ID_AMY;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ID_SESSION;
+import static tutorly.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static tutorly.model.person.Identity.MESSAGE_INVALID_IDENTITY;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
+import tutorly.logic.commands.BulkEnrolSessionCommand;
 import tutorly.logic.commands.EnrolSessionCommand;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Name;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
 
 public class EnrolSessionCommandParserTest {
     private static final String MESSAGE_INVALID_FORMAT =
@@ -36,6 +53,33 @@ public class EnrolSessionCommandParserTest {
         assertParseFailure(parser, "-1 " + ID_DESC_SESSION, MESSAGE_INVALID_IDENTITY);
     }
 
+    @Test
+    public void parse_emptyIdentifier_failure() {
+        assertParseFailure(parser, VALID_ID_AMY + " | " + ID_DESC_SESSION, MESSAGE_INVALID_IDENTITY);
+    }
+
+    @Test
+    public void parse_multipleIdentifiers_returnsBulkEnrolSessionCommand() {
+        assertParseSuccess(
+                parser,
+                VALID_ID_AMY + " | " + VALID_NAME_BOB + ID_DESC_SESSION,
+                new BulkEnrolSessionCommand(
+                        List.of(new Identity(Integer.parseInt(VALID_ID_AMY)), new Identity(new Name(VALID_NAME_BOB))),
+                        Optional.empty(), Integer.parseInt(VALID_ID_SESSION)));
+    }
+
+    @Test
+    public void parse_selectorsOnly_returnsBulkEnrolSessionCommand() {
+        Filter<Person> expectedFilter = Filter.any(List.of(
+                new HasTagFilter(Set.of(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND))),
+                new NameContainsKeywordsFilter(List.of("Amy", "Bob"))));
+        assertParseSuccess(
+                parser,
+                ID_DESC_SESSION + TAG_DESC_FRIEND + TAG_DESC_HUSBAND + " " + PREFIX_NAME + "Amy Bob",
+                new BulkEnrolSessionCommand(
+                        List.of(), Optional.of(expectedFilter), Integer.parseInt(VALID_ID_SESSION)));
+    }
+
     @Test
     public void parse_validArgs_success() {
         assertParseSuccess(
@@ -0,0 +1,65 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.ExportCommand;
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.model.filter.DateRangeSessionFilter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.session.DateRange;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_typeAndFile_returnsExportCommand() {
+        assertParseSuccess(parser, " Students file/out/students.csv ",
+                new ExportCommand(Type.STUDENTS, Paths.get("out/students.csv"), Optional.empty(), Optional.empty()));
+    }
+
+    @Test
+    public void parse_filters_returnsFilteredExportCommand() {
+        assertParseSuccess(parser, " attendance file/attendance.csv q/name:meier d/1 Mar 2025..31 Mar 2025",
+                new ExportCommand(Type.ATTENDANCE, Paths.get("attendance.csv"),
+                        Optional.of(new NameContainsKeywordsFilter(List.of("meier"))),
+                        Optional.of(new DateRangeSessionFilter(
+                                new DateRange(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31))))));
+    }
+
+    @Test
+    public void parse_missingTypeOrFile_throwsParseException() {
+        assertParseFailure(parser, " file/students.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " teachers file/teachers.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " students", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " students file/ ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_inapplicableFilter_throwsParseException() {
+        assertParseFailure(parser, " sessions file/sessions.csv q/name:meier",
+                ExportCommandParser.MESSAGE_QUERY_NOT_APPLICABLE);
+        assertParseFailure(parser, " calendar file/sessions.ics q/name:meier",
+                ExportCommandParser.MESSAGE_QUERY_NOT_APPLICABLE);
+        assertParseFailure(parser, " students file/students.csv d/25 Mar 2025",
+                ExportCommandParser.MESSAGE_DATE_NOT_APPLICABLE);
+    }
+
+    @Test
+    public void parse_invalidFilter_throwsParseException() {
+        assertParseFailure(parser, " sessions file/sessions.csv d/25 March 2025",
+                ParserUtil.MESSAGE_INVALID_DATE_FORMAT);
+    }
+}
@@ -0,0 +1,49 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.FreeSlotSessionCommand;
+import tutorly.model.session.DateRange;
+
+public class FreeSlotSessionCommandParserTest {
+
+    private final FreeSlotSessionCommandParser parser = new FreeSlotSessionCommandParser();
+    private final DateRange dateRange = new DateRange(LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 30));
+
+    @Test
+    public void parse_validArgs_returnsFreeSlotSessionCommand() {
+        assertParseSuccess(parser, " d/24 Mar 2025..30 Mar 2025 dur/1h30m",
+                new FreeSlotSessionCommand(List.of(dateRange.toTimeslot()), Duration.ofMinutes(90)));
+        assertParseSuccess(parser, " d/24 Mar 2025..30 Mar 2025 dur/45m hours/9:00 - 18:00",
+                new FreeSlotSessionCommand(dateRange.toDailyTimeslots(LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                        Duration.ofMinutes(45)));
+    }
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotSessionCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " d/24 Mar 2025", expectedMessage);
+        assertParseFailure(parser, " dur/1h", expectedMessage);
+        assertParseFailure(parser, " 3 d/24 Mar 2025 dur/1h", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " d/24 Mar 2025 dur/1h hours/9:00",
+                FreeSlotSessionCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " d/24 Mar 2025 dur/1h hours/9am-5pm",
+                FreeSlotSessionCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " d/24 Mar 2025 dur/soon", ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " d/1 Jan 2025..2 Jan 2026 dur/1h",
+                FreeSlotSessionCommandParser.MESSAGE_TOO_MANY_DAYS);
+    }
+}
@@ -0,0 +1,32 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.HoursSessionCommand;
+
+public class HoursSessionCommandParserTest {
+
+    private final HoursSessionCommandParser parser = new HoursSessionCommandParser();
+
+    @Test
+    public void parse_emptyArgs_returnsAllMonthsCommand() {
+        assertParseSuccess(parser, "  ", new HoursSessionCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_validMonth_returnsMonthCommand() {
+        assertParseSuccess(parser, " mar  2025 ", new HoursSessionCommand(Optional.of(YearMonth.of(2025, 3))));
+    }
+
+    @Test
+    public void parse_invalidMonth_throwsParseException() {
+        assertParseFailure(parser, " 2025-03", ParserUtil.MESSAGE_INVALID_MONTH_FORMAT);
+        assertParseFailure(parser, " 25 Mar 2025", ParserUtil.MESSAGE_INVALID_MONTH_FORMAT);
+    }
+}
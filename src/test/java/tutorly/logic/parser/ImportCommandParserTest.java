@@ -0,0 +1,45 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.Messages;
+import tutorly.logic.commands.ExportCommand.Type;
+import tutorly.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_typeAndFile_returnsImportCommand() {
+        assertParseSuccess(parser, " Students file/in/students.csv ",
+                new ImportCommand(Type.STUDENTS, Paths.get("in/students.csv")));
+        assertParseSuccess(parser, " attendance file/attendance.csv",
+                new ImportCommand(Type.ATTENDANCE, Paths.get("attendance.csv")));
+        assertParseSuccess(parser, " calendar file/sessions.ics",
+                new ImportCommand(Type.CALENDAR, Paths.get("sessions.ics")));
+    }
+
+    @Test
+    public void parse_missingTypeOrFile_throwsParseException() {
+        assertParseFailure(parser, " file/students.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " teachers file/teachers.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " sessions", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " sessions file/ ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicateFile_throwsParseException() {
+        assertParseFailure(parser, " students file/a.csv file/b.csv",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FILE));
+    }
+}
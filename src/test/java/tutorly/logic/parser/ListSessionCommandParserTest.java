@@ -0,0 +1,31 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.ListSessionCommand;
+import tutorly.model.filter.Page;
+import tutorly.model.session.SessionSortKey;
+
+public class ListSessionCommandParserTest {
+
+    private ListSessionCommandParser parser = new ListSessionCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListSessionCommand() {
+        assertParseSuccess(parser, "", new ListSessionCommand());
+    }
+
+    @Test
+    public void parse_pageArgs_returnsListSessionCommand() {
+        assertParseSuccess(parser, " limit/10 sort/time",
+                new ListSessionCommand(new Page<>(0, 10, SessionSortKey.TIME, false)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " offset/first", ParserUtil.MESSAGE_INVALID_OFFSET);
+    }
+}
@@ -0,0 +1,34 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.ListStudentCommand;
+import tutorly.model.filter.Page;
+import tutorly.model.person.PersonSortKey;
+
+public class ListStudentCommandParserTest {
+
+    private ListStudentCommandParser parser = new ListStudentCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListStudentCommand() {
+        assertParseSuccess(parser, "", new ListStudentCommand());
+
+        // preamble is ignored
+        assertParseSuccess(parser, " 3", new ListStudentCommand());
+    }
+
+    @Test
+    public void parse_pageArgs_returnsListStudentCommand() {
+        assertParseSuccess(parser, " limit/3 offset/6 sort/-name",
+                new ListStudentCommand(new Page<>(6, 3, PersonSortKey.NAME, true)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " limit/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
@@ -5,21 +5,30 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.model.person.Identity.MESSAGE_INVALID_IDENTITY;
 import static tutorly.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.parser.exceptions.ParseException;
 import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.TextQuery;
 import tutorly.model.person.Address;
 import tutorly.model.person.Email;
 import tutorly.model.person.Identity;
 import tutorly.model.person.Name;
+import tutorly.model.person.PersonSortKey;
 import tutorly.model.person.Phone;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
 import tutorly.model.session.Timeslot;
 import tutorly.model.tag.Tag;
@@ -68,6 +77,32 @@ public class ParserUtilTest {
                 ParserUtil.parseIdentity(WHITESPACE + "Bob     Charlie" + WHITESPACE));
     }
 
+    @Test
+    public void parseIdentities_emptyIdentifier_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_IDENTITY, () -> ParserUtil.parseIdentities("1 | | 2"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_IDENTITY, () -> ParserUtil.parseIdentities("1|"));
+    }
+
+    @Test
+    public void parseIdentities_invalidIdentifier_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_IDENTITY,
+                () -> ParserUtil.parseIdentities("1 | " + INVALID_ID));
+    }
+
+    @Test
+    public void parseIdentities_validInput_success() throws Exception {
+        assertEquals(List.of(new Identity(1)), ParserUtil.parseIdentities("1"));
+        assertEquals(List.of(new Identity(1), new Identity(new Name(VALID_NAME)), new Identity(3)),
+                ParserUtil.parseIdentities(WHITESPACE + "1|" + VALID_NAME + WHITESPACE + "|" + WHITESPACE + "3"));
+    }
+
+    @Test
+    public void parseIdentities_nameWithCommaOrSemicolon_singleIdentity() throws Exception {
+        assertEquals(List.of(new Identity(new Name("Doe, John"))), ParserUtil.parseIdentities("Doe, John"));
+        assertEquals(List.of(new Identity(new Name("Doe; John")), new Identity(2)),
+                ParserUtil.parseIdentities("Doe; John | 2"));
+    }
+
     @Test
     public void parseSessionId_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseSessionId(null));
@@ -248,6 +283,84 @@ public class ParserUtilTest {
         assertEquals(expectedTagSet, actualTagSet);
     }
 
+    @Test
+    public void parseDateRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseDateRange(null));
+    }
+
+    @Test
+    public void parseDateRange_validValue_returnsDateRange() throws Exception {
+        LocalDate today = LocalDate.of(2025, 3, 25);
+        assertEquals(new DateRange(today, today), ParserUtil.parseDateRange(" 25 Mar 2025 ", today));
+        assertEquals(new DateRange(LocalDate.of(2025, 3, 20), LocalDate.of(2025, 4, 2)),
+                ParserUtil.parseDateRange("20 Mar 2025 .. 2 Apr 2025", today));
+        assertEquals(new DateRange(LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 30)),
+                ParserUtil.parseDateRange("This  Week", today));
+        assertEquals(new DateRange(today, LocalDate.of(2025, 3, 31)),
+                ParserUtil.parseDateRange("next 7 days", today));
+        assertEquals(new DateRange(today, today), ParserUtil.parseDateRange("next 1 day", today));
+    }
+
+    @Test
+    public void parseDateRange_invalidValue_throwsParseException() {
+        LocalDate today = LocalDate.of(2025, 3, 25);
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE_FORMAT, ()
+                -> ParserUtil.parseDateRange("25 Mar 2025..", today));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE_FORMAT, ()
+                -> ParserUtil.parseDateRange("last week", today));
+        assertThrows(ParseException.class, DateRange.MESSAGE_END_BEFORE_START_DATE, ()
+                -> ParserUtil.parseDateRange("26 Mar 2025..25 Mar 2025", today));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE_RANGE, ()
+                -> ParserUtil.parseDateRange("next 0 days", today));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DATE_RANGE, ()
+                -> ParserUtil.parseDateRange("next few days", today));
+    }
+
+    @Test
+    public void parsePath_validValue_returnsPath() throws Exception {
+        assertEquals(Paths.get("data", "students.csv"), ParserUtil.parsePath(" data/students.csv "));
+    }
+
+    @Test
+    public void parsePath_invalidValue_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parsePath(null));
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_FILE_PATH, ""), ()
+                -> ParserUtil.parsePath("  "));
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_FILE_PATH, "a\u0000b"), ()
+                -> ParserUtil.parsePath("a\u0000b"));
+    }
+
+    @Test
+    public void parseMonth_validValue_returnsMonth() throws Exception {
+        assertEquals(YearMonth.of(2025, 3), ParserUtil.parseMonth(" Mar 2025 "));
+        assertEquals(YearMonth.of(2025, 12), ParserUtil.parseMonth("dec  2025"));
+    }
+
+    @Test
+    public void parseMonth_invalidValue_throwsParseException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseMonth(null));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MONTH_FORMAT, ()
+                -> ParserUtil.parseMonth("March 2025"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MONTH_FORMAT, ()
+                -> ParserUtil.parseMonth("2025-03"));
+    }
+
+    @Test
+    public void parseDuration_validValue_returnsDuration() throws Exception {
+        assertEquals(Duration.ofHours(2), ParserUtil.parseDuration(" 2h "));
+        assertEquals(Duration.ofMinutes(45), ParserUtil.parseDuration("45m"));
+        assertEquals(Duration.ofMinutes(90), ParserUtil.parseDuration("1H 30m"));
+        assertEquals(Duration.ofMinutes(90), ParserUtil.parseDuration("90m"));
+    }
+
+    @Test
+    public void parseDuration_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration(""));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("0h"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("90"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_DURATION, () -> ParserUtil.parseDuration("-1h"));
+    }
+
     @Test
     public void parseTimeslot_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTimeslot(null));
@@ -469,4 +582,49 @@ public class ParserUtilTest {
         String feedbackWithWhitespace = WHITESPACE + VALID_FEEDBACK + WHITESPACE;
         assertEquals(new Feedback(VALID_FEEDBACK), ParserUtil.parseFeedback(feedbackWithWhitespace));
     }
+
+    @Test
+    public void parseTextQuery_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseTextQuery(" * "));
+        assertThrows(ParseException.class, () -> ParserUtil.parseTextQuery("\"needs practice"));
+    }
+
+    @Test
+    public void parseTextQuery_validValueWithWhitespace_returnsTrimmedTextQuery() throws Exception {
+        assertEquals(new TextQuery("\"needs practice\" fract*"),
+                ParserUtil.parseTextQuery(WHITESPACE + "\"needs practice\" fract*" + WHITESPACE));
+    }
+
+    @Test
+    public void parsePage_noPrefixes_returnsAll() throws Exception {
+        assertEquals(Page.all(), ParserUtil.parsePage(tokenizePage(""), List.of(PersonSortKey.values())));
+    }
+
+    @Test
+    public void parsePage_validValues_returnsPage() throws Exception {
+        assertEquals(new Page<>(0, 5, PersonSortKey.NAME, false),
+                ParserUtil.parsePage(tokenizePage(" offset/0 limit/5 sort/NAME"), List.of(PersonSortKey.values())));
+        assertEquals(new Page<>(10, Page.UNLIMITED, PersonSortKey.ID, true),
+                ParserUtil.parsePage(tokenizePage(" offset/ 10 sort/-id "), List.of(PersonSortKey.values())));
+    }
+
+    @Test
+    public void parsePage_invalidValues_throwsParseException() {
+        List<PersonSortKey> sortKeys = List.of(PersonSortKey.values());
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_OFFSET, ()
+                -> ParserUtil.parsePage(tokenizePage(" offset/-1"), sortKeys));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, ()
+                -> ParserUtil.parsePage(tokenizePage(" limit/0"), sortKeys));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_LIMIT, ()
+                -> ParserUtil.parsePage(tokenizePage(" limit/many"), sortKeys));
+        assertThrows(ParseException.class,
+                String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "id, name, lastattended"), ()
+                -> ParserUtil.parsePage(tokenizePage(" sort/phone"), sortKeys));
+        assertThrows(ParseException.class, ()
+                -> ParserUtil.parsePage(tokenizePage(" limit/1 limit/2"), sortKeys));
+    }
+
+    private static ArgumentMultimap tokenizePage(String args) {
+        return ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_OFFSET, CliSyntax.PREFIX_LIMIT, CliSyntax.PREFIX_SORT);
+    }
 }
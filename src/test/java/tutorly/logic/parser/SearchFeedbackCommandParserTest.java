@@ -0,0 +1,33 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.SearchFeedbackCommand;
+import tutorly.model.filter.TextQuery;
+
+public class SearchFeedbackCommandParserTest {
+
+    private final SearchFeedbackCommandParser parser = new SearchFeedbackCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSearchFeedbackCommand() {
+        assertParseSuccess(parser, " \"needs practice\" fract* ",
+                new SearchFeedbackCommand(new TextQuery("\"needs practice\" fract*")));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchFeedbackCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " \"needs practice", TextQuery.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " *", TextQuery.MESSAGE_CONSTRAINTS);
+    }
+}
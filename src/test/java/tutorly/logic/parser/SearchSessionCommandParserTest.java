@@ -17,9 +17,12 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.commands.SearchSessionCommand;
+import tutorly.model.filter.DateRangeSessionFilter;
 import tutorly.model.filter.DateSessionFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.Page;
 import tutorly.model.filter.SubjectContainsKeywordsFilter;
+import tutorly.model.session.DateRange;
 import tutorly.model.session.Session;
 
 public class SearchSessionCommandParserTest {
@@ -63,4 +66,22 @@ public class SearchSessionCommandParserTest {
                 DATE_DESC + " " + PREFIX_SUBJECT + " \n Math \n \t En  \t ",
                 expectedSearchCommand);
     }
+
+    @Test
+    public void parse_dateRange_returnsSearchCommandWithSummary() {
+        DateRange dateRange = new DateRange(LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 30));
+        Filter<Session> filter = Filter.any(List.of(new DateRangeSessionFilter(dateRange)));
+        assertParseSuccess(parser, " " + PREFIX_DATE + "24 Mar 2025..30 Mar 2025",
+                new SearchSessionCommand(filter, Page.all(), dateRange));
+
+        // a range of a single date is searched for as a date
+        filter = Filter.any(List.of(new DateSessionFilter(LocalDate.of(2025, 3, 24))));
+        assertParseSuccess(parser, " " + PREFIX_DATE + "24 Mar 2025..24 Mar 2025", new SearchSessionCommand(filter));
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_DATE + "30 Mar 2025..24 Mar 2025",
+                DateRange.MESSAGE_END_BEFORE_START_DATE);
+    }
 }
@@ -6,19 +6,24 @@ import static tutorly.logic.commands.CommandTestUtil.PREAMBLE_NON_EMPTY;
 import static tutorly.logic.parser.CliSyntax.PREFIX_NAME;
 import static tutorly.logic.parser.CliSyntax.PREFIX_PHONE;
 import static tutorly.logic.parser.CliSyntax.PREFIX_SESSION;
+import static tutorly.logic.parser.CliSyntax.PREFIX_TAG;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import tutorly.logic.commands.SearchStudentCommand;
+import tutorly.model.filter.AttendSessionFilter;
 import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
 import tutorly.model.filter.PhoneContainsKeywordsFilter;
 import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
 
 public class SearchStudentCommandParserTest {
 
@@ -62,4 +67,35 @@ public class SearchStudentCommandParserTest {
                 expectedSearchCommand);
     }
 
+    @Test
+    public void parse_tags_returnsSearchCommand() {
+        Filter<Person> filters = Filter.any(Arrays.asList(
+                new NameContainsKeywordsFilter(List.of("Alice")),
+                new HasTagFilter(Set.of(new Tag("sec4"), new Tag("friends")))));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Alice " + PREFIX_TAG + "sec4 " + PREFIX_TAG + "friends",
+                new SearchStudentCommand(filters));
+    }
+
+    @Test
+    public void parse_query_returnsSearchCommand() {
+        Filter<Person> filter = Filter.all(Arrays.asList(
+                new NameContainsKeywordsFilter(List.of("Alice")),
+                Filter.not(new AttendSessionFilter(1))));
+        assertParseSuccess(parser, " name:Alice and not session:1", new SearchStudentCommand(filter));
+    }
+
+    @Test
+    public void parse_queryWithPrefixes_throwsParseException() {
+        assertParseFailure(parser, " name:Alice " + PREFIX_PHONE + "913",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " name:Alice " + PREFIX_TAG + "friends",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchStudentCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertParseFailure(parser, " name:Alice or",
+                String.format(StudentQueryParser.MESSAGE_EXPECTED_TERM, "end of query"));
+    }
+
 }
@@ -0,0 +1,28 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.SortSessionCommand;
+import tutorly.model.session.SessionSortKey;
+
+public class SortSessionCommandParserTest {
+
+    private SortSessionCommandParser parser = new SortSessionCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortSessionCommand() {
+        assertParseSuccess(parser, " time", new SortSessionCommand(SessionSortKey.TIME, false));
+        assertParseSuccess(parser, " -subject", new SortSessionCommand(SessionSortKey.SUBJECT, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortSessionCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " name", String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "id, time, subject"));
+    }
+}
@@ -0,0 +1,31 @@
+package tutorly.logic.parser;
+
+import static tutorly.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorly.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.commands.SortStudentCommand;
+import tutorly.model.person.PersonSortKey;
+
+public class SortStudentCommandParserTest {
+
+    private SortStudentCommandParser parser = new SortStudentCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSortStudentCommand() {
+        assertParseSuccess(parser, " name", new SortStudentCommand(PersonSortKey.NAME, false));
+        assertParseSuccess(parser, " LastAttended ", new SortStudentCommand(PersonSortKey.LAST_ATTENDED, false));
+        assertParseSuccess(parser, " -lastattended", new SortStudentCommand(PersonSortKey.LAST_ATTENDED, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortStudentCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " phone",
+                String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "id, name, lastattended"));
+        assertParseFailure(parser, " -", String.format(ParserUtil.MESSAGE_INVALID_SORT_KEY, "id, name, lastattended"));
+    }
+}
@@ -0,0 +1,136 @@
+package tutorly.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.logic.parser.exceptions.ParseException;
+import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.EmailContainsKeywordsFilter;
+import tutorly.model.filter.Filter;
+import tutorly.model.filter.HasTagFilter;
+import tutorly.model.filter.MemoContainsKeywordsFilter;
+import tutorly.model.filter.MemoMatchesTextFilter;
+import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.NameSimilarToFilter;
+import tutorly.model.filter.PersonIdFilter;
+import tutorly.model.filter.PhoneContainsKeywordsFilter;
+import tutorly.model.filter.PresentInSessionFilter;
+import tutorly.model.filter.TagQueryFilter;
+import tutorly.model.filter.TextQuery;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
+
+public class StudentQueryParserTest {
+
+    private static final Filter<Person> NAME_ALEX = new NameContainsKeywordsFilter(List.of("alex"));
+    private static final Filter<Person> TAG_FRIENDS = new HasTagFilter(Set.of(new Tag("friends")));
+    private static final Filter<Person> SESSION_3 = new AttendSessionFilter(3);
+    private static final TagQueryFilter TAG_QUERY_FRIENDS = TagQueryFilter.of(Set.of(new Tag("friends")));
+    private static final TagQueryFilter TAG_QUERY_SEC4 = TagQueryFilter.of(Set.of(new Tag("sec4")));
+
+    @Test
+    public void parse_singleTerms_success() throws Exception {
+        assertEquals(new PersonIdFilter(4), StudentQueryParser.parse("id:4"));
+        assertEquals(NAME_ALEX, StudentQueryParser.parse("name:alex"));
+        assertEquals(new NameSimilarToFilter("alx"), StudentQueryParser.parse("fuzzy:alx"));
+        assertEquals(new PhoneContainsKeywordsFilter(List.of("9123")), StudentQueryParser.parse("phone:9123"));
+        assertEquals(new EmailContainsKeywordsFilter(List.of("example")), StudentQueryParser.parse("email:example"));
+        assertEquals(TAG_FRIENDS, StudentQueryParser.parse("tag:friends"));
+        assertEquals(new MemoContainsKeywordsFilter(List.of("calculus")), StudentQueryParser.parse("memo:calculus"));
+        assertEquals(new MemoMatchesTextFilter(new TextQuery("fract*")), StudentQueryParser.parse("text:fract*"));
+        assertEquals(SESSION_3, StudentQueryParser.parse("session:3"));
+        assertEquals(new PresentInSessionFilter(3), StudentQueryParser.parse("attendance:3"));
+    }
+
+    @Test
+    public void parse_caseInsensitiveFieldsAndOperators_success() throws Exception {
+        assertEquals(Filter.any(List.of(NAME_ALEX, TagQueryFilter.not(TAG_QUERY_FRIENDS))),
+                StudentQueryParser.parse("NAME:alex OR Not tag:friends"));
+    }
+
+    @Test
+    public void parse_quotedValue_splitIntoKeywords() throws Exception {
+        assertEquals(new NameContainsKeywordsFilter(List.of("alex", "yeoh")),
+                StudentQueryParser.parse("name:\"alex  yeoh\""));
+    }
+
+    @Test
+    public void parse_quotedFuzzyValue_notSplit() throws Exception {
+        assertEquals(new NameSimilarToFilter("alx yeo"), StudentQueryParser.parse("FUZZY:\"alx yeo\""));
+    }
+
+    @Test
+    public void parse_quotedTextValue_keptAsPhrase() throws Exception {
+        assertEquals(new MemoMatchesTextFilter(new TextQuery("\"needs practice\"")),
+                StudentQueryParser.parse("text:\"needs practice\""));
+    }
+
+    @Test
+    public void parse_tagOnlyOperands_combinedIntoTagQuery() throws Exception {
+        assertEquals(TagQueryFilter.all(List.of(TAG_QUERY_SEC4, TagQueryFilter.not(TAG_QUERY_FRIENDS))),
+                StudentQueryParser.parse("tag:sec4 and not tag:friends"));
+        assertEquals(TagQueryFilter.any(List.of(TAG_QUERY_SEC4,
+                        TagQueryFilter.all(List.of(TAG_QUERY_FRIENDS, TagQueryFilter.not(TAG_QUERY_SEC4))))),
+                StudentQueryParser.parse("tag:sec4 or (tag:friends not tag:sec4)"));
+        assertEquals(Filter.not(SESSION_3), StudentQueryParser.parse("not session:3"));
+    }
+
+    @Test
+    public void parse_mixedOperands_tagOperandsCombined() throws Exception {
+        assertEquals(Filter.all(List.of(NAME_ALEX, TagQueryFilter.all(List.of(TAG_QUERY_SEC4,
+                        TagQueryFilter.not(TAG_QUERY_FRIENDS))), SESSION_3)),
+                StudentQueryParser.parse("name:alex tag:sec4 session:3 not tag:friends"));
+        assertEquals(Filter.any(List.of(NAME_ALEX, TAG_FRIENDS)),
+                StudentQueryParser.parse("name:alex or tag:friends"));
+    }
+
+    @Test
+    public void parse_precedence_andBindsTighterThanOr() throws Exception {
+        assertEquals(Filter.any(List.of(NAME_ALEX, Filter.all(List.of(TAG_FRIENDS, SESSION_3)))),
+                StudentQueryParser.parse("name:alex or tag:friends and session:3"));
+    }
+
+    @Test
+    public void parse_implicitAnd_success() throws Exception {
+        assertEquals(Filter.all(List.of(NAME_ALEX, TAG_FRIENDS, SESSION_3)),
+                StudentQueryParser.parse("name:alex tag:friends and session:3"));
+    }
+
+    @Test
+    public void parse_parentheses_success() throws Exception {
+        assertEquals(Filter.all(List.of(NAME_ALEX, Filter.any(List.of(TAG_FRIENDS, Filter.not(SESSION_3))))),
+                StudentQueryParser.parse("name:alex and (tag:friends or not session:3)"));
+        assertEquals(Filter.not(Filter.all(List.of(NAME_ALEX, TAG_FRIENDS))),
+                StudentQueryParser.parse("not(name:alex tag:friends)"));
+    }
+
+    @Test
+    public void parse_malformedQuery_throwsParseException() {
+        assertThrows(ParseException.class, String.format(StudentQueryParser.MESSAGE_EXPECTED_TERM, "alex"), () ->
+                StudentQueryParser.parse("alex"));
+        assertThrows(ParseException.class, String.format(StudentQueryParser.MESSAGE_EXPECTED_TERM, "end of query"),
+                () -> StudentQueryParser.parse("name:alex and"));
+        assertThrows(ParseException.class, StudentQueryParser.MESSAGE_UNCLOSED_PARENTHESIS, () ->
+                StudentQueryParser.parse("(name:alex or tag:friends"));
+        assertThrows(ParseException.class, String.format(StudentQueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                StudentQueryParser.parse("name:alex)"));
+        assertThrows(ParseException.class, StudentQueryParser.MESSAGE_UNCLOSED_QUOTE, () ->
+                StudentQueryParser.parse("name:\"alex"));
+    }
+
+    @Test
+    public void parse_invalidTerm_throwsParseException() {
+        assertThrows(ParseException.class, String.format(StudentQueryParser.MESSAGE_UNKNOWN_FIELD, "address"), () ->
+                StudentQueryParser.parse("address:street"));
+        assertThrows(ParseException.class, String.format(StudentQueryParser.MESSAGE_EMPTY_VALUE, "name:"), () ->
+                StudentQueryParser.parse("name:"));
+        assertThrows(ParseException.class, Person.MESSAGE_INVALID_ID, () -> StudentQueryParser.parse("id:0"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () ->
+                StudentQueryParser.parse("tag:" + "a".repeat(21)));
+    }
+}
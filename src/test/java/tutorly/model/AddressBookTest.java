@@ -2,28 +2,59 @@ package tutorly.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
 import static tutorly.testutil.TypicalAddressBook.BOB;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.CARL_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.HOON;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
 import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import tutorly.commons.util.ObservableListUtil;
+import tutorly.model.attendancerecord.AttendanceCounts;
 import tutorly.model.attendancerecord.AttendanceRecord;
 import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.IdBitmap;
+import tutorly.model.filter.SortIndex;
+import tutorly.model.filter.TextQuery;
 import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
 import tutorly.model.session.Session;
+import tutorly.model.session.SessionSortKey;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+import tutorly.model.tag.Tag;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
+import tutorly.testutil.AttendanceRecordBuilder;
 import tutorly.testutil.PersonBuilder;
 import tutorly.testutil.SessionBuilder;
 
@@ -178,6 +209,235 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getAttendanceRecordsList().remove(0));
     }
 
+    @Test
+    public void getPersonSortIndex_personsChanged_indexUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        SortIndex<Person, ?> index = typicalAddressBook.getPersonSortIndex(PersonSortKey.NAME);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE), index.asList(false));
+        assertSame(index, typicalAddressBook.getPersonSortIndex(PersonSortKey.NAME));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zoe Pauline").build();
+        typicalAddressBook.setPerson(ALICE, editedAlice);
+        typicalAddressBook.removePerson(CARL);
+        typicalAddressBook.addPerson(HOON);
+        assertEquals(List.of(BENSON, DANIEL, ELLE, FIONA, GEORGE, HOON, editedAlice), index.asList(false));
+    }
+
+    @Test
+    public void getPersonSortIndex_lastAttendedChanged_indexUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        SortIndex<Person, ?> index = typicalAddressBook.getPersonSortIndex(PersonSortKey.LAST_ATTENDED);
+        assertEquals(List.of(DANIEL, ELLE, FIONA, GEORGE, BENSON, ALICE, CARL), index.asList(false));
+
+        typicalAddressBook.addAttendanceRecord(
+                new AttendanceRecord(GEORGE.getId(), ENGLISH_SESSION.getId(), true, Feedback.empty()));
+        typicalAddressBook.removeAttendanceRecord(ALICE_ATTEND_ENGLISH);
+        assertEquals(List.of(DANIEL, ELLE, FIONA, ALICE, BENSON, CARL, GEORGE), index.asList(false));
+
+        // moving a session moves the students present for it
+        Session earlierEnglish = new SessionBuilder(ENGLISH_SESSION).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 24, 8, 0), LocalDateTime.of(2025, 3, 24, 10, 0))).build();
+        typicalAddressBook.setSession(ENGLISH_SESSION, earlierEnglish);
+        assertEquals(List.of(DANIEL, ELLE, FIONA, CARL, GEORGE, ALICE, BENSON), index.asList(false));
+
+        typicalAddressBook.removeSession(earlierEnglish);
+        assertEquals(List.of(CARL, DANIEL, ELLE, FIONA, GEORGE, ALICE, BENSON), index.asList(false));
+    }
+
+    @Test
+    public void getPersonSortIndex_batchRolledBack_indexRebuilt() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.getPersonSortIndex(PersonSortKey.NAME);
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.removePerson(ALICE);
+        assertEquals(6, typicalAddressBook.getPersonSortIndex(PersonSortKey.NAME).size());
+
+        typicalAddressBook.rollbackBatch();
+        assertEquals(ALICE, typicalAddressBook.getPersonSortIndex(PersonSortKey.NAME).asList(false).get(0));
+    }
+
+    @Test
+    public void getSessionSortIndex_sessionsChanged_indexUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        SortIndex<Session, ?> index = typicalAddressBook.getSessionSortIndex(SessionSortKey.SUBJECT);
+        assertEquals(List.of(MATH_SESSION, ENGLISH_SESSION), index.asList(true));
+
+        typicalAddressBook.addSession(MATH_SESSION_OVERLAP);
+        Session art = new SessionBuilder(ENGLISH_SESSION).withSubject("Art").build();
+        typicalAddressBook.setSession(ENGLISH_SESSION, art);
+        assertEquals(List.of(art, MATH_SESSION, MATH_SESSION_OVERLAP), index.asList(false));
+    }
+
+    @Test
+    public void getLastAttendedTime() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(Optional.of(ENGLISH_SESSION.getTimeslot().getStartTime()),
+                typicalAddressBook.getLastAttendedTime(ALICE.getId()));
+        assertEquals(Optional.of(MATH_SESSION.getTimeslot().getStartTime()),
+                typicalAddressBook.getLastAttendedTime(BENSON.getId()));
+        assertEquals(Optional.empty(), typicalAddressBook.getLastAttendedTime(DANIEL.getId()));
+        assertEquals(Optional.empty(), typicalAddressBook.getLastAttendedTime(HOON.getId()));
+    }
+
+    @Test
+    public void getConflictingSessions() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addSession(MATH_SESSION_OVERLAP);
+        typicalAddressBook.addAttendanceRecord(
+                new AttendanceRecord(ALICE.getId(), MATH_SESSION_OVERLAP.getId(), false, Feedback.empty()));
+        ReadOnlyAddressBook stub = new AddressBookStub(typicalAddressBook.getPersonList(),
+                typicalAddressBook.getSessionList(), typicalAddressBook.getAttendanceRecordsList());
+
+        for (ReadOnlyAddressBook book : List.of(typicalAddressBook, stub)) {
+            assertEquals(List.of(MATH_SESSION), book.getConflictingSessions(ALICE.getId(), MATH_SESSION_OVERLAP));
+            assertEquals(List.of(MATH_SESSION_OVERLAP), book.getConflictingSessions(ALICE.getId(), MATH_SESSION));
+            assertEquals(List.of(), book.getConflictingSessions(ALICE.getId(), ENGLISH_SESSION));
+            assertEquals(List.of(MATH_SESSION), book.getConflictingSessions(BENSON.getId(), MATH_SESSION_OVERLAP));
+            assertEquals(List.of(), book.getConflictingSessions(CARL.getId(), MATH_SESSION_OVERLAP));
+        }
+    }
+
+    @Test
+    public void getTagIndex_personsChanged_indexUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Tag friends = new Tag("friends");
+        assertEquals(IdBitmap.of(1, 2, 4), typicalAddressBook.getTagIndex().get(friends));
+
+        typicalAddressBook.setPerson(ALICE, new PersonBuilder(ALICE).withTags().build());
+        typicalAddressBook.addPerson(HOON);
+        typicalAddressBook.addPerson(new PersonBuilder(BOB).withId(9).withTags("friends").build());
+        assertEquals(IdBitmap.of(2, 4, 9), typicalAddressBook.getTagIndex().get(friends));
+
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.removePerson(BENSON);
+        assertEquals(IdBitmap.of(4, 9), typicalAddressBook.getTagIndex().get(friends));
+
+        typicalAddressBook.rollbackBatch();
+        assertEquals(IdBitmap.of(2, 4, 9), typicalAddressBook.getTagIndex().get(friends));
+        assertEquals(IdBitmap.of(1, 2, 3, 4, 5, 6, 7, 8, 9), typicalAddressBook.getTagIndex().getAll());
+    }
+
+    @Test
+    public void getMemoIndex_personsChanged_indexUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        TextQuery query = new TextQuery("fract*");
+        assertEquals(List.of(), typicalAddressBook.getMemoIndex().search(query));
+
+        Person editedAlice = new PersonBuilder(ALICE).withMemo("Needs practice with fractions").build();
+        typicalAddressBook.setPerson(ALICE, editedAlice);
+        Person hoon = new PersonBuilder(HOON).withMemo("Fractions, fractions").build();
+        typicalAddressBook.addPerson(hoon);
+        assertEquals(List.of(hoon, editedAlice), typicalAddressBook.getMemoIndex().search(query));
+
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.removePerson(hoon);
+        assertEquals(List.of(editedAlice), typicalAddressBook.getMemoIndex().search(query));
+
+        typicalAddressBook.rollbackBatch();
+        assertEquals(List.of(hoon, editedAlice), typicalAddressBook.getMemoIndex().search(query));
+    }
+
+    @Test
+    public void getFeedbackIndex_recordsChanged_indexUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        TextQuery query = new TextQuery("\"good effort\"");
+        assertEquals(List.of(), typicalAddressBook.getFeedbackIndex().search(query));
+
+        AttendanceRecord withFeedback = new AttendanceRecord(ALICE.getId(), ENGLISH_SESSION.getId(), true,
+                new Feedback("Good effort"));
+        typicalAddressBook.setAttendanceRecord(ALICE_ATTEND_ENGLISH, withFeedback);
+        assertEquals(List.of(withFeedback), typicalAddressBook.getFeedbackIndex().search(query));
+
+        typicalAddressBook.setAttendanceRecord(ALICE_ATTEND_MATH, new AttendanceRecordBuilder(ALICE_ATTEND_MATH)
+                .withFeedback(new Feedback("Good effort today")).build());
+        assertEquals(2, typicalAddressBook.getFeedbackIndex().search(query).size());
+
+        typicalAddressBook.removeAttendanceRecord(typicalAddressBook.getFeedbackIndex().search(query).get(0));
+        assertEquals(1, typicalAddressBook.getFeedbackIndex().search(query).size());
+    }
+
+    @Test
+    public void getAttendanceStats_recordsAndSessionsChanged_countsUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertEquals(new AttendanceCounts(8, 4, 0), typicalAddressBook.getAttendanceStats().getTotal());
+
+        typicalAddressBook.setAttendanceRecord(DANIEL_NOT_ATTEND_ENGLISH,
+                new AttendanceRecord(DANIEL.getId(), ENGLISH_SESSION.getId(), true, new Feedback("Good effort")));
+        for (AttendanceRecord record : List.copyOf(typicalAddressBook.getAttendanceRecordsList())) {
+            if (record.getStudentId() == ALICE.getId()) {
+                typicalAddressBook.setAttendanceRecord(record, new AttendanceRecord(record.getStudentId(),
+                        record.getSessionId(), false, record.getFeedback()));
+            }
+        }
+        typicalAddressBook.removeAttendanceRecord(CARL_ATTEND_ENGLISH);
+        typicalAddressBook.setSession(MATH_SESSION, new SessionBuilder(MATH_SESSION).withSubject("Physics").build());
+        assertEquals(new AttendanceCounts(7, 2, 1), typicalAddressBook.getAttendanceStats().getTotal());
+        assertEquals(new AttendanceCounts(2, 1, 1), typicalAddressBook.getAttendanceStats().ofStudent(DANIEL.getId()));
+        assertEquals(new AttendanceCounts(4, 1, 0),
+                typicalAddressBook.getAttendanceStats().ofSubject(new Subject("Physics")));
+
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.addAttendanceRecord(new AttendanceRecord(GEORGE.getId(), MATH_SESSION.getId(), true,
+                Feedback.empty()));
+        assertEquals(new AttendanceCounts(8, 3, 1), typicalAddressBook.getAttendanceStats().getTotal());
+
+        typicalAddressBook.rollbackBatch();
+        assertEquals(new AttendanceCounts(7, 2, 1), typicalAddressBook.getAttendanceStats().getTotal());
+    }
+
+    @Test
+    public void getHoursRollup_recordsAndSessionsChanged_hoursUpdated() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        YearMonth march = YearMonth.of(2025, 3);
+        assertEquals(Duration.ofHours(8), typicalAddressBook.getHoursRollup().ofMonth(march));
+
+        typicalAddressBook.setAttendanceRecord(DANIEL_NOT_ATTEND_ENGLISH,
+                new AttendanceRecord(DANIEL.getId(), ENGLISH_SESSION.getId(), true, Feedback.empty()));
+        typicalAddressBook.removeAttendanceRecord(CARL_ATTEND_ENGLISH);
+        typicalAddressBook.setSession(MATH_SESSION, new SessionBuilder(MATH_SESSION).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 25, 10, 0), LocalDateTime.of(2025, 3, 25, 11, 0))).build());
+        assertEquals(Duration.ofHours(6), typicalAddressBook.getHoursRollup().ofMonth(march));
+        assertEquals(Duration.ofHours(3), typicalAddressBook.getHoursRollup().ofStudent(ALICE.getId(), march));
+
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.removeSession(ENGLISH_SESSION);
+        assertEquals(Duration.ofHours(2), typicalAddressBook.getHoursRollup().ofMonth(march));
+
+        typicalAddressBook.rollbackBatch();
+        assertEquals(Duration.ofHours(6), typicalAddressBook.getHoursRollup().ofMonth(march));
+    }
+
+    @Test
+    public void attendanceRecordsChanged_eachAffectedPersonAndSessionRefreshedOnce() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Integer> personChanges = new ArrayList<>();
+        List<Integer> sessionChanges = new ArrayList<>();
+        typicalAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> personChanges.add(1));
+        typicalAddressBook.getSessionList().addListener((ListChangeListener<Session>) change -> sessionChanges.add(1));
+
+        // the 4 records of the math session are updated in a batch
+        typicalAddressBook.beginBatch();
+        for (AttendanceRecord record : List.copyOf(typicalAddressBook.getAttendanceRecordsList())) {
+            if (record.getSessionId() == MATH_SESSION.getId()) {
+                typicalAddressBook.setAttendanceRecord(record, new AttendanceRecord(record.getStudentId(),
+                        record.getSessionId(), true, record.getFeedback()));
+            }
+        }
+        typicalAddressBook.commitBatch();
+        assertEquals(4, personChanges.size());
+        assertEquals(1, sessionChanges.size());
+
+        // changes to attendance records in a batch are refreshed once it is committed
+        typicalAddressBook.beginBatch();
+        typicalAddressBook.addAttendanceRecord(new AttendanceRecord(GEORGE.getId(), MATH_SESSION.getId(), true,
+                Feedback.empty()));
+        typicalAddressBook.removeAttendanceRecord(ALICE_ATTEND_ENGLISH);
+        assertEquals(4, personChanges.size());
+        typicalAddressBook.commitBatch();
+        assertEquals(6, personChanges.size());
+        assertEquals(3, sessionChanges.size());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName();
@@ -3,23 +3,49 @@ package tutorly.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.model.Model.FILTER_SHOW_ALL_PERSONS;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
 import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
 import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.BENSON_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import tutorly.commons.core.GuiSettings;
+import tutorly.logic.commands.exceptions.CommandException;
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.filter.AttendSessionFilter;
+import tutorly.model.filter.Filter;
 import tutorly.model.filter.NameContainsKeywordsFilter;
+import tutorly.model.filter.Page;
+import tutorly.model.filter.PageResult;
+import tutorly.model.filter.SearchResultCache;
 import tutorly.model.person.Identity;
+import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
 import tutorly.testutil.AddressBookBuilder;
+import tutorly.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -113,6 +139,200 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasAttendanceRecord(ALICE_ATTEND_ENGLISH));
     }
 
+    @Test
+    public void batch_transactionSucceeds_commitsAllMutations() {
+        modelManager.batch(model -> {
+            model.addPerson(ALICE);
+            model.addPerson(BENSON);
+            model.addAttendanceRecord(ALICE_ATTEND_ENGLISH);
+            assertTrue(model.getPersonList().isEmpty());
+        });
+
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.hasAttendanceRecord(ALICE_ATTEND_ENGLISH));
+    }
+
+    @Test
+    public void batch_transactionThrows_rollsBackAllMutations() {
+        modelManager.addPerson(ALICE);
+        int nextPersonId = modelManager.getAddressBook().getNextPersonId();
+
+        assertThrows(CommandException.class, () -> modelManager.batch(model -> {
+            model.deletePerson(ALICE);
+            model.addPerson(new PersonBuilder(BENSON).withId(0).build());
+            model.batch(nested -> nested.addAttendanceRecord(ALICE_ATTEND_ENGLISH));
+            throw new CommandException("abort");
+        }));
+
+        assertEquals(List.of(ALICE), modelManager.getPersonList());
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.hasAttendanceRecord(ALICE_ATTEND_ENGLISH));
+        assertEquals(nextPersonId, modelManager.getAddressBook().getNextPersonId());
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameFilter_notRefiltered() {
+        SortedList<Person> sortedPersons = (SortedList<Person>) modelManager.getFilteredPersonList();
+        FilteredList<Person> filteredPersons = (FilteredList<Person>) sortedPersons.getSource();
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+        assertSame(predicate, filteredPersons.getPredicate());
+    }
+
+    @Test
+    public void attendanceRecordsChanged_indexedFilter_filteredListUpdated() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new AttendSessionFilter(MATH_SESSION.getId()));
+        assertEquals(List.of(ALICE, BENSON, DANIEL, ELLE), modelManager.getFilteredPersonList());
+
+        modelManager.addAttendanceRecord(
+                new AttendanceRecord(CARL.getId(), MATH_SESSION.getId(), false, Feedback.empty()));
+        modelManager.removeAttendanceRecord(BENSON_ATTEND_MATH);
+        assertEquals(List.of(ALICE, CARL, DANIEL, ELLE), modelManager.getFilteredPersonList());
+
+        modelManager.batch(model -> {
+            model.removeAttendanceRecord(DANIEL_NOT_ATTEND_MATH);
+            model.deletePerson(ALICE);
+        });
+        assertEquals(List.of(CARL, ELLE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_page_showsRankedPageAndUpdates() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new AttendSessionFilter(MATH_SESSION.getId()),
+                new Page<>(1, 2, PersonSortKey.ID, true));
+        assertEquals(List.of(DANIEL, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(new PageResult(1, 2, 4, true), modelManager.getFilteredPersonListPage());
+
+        modelManager.removeAttendanceRecord(BENSON_ATTEND_MATH);
+        assertEquals(List.of(DANIEL, ALICE), modelManager.getFilteredPersonList());
+        assertEquals(new PageResult(1, 2, 3, true), modelManager.getFilteredPersonListPage());
+
+        modelManager.updateFilteredPersonList(new AttendSessionFilter(MATH_SESSION.getId()));
+        assertEquals(List.of(ALICE, DANIEL, ELLE), modelManager.getFilteredPersonList());
+        assertEquals(PageResult.all(3), modelManager.getFilteredPersonListPage());
+    }
+
+    @Test
+    public void attendanceRecordsChanged_pageUnaffected_pageNotSelectedAgain() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new AttendSessionFilter(MATH_SESSION.getId()),
+                new Page<>(0, 2, null, false));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        SortedList<Person> sortedPersons = (SortedList<Person>) modelManager.getFilteredPersonList();
+        FilteredList<Person> filteredPersons = (FilteredList<Person>) sortedPersons.getSource();
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+
+        // a student after the full page enrols, which only changes the number of matches
+        modelManager.addAttendanceRecord(
+                new AttendanceRecord(GEORGE.getId(), MATH_SESSION.getId(), false, Feedback.empty()));
+        assertSame(predicate, filteredPersons.getPredicate());
+        assertEquals(new PageResult(0, 2, 5, true), modelManager.getFilteredPersonListPage());
+
+        // a student on the page enrols in another session
+        modelManager.addAttendanceRecord(
+                new AttendanceRecord(BENSON.getId(), ENGLISH_SESSION.getId(), false, Feedback.empty()));
+        assertSame(predicate, filteredPersons.getPredicate());
+
+        // a student on the page leaves
+        modelManager.removeAttendanceRecord(BENSON_ATTEND_MATH);
+        assertEquals(List.of(ALICE, DANIEL), modelManager.getFilteredPersonList());
+        assertEquals(new PageResult(0, 2, 4, true), modelManager.getFilteredPersonListPage());
+    }
+
+    @Test
+    public void attendanceRecordsChanged_filterIndependentOfRecords_pageNotSelectedAgain() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("meier")),
+                new Page<>(0, 1, PersonSortKey.NAME, false));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        SortedList<Person> sortedPersons = (SortedList<Person>) modelManager.getFilteredPersonList();
+        FilteredList<Person> filteredPersons = (FilteredList<Person>) sortedPersons.getSource();
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+
+        modelManager.removeAttendanceRecord(BENSON_ATTEND_MATH);
+        assertSame(predicate, filteredPersons.getPredicate());
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_lastAttended_sortedAndUpdated() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.sortFilteredPersonList(PersonSortKey.LAST_ATTENDED, true);
+        assertEquals(List.of(CARL, ALICE, BENSON, GEORGE, FIONA, ELLE, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.removeAttendanceRecord(ALICE_ATTEND_ENGLISH);
+        assertEquals(List.of(CARL, BENSON, ALICE, GEORGE, FIONA, ELLE, DANIEL), modelManager.getFilteredPersonList());
+
+        // the search is kept
+        modelManager.updateFilteredPersonList(new AttendSessionFilter(MATH_SESSION.getId()));
+        modelManager.sortFilteredPersonList(PersonSortKey.NAME, true);
+        assertEquals(List.of(ELLE, DANIEL, BENSON, ALICE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void attendanceRecordsChanged_unindexedFilter_filteredListUpdated() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(Filter.all(List.of(new AttendSessionFilter(MATH_SESSION.getId()),
+                new NameContainsKeywordsFilter(List.of("meier")))));
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.removeAttendanceRecord(DANIEL_NOT_ATTEND_MATH);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void attendanceRecordsChanged_negatedIndexedFilter_onlyChangedElementsRetested() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(Filter.not(new AttendSessionFilter(MATH_SESSION.getId())));
+        assertEquals(List.of(CARL, FIONA, GEORGE), modelManager.getFilteredPersonList());
+        SortedList<Person> sortedPersons = (SortedList<Person>) modelManager.getFilteredPersonList();
+        FilteredList<Person> filteredPersons = (FilteredList<Person>) sortedPersons.getSource();
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+
+        modelManager.removeAttendanceRecord(BENSON_ATTEND_MATH);
+        assertEquals(List.of(BENSON, CARL, FIONA, GEORGE), modelManager.getFilteredPersonList());
+        assertSame(predicate, filteredPersons.getPredicate());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedSearch_usesCachedResult() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        SearchResultCache<Person> cache = modelManager.getPersonSearchResultCache();
+        Filter<Person> filter = new NameContainsKeywordsFilter(List.of("meier"));
+        modelManager.updateFilteredPersonList(filter);
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+
+        long hits = cache.getHits();
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsFilter(List.of("meier")));
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        // changes to attendance records do not invalidate results of filters that do not depend on them
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+        modelManager.removeAttendanceRecord(DANIEL_NOT_ATTEND_MATH);
+        hits = cache.getHits();
+        modelManager.updateFilteredPersonList(filter);
+        assertEquals(hits + 1, cache.getHits());
+
+        // the result is patched with changes made while it was shown
+        modelManager.deletePerson(BENSON);
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+        hits = cache.getHits();
+        modelManager.updateFilteredPersonList(filter);
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+
+        // changes while the result is not shown invalidate it
+        modelManager.updateFilteredPersonList(FILTER_SHOW_ALL_PERSONS);
+        modelManager.deletePerson(DANIEL);
+        long misses = cache.getMisses();
+        modelManager.updateFilteredPersonList(filter);
+        assertEquals(misses + 1, cache.getMisses());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
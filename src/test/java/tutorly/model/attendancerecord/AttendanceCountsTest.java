@@ -0,0 +1,52 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_MATH;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.testutil.AttendanceRecordBuilder;
+
+public class AttendanceCountsTest {
+
+    @Test
+    public void of() {
+        assertEquals(new AttendanceCounts(1, 1, 0), AttendanceCounts.of(ALICE_ATTEND_MATH));
+        assertEquals(new AttendanceCounts(1, 0, 0), AttendanceCounts.of(DANIEL_NOT_ATTEND_MATH));
+        assertEquals(new AttendanceCounts(1, 0, 1), AttendanceCounts.of(new AttendanceRecordBuilder(
+                DANIEL_NOT_ATTEND_MATH).withFeedback(new Feedback("Was sick")).build()));
+    }
+
+    @Test
+    public void plusMinus() {
+        AttendanceCounts counts = new AttendanceCounts(3, 2, 1);
+        assertEquals(new AttendanceCounts(4, 3, 1), counts.plus(AttendanceCounts.of(ALICE_ATTEND_MATH)));
+        assertEquals(new AttendanceCounts(2, 1, 1), counts.minus(AttendanceCounts.of(ALICE_ATTEND_MATH)));
+        assertEquals(AttendanceCounts.NONE, counts.minus(counts));
+    }
+
+    @Test
+    public void getAbsentAndAttendanceRate() {
+        AttendanceCounts counts = new AttendanceCounts(3, 2, 0);
+        assertEquals(1, counts.getAbsent());
+        assertEquals(66, counts.getAttendanceRate());
+        assertEquals(0, AttendanceCounts.NONE.getAttendanceRate());
+    }
+
+    @Test
+    public void equals() {
+        AttendanceCounts counts = new AttendanceCounts(3, 2, 1);
+
+        assertTrue(counts.equals(counts));
+        assertTrue(counts.equals(new AttendanceCounts(3, 2, 1)));
+
+        assertFalse(counts.equals(null));
+        assertFalse(counts.equals(5));
+        assertFalse(counts.equals(new AttendanceCounts(4, 2, 1)));
+        assertFalse(counts.equals(new AttendanceCounts(3, 1, 1)));
+        assertFalse(counts.equals(new AttendanceCounts(3, 2, 0)));
+    }
+}
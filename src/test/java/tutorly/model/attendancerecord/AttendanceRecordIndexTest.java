@@ -0,0 +1,77 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAttendanceRecords;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceRecordIndexTest {
+
+    private final AttendanceRecordIndex index = new AttendanceRecordIndex(getTypicalAttendanceRecords());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttendanceRecordIndex(null));
+    }
+
+    @Test
+    public void getEnrolledStudentIds() {
+        assertArrayEquals(new int[] {ALICE.getId(), BENSON.getId(), DANIEL.getId(), ELLE.getId()},
+                index.getEnrolledStudentIds(MATH_SESSION.getId()));
+        assertArrayEquals(new int[] {ALICE.getId(), CARL.getId(), DANIEL.getId(), FIONA.getId()},
+                index.getEnrolledStudentIds(ENGLISH_SESSION.getId()));
+        assertArrayEquals(new int[0], index.getEnrolledStudentIds(999));
+    }
+
+    @Test
+    public void getPresentStudentIds() {
+        assertArrayEquals(new int[] {ALICE.getId(), BENSON.getId()}, index.getPresentStudentIds(MATH_SESSION.getId()));
+        assertArrayEquals(new int[] {ALICE.getId(), CARL.getId()}, index.getPresentStudentIds(ENGLISH_SESSION.getId()));
+        assertArrayEquals(new int[0], index.getPresentStudentIds(999));
+    }
+
+    @Test
+    public void getEnrolledStudentIds_modifyResult_indexUnchanged() {
+        index.getEnrolledStudentIds(MATH_SESSION.getId())[0] = -1;
+        assertArrayEquals(new int[] {ALICE.getId(), BENSON.getId(), DANIEL.getId(), ELLE.getId()},
+                index.getEnrolledStudentIds(MATH_SESSION.getId()));
+    }
+
+    @Test
+    public void addAndRemove_updatesStudentIdsOfSession() {
+        AttendanceRecord carlPresent = new AttendanceRecord(CARL.getId(), MATH_SESSION.getId(), true,
+                Feedback.empty());
+        index.add(carlPresent);
+        assertArrayEquals(new int[] {ALICE.getId(), BENSON.getId(), CARL.getId(), DANIEL.getId(), ELLE.getId()},
+                index.getEnrolledStudentIds(MATH_SESSION.getId()));
+        assertArrayEquals(new int[] {ALICE.getId(), BENSON.getId(), CARL.getId()},
+                index.getPresentStudentIds(MATH_SESSION.getId()));
+
+        index.remove(new AttendanceRecord(ALICE.getId(), MATH_SESSION.getId(), false, Feedback.empty()));
+        assertArrayEquals(new int[] {BENSON.getId(), CARL.getId(), DANIEL.getId(), ELLE.getId()},
+                index.getEnrolledStudentIds(MATH_SESSION.getId()));
+        assertArrayEquals(new int[] {BENSON.getId(), CARL.getId()}, index.getPresentStudentIds(MATH_SESSION.getId()));
+        assertArrayEquals(new int[] {ALICE.getId(), CARL.getId(), DANIEL.getId(), FIONA.getId()},
+                index.getEnrolledStudentIds(ENGLISH_SESSION.getId()));
+    }
+
+    @Test
+    public void remove_lastStudentOfSession_noStudentsLeft() {
+        AttendanceRecordIndex singleRecordIndex = new AttendanceRecordIndex(List.of(
+                new AttendanceRecord(ALICE.getId(), 999, true, Feedback.empty())));
+        singleRecordIndex.remove(new AttendanceRecord(ALICE.getId(), 999, true, Feedback.empty()));
+        assertArrayEquals(new int[0], singleRecordIndex.getEnrolledStudentIds(999));
+        assertArrayEquals(new int[0], singleRecordIndex.getPresentStudentIds(999));
+    }
+}
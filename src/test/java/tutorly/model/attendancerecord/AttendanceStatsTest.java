@@ -0,0 +1,146 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.GEORGE;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAttendanceRecords;
+import static tutorly.testutil.TypicalAddressBook.getTypicalSessions;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.AttendanceRecordBuilder;
+import tutorly.testutil.SessionBuilder;
+
+public class AttendanceStatsTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+    private static final YearMonth APRIL = YearMonth.of(2025, 4);
+    private static final Session PHYSICS_SESSION = new SessionBuilder().withId(3).withSubject("Physics")
+            .withTimeslot(new Timeslot(LocalDateTime.of(2025, 4, 1, 10, 0), LocalDateTime.of(2025, 4, 1, 12, 0)))
+            .build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttendanceStats(null, List.of()));
+        assertThrows(NullPointerException.class, () -> new AttendanceStats(List.of(), null));
+    }
+
+    @Test
+    public void constructor_typicalRecords_countsGrouped() {
+        AttendanceStats stats = new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords());
+
+        assertEquals(new AttendanceCounts(8, 4, 0), stats.getTotal());
+        assertEquals(new AttendanceCounts(2, 2, 0), stats.ofStudent(ALICE.getId()));
+        assertEquals(new AttendanceCounts(2, 0, 0), stats.ofStudent(DANIEL.getId()));
+        assertEquals(AttendanceCounts.NONE, stats.ofStudent(GEORGE.getId()));
+        assertEquals(new AttendanceCounts(4, 2, 0), stats.ofSession(MATH_SESSION.getId()));
+        assertEquals(new AttendanceCounts(4, 2, 0), stats.ofSubject(new Subject("English")));
+        assertEquals(new AttendanceCounts(8, 4, 0), stats.ofMonth(MARCH));
+        assertEquals(List.of("English", "Math"), new ArrayList<>(stats.getSubjectCounts().keySet()));
+        assertEquals(Map.of(MARCH, new AttendanceCounts(8, 4, 0)), stats.getMonthCounts());
+    }
+
+    @Test
+    public void updateRecord_markAndFeedback_countsUpdated() {
+        AttendanceStats stats = new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords());
+        AttendanceRecord marked = new AttendanceRecordBuilder(DANIEL_NOT_ATTEND_MATH).withIsPresent(true)
+                .withFeedback(new Feedback("Good effort")).build();
+        stats.updateRecord(DANIEL_NOT_ATTEND_MATH, marked);
+
+        assertEquals(new AttendanceCounts(8, 5, 1), stats.getTotal());
+        assertEquals(new AttendanceCounts(2, 1, 1), stats.ofStudent(DANIEL.getId()));
+        assertEquals(new AttendanceCounts(4, 3, 1), stats.ofSubject(MATH_SESSION.getSubject()));
+        assertSameCounts(rebuild(marked), stats);
+    }
+
+    @Test
+    public void removeRecord_lastRecordOfGroup_groupRemoved() {
+        AttendanceStats stats = new AttendanceStats(List.of(MATH_SESSION, ENGLISH_SESSION),
+                List.of(ALICE_ATTEND_MATH, ALICE_ATTEND_ENGLISH));
+        stats.removeRecord(ALICE_ATTEND_ENGLISH);
+
+        assertEquals(new AttendanceCounts(1, 1, 0), stats.ofStudent(ALICE.getId()));
+        assertEquals(AttendanceCounts.NONE, stats.ofSession(ENGLISH_SESSION.getId()));
+        assertEquals(List.of("Math"), new ArrayList<>(stats.getSubjectCounts().keySet()));
+    }
+
+    @Test
+    public void updateSession_subjectAndMonthChanged_countsMoved() {
+        AttendanceStats stats = new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords());
+        Session edited = new SessionBuilder(PHYSICS_SESSION).withId(MATH_SESSION.getId()).build();
+        stats.updateSession(MATH_SESSION, edited);
+
+        assertEquals(new AttendanceCounts(8, 4, 0), stats.getTotal());
+        assertEquals(AttendanceCounts.NONE, stats.ofSubject(MATH_SESSION.getSubject()));
+        assertEquals(new AttendanceCounts(4, 2, 0), stats.ofSubject(edited.getSubject()));
+        assertEquals(Map.of(MARCH, new AttendanceCounts(4, 2, 0), APRIL, new AttendanceCounts(4, 2, 0)),
+                stats.getMonthCounts());
+        assertSameCounts(new AttendanceStats(List.of(edited, ENGLISH_SESSION), getTypicalAttendanceRecords()), stats);
+    }
+
+    @Test
+    public void removeSession_recordsKept_countedForStudentOnly() {
+        AttendanceStats stats = new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords());
+        stats.removeSession(MATH_SESSION);
+
+        assertEquals(new AttendanceCounts(2, 2, 0), stats.ofStudent(ALICE.getId()));
+        assertEquals(new AttendanceCounts(4, 2, 0), stats.ofSession(MATH_SESSION.getId()));
+        assertEquals(AttendanceCounts.NONE, stats.ofSubject(MATH_SESSION.getSubject()));
+        assertEquals(new AttendanceCounts(4, 2, 0), stats.ofMonth(MARCH));
+
+        // Records of an unknown session are counted for its subject and month once it is added
+        stats.addSession(MATH_SESSION);
+        assertSameCounts(new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords()), stats);
+    }
+
+    @Test
+    public void addRecord_thenRemoveRecord_countsRestored() {
+        AttendanceStats stats = new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords());
+        stats.addSession(PHYSICS_SESSION);
+        AttendanceRecord record = new AttendanceRecordBuilder().withPerson(GEORGE).withSession(PHYSICS_SESSION)
+                .withIsPresent(true).build();
+        stats.addRecord(record);
+        assertEquals(new AttendanceCounts(1, 1, 0), stats.ofMonth(APRIL));
+
+        stats.removeRecord(record);
+        stats.removeSession(PHYSICS_SESSION);
+        assertSameCounts(new AttendanceStats(getTypicalSessions(), getTypicalAttendanceRecords()), stats);
+    }
+
+    /**
+     * Returns the counts of the typical sessions and records, with the record of the same student and session as
+     * {@code replacement} replaced.
+     */
+    private static AttendanceStats rebuild(AttendanceRecord replacement) {
+        List<AttendanceRecord> records = new ArrayList<>(getTypicalAttendanceRecords());
+        records.replaceAll(record -> record.getStudentId() == replacement.getStudentId()
+                && record.getSessionId() == replacement.getSessionId() ? replacement : record);
+        return new AttendanceStats(getTypicalSessions(), records);
+    }
+
+    private static void assertSameCounts(AttendanceStats expected, AttendanceStats actual) {
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getSubjectCounts(), actual.getSubjectCounts());
+        assertEquals(expected.getMonthCounts(), actual.getMonthCounts());
+        for (int id = 1; id <= GEORGE.getId(); id++) {
+            assertEquals(expected.ofStudent(id), actual.ofStudent(id));
+            assertEquals(expected.ofSession(id), actual.ofSession(id));
+        }
+    }
+}
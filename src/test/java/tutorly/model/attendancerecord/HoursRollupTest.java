@@ -0,0 +1,132 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL_NOT_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAttendanceRecords;
+import static tutorly.testutil.TypicalAddressBook.getTypicalSessions;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.session.Session;
+import tutorly.model.session.Subject;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.AttendanceRecordBuilder;
+import tutorly.testutil.SessionBuilder;
+
+public class HoursRollupTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2025, 3);
+    private static final YearMonth APRIL = YearMonth.of(2025, 4);
+    private static final Subject MATH = new Subject("Math");
+    private static final Subject ENGLISH = new Subject("English");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new HoursRollup(null, List.of()));
+        assertThrows(NullPointerException.class, () -> new HoursRollup(List.of(), null));
+    }
+
+    @Test
+    public void constructor_typicalRecords_presentRecordsCounted() {
+        HoursRollup rollup = new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords());
+
+        assertEquals(List.of(MARCH), List.copyOf(rollup.getMonths()));
+        assertEquals(Duration.ofHours(8), rollup.ofMonth(MARCH));
+        assertEquals(Duration.ZERO, rollup.ofMonth(APRIL));
+        assertEquals(Map.of(ALICE.getId(), Duration.ofHours(4), BENSON.getId(), Duration.ofHours(2),
+                CARL.getId(), Duration.ofHours(2)), rollup.getStudentHours(MARCH));
+        assertEquals(Map.of(MATH, Duration.ofHours(4), ENGLISH, Duration.ofHours(4)), rollup.getSubjectHours(MARCH));
+        assertEquals(Duration.ZERO, rollup.ofStudent(DANIEL.getId(), MARCH));
+        assertEquals(Map.of(), rollup.getStudentHours(APRIL));
+    }
+
+    @Test
+    public void updateRecord_markAndUnmark_hoursUpdated() {
+        HoursRollup rollup = new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords());
+
+        rollup.updateRecord(DANIEL_NOT_ATTEND_MATH,
+                new AttendanceRecordBuilder(DANIEL_NOT_ATTEND_MATH).withIsPresent(true).build());
+        assertEquals(Duration.ofHours(2), rollup.ofStudent(DANIEL.getId(), MARCH));
+        assertEquals(Duration.ofHours(6), rollup.ofSubject(MATH, MARCH));
+
+        rollup.updateRecord(ALICE_ATTEND_MATH, new AttendanceRecordBuilder(ALICE_ATTEND_MATH).withIsPresent(false)
+                .build());
+        assertEquals(Duration.ofHours(2), rollup.ofStudent(ALICE.getId(), MARCH));
+        assertEquals(Duration.ofHours(8), rollup.ofMonth(MARCH));
+    }
+
+    @Test
+    public void updateRecord_feedbackOnly_hoursUnchanged() {
+        HoursRollup rollup = new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords());
+        rollup.updateRecord(ALICE_ATTEND_MATH, new AttendanceRecordBuilder(ALICE_ATTEND_MATH)
+                .withFeedback(new Feedback("Good effort")).build());
+
+        assertEquals(Duration.ofHours(4), rollup.ofStudent(ALICE.getId(), MARCH));
+        assertEquals(Duration.ofHours(8), rollup.ofMonth(MARCH));
+    }
+
+    @Test
+    public void updateSession_timeslotAndSubjectChanged_hoursMoved() {
+        HoursRollup rollup = new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords());
+        Session edited = new SessionBuilder(MATH_SESSION).withSubject("Physics")
+                .withTimeslot(new Timeslot(LocalDateTime.of(2025, 4, 1, 9, 0), LocalDateTime.of(2025, 4, 1, 10, 30)))
+                .build();
+        rollup.updateSession(MATH_SESSION, edited);
+
+        assertEquals(List.of(MARCH, APRIL), List.copyOf(rollup.getMonths()));
+        assertEquals(Duration.ofHours(4), rollup.ofMonth(MARCH));
+        assertEquals(Duration.ofMinutes(180), rollup.ofMonth(APRIL));
+        assertEquals(Map.of(ENGLISH, Duration.ofHours(4)), rollup.getSubjectHours(MARCH));
+        assertEquals(Duration.ofMinutes(90), rollup.ofStudent(BENSON.getId(), APRIL));
+        assertEquals(Duration.ZERO, rollup.ofStudent(BENSON.getId(), MARCH));
+        assertSameHours(new HoursRollup(List.of(edited, ENGLISH_SESSION), getTypicalAttendanceRecords()), rollup);
+    }
+
+    @Test
+    public void removeSession_thenAddSession_hoursRestored() {
+        HoursRollup rollup = new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords());
+        rollup.removeSession(ENGLISH_SESSION);
+        assertEquals(Duration.ofHours(4), rollup.ofMonth(MARCH));
+        assertEquals(Map.of(MATH, Duration.ofHours(4)), rollup.getSubjectHours(MARCH));
+
+        // Records of an unknown session are counted once it is added
+        rollup.addSession(ENGLISH_SESSION);
+        assertSameHours(new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords()), rollup);
+    }
+
+    @Test
+    public void removeRecord_allRecordsOfMonth_monthRemoved() {
+        HoursRollup rollup = new HoursRollup(getTypicalSessions(), getTypicalAttendanceRecords());
+        getTypicalAttendanceRecords().forEach(rollup::removeRecord);
+
+        assertEquals(List.of(), List.copyOf(rollup.getMonths()));
+        assertEquals(Duration.ZERO, rollup.ofMonth(MARCH));
+
+        // Removing a record that is not counted does nothing
+        rollup.removeRecord(ALICE_ATTEND_MATH);
+        assertEquals(Duration.ZERO, rollup.ofMonth(MARCH));
+    }
+
+    private static void assertSameHours(HoursRollup expected, HoursRollup actual) {
+        assertEquals(expected.getMonths(), actual.getMonths());
+        for (YearMonth month : expected.getMonths()) {
+            assertEquals(expected.ofMonth(month), actual.ofMonth(month));
+            assertEquals(expected.getStudentHours(month), actual.getStudentHours(month));
+            assertEquals(expected.getSubjectHours(month), actual.getSubjectHours(month));
+        }
+    }
+}
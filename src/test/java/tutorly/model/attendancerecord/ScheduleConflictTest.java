@@ -0,0 +1,85 @@
+package tutorly.model.attendancerecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION_OVERLAP;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAttendanceRecords;
+import static tutorly.testutil.TypicalAddressBook.getTypicalSessions;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.SessionBuilder;
+
+public class ScheduleConflictTest {
+
+    private static final Session LONG_SESSION = new SessionBuilder().withId(4).withSubject("Chemistry")
+            .withTimeslot(new Timeslot(LocalDateTime.of(2025, 3, 25, 9, 0), LocalDateTime.of(2025, 3, 25, 14, 0)))
+            .build();
+    private static final Session ADJACENT_SESSION = new SessionBuilder().withId(5).withSubject("Art")
+            .withTimeslot(new Timeslot(LocalDateTime.of(2025, 3, 25, 14, 0), LocalDateTime.of(2025, 3, 25, 15, 0)))
+            .build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduleConflict(1, null, MATH_SESSION));
+        assertThrows(NullPointerException.class, () -> new ScheduleConflict(1, MATH_SESSION, null));
+    }
+
+    @Test
+    public void findAll_noOverlappingEnrolments_returnsEmptyList() {
+        assertEquals(List.of(), ScheduleConflict.findAll(getTypicalAttendanceRecords(), getTypicalSessions()));
+    }
+
+    @Test
+    public void findAll_overlappingEnrolments_returnsConflictsInOrder() {
+        List<Session> sessions = new ArrayList<>(getTypicalSessions());
+        sessions.addAll(List.of(MATH_SESSION_OVERLAP, LONG_SESSION, ADJACENT_SESSION));
+        List<AttendanceRecord> records = new ArrayList<>(getTypicalAttendanceRecords());
+        records.add(new AttendanceRecord(BENSON.getId(), LONG_SESSION.getId(), false, Feedback.empty()));
+        records.add(new AttendanceRecord(BENSON.getId(), ADJACENT_SESSION.getId(), false, Feedback.empty()));
+        records.add(new AttendanceRecord(ALICE.getId(), MATH_SESSION_OVERLAP.getId(), false, Feedback.empty()));
+        records.add(new AttendanceRecord(BENSON.getId(), MATH_SESSION_OVERLAP.getId(), false, Feedback.empty()));
+
+        // Records of sessions that do not exist are ignored
+        records.add(new AttendanceRecord(ALICE.getId(), 999, false, Feedback.empty()));
+
+        assertEquals(List.of(
+                new ScheduleConflict(ALICE.getId(), MATH_SESSION, MATH_SESSION_OVERLAP),
+                new ScheduleConflict(BENSON.getId(), LONG_SESSION, MATH_SESSION),
+                new ScheduleConflict(BENSON.getId(), LONG_SESSION, MATH_SESSION_OVERLAP),
+                new ScheduleConflict(BENSON.getId(), MATH_SESSION, MATH_SESSION_OVERLAP)),
+                ScheduleConflict.findAll(records, sessions));
+    }
+
+    @Test
+    public void equals() {
+        ScheduleConflict conflict = new ScheduleConflict(ALICE.getId(), MATH_SESSION, MATH_SESSION_OVERLAP);
+
+        assertTrue(conflict.equals(conflict));
+        assertTrue(conflict.equals(new ScheduleConflict(ALICE.getId(), MATH_SESSION, MATH_SESSION_OVERLAP)));
+        assertFalse(conflict.equals(null));
+        assertFalse(conflict.equals(5));
+        assertFalse(conflict.equals(new ScheduleConflict(BENSON.getId(), MATH_SESSION, MATH_SESSION_OVERLAP)));
+        assertFalse(conflict.equals(new ScheduleConflict(ALICE.getId(), MATH_SESSION, ENGLISH_SESSION)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ScheduleConflict conflict = new ScheduleConflict(ALICE.getId(), MATH_SESSION, MATH_SESSION_OVERLAP);
+        String expected = ScheduleConflict.class.getCanonicalName() + "{studentId=" + ALICE.getId()
+                + ", first=" + MATH_SESSION + ", second=" + MATH_SESSION_OVERLAP + "}";
+        assertEquals(expected, conflict.toString());
+    }
+}
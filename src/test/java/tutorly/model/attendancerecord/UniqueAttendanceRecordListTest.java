@@ -2,10 +2,14 @@ package tutorly.model.attendancerecord;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_ENGLISH;
+import static tutorly.testutil.TypicalAddressBook.ALICE_ATTEND_MATH;
 import static tutorly.testutil.TypicalAddressBook.BENSON_ATTEND_MATH;
+import static tutorly.testutil.TypicalAddressBook.CARL_ATTEND_ENGLISH;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -44,6 +48,17 @@ public class UniqueAttendanceRecordListTest {
         assertTrue(uniqueAttendanceRecordList.contains(editedRecord));
     }
 
+    @Test
+    public void getAttendanceRecordsOfStudent() {
+        uniqueAttendanceRecordList.setAll(List.of(ALICE_ATTEND_MATH, ALICE_ATTEND_ENGLISH, BENSON_ATTEND_MATH,
+                CARL_ATTEND_ENGLISH));
+        assertEquals(List.of(ALICE_ATTEND_MATH, ALICE_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.getAttendanceRecordsOfStudent(ALICE_ATTEND_MATH.getStudentId()));
+        assertEquals(List.of(CARL_ATTEND_ENGLISH),
+                uniqueAttendanceRecordList.getAttendanceRecordsOfStudent(CARL_ATTEND_ENGLISH.getStudentId()));
+        assertEquals(List.of(), uniqueAttendanceRecordList.getAttendanceRecordsOfStudent(99));
+    }
+
     @Test
     public void add_nullRecord_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAttendanceRecordList.add(null));
@@ -55,6 +70,42 @@ public class UniqueAttendanceRecordListTest {
         assertThrows(DuplicateElementException.class, () -> uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH));
     }
 
+    @Test
+    public void getIndex_afterModification_reflectsChanges() {
+        int sessionId = ALICE_ATTEND_ENGLISH.getSessionId();
+        assertEquals(0, uniqueAttendanceRecordList.getIndex().getEnrolledStudentIds(sessionId).length);
+
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        assertEquals(1, uniqueAttendanceRecordList.getIndex().getPresentStudentIds(sessionId).length);
+
+        AttendanceRecord absentRecord = new AttendanceRecordBuilder(ALICE_ATTEND_ENGLISH).withIsPresent(false).build();
+        uniqueAttendanceRecordList.set(ALICE_ATTEND_ENGLISH, absentRecord);
+        assertEquals(1, uniqueAttendanceRecordList.getIndex().getEnrolledStudentIds(sessionId).length);
+        assertEquals(0, uniqueAttendanceRecordList.getIndex().getPresentStudentIds(sessionId).length);
+    }
+
+    @Test
+    public void getIndex_recordsChanged_indexUpdatedInPlace() {
+        uniqueAttendanceRecordList.add(ALICE_ATTEND_ENGLISH);
+        AttendanceRecordIndex index = uniqueAttendanceRecordList.getIndex();
+
+        uniqueAttendanceRecordList.add(CARL_ATTEND_ENGLISH);
+        uniqueAttendanceRecordList.remove(ALICE_ATTEND_ENGLISH);
+
+        assertSame(index, uniqueAttendanceRecordList.getIndex());
+        assertEquals(1, index.getEnrolledStudentIds(CARL_ATTEND_ENGLISH.getSessionId()).length);
+    }
+
+    @Test
+    public void getIndex_recordsReplaced_indexRebuilt() {
+        AttendanceRecordIndex index = uniqueAttendanceRecordList.getIndex();
+        uniqueAttendanceRecordList.setAll(List.of(ALICE_ATTEND_MATH, BENSON_ATTEND_MATH));
+
+        assertNotSame(index, uniqueAttendanceRecordList.getIndex());
+        assertEquals(2, uniqueAttendanceRecordList.getIndex().getEnrolledStudentIds(
+                ALICE_ATTEND_MATH.getSessionId()).length);
+    }
+
     @Test
     public void set_nullTargetRecord_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAttendanceRecordList.set(null, ALICE_ATTEND_ENGLISH));
@@ -0,0 +1,132 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.ENGLISH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.FIONA;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
+
+/**
+ * Contains tests for {@code AllFilter}, {@code AnyFilter} and {@code NotFilter}.
+ */
+public class CompositeFilterTest {
+
+    private static final Filter<Person> MATH = new AttendSessionFilter(MATH_SESSION.getId());
+    private static final Filter<Person> ENGLISH = new AttendSessionFilter(ENGLISH_SESSION.getId());
+    private static final Filter<Person> MEIER = new NameContainsKeywordsFilter(List.of("Meier"));
+    private static final Filter<Person> FRIENDS = new HasTagFilter(Set.of(new Tag("friends")));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    private List<Person> filter(Filter<Person> filter) {
+        return addressBook.getPersonList().filtered(filter.toPredicate(addressBook));
+    }
+
+    private static PostingList<Person> postingList(Person... persons) {
+        return PostingList.of(List.of(persons).stream().mapToInt(Person::getId).toArray(), Person::getId);
+    }
+
+    @Test
+    public void all_indexedAndResidualFilters_intersected() {
+        assertEquals(List.of(BENSON, DANIEL), filter(Filter.all(List.of(MATH, MEIER))));
+        assertEquals(List.of(ALICE, DANIEL), filter(Filter.all(List.of(MATH, ENGLISH))));
+        assertEquals(List.of(), filter(Filter.all(List.of(MATH, new PersonIdFilter(CARL.getId()), MEIER))));
+    }
+
+    @Test
+    public void all_lookup_presentIfAnyIndexed() {
+        assertEquals(Optional.of(postingList(ALICE, DANIEL)),
+                Filter.all(List.of(MATH, ENGLISH)).lookup(addressBook));
+        assertEquals(Optional.empty(), Filter.<Person>all(List.of()).lookup(addressBook));
+        assertEquals(Optional.empty(), Filter.all(List.of(MEIER, Filter.not(MATH))).lookup(addressBook));
+    }
+
+    @Test
+    public void all_lookup_residualFiltersTestedOnCandidates() {
+        assertEquals(Optional.of(postingList(BENSON, DANIEL)), Filter.all(List.of(MATH, MEIER)).lookup(addressBook));
+        assertEquals(Optional.of(postingList(BENSON)), Filter.all(List.of(new PersonIdFilter(BENSON.getId()), MEIER))
+                .lookup(addressBook));
+
+        // residual filters are only tested on the candidates
+        List<Person> tested = new ArrayList<>();
+        Filter<Person> recording = ab -> person -> tested.add(person);
+        assertEquals(Optional.of(postingList(ALICE)), Filter.all(List.of(new PersonIdFilter(ALICE.getId()), recording))
+                .lookup(addressBook));
+        assertEquals(List.of(ALICE), tested);
+    }
+
+    @Test
+    public void all_noFilters_matchesEverything() {
+        assertEquals(addressBook.getPersonList(), filter(Filter.all(List.of())));
+    }
+
+    @Test
+    public void any_indexedAndResidualFilters_merged() {
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA), filter(Filter.any(List.of(MATH, ENGLISH))));
+        assertEquals(List.of(ALICE, BENSON, DANIEL, ELLE),
+                filter(Filter.any(List.of(MATH, MEIER))));
+    }
+
+    @Test
+    public void any_lookup_presentOnlyIfAllIndexed() {
+        assertEquals(Optional.of(postingList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA)),
+                Filter.any(List.of(MATH, ENGLISH)).lookup(addressBook));
+        assertEquals(Optional.empty(), Filter.any(List.of(MATH, MEIER)).lookup(addressBook));
+    }
+
+    @Test
+    public void not_negatesFilter() {
+        List<Person> notFriends = filter(Filter.not(FRIENDS));
+        assertFalse(notFriends.contains(ALICE));
+        assertTrue(notFriends.contains(CARL));
+        assertEquals(Optional.empty(), Filter.not(MATH).lookup(addressBook));
+    }
+
+    @Test
+    public void nested_combination() {
+        // (math or english) and not friends
+        Filter<Person> filter = Filter.all(List.of(Filter.any(List.of(MATH, ENGLISH)), Filter.not(FRIENDS)));
+        assertEquals(List.of(CARL, ELLE, FIONA), filter(filter));
+    }
+
+    @Test
+    public void equals() {
+        Filter<Person> all = Filter.all(List.of(MATH, MEIER));
+        assertTrue(all.equals(Filter.all(List.of(MATH, MEIER))));
+        assertFalse(all.equals(Filter.any(List.of(MATH, MEIER))));
+        assertFalse(all.equals(Filter.all(List.of(MATH))));
+        assertFalse(all.equals(null));
+
+        Filter<Person> not = Filter.not(MATH);
+        assertTrue(not.equals(not));
+        assertTrue(not.equals(Filter.not(MATH)));
+        assertFalse(not.equals(Filter.not(ENGLISH)));
+        assertFalse(not.equals(MATH));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Filter<Person>> filters = List.of(MATH, MEIER);
+        assertEquals(AllFilter.class.getCanonicalName() + "{filters=" + filters + "}",
+                Filter.all(filters).toString());
+        assertEquals(NotFilter.class.getCanonicalName() + "{filter=" + MATH + "}", Filter.not(MATH).toString());
+    }
+}
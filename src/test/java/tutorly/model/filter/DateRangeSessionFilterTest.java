@@ -0,0 +1,66 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.session.DateRange;
+import tutorly.model.session.Session;
+import tutorly.model.session.Timeslot;
+import tutorly.testutil.SessionBuilder;
+
+public class DateRangeSessionFilterTest {
+    private final LocalDate firstDate = LocalDate.of(2025, 1, 1);
+    private final LocalDate secondDate = LocalDate.of(2025, 1, 3);
+
+    @Test
+    public void equals() {
+        DateRangeSessionFilter firstFilter = new DateRangeSessionFilter(new DateRange(firstDate, secondDate));
+
+        assertEquals(firstFilter, firstFilter);
+        assertEquals(firstFilter, new DateRangeSessionFilter(new DateRange(firstDate, secondDate)));
+        assertNotEquals(1, firstFilter);
+        assertNotEquals(null, firstFilter);
+        assertNotEquals(firstFilter, new DateRangeSessionFilter(new DateRange(firstDate, firstDate)));
+    }
+
+    @Test
+    public void lookup_matchesPredicate() {
+        AddressBook sessions = new AddressBook();
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(firstDate.minusDays(1).atTime(23, 0),
+                firstDate.atTime(1, 0))).build());
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(firstDate.atTime(10, 0),
+                firstDate.atTime(12, 0))).build());
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(secondDate.atTime(22, 0),
+                secondDate.plusDays(1).atTime(2, 0))).build());
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(secondDate.plusDays(2).atTime(10, 0),
+                secondDate.plusDays(2).atTime(12, 0))).build());
+
+        for (LocalDate start = firstDate.minusDays(2); !start.isAfter(secondDate.plusDays(3));
+                start = start.plusDays(1)) {
+            for (LocalDate end = start; !end.isAfter(secondDate.plusDays(3)); end = end.plusDays(1)) {
+                DateRangeSessionFilter filter = new DateRangeSessionFilter(new DateRange(start, end));
+                int[] expectedIds = sessions.getSessionList().stream()
+                        .filter(filter.toPredicate(sessions))
+                        .mapToInt(Session::getId)
+                        .toArray();
+                assertEquals(PostingList.of(expectedIds, Session::getId), filter.lookup(sessions).get());
+            }
+        }
+        assertEquals(3, new DateRangeSessionFilter(new DateRange(firstDate, secondDate)).lookup(sessions).get()
+                .size());
+    }
+
+    @Test
+    public void toStringMethod() {
+        DateRange dateRange = new DateRange(firstDate, secondDate);
+        DateRangeSessionFilter filter = new DateRangeSessionFilter(dateRange);
+
+        String expected = DateRangeSessionFilter.class.getCanonicalName() + "{dateRange=" + dateRange + "}";
+        assertEquals(expected, filter.toString());
+    }
+}
@@ -72,6 +72,28 @@ public class DateSessionFilterTest {
         assertFalse(filter.toPredicate(addressBook).test(session));
     }
 
+    @Test
+    public void lookup_matchesPredicate() {
+        AddressBook sessions = new AddressBook();
+        // ends exactly at the start of the second date, which still counts as being on that date
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(firstDate.atTime(22, 0),
+                secondDate.atStartOfDay())).build());
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(secondDate.atTime(10, 0),
+                secondDate.atTime(12, 0))).build());
+        sessions.addSession(new SessionBuilder().withTimeslot(new Timeslot(secondDate.plusDays(1).atStartOfDay(),
+                secondDate.plusDays(1).atTime(1, 0))).build());
+
+        for (LocalDate date = firstDate.minusDays(1); !date.isAfter(secondDate.plusDays(2)); date = date.plusDays(1)) {
+            DateSessionFilter filter = new DateSessionFilter(date);
+            int[] expectedIds = sessions.getSessionList().stream()
+                    .filter(filter.toPredicate(sessions))
+                    .mapToInt(Session::getId)
+                    .toArray();
+            assertEquals(PostingList.of(expectedIds, Session::getId), filter.lookup(sessions).get());
+        }
+        assertEquals(2, new DateSessionFilter(secondDate).lookup(sessions).get().size());
+    }
+
     @Test
     public void toStringMethod() {
         DateSessionFilter filter = new DateSessionFilter(firstDate);
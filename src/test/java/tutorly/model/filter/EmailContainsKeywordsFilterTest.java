@@ -0,0 +1,67 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.testutil.PersonBuilder;
+
+public class EmailContainsKeywordsFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        EmailContainsKeywordsFilter firstFilter = new EmailContainsKeywordsFilter(Collections.singletonList("first"));
+        EmailContainsKeywordsFilter secondFilter = new EmailContainsKeywordsFilter(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new EmailContainsKeywordsFilter(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_emailContainsKeywords_returnsTrue() {
+        EmailContainsKeywordsFilter filter = new EmailContainsKeywordsFilter(Arrays.asList("zzz", "ALI"));
+        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void test_emailDoesNotContainKeywords_returnsFalse() {
+        EmailContainsKeywordsFilter filter = new EmailContainsKeywordsFilter(Collections.singletonList("zzz"));
+        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withEmail("alice@example.com").build()));
+
+        // Keyword matches name, but does not match email
+        filter = new EmailContainsKeywordsFilter(Collections.singletonList("Bob"));
+        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Bob")
+                .withEmail("alice@example.com").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        EmailContainsKeywordsFilter filter = new EmailContainsKeywordsFilter(keywords);
+
+        String expected = EmailContainsKeywordsFilter.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, filter.toString());
+    }
+}
@@ -0,0 +1,80 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
+import tutorly.testutil.PersonBuilder;
+
+public class HasTagFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        HasTagFilter firstFilter = new HasTagFilter(Set.of(new Tag("friends")));
+        HasTagFilter secondFilter = new HasTagFilter(Set.of(new Tag("friends"), new Tag("colleagues")));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new HasTagFilter(Set.of(new Tag("friends")))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_hasAnyTag_returnsTrue() {
+        HasTagFilter filter = new HasTagFilter(Set.of(new Tag("friends"), new Tag("colleagues")));
+        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withTags("friends").build()));
+        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withTags("colleagues", "gym").build()));
+    }
+
+    @Test
+    public void test_hasNoMatchingTag_returnsFalse() {
+        HasTagFilter filter = new HasTagFilter(Set.of(new Tag("friends")));
+
+        // No tags
+        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withTags().build()));
+
+        // Tags are case-sensitive
+        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withTags("Friends").build()));
+    }
+
+    @Test
+    public void lookup_matchesPredicate() {
+        HasTagFilter filter = new HasTagFilter(Set.of(new Tag("owesMoney"), new Tag("colleagues")));
+        assertEquals(PostingList.of(new int[] {BENSON.getId()}, Person::getId), filter.lookup(addressBook).get());
+
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withTags("colleagues").build());
+        assertEquals(PostingList.of(new int[] {BENSON.getId(), CARL.getId()}, Person::getId),
+                filter.lookup(addressBook).get());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Tag> tags = Set.of(new Tag("friends"));
+        HasTagFilter filter = new HasTagFilter(tags);
+
+        String expected = HasTagFilter.class.getCanonicalName() + "{tags=" + tags + "}";
+        assertEquals(expected, filter.toString());
+    }
+}
@@ -0,0 +1,140 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class IdBitmapTest {
+
+    @Test
+    public void add_negativeId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IdBitmap().add(-1));
+    }
+
+    @Test
+    public void addRemove_acrossChunks_success() {
+        IdBitmap bitmap = IdBitmap.of(70000, 3, 1, 3, Integer.MAX_VALUE);
+        assertArrayEquals(new int[] {1, 3, 70000, Integer.MAX_VALUE}, bitmap.toArray());
+        assertEquals(4, bitmap.cardinality());
+        assertTrue(bitmap.contains(70000));
+        assertFalse(bitmap.contains(2));
+        assertFalse(bitmap.contains(-1));
+
+        bitmap.remove(70000);
+        bitmap.remove(2);
+        assertArrayEquals(new int[] {1, 3, Integer.MAX_VALUE}, bitmap.toArray());
+
+        bitmap.remove(1);
+        bitmap.remove(3);
+        bitmap.remove(Integer.MAX_VALUE);
+        assertTrue(bitmap.isEmpty());
+        assertArrayEquals(new int[0], bitmap.toArray());
+    }
+
+    @Test
+    public void addRemove_denseChunk_convertsBetweenArrayAndBitmap() {
+        IdBitmap bitmap = new IdBitmap();
+        int[] evens = IntStream.range(0, IdBitmap.MAX_ARRAY_SIZE + 1).map(i -> i * 2).toArray();
+        for (int id : evens) {
+            bitmap.add(id);
+        }
+        assertArrayEquals(evens, bitmap.toArray());
+        assertTrue(bitmap.contains(IdBitmap.MAX_ARRAY_SIZE * 2));
+        assertFalse(bitmap.contains(1));
+
+        bitmap.remove(0);
+        bitmap.remove(2);
+        assertEquals(IdBitmap.MAX_ARRAY_SIZE - 1, bitmap.cardinality());
+        assertFalse(bitmap.contains(2));
+        assertTrue(bitmap.contains(4));
+    }
+
+    @Test
+    public void setOperations_matchTreeSet() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            // Mix sparse and dense chunks, so that every pair of container kinds is combined
+            int bound = round % 2 == 0 ? 200_000 : 70_000;
+            int count = random.nextInt(20_000);
+            TreeSet<Integer> first = new TreeSet<>();
+            TreeSet<Integer> second = new TreeSet<>();
+            random.ints(count, 0, bound).forEach(first::add);
+            random.ints(random.nextInt(20_000), 0, bound).forEach(second::add);
+            IdBitmap firstBitmap = IdBitmap.of(toArray(first));
+            IdBitmap secondBitmap = IdBitmap.of(toArray(second));
+
+            TreeSet<Integer> and = new TreeSet<>(first);
+            and.retainAll(second);
+            TreeSet<Integer> or = new TreeSet<>(first);
+            or.addAll(second);
+            TreeSet<Integer> andNot = new TreeSet<>(first);
+            andNot.removeAll(second);
+
+            assertArrayEquals(toArray(and), firstBitmap.and(secondBitmap).toArray());
+            assertArrayEquals(toArray(or), firstBitmap.or(secondBitmap).toArray());
+            assertArrayEquals(toArray(andNot), firstBitmap.andNot(secondBitmap).toArray());
+            assertEquals(and.size(), firstBitmap.and(secondBitmap).cardinality());
+        }
+    }
+
+    @Test
+    public void copy_independentOfOriginal() {
+        IdBitmap bitmap = IdBitmap.of(1, 70000);
+        IdBitmap copy = bitmap.copy();
+        assertEquals(bitmap, copy);
+
+        copy.add(2);
+        bitmap.remove(70000);
+        assertEquals(IdBitmap.of(1), bitmap);
+        assertEquals(IdBitmap.of(1, 2, 70000), copy);
+    }
+
+    @Test
+    public void setOperations_operandsUnchanged() {
+        IdBitmap first = IdBitmap.of(1, 2, 3);
+        IdBitmap second = IdBitmap.of(3, 4);
+        first.or(second).add(5);
+        first.andNot(second).add(6);
+        first.and(second).add(7);
+        assertEquals(IdBitmap.of(1, 2, 3), first);
+        assertEquals(IdBitmap.of(3, 4), second);
+    }
+
+    @Test
+    public void equals() {
+        IdBitmap bitmap = IdBitmap.of(1, 70000);
+
+        // same values -> returns true
+        assertTrue(bitmap.equals(IdBitmap.of(70000, 1)));
+        assertEquals(bitmap.hashCode(), IdBitmap.of(70000, 1).hashCode());
+
+        // same object -> returns true
+        assertTrue(bitmap.equals(bitmap));
+
+        // null -> returns false
+        assertFalse(bitmap.equals(null));
+
+        // different types -> returns false
+        assertFalse(bitmap.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(bitmap.equals(IdBitmap.of(1)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(IdBitmap.class.getCanonicalName() + "{ids=[1, 70000]}", IdBitmap.of(70000, 1).toString());
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,67 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.testutil.PersonBuilder;
+
+public class MemoContainsKeywordsFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        MemoContainsKeywordsFilter firstFilter = new MemoContainsKeywordsFilter(Collections.singletonList("first"));
+        MemoContainsKeywordsFilter secondFilter = new MemoContainsKeywordsFilter(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new MemoContainsKeywordsFilter(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_memoContainsKeywords_returnsTrue() {
+        MemoContainsKeywordsFilter filter = new MemoContainsKeywordsFilter(Arrays.asList("zzz", "ALI"));
+        assertTrue(filter.toPredicate(addressBook).test(new PersonBuilder().withMemo("Alice likes calculus").build()));
+    }
+
+    @Test
+    public void test_memoDoesNotContainKeywords_returnsFalse() {
+        MemoContainsKeywordsFilter filter = new MemoContainsKeywordsFilter(Collections.singletonList("zzz"));
+        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withMemo("Alice likes calculus").build()));
+
+        // Keyword matches name, but does not match memo
+        filter = new MemoContainsKeywordsFilter(Collections.singletonList("Bob"));
+        assertFalse(filter.toPredicate(addressBook).test(new PersonBuilder().withName("Bob")
+                .withMemo("Alice likes calculus").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        MemoContainsKeywordsFilter filter = new MemoContainsKeywordsFilter(keywords);
+
+        String expected = MemoContainsKeywordsFilter.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, filter.toString());
+    }
+}
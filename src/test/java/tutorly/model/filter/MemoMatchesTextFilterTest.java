@@ -0,0 +1,77 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class MemoMatchesTextFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        MemoMatchesTextFilter firstFilter = new MemoMatchesTextFilter(new TextQuery("fract*"));
+        MemoMatchesTextFilter secondFilter = new MemoMatchesTextFilter(new TextQuery("\"needs practice\""));
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        MemoMatchesTextFilter firstFilterCopy = new MemoMatchesTextFilter(new TextQuery("fract*"));
+        assertTrue(firstFilter.equals(firstFilterCopy));
+        assertEquals(firstFilter.hashCode(), firstFilterCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_memoMatchesQuery() {
+        Predicate<Person> predicate = new MemoMatchesTextFilter(new TextQuery("\"needs practice\" fract*"))
+                .toPredicate(addressBook);
+        assertTrue(predicate.test(new PersonBuilder().withMemo("Needs practice with fractions").build()));
+        assertFalse(predicate.test(new PersonBuilder().withMemo("Needs more practice with fractions").build()));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void lookup_matchesPredicate() {
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withMemo("Needs practice with fractions").build());
+        MemoMatchesTextFilter filter = new MemoMatchesTextFilter(new TextQuery("practice"));
+        assertEquals(PostingList.of(new int[] {ALICE.getId()}, Person::getId), filter.lookup(addressBook).get());
+
+        // the index is kept up to date as memos are edited
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withMemo("Practice daily").build());
+        PostingList<Person> expected = PostingList.of(addressBook.getPersonList().stream()
+                .filter(filter.toPredicate(addressBook))
+                .mapToInt(Person::getId)
+                .toArray(), Person::getId);
+        assertEquals(PostingList.of(new int[] {ALICE.getId(), BENSON.getId()}, Person::getId), expected);
+        assertEquals(expected, filter.lookup(addressBook).get());
+    }
+
+    @Test
+    public void toStringMethod() {
+        TextQuery query = new TextQuery("fract*");
+        MemoMatchesTextFilter filter = new MemoMatchesTextFilter(query);
+        String expected = MemoMatchesTextFilter.class.getCanonicalName() + "{query=" + query + "}";
+        assertEquals(expected, filter.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class NameSimilarToFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        NameSimilarToFilter firstFilter = new NameSimilarToFilter("alx yeo");
+        NameSimilarToFilter secondFilter = new NameSimilarToFilter("bob");
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        NameSimilarToFilter firstFilterCopy = new NameSimilarToFilter("alx yeo");
+        assertTrue(firstFilter.equals(firstFilterCopy));
+        assertEquals(firstFilter.hashCode(), firstFilterCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstFilter.equals(secondFilter));
+    }
+
+    @Test
+    public void test_nameSimilarToQuery_returnsTrue() {
+        Predicate<Person> predicate = new NameSimilarToFilter("alx yeo").toPredicate(addressBook);
+
+        // typos and missing letters
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").build()));
+
+        // mixed case
+        assertTrue(predicate.test(new PersonBuilder().withName("ALEX YEOH").build()));
+
+        // missing word
+        predicate = new NameSimilarToFilter("alex").toPredicate(addressBook);
+        assertTrue(predicate.test(new PersonBuilder().withName("Alex Yeoh").build()));
+    }
+
+    @Test
+    public void test_nameNotSimilarToQuery_returnsFalse() {
+        Predicate<Person> predicate = new NameSimilarToFilter("alx yeo").toPredicate(addressBook);
+        assertFalse(predicate.test(new PersonBuilder().withName("Bernice Yu").build()));
+        assertFalse(new NameSimilarToFilter("").toPredicate(addressBook).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void lookup_matchesPredicate() {
+        NameSimilarToFilter filter = new NameSimilarToFilter("meier");
+        PostingList<Person> expected = PostingList.of(addressBook.getPersonList().stream()
+                .filter(filter.toPredicate(addressBook))
+                .mapToInt(Person::getId)
+                .toArray(), Person::getId);
+
+        assertEquals(PostingList.of(new int[] {BENSON.getId(), DANIEL.getId()}, Person::getId), expected);
+        assertEquals(expected, filter.lookup(addressBook).get());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameSimilarToFilter filter = new NameSimilarToFilter("alx yeo");
+        String expected = NameSimilarToFilter.class.getCanonicalName() + "{query=alx yeo}";
+        assertEquals(expected, filter.toString());
+    }
+}
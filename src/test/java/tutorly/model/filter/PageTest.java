@@ -0,0 +1,117 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+import static tutorly.testutil.TypicalAddressBook.getTypicalPersons;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+import tutorly.model.person.PersonSortKey;
+
+public class PageTest {
+
+    private static final Predicate<Person> ANY = person -> true;
+
+    private static PostingList<Person> of(Person... persons) {
+        return PostingList.of(List.of(persons).stream().mapToInt(Person::getId).toArray(), Person::getId);
+    }
+
+    @Test
+    public void constructor_invalidArgs_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Page<Person>(-1, 1, null, false));
+        assertThrows(IllegalArgumentException.class, () -> new Page<Person>(0, 0, null, false));
+    }
+
+    @Test
+    public void isAll() {
+        assertTrue(Page.all().isAll());
+        assertFalse(new Page<Person>(1, Page.UNLIMITED, null, false).isAll());
+        assertFalse(new Page<Person>(0, 5, null, false).isAll());
+        assertFalse(new Page<>(0, Page.UNLIMITED, PersonSortKey.ID, false).isAll());
+    }
+
+    @Test
+    public void withSortKey() {
+        assertEquals(new Page<>(1, 2, PersonSortKey.NAME, true),
+                new Page<Person>(1, 2, null, false).withSortKey(PersonSortKey.NAME, true));
+
+        // descending is ignored without a sort key
+        assertFalse(new Page<Person>(0, 1, null, true).isDescending());
+    }
+
+    @Test
+    public void select_unranked_stopsOncePageIsFilled() {
+        List<Person> persons = getTypicalPersons();
+        Page.Selection<Person> selection = new Page<Person>(1, 2, null, false).select(persons, ANY, Person::getId);
+        assertEquals(of(BENSON, CARL), selection.getIds());
+        assertEquals(new PageResult(1, 2, 4, false), selection.getResult());
+        assertEquals(Optional.empty(), selection.getMatches());
+    }
+
+    @Test
+    public void select_unrankedLastPage_exactCount() {
+        Predicate<Person> meier = person -> person.getName().fullName.contains("Meier");
+        Page.Selection<Person> selection = new Page<Person>(0, 5, null, false)
+                .select(getTypicalPersons(), meier, Person::getId);
+        assertEquals(of(BENSON, DANIEL), selection.getIds());
+        assertEquals(new PageResult(0, 2, 2, true), selection.getResult());
+        assertEquals(Optional.of(of(BENSON, DANIEL)), selection.getMatches());
+    }
+
+    @Test
+    public void select_sorted_selectsInGivenOrder() {
+        List<Person> ordered = List.of(ELLE, DANIEL, CARL, BENSON, ALICE);
+        Page.Selection<Person> selection = new Page<>(1, 2, PersonSortKey.ID, true)
+                .select(ordered, ANY, Person::getId);
+        assertEquals(of(DANIEL, CARL), selection.getIds());
+        assertEquals(new PageResult(1, 2, 4, false), selection.getResult());
+    }
+
+    @Test
+    public void select_sortedPostingList_exactCount() {
+        List<Person> ordered = List.of(ELLE, DANIEL, CARL, BENSON, ALICE);
+        PostingList<Person> matches = of(ALICE, CARL, ELLE);
+        Page.Selection<Person> selection = new Page<>(0, 1, PersonSortKey.ID, true)
+                .select(ordered, matches, Person::getId);
+        assertEquals(of(ELLE), selection.getIds());
+        assertEquals(new PageResult(0, 1, 3, true), selection.getResult());
+        assertEquals(Optional.of(matches), selection.getMatches());
+    }
+
+    @Test
+    public void select_postingList_slicesMatches() {
+        PostingList<Person> matches = of(ALICE, CARL, ELLE);
+        Page.Selection<Person> selection = new Page<Person>(1, 5, null, false)
+                .select(getTypicalPersons(), matches, Person::getId);
+        assertEquals(of(CARL, ELLE), selection.getIds());
+        assertEquals(new PageResult(1, 2, 3, true), selection.getResult());
+        assertEquals(Optional.of(matches), selection.getMatches());
+    }
+
+    @Test
+    public void equals() {
+        Page<Person> page = new Page<>(1, 2, PersonSortKey.NAME, true);
+
+        assertTrue(page.equals(page));
+        assertTrue(page.equals(new Page<>(1, 2, PersonSortKey.NAME, true)));
+        assertFalse(page.equals(null));
+        assertFalse(page.equals(1));
+        assertNotEquals(page, new Page<>(0, 2, PersonSortKey.NAME, true));
+        assertNotEquals(page, new Page<>(1, 3, PersonSortKey.NAME, true));
+        assertNotEquals(page, new Page<>(1, 2, PersonSortKey.ID, true));
+        assertNotEquals(page, new Page<>(1, 2, PersonSortKey.NAME, false));
+    }
+}
@@ -0,0 +1,65 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class PersonIdFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        PersonIdFilter firstFilter = new PersonIdFilter(1);
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new PersonIdFilter(1)));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(1));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(new PersonIdFilter(2)));
+    }
+
+    @Test
+    public void test() {
+        PersonIdFilter filter = new PersonIdFilter(ALICE.getId());
+        assertTrue(filter.toPredicate(addressBook).test(ALICE));
+        assertFalse(filter.toPredicate(addressBook).test(BENSON));
+    }
+
+    @Test
+    public void lookup() {
+        assertEquals(Optional.of(PostingList.of(new int[] {ALICE.getId()}, Person::getId)),
+                new PersonIdFilter(ALICE.getId()).lookup(addressBook));
+    }
+
+    @Test
+    public void lookup_unknownId_emptyPostingList() {
+        assertEquals(Optional.of(PostingList.of(new int[0], Person::getId)),
+                new PersonIdFilter(999).lookup(addressBook));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = PersonIdFilter.class.getCanonicalName() + "{personId=1}";
+        assertEquals(expected, new PersonIdFilter(1).toString());
+    }
+}
@@ -0,0 +1,94 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+
+public class PostingListTest {
+
+    private static PostingList<Person> of(int... ids) {
+        return PostingList.of(ids, Person::getId);
+    }
+
+    @Test
+    public void of_nullArgs_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PostingList.of((int[]) null, Person::getId));
+        assertThrows(NullPointerException.class, () -> PostingList.<Person>of(new int[0], null));
+        assertThrows(NullPointerException.class, () -> PostingList.of((IdBitmap) null, Person::getId));
+        assertThrows(NullPointerException.class, () -> PostingList.<Person>of(new IdBitmap(), null));
+    }
+
+    @Test
+    public void of_bitmap_sameAsArray() {
+        PostingList<Person> postingList = PostingList.of(IdBitmap.of(ALICE.getId(), 70000), Person::getId);
+        assertEquals(of(70000, ALICE.getId()), postingList);
+        assertTrue(postingList.contains(ALICE));
+        assertFalse(postingList.contains(BENSON));
+        assertEquals(of(ALICE.getId()), postingList.intersect(of(ALICE.getId(), BENSON.getId())));
+    }
+
+    @Test
+    public void of_unsortedWithDuplicates_sortedAndDistinct() {
+        PostingList<Person> postingList = of(5, 1, 3, 1);
+        assertArrayEquals(new int[] {1, 3, 5}, postingList.toArray());
+        assertEquals(3, postingList.size());
+    }
+
+    @Test
+    public void contains() {
+        PostingList<Person> postingList = of(ALICE.getId());
+        assertTrue(postingList.contains(ALICE));
+        assertFalse(postingList.contains(BENSON));
+        assertFalse(of().contains(ALICE));
+    }
+
+    @Test
+    public void slice() {
+        assertEquals(of(3, 5), of(1, 3, 5, 7).slice(1, 3));
+        assertEquals(of(5, 7), of(1, 3, 5, 7).slice(2, Integer.MAX_VALUE));
+        assertEquals(of(), of(1, 3).slice(5, 10));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 3).slice(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> of(1, 3).slice(2, 1));
+    }
+
+    @Test
+    public void intersect() {
+        assertEquals(of(3, 7), of(1, 3, 5, 7).intersect(of(2, 3, 7, 8)));
+        assertEquals(of(), of(1, 2).intersect(of(3, 4)));
+        assertEquals(of(), of(1, 2).intersect(of()));
+    }
+
+    @Test
+    public void union() {
+        assertEquals(of(1, 2, 3, 5, 7, 8), of(1, 3, 5, 7).union(of(2, 3, 7, 8)));
+        assertEquals(of(1, 2), of().union(of(1, 2)));
+        assertEquals(of(1, 2), of(1, 2).union(of()));
+    }
+
+    @Test
+    public void symmetricDifference() {
+        assertEquals(of(1, 2, 5, 8), of(1, 3, 5, 7).symmetricDifference(of(2, 3, 7, 8)));
+        assertEquals(of(1, 2), of().symmetricDifference(of(1, 2)));
+        assertEquals(of(), of(1, 2).symmetricDifference(of(1, 2)));
+    }
+
+    @Test
+    public void equals() {
+        PostingList<Person> postingList = of(1, 2);
+        assertTrue(postingList.equals(postingList));
+        assertTrue(postingList.equals(of(2, 1)));
+        assertFalse(postingList.equals(null));
+        assertFalse(postingList.equals(1));
+        assertNotEquals(postingList, of(1));
+        assertEquals(postingList.hashCode(), of(2, 1).hashCode());
+    }
+}
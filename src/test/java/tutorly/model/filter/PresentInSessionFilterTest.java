@@ -0,0 +1,69 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.MATH_SESSION;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+
+public class PresentInSessionFilterTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        PresentInSessionFilter firstFilter = new PresentInSessionFilter(1);
+
+        // same object -> returns true
+        assertTrue(firstFilter.equals(firstFilter));
+
+        // same values -> returns true
+        assertTrue(firstFilter.equals(new PresentInSessionFilter(1)));
+
+        // different types -> returns false
+        assertFalse(firstFilter.equals(new AttendSessionFilter(1)));
+
+        // null -> returns false
+        assertFalse(firstFilter.equals(null));
+
+        // different values -> returns false
+        assertFalse(firstFilter.equals(new PresentInSessionFilter(2)));
+    }
+
+    @Test
+    public void test_presentForSession_returnsTrue() {
+        PresentInSessionFilter filter = new PresentInSessionFilter(MATH_SESSION.getId());
+        assertTrue(filter.toPredicate(addressBook).test(ALICE));
+        assertTrue(filter.toPredicate(addressBook).test(BENSON));
+    }
+
+    @Test
+    public void test_absentOrNotEnrolled_returnsFalse() {
+        PresentInSessionFilter filter = new PresentInSessionFilter(MATH_SESSION.getId());
+        assertFalse(filter.toPredicate(addressBook).test(DANIEL));
+        assertFalse(filter.toPredicate(addressBook).test(CARL));
+    }
+
+    @Test
+    public void lookup() {
+        assertEquals(Optional.of(PostingList.of(new int[] {ALICE.getId(), BENSON.getId()}, Person::getId)),
+                new PresentInSessionFilter(MATH_SESSION.getId()).lookup(addressBook));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = PresentInSessionFilter.class.getCanonicalName() + "{sessionId=1}";
+        assertEquals(expected, new PresentInSessionFilter(1).toString());
+    }
+}
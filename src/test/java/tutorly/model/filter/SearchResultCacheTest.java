@@ -0,0 +1,96 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+
+public class SearchResultCacheTest {
+
+    private static final Filter<Person> ALEX_FILTER = new NameContainsKeywordsFilter(List.of("alex"));
+    private static final Filter<Person> BOB_FILTER = new NameContainsKeywordsFilter(List.of("bob"));
+    private static final Filter<Person> CARL_FILTER = new NameContainsKeywordsFilter(List.of("carl"));
+
+    private final SearchResultCache<Person> cache = new SearchResultCache<>(2);
+
+    private static PostingList<Person> of(int... ids) {
+        return PostingList.of(ids, Person::getId);
+    }
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchResultCache<Person>(-1));
+    }
+
+    @Test
+    public void get_sameVersion_returnsCachedResult() {
+        assertEquals(Optional.empty(), cache.get(ALEX_FILTER, 1));
+        cache.put(ALEX_FILTER, 1, of(1, 3));
+
+        // an equal filter is a hit
+        assertEquals(Optional.of(of(1, 3)), cache.get(new NameContainsKeywordsFilter(List.of("alex")), 1));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void get_differentVersion_invalidatesResult() {
+        cache.put(ALEX_FILTER, 1, of(1, 3));
+        assertTrue(cache.getTotalSize() > 0);
+
+        assertEquals(Optional.empty(), cache.get(ALEX_FILTER, 2));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalSize());
+        assertEquals(Optional.empty(), cache.get(ALEX_FILTER, 1));
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put(ALEX_FILTER, 1, of(1));
+        cache.put(BOB_FILTER, 1, of(2));
+        cache.get(ALEX_FILTER, 1);
+        cache.put(CARL_FILTER, 1, of(3));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertTrue(cache.get(ALEX_FILTER, 1).isPresent());
+        assertFalse(cache.get(BOB_FILTER, 1).isPresent());
+        assertTrue(cache.get(CARL_FILTER, 1).isPresent());
+    }
+
+    @Test
+    public void put_sameFilter_replacesResult() {
+        cache.put(ALEX_FILTER, 1, of(1));
+        long size = cache.getTotalSize();
+        cache.put(ALEX_FILTER, 2, of(1, 2, 3));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.getTotalSize() > size);
+        assertEquals(Optional.of(of(1, 2, 3)), cache.get(ALEX_FILTER, 2));
+    }
+
+    @Test
+    public void put_zeroCapacity_cachesNothing() {
+        SearchResultCache<Person> disabledCache = new SearchResultCache<>(0);
+        disabledCache.put(ALEX_FILTER, 1, of(1));
+        assertEquals(0, disabledCache.size());
+        assertEquals(Optional.empty(), disabledCache.get(ALEX_FILTER, 1));
+    }
+
+    @Test
+    public void clear() {
+        cache.put(ALEX_FILTER, 1, of(1));
+        cache.get(ALEX_FILTER, 1);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getTotalSize());
+        assertEquals(1, cache.getHits());
+    }
+}
@@ -0,0 +1,94 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.person.Person;
+
+public class SortIndexTest {
+
+    private final Map<Integer, Integer> ranks = new HashMap<>(Map.of(
+            ALICE.getId(), 3, BENSON.getId(), 1, CARL.getId(), 2, DANIEL.getId(), 1));
+    private final SortIndex<Person, Integer> index = new SortIndex<>(person -> ranks.get(person.getId()),
+            Integer::compare, Person::getId);
+
+    @Test
+    public void addAll_unsorted_sortedByKeyThenId() {
+        index.addAll(List.of(ALICE, BENSON, CARL, DANIEL));
+        assertEquals(List.of(BENSON, DANIEL, CARL, ALICE), index.asList(false));
+        assertEquals(List.of(ALICE, CARL, DANIEL, BENSON), index.asList(true));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    public void add_alreadyIndexed_throwsIllegalArgumentException() {
+        index.add(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> index.add(ALICE));
+    }
+
+    @Test
+    public void addAndRemove_keepsOrder() {
+        index.add(ALICE);
+        index.add(DANIEL);
+        index.add(CARL);
+        index.add(BENSON);
+        assertEquals(List.of(BENSON, DANIEL, CARL, ALICE), index.asList(false));
+
+        assertTrue(index.remove(DANIEL));
+        assertFalse(index.remove(DANIEL));
+        assertEquals(List.of(BENSON, CARL, ALICE), index.asList(false));
+    }
+
+    @Test
+    public void remove_keyChanged_removedByStoredKey() {
+        index.addAll(List.of(ALICE, BENSON, CARL));
+        ranks.put(BENSON.getId(), 5);
+        assertTrue(index.remove(BENSON));
+        assertEquals(List.of(CARL, ALICE), index.asList(false));
+    }
+
+    @Test
+    public void update_keyChanged_moved() {
+        index.addAll(List.of(ALICE, BENSON, CARL, DANIEL));
+        ranks.put(ALICE.getId(), 0);
+        index.update(ALICE);
+        assertEquals(List.of(ALICE, BENSON, DANIEL, CARL), index.asList(false));
+
+        // elements not in the index are ignored
+        index.remove(CARL);
+        index.update(CARL);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), index.asList(false));
+    }
+
+    @Test
+    public void getComparator_ordersAsIndexed() {
+        index.addAll(List.of(ALICE, BENSON, CARL));
+        ranks.put(ALICE.getId(), 0);
+
+        // the stored key is used until the element is updated
+        assertTrue(index.getComparator(false).compare(ALICE, CARL) > 0);
+        assertTrue(index.getComparator(true).compare(ALICE, CARL) < 0);
+        assertTrue(index.getComparator(false).compare(BENSON, DANIEL) < 0);
+    }
+
+    @Test
+    public void clear() {
+        index.addAll(List.of(ALICE, BENSON));
+        index.clear();
+        assertEquals(List.of(), index.asList(false));
+        index.add(ALICE);
+        assertEquals(1, index.size());
+    }
+}
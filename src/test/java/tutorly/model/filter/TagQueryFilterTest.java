@@ -0,0 +1,115 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.AddressBook;
+import tutorly.model.person.Person;
+import tutorly.model.tag.Tag;
+import tutorly.testutil.PersonBuilder;
+
+public class TagQueryFilterTest {
+
+    private static final TagQueryFilter FRIENDS = TagQueryFilter.of(Set.of(new Tag("friends")));
+    private static final TagQueryFilter OWES_MONEY = TagQueryFilter.of(Set.of(new Tag("owesMoney")));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void equals() {
+        TagQueryFilter filter = TagQueryFilter.all(List.of(FRIENDS, TagQueryFilter.not(OWES_MONEY)));
+
+        // same object -> returns true
+        assertTrue(filter.equals(filter));
+
+        // same values -> returns true
+        TagQueryFilter filterCopy = TagQueryFilter.all(List.of(FRIENDS, TagQueryFilter.not(OWES_MONEY)));
+        assertTrue(filter.equals(filterCopy));
+        assertEquals(filter.hashCode(), filterCopy.hashCode());
+
+        // different types -> returns false
+        assertFalse(filter.equals(1));
+
+        // null -> returns false
+        assertFalse(filter.equals(null));
+
+        // different operator -> returns false
+        assertFalse(filter.equals(TagQueryFilter.any(List.of(FRIENDS, TagQueryFilter.not(OWES_MONEY)))));
+
+        // different tags -> returns false
+        assertFalse(FRIENDS.equals(OWES_MONEY));
+    }
+
+    @Test
+    public void test_tagCombinations() {
+        Predicate<Person> predicate = TagQueryFilter.all(List.of(FRIENDS, TagQueryFilter.not(OWES_MONEY)))
+                .toPredicate(addressBook);
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends", "owesMoney").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags().build()));
+
+        predicate = TagQueryFilter.any(List.of(OWES_MONEY, TagQueryFilter.not(FRIENDS))).toPredicate(addressBook);
+        assertTrue(predicate.test(new PersonBuilder().withTags().build()));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends", "owesMoney").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTags("friends").build()));
+    }
+
+    @Test
+    public void lookup_typicalPersons_matchesPredicate() {
+        List<TagQueryFilter> filters = List.of(FRIENDS, OWES_MONEY,
+                TagQueryFilter.of(Set.of(new Tag("friends"), new Tag("owesMoney"))),
+                TagQueryFilter.all(List.of(FRIENDS, TagQueryFilter.not(OWES_MONEY))),
+                TagQueryFilter.any(List.of(OWES_MONEY, TagQueryFilter.not(FRIENDS))),
+                TagQueryFilter.not(TagQueryFilter.all(List.of(FRIENDS, OWES_MONEY))));
+        for (TagQueryFilter filter : filters) {
+            assertLookupMatchesPredicate(filter);
+        }
+
+        assertEquals(PostingList.of(new int[] {1, 4}, Person::getId),
+                TagQueryFilter.all(List.of(FRIENDS, TagQueryFilter.not(OWES_MONEY))).lookup(addressBook).get());
+    }
+
+    @Test
+    public void lookup_largeRoster_matchesPredicate() {
+        AddressBook largeAddressBook = new AddressBook();
+        IntStream.range(0, 10_000).forEach(i -> largeAddressBook.addPerson(new PersonBuilder()
+                .withName("Student " + i)
+                .withTags(i % 4 == 0 ? new String[] {"Sec 4"} : i % 4 == 1 ? new String[] {"Sec 4", "graduated"}
+                        : new String[0])
+                .build()));
+        TagQueryFilter filter = TagQueryFilter.all(List.of(TagQueryFilter.of(Set.of(new Tag("Sec 4"))),
+                TagQueryFilter.not(TagQueryFilter.of(Set.of(new Tag("graduated"))))));
+
+        PostingList<Person> postingList = filter.lookup(largeAddressBook).get();
+        assertEquals(2_500, postingList.size());
+        Predicate<Person> predicate = filter.toPredicate(largeAddressBook);
+        for (Person person : largeAddressBook.getPersonList()) {
+            assertEquals(predicate.test(person), postingList.contains(person));
+        }
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Tag> tags = Set.of(new Tag("friends"));
+        String expected = TagQueryFilter.class.getCanonicalName() + "{operator=HAS_ANY_TAG, tags=" + tags
+                + ", operands=[]}";
+        assertEquals(expected, FRIENDS.toString());
+    }
+
+    private void assertLookupMatchesPredicate(TagQueryFilter filter) {
+        PostingList<Person> expected = PostingList.of(addressBook.getPersonList().stream()
+                .filter(filter.toPredicate(addressBook))
+                .mapToInt(Person::getId)
+                .toArray(), Person::getId);
+        assertEquals(expected, filter.lookup(addressBook).get());
+    }
+}
@@ -0,0 +1,138 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.attendancerecord.AttendanceRecord;
+import tutorly.model.attendancerecord.Feedback;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class TextIndexTest {
+
+    private static final Person ALICE_MEMO = new PersonBuilder(ALICE)
+            .withMemo("Needs practice with fractions and decimals").build();
+    private static final Person BENSON_MEMO = new PersonBuilder(BENSON)
+            .withMemo("Fractions, fractions, fractions! Practice needs to be regular.").build();
+    private static final Person CARL_MEMO = new PersonBuilder(CARL)
+            .withMemo("Strong at algebra").build();
+
+    private final TextIndex<Person> index = TextIndex.ofMemos();
+
+    private List<Person> search(String query) {
+        return index.search(new TextQuery(query));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TextIndex<Person>(null, Person::getId));
+        assertThrows(NullPointerException.class, () -> new TextIndex<Person>(person -> "", null));
+    }
+
+    @Test
+    public void search_words_rankedByTermFrequency() {
+        index.addAll(List.of(ALICE_MEMO, BENSON_MEMO, CARL_MEMO));
+
+        assertEquals(List.of(BENSON_MEMO, ALICE_MEMO), search("FRACTIONS"));
+        assertEquals(List.of(BENSON_MEMO, ALICE_MEMO), search("practice fractions"));
+        assertEquals(List.of(ALICE_MEMO), search("fractions decimals"));
+        assertEquals(List.of(), search("fraction"));
+        assertEquals(List.of(), search("fractions geometry"));
+    }
+
+    @Test
+    public void search_prefixes() {
+        index.addAll(List.of(ALICE_MEMO, BENSON_MEMO, CARL_MEMO));
+
+        assertEquals(List.of(BENSON_MEMO, ALICE_MEMO), search("fract*"));
+        assertEquals(List.of(CARL_MEMO, ALICE_MEMO), search("a*"));
+        assertEquals(List.of(), search("z*"));
+    }
+
+    @Test
+    public void search_phrases() {
+        index.addAll(List.of(ALICE_MEMO, BENSON_MEMO, CARL_MEMO));
+
+        assertEquals(List.of(ALICE_MEMO), search("\"needs practice\""));
+        assertEquals(List.of(BENSON_MEMO), search("\"practice needs\""));
+        assertEquals(List.of(BENSON_MEMO), search("\"fractions fractions\""));
+        assertEquals(List.of(ALICE_MEMO), search("\"with fract*\""));
+        assertEquals(List.of(CARL_MEMO), search("strong-at"));
+        assertEquals(List.of(), search("\"needs fractions\""));
+    }
+
+    @Test
+    public void addUpdateRemove_searchUpToDate() {
+        index.add(ALICE_MEMO);
+        index.add(CARL_MEMO);
+        assertEquals(List.of(ALICE_MEMO), search("practice"));
+
+        Person editedCarl = new PersonBuilder(CARL_MEMO).withMemo("Needs practice").build();
+        index.update(CARL_MEMO, editedCarl);
+        assertEquals(List.of(ALICE_MEMO, editedCarl), search("practice"));
+        assertEquals(List.of(), search("algebra"));
+
+        index.remove(ALICE_MEMO);
+        assertEquals(List.of(editedCarl), search("practice"));
+        assertEquals(1, index.size());
+
+        // adding an element with the same key replaces it
+        index.add(CARL_MEMO);
+        assertEquals(List.of(CARL_MEMO), search("algebra"));
+        assertEquals(List.of(), search("practice"));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(List.of(), search("algebra"));
+    }
+
+    @Test
+    public void ofFeedback_recordsKeyedByStudentAndSession() {
+        TextIndex<AttendanceRecord> feedbackIndex = TextIndex.ofFeedback();
+        AttendanceRecord first = new AttendanceRecord(1, 2, false, new Feedback("Good effort"));
+        AttendanceRecord second = new AttendanceRecord(2, 1, true, new Feedback("Good focus, good effort"));
+        feedbackIndex.addAll(List.of(first, second));
+        assertEquals(List.of(second, first), feedbackIndex.search(new TextQuery("good")));
+
+        AttendanceRecord edited = new AttendanceRecord(1, 2, true, new Feedback("Distracted"));
+        feedbackIndex.update(first, edited);
+        assertEquals(List.of(second), feedbackIndex.search(new TextQuery("effort")));
+        assertEquals(List.of(edited), feedbackIndex.search(new TextQuery("distracted")));
+    }
+
+    @Test
+    public void search_manyRecords_matchesScan() {
+        TextIndex<AttendanceRecord> feedbackIndex = TextIndex.ofFeedback();
+        String[] words = {"focus", "effort", "homework", "fractions", "algebra", "practice", "needs", "more"};
+        List<AttendanceRecord> records = new ArrayList<>();
+        IntStream.range(0, 2000).forEach(i -> records.add(new AttendanceRecord(i % 97 + 1, i / 97 + 1, false,
+                new Feedback(words[i % words.length] + " " + words[i * 7 % words.length] + " "
+                        + words[i * 3 % words.length]))));
+        feedbackIndex.addAll(records);
+
+        for (String query : List.of("needs", "\"needs more\"", "fract* practice", "\"homework fract*\"")) {
+            TextQuery textQuery = new TextQuery(query);
+            List<AttendanceRecord> expected = records.stream()
+                    .filter(record -> textQuery.matches(record.getFeedback().value))
+                    .sorted((a, b) -> Integer.compare(
+                            textQuery.score(TextQuery.tokenize(b.getFeedback().value)),
+                            textQuery.score(TextQuery.tokenize(a.getFeedback().value))))
+                    .toList();
+            List<AttendanceRecord> actual = feedbackIndex.search(textQuery);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(textQuery.score(TextQuery.tokenize(expected.get(i).getFeedback().value)),
+                        textQuery.score(TextQuery.tokenize(actual.get(i).getFeedback().value)));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package tutorly.model.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TextQueryTest {
+
+    private static final String TEXT = "Needs practice with fractions. Practice, practice, PRACTICE!";
+
+    @Test
+    public void constructor_invalidQuery_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new TextQuery(null));
+        assertThrows(IllegalArgumentException.class, TextQuery.MESSAGE_CONSTRAINTS, () -> new TextQuery(""));
+    }
+
+    @Test
+    public void isValidQuery() {
+        // invalid queries
+        assertFalse(TextQuery.isValidQuery("")); // empty string
+        assertFalse(TextQuery.isValidQuery(" ")); // spaces only
+        assertFalse(TextQuery.isValidQuery("* - !")); // no letters or digits
+        assertFalse(TextQuery.isValidQuery("\"\"")); // empty phrase
+        assertFalse(TextQuery.isValidQuery("\"needs practice")); // unclosed quote
+
+        // valid queries
+        assertTrue(TextQuery.isValidQuery("practice"));
+        assertTrue(TextQuery.isValidQuery("fract*"));
+        assertTrue(TextQuery.isValidQuery("\"needs practice\" fract*"));
+        assertTrue(TextQuery.isValidQuery("\"\" practice")); // empty phrase is ignored
+    }
+
+    @Test
+    public void tokenize() {
+        assertEquals(List.of("needs", "practice", "with", "fractions", "practice", "practice", "practice"),
+                TextQuery.tokenize(TEXT));
+        assertEquals(List.of("x", "2", "café"), TextQuery.tokenize("  x^2 -- Café "));
+        assertEquals(List.of(), TextQuery.tokenize(" ?! "));
+    }
+
+    @Test
+    public void matches() {
+        // words, ignoring case and punctuation
+        assertTrue(new TextQuery("PRACTICE").matches(TEXT));
+        assertTrue(new TextQuery("fractions, needs").matches(TEXT));
+        assertFalse(new TextQuery("fraction").matches(TEXT));
+        assertFalse(new TextQuery("practice algebra").matches(TEXT));
+
+        // prefixes
+        assertTrue(new TextQuery("fract*").matches(TEXT));
+        assertFalse(new TextQuery("ract*").matches(TEXT));
+
+        // phrases
+        assertTrue(new TextQuery("\"needs practice\"").matches(TEXT));
+        assertTrue(new TextQuery("\"with fract*\"").matches(TEXT));
+        assertTrue(new TextQuery("needs-practice").matches(TEXT));
+        assertFalse(new TextQuery("\"practice needs\"").matches(TEXT));
+        assertFalse(new TextQuery("\"needs practice\"").matches("needs more practice"));
+    }
+
+    @Test
+    public void score() {
+        assertEquals(4, new TextQuery("practice").score(TextQuery.tokenize(TEXT)));
+        assertEquals(5, new TextQuery("practice fract*").score(TextQuery.tokenize(TEXT)));
+        assertEquals(2, new TextQuery("\"practice practice\"").score(TextQuery.tokenize(TEXT)));
+        assertEquals(0, new TextQuery("practice algebra").score(TextQuery.tokenize(TEXT)));
+    }
+
+    @Test
+    public void equals() {
+        TextQuery query = new TextQuery("\"needs practice\"");
+
+        // same values -> returns true
+        assertTrue(query.equals(new TextQuery("\"needs practice\"")));
+        assertEquals(query.hashCode(), new TextQuery("\"needs practice\"").hashCode());
+
+        // same object -> returns true
+        assertTrue(query.equals(query));
+
+        // null -> returns false
+        assertFalse(query.equals(null));
+
+        // different types -> returns false
+        assertFalse(query.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(query.equals(new TextQuery("needs practice")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals(TextQuery.class.getCanonicalName() + "{query=fract*}", new TextQuery("fract*").toString());
+    }
+}
@@ -0,0 +1,97 @@
+package tutorly.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.DANIEL;
+import static tutorly.testutil.TypicalAddressBook.ELLE;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class NameIndexTest {
+
+    private final NameIndex index = new NameIndex(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameIndex(null));
+    }
+
+    @Test
+    public void trigramsOf() {
+        assertEquals(Set.of("  a", " al", "ali", "li ", "  b", " bo", "bo "), NameIndex.trigramsOf("Ali  BO"));
+        assertEquals(Set.of("  a", " ab", "ab "), NameIndex.trigramsOf("ab-ab"));
+        assertTrue(NameIndex.trigramsOf(" - ").isEmpty());
+    }
+
+    @Test
+    public void similarity() {
+        Set<String> alex = NameIndex.trigramsOf("Alex");
+        assertEquals(1, NameIndex.similarity(alex, NameIndex.trigramsOf("alex")));
+        assertEquals(0, NameIndex.similarity(alex, NameIndex.trigramsOf("Bob")));
+        assertEquals(0, NameIndex.similarity(alex, Set.of()));
+
+        // 3 shared out of 5 + 4 - 3 distinct trigrams
+        assertEquals(0.5, NameIndex.similarity(alex, NameIndex.trigramsOf("ale")));
+    }
+
+    @Test
+    public void search_typo_returnsNearMatch() {
+        assertEquals(List.of(ALICE), index.search("Alise Pauline", 3));
+        assertEquals(List.of(CARL), index.search("karl kurz", 3));
+    }
+
+    @Test
+    public void search_equallySimilar_orderedById() {
+        assertEquals(List.of(BENSON, DANIEL), index.search("meier", 3));
+    }
+
+    @Test
+    public void search_rankedBySimilarity() {
+        // Daniel Meier shares more trigrams with the query than Benson Meier
+        assertEquals(List.of(DANIEL, BENSON), index.search("dan meier", 3));
+        assertEquals(List.of(DANIEL), index.search("dan meier", 1));
+    }
+
+    @Test
+    public void addAndRemove_updatesSearchResults() {
+        index.remove(BENSON);
+        assertEquals(List.of(DANIEL), index.search("meier", 3));
+        assertEquals(4, index.size());
+
+        index.add(BENSON);
+        assertEquals(List.of(BENSON, DANIEL), index.search("meier", 3));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    public void trigramsOf_person_returnsTrigramsOfName() {
+        assertEquals(NameIndex.trigramsOf(ALICE.getName().fullName), index.trigramsOf(ALICE));
+        assertSame(index.trigramsOf(ALICE), index.trigramsOf(ALICE));
+    }
+
+    @Test
+    public void search_noNearMatch_returnsEmptyList() {
+        assertTrue(index.search("Zhang Wei", 3).isEmpty());
+        assertTrue(index.search("--", 3).isEmpty());
+        assertTrue(index.search("meier", 0).isEmpty());
+        assertTrue(new NameIndex(List.of()).search("meier", 3).isEmpty());
+    }
+
+    @Test
+    public void search_negativeLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("meier", -1));
+    }
+
+    @Test
+    public void size() {
+        assertEquals(5, index.size());
+    }
+}
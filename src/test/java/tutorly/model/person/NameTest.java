@@ -1,11 +1,15 @@
 package tutorly.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import tutorly.commons.util.NormalizedText;
+
 public class NameTest {
 
     @Test
@@ -41,6 +45,13 @@ public class NameTest {
         assertTrue(Name.isValidName("peter the 2nd")); // contains digits
     }
 
+    @Test
+    public void getNormalizedText_isCached() {
+        Name name = new Name("Valid  Name");
+        assertEquals(NormalizedText.of("valid name"), name.getNormalizedText());
+        assertSame(name.getNormalizedText(), name.getNormalizedText());
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -60,4 +71,10 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertTrue(new Name("Valid Name").equals(new Name("vALID nAME")));
+        assertEquals(new Name("Valid Name").hashCode(), new Name("vALID nAME").hashCode());
+    }
 }
@@ -2,19 +2,25 @@ package tutorly.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutorly.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorly.testutil.Assert.assertThrows;
 import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
 import static tutorly.testutil.TypicalAddressBook.BOB;
+import static tutorly.testutil.TypicalAddressBook.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import tutorly.model.uniquelist.exceptions.DuplicateElementException;
 import tutorly.model.uniquelist.exceptions.ElementNotFoundException;
 import tutorly.testutil.PersonBuilder;
@@ -192,6 +198,168 @@ public class UniquePersonListTest {
         assertFalse(uniquePersonList.getPersonByName(BOB.getName()).isPresent());
     }
 
+    @Test
+    public void getPersonByName_differentCase_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        Name name = new Name(ALICE.getName().fullName.toUpperCase());
+        assertEquals(ALICE, uniquePersonList.getPersonByName(name).get());
+    }
+
+    @Test
+    public void getPersonByName_afterMutations_reflectsCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertTrue(uniquePersonList.getPersonByName(ALICE.getName()).isPresent());
+
+        Person editedBenson = new PersonBuilder(BOB).withId(BENSON.getId()).build();
+        uniquePersonList.set(BENSON, editedBenson);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.getPersonByName(ALICE.getName()).isPresent());
+        assertFalse(uniquePersonList.getPersonByName(BENSON.getName()).isPresent());
+        assertSame(editedBenson, uniquePersonList.getPersonByName(BOB.getName()).get());
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+        uniquePersonList.rollbackBatch();
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void add_outOfOrder_keepsListSortedById() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        uniquePersonList.beginBatch();
+        assertThrows(IllegalStateException.class, uniquePersonList::beginBatch);
+    }
+
+    @Test
+    public void commitBatch_noBatchInProgress_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, uniquePersonList::commitBatch);
+    }
+
+    @Test
+    public void commitBatch_mutationsInBatch_publishesSingleChange() {
+        uniquePersonList.add(ALICE);
+        List<Integer> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changes.add(1));
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.remove(ALICE);
+
+        // pending mutations are visible to queries but not to the observable list
+        assertTrue(uniquePersonList.contains(BENSON));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(changes.isEmpty());
+
+        uniquePersonList.commitBatch();
+        assertEquals(List.of(BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void refresh_personNotInList_throwsElementNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(ElementNotFoundException.class, () -> uniquePersonList.refresh(BENSON));
+    }
+
+    @Test
+    public void refresh_existingPerson_publishesChangeWithoutModifying() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<Integer> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changes.add(1));
+
+        uniquePersonList.refresh(BENSON);
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+
+        // no change is published while a batch is in progress
+        uniquePersonList.beginBatch();
+        uniquePersonList.refresh(ALICE);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void getPersonById() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonById(ALICE.getId()).get());
+        assertEquals(CARL, uniquePersonList.getPersonById(CARL.getId()).get());
+        assertFalse(uniquePersonList.getPersonById(BENSON.getId()).isPresent());
+    }
+
+    @Test
+    public void getNameIndex_unchangedList_returnsSameIndex() {
+        uniquePersonList.add(ALICE);
+        NameIndex index = uniquePersonList.getNameIndex();
+        assertSame(index, uniquePersonList.getNameIndex());
+    }
+
+    @Test
+    public void getNameIndex_personsChanged_indexUpdatedInPlace() {
+        uniquePersonList.add(ALICE);
+        NameIndex index = uniquePersonList.getNameIndex();
+        assertEquals(List.of(), index.search("Benson", 3));
+
+        uniquePersonList.add(BENSON);
+        assertEquals(List.of(BENSON), index.search("Benson", 3));
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Carla Kurz").build();
+        uniquePersonList.set(BENSON, renamedBenson);
+        assertEquals(List.of(), index.search("Benson", 3));
+        assertEquals(List.of(renamedBenson), index.search("Carla", 3));
+
+        uniquePersonList.remove(renamedBenson);
+        assertEquals(List.of(), index.search("Carla", 3));
+        assertSame(index, uniquePersonList.getNameIndex());
+    }
+
+    @Test
+    public void getNameIndex_personsReplaced_indexRebuilt() {
+        uniquePersonList.add(ALICE);
+        NameIndex index = uniquePersonList.getNameIndex();
+        uniquePersonList.setAll(List.of(BENSON));
+        assertNotSame(index, uniquePersonList.getNameIndex());
+        assertEquals(List.of(BENSON), uniquePersonList.getNameIndex().search("Benson", 3));
+    }
+
+    @Test
+    public void commitBatch_noMutationsInBatch_publishesNoChange() {
+        List<Integer> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changes.add(1));
+
+        uniquePersonList.beginBatch();
+        uniquePersonList.commitBatch();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void rollbackBatch_mutationsInBatch_discardsMutations() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.beginBatch();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.setAll(List.of(CARL));
+        uniquePersonList.rollbackBatch();
+
+        assertFalse(uniquePersonList.isInBatch());
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
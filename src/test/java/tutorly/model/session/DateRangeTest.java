@@ -0,0 +1,99 @@
+package tutorly.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class DateRangeTest {
+
+    private final LocalDate firstDate = LocalDate.of(2025, 3, 25);
+    private final LocalDate secondDate = LocalDate.of(2025, 3, 27);
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, DateRange.MESSAGE_END_BEFORE_START_DATE, ()
+                -> new DateRange(secondDate, firstDate));
+        assertThrows(NullPointerException.class, () -> new DateRange(null, firstDate));
+    }
+
+    @Test
+    public void weekOf() {
+        // 25 Mar 2025 is a Tuesday
+        DateRange week = new DateRange(LocalDate.of(2025, 3, 24), LocalDate.of(2025, 3, 30));
+        assertEquals(week, DateRange.weekOf(firstDate));
+        assertEquals(week, DateRange.weekOf(LocalDate.of(2025, 3, 24)));
+        assertEquals(week, DateRange.weekOf(LocalDate.of(2025, 3, 30)));
+    }
+
+    @Test
+    public void daysFrom() {
+        assertEquals(new DateRange(firstDate, firstDate.plusDays(6)), DateRange.daysFrom(firstDate, 7));
+        assertEquals(7, DateRange.daysFrom(firstDate, 7).getDays());
+        assertThrows(IllegalArgumentException.class, () -> DateRange.daysFrom(firstDate, 0));
+    }
+
+    @Test
+    public void contains() {
+        DateRange range = new DateRange(firstDate, secondDate);
+        assertTrue(range.contains(firstDate));
+        assertTrue(range.contains(secondDate));
+        assertFalse(range.contains(firstDate.minusDays(1)));
+        assertFalse(range.contains(secondDate.plusDays(1)));
+    }
+
+    @Test
+    public void isOverlapping() {
+        DateRange range = new DateRange(firstDate, secondDate);
+
+        // spans midnight into the first date
+        assertTrue(range.isOverlapping(new Timeslot(firstDate.minusDays(1).atTime(23, 0), firstDate.atTime(1, 0))));
+
+        // spans midnight out of the last date
+        assertTrue(range.isOverlapping(new Timeslot(secondDate.atTime(23, 0), secondDate.plusDays(1).atTime(1, 0))));
+
+        // spans the whole range
+        assertTrue(range.isOverlapping(new Timeslot(firstDate.minusDays(1).atStartOfDay(),
+                secondDate.plusDays(1).atStartOfDay())));
+
+        // before and after the range
+        assertFalse(range.isOverlapping(new Timeslot(firstDate.minusDays(1).atTime(10, 0),
+                firstDate.minusDays(1).atTime(12, 0))));
+        assertFalse(range.isOverlapping(new Timeslot(secondDate.plusDays(1).atTime(10, 0),
+                secondDate.plusDays(1).atTime(12, 0))));
+    }
+
+    @Test
+    public void toDailyTimeslots() {
+        DateRange range = new DateRange(firstDate, firstDate.plusDays(1));
+        assertEquals(List.of(new Timeslot(firstDate.atTime(9, 0), firstDate.atTime(17, 0)),
+                new Timeslot(firstDate.plusDays(1).atTime(9, 0), firstDate.plusDays(1).atTime(17, 0))),
+                range.toDailyTimeslots(LocalTime.of(9, 0), LocalTime.of(17, 0)));
+
+        // working hours spanning midnight end on the following date
+        assertEquals(List.of(new Timeslot(firstDate.atTime(22, 0), firstDate.plusDays(1).atTime(2, 0)),
+                new Timeslot(firstDate.plusDays(1).atTime(22, 0), firstDate.plusDays(2).atTime(2, 0))),
+                range.toDailyTimeslots(LocalTime.of(22, 0), LocalTime.of(2, 0)));
+
+        assertEquals(new Timeslot(firstDate.atStartOfDay(), firstDate.plusDays(2).atStartOfDay()), range.toTimeslot());
+    }
+
+    @Test
+    public void equals() {
+        DateRange range = new DateRange(firstDate, secondDate);
+
+        assertEquals(range, range);
+        assertEquals(range, new DateRange(firstDate, secondDate));
+        assertNotEquals(null, range);
+        assertNotEquals(1, range);
+        assertNotEquals(range, new DateRange(firstDate, firstDate));
+        assertNotEquals(range, new DateRange(secondDate, secondDate));
+    }
+}
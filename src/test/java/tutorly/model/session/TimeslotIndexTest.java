@@ -0,0 +1,165 @@
+package tutorly.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorly.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.testutil.SessionBuilder;
+
+public class TimeslotIndexTest {
+
+    private static final Session SHORT_SESSION = new SessionBuilder().withId(1)
+            .withTimeslot(timeslot(10, 0, 11, 0)).build();
+    private static final Session LONG_SESSION = new SessionBuilder().withId(2)
+            .withTimeslot(timeslot(6, 0, 10, 0)).build();
+    private static final Session LATE_SESSION = new SessionBuilder().withId(3)
+            .withTimeslot(timeslot(13, 0, 14, 0)).build();
+
+    private final TimeslotIndex index = new TimeslotIndex(List.of(LATE_SESSION, SHORT_SESSION, LONG_SESSION));
+
+    private static Timeslot timeslot(int startHour, int startMinute, int endHour, int endMinute) {
+        return new Timeslot(LocalDateTime.of(2025, 3, 25, startHour, startMinute),
+                LocalDateTime.of(2025, 3, 25, endHour, endMinute));
+    }
+
+    private static DateRange dateRange(int startDay, int endDay) {
+        return new DateRange(LocalDate.of(2025, 3, startDay), LocalDate.of(2025, 3, endDay));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TimeslotIndex(null));
+    }
+
+    @Test
+    public void getOverlappingSessions_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.getOverlappingSessions(null));
+    }
+
+    @Test
+    public void getOverlappingSessions_emptyIndex_returnsEmptyList() {
+        assertEquals(List.of(), new TimeslotIndex(List.of()).getOverlappingSessions(timeslot(10, 0, 11, 0)));
+    }
+
+    @Test
+    public void getOverlappingSessions_longSessionStartingEarly_found() {
+        // starts well before the queried timeslot, so it is only found by looking back by the longest duration
+        assertEquals(List.of(LONG_SESSION), index.getOverlappingSessions(timeslot(9, 0, 9, 30)));
+    }
+
+    @Test
+    public void getOverlappingSessions_multipleOverlaps_returnedInStartOrder() {
+        assertEquals(List.of(LONG_SESSION, SHORT_SESSION, LATE_SESSION),
+                index.getOverlappingSessions(timeslot(9, 59, 13, 1)));
+    }
+
+    @Test
+    public void getOverlappingSessions_adjacentTimeslots_notOverlapping() {
+        assertEquals(List.of(), index.getOverlappingSessions(timeslot(11, 0, 13, 0)));
+        assertEquals(List.of(), index.getOverlappingSessions(timeslot(14, 0, 15, 0)));
+        assertEquals(List.of(), index.getOverlappingSessions(timeslot(5, 0, 6, 0)));
+    }
+
+    @Test
+    public void getSessionsOn_sessionsSpanningMidnight_foundOnBothDates() {
+        Session overnight = new SessionBuilder().withId(4).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 25, 23, 0), LocalDateTime.of(2025, 3, 26, 1, 0))).build();
+        Session nextDay = new SessionBuilder().withId(5).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 26, 9, 0), LocalDateTime.of(2025, 3, 26, 10, 0))).build();
+        TimeslotIndex index = new TimeslotIndex(List.of(nextDay, overnight, SHORT_SESSION, LONG_SESSION));
+
+        assertEquals(List.of(LONG_SESSION, SHORT_SESSION, overnight), index.getSessionsOn(dateRange(25, 25)));
+        assertEquals(List.of(overnight, nextDay), index.getSessionsOn(dateRange(26, 27)));
+        assertEquals(List.of(), index.getSessionsOn(dateRange(27, 31)));
+        assertEquals(List.of(), index.getSessionsOn(dateRange(1, 24)));
+    }
+
+    @Test
+    public void countSessionsByDate_sessionSpanningMidnight_countedOnBothDates() {
+        Session overnight = new SessionBuilder().withId(4).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 25, 23, 0), LocalDateTime.of(2025, 3, 26, 1, 0))).build();
+        TimeslotIndex index = new TimeslotIndex(List.of(overnight, SHORT_SESSION, LONG_SESSION, LATE_SESSION));
+
+        assertEquals(new TreeMap<>(Map.of(LocalDate.of(2025, 3, 25), 4, LocalDate.of(2025, 3, 26), 1)),
+                index.countSessionsByDate(dateRange(20, 30)));
+        assertEquals(new TreeMap<>(Map.of(LocalDate.of(2025, 3, 26), 1)), index.countSessionsByDate(dateRange(26, 30)));
+        assertEquals(new TreeMap<>(), index.countSessionsByDate(dateRange(27, 30)));
+    }
+
+    @Test
+    public void getFreeTimeslots_singleWindow_gapsBetweenSessions() {
+        // LONG_SESSION and SHORT_SESSION touch, so they leave no gap between them
+        assertEquals(List.of(timeslot(0, 0, 6, 0), timeslot(11, 0, 13, 0), timeslot(14, 0, 23, 59)),
+                index.getFreeTimeslots(List.of(timeslot(0, 0, 23, 59)), Duration.ofHours(1)));
+
+        // shorter gaps are left out
+        assertEquals(List.of(timeslot(0, 0, 6, 0), timeslot(14, 0, 23, 59)),
+                index.getFreeTimeslots(List.of(timeslot(0, 0, 23, 59)), Duration.ofHours(3)));
+    }
+
+    @Test
+    public void getFreeTimeslots_sessionSpanningWindows_excludedFromBoth() {
+        Session overnight = new SessionBuilder().withId(4).withTimeslot(new Timeslot(
+                LocalDateTime.of(2025, 3, 25, 20, 0), LocalDateTime.of(2025, 3, 26, 10, 0))).build();
+        TimeslotIndex index = new TimeslotIndex(List.of(overnight, SHORT_SESSION));
+        List<Timeslot> windows = new DateRange(LocalDate.of(2025, 3, 25), LocalDate.of(2025, 3, 26))
+                .toDailyTimeslots(LocalTime.of(9, 0), LocalTime.of(21, 0));
+
+        assertEquals(List.of(timeslot(9, 0, 10, 0), timeslot(11, 0, 20, 0),
+                        new Timeslot(LocalDateTime.of(2025, 3, 26, 10, 0), LocalDateTime.of(2025, 3, 26, 21, 0))),
+                index.getFreeTimeslots(windows, Duration.ofMinutes(30)));
+    }
+
+    @Test
+    public void getFreeTimeslots_noSessions_wholeWindows() {
+        List<Timeslot> windows = List.of(timeslot(9, 0, 12, 0));
+        assertEquals(windows, new TimeslotIndex(List.of()).getFreeTimeslots(windows, Duration.ofHours(3)));
+        assertEquals(List.of(), new TimeslotIndex(List.of()).getFreeTimeslots(windows, Duration.ofHours(4)));
+        assertEquals(List.of(), index.getFreeTimeslots(List.of(), Duration.ofHours(1)));
+    }
+
+    @Test
+    public void add_longerSession_foundByLookingBackFurther() {
+        Session longest = new SessionBuilder().withId(4).withTimeslot(timeslot(0, 0, 9, 0)).build();
+        index.add(longest);
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(longest, LONG_SESSION), index.getOverlappingSessions(timeslot(8, 0, 8, 30)));
+        assertThrows(IllegalArgumentException.class, () -> index.add(longest));
+    }
+
+    @Test
+    public void remove_longestSession_notFoundAndLookBackShortened() {
+        assertTrue(index.remove(LONG_SESSION));
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(), index.getOverlappingSessions(timeslot(9, 0, 9, 30)));
+        assertEquals(List.of(SHORT_SESSION), index.getOverlappingSessions(timeslot(9, 0, 10, 30)));
+        assertFalse(index.remove(LONG_SESSION));
+    }
+
+    @Test
+    public void remove_sessionsStartingAtSameTime_onlyGivenSessionRemoved() {
+        Session sameStart = new SessionBuilder().withId(4).withTimeslot(timeslot(10, 0, 10, 30)).build();
+        index.add(sameStart);
+
+        assertTrue(index.remove(SHORT_SESSION));
+        assertEquals(List.of(sameStart), index.getOverlappingSessions(timeslot(10, 0, 11, 0)));
+    }
+
+    @Test
+    public void size() {
+        assertEquals(3, index.size());
+    }
+}
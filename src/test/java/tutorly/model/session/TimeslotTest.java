@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorly.testutil.Assert.assertThrows;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
@@ -38,6 +39,12 @@ public class TimeslotTest {
                 new Timeslot(VALID_START_TIME, VALID_START_TIME));
     }
 
+    @Test
+    public void getDuration() {
+        assertEquals(Duration.ofHours(2), new Timeslot(VALID_START_TIME, VALID_END_TIME).getDuration());
+        assertEquals(Duration.ofHours(26), new Timeslot(VALID_START_TIME, VALID_END_TIME.plusDays(1)).getDuration());
+    }
+
     @Test
     public void isOverlapping() {
         Timeslot timeslot1 = new Timeslot(VALID_START_TIME, VALID_END_TIME);
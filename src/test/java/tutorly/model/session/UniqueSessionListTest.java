@@ -3,6 +3,7 @@ package tutorly.model.session;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -64,6 +65,41 @@ public class UniqueSessionListTest {
         assertThrows(DuplicateElementException.class, () -> sessionList.add(session));
     }
 
+    @Test
+    void testTimeslotIndexAfterModification() {
+        Timeslot timeslot = session3.getTimeslot();
+        assertEquals(List.of(), sessionList.getTimeslotIndex().getOverlappingSessions(timeslot));
+
+        sessionList.add(session3);
+        assertEquals(List.of(session3), sessionList.getTimeslotIndex().getOverlappingSessions(timeslot));
+
+        sessionList.beginBatch();
+        sessionList.remove(session3);
+        assertEquals(List.of(), sessionList.getTimeslotIndex().getOverlappingSessions(timeslot));
+        sessionList.rollbackBatch();
+        assertEquals(List.of(session3), sessionList.getTimeslotIndex().getOverlappingSessions(timeslot));
+
+        sessionList.remove(session3);
+        assertEquals(List.of(), sessionList.getTimeslotIndex().getOverlappingSessions(timeslot));
+    }
+
+    @Test
+    void testTimeslotIndexUpdatedInPlace() {
+        sessionList.add(session1);
+        TimeslotIndex index = sessionList.getTimeslotIndex();
+
+        sessionList.add(session3);
+        sessionList.set(session1, new SessionBuilder(session1).withTimeslot(session2.getTimeslot()).build());
+        sessionList.remove(session3);
+
+        assertSame(index, sessionList.getTimeslotIndex());
+        assertEquals(1, index.size());
+        // session 1 was moved from 10:00-12:00 to 11:00-13:00
+        Timeslot early = new Timeslot(LocalDateTime.of(2025, 3, 25, 9, 0), LocalDateTime.of(2025, 3, 25, 11, 0));
+        assertEquals(List.of(), index.getOverlappingSessions(early));
+        assertEquals(1, index.getOverlappingSessions(session3.getTimeslot()).size());
+    }
+
     @Test
     void testRemoveSuccess() {
         sessionList.add(session1);
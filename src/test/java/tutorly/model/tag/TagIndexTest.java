@@ -0,0 +1,66 @@
+package tutorly.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorly.testutil.Assert.assertThrows;
+import static tutorly.testutil.TypicalAddressBook.ALICE;
+import static tutorly.testutil.TypicalAddressBook.BENSON;
+import static tutorly.testutil.TypicalAddressBook.CARL;
+import static tutorly.testutil.TypicalAddressBook.getTypicalPersons;
+
+import org.junit.jupiter.api.Test;
+
+import tutorly.model.filter.IdBitmap;
+import tutorly.model.person.Person;
+import tutorly.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagIndex(null));
+    }
+
+    @Test
+    public void get_typicalPersons_idsByTag() {
+        TagIndex index = new TagIndex(getTypicalPersons());
+        assertEquals(IdBitmap.of(1, 2, 4), index.get(FRIENDS));
+        assertEquals(IdBitmap.of(2), index.get(OWES_MONEY));
+        assertEquals(IdBitmap.of(), index.get(new Tag("Friends")));
+        assertEquals(IdBitmap.of(1, 2, 3, 4, 5, 6, 7), index.getAll());
+    }
+
+    @Test
+    public void addUpdateRemove_indexUpToDate() {
+        TagIndex index = new TagIndex(getTypicalPersons());
+        Person editedCarl = new PersonBuilder(CARL).withTags("owesMoney").build();
+        index.update(CARL, editedCarl);
+        assertEquals(IdBitmap.of(2, 3), index.get(OWES_MONEY));
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags().build();
+        index.update(BENSON, editedBenson);
+        assertEquals(IdBitmap.of(1, 4), index.get(FRIENDS));
+        assertEquals(IdBitmap.of(3), index.get(OWES_MONEY));
+
+        index.remove(ALICE);
+        index.remove(editedCarl);
+        assertEquals(IdBitmap.of(4), index.get(FRIENDS));
+        assertEquals(IdBitmap.of(), index.get(OWES_MONEY));
+        assertEquals(IdBitmap.of(2, 4, 5, 6, 7), index.getAll());
+
+        index.add(ALICE);
+        assertEquals(IdBitmap.of(1, 4), index.get(FRIENDS));
+    }
+
+    @Test
+    public void get_returnedBitmapModified_indexUnchanged() {
+        TagIndex index = new TagIndex(getTypicalPersons());
+        index.get(FRIENDS).add(3);
+        index.getAll().remove(1);
+
+        assertEquals(IdBitmap.of(1, 2, 4), index.get(FRIENDS));
+        assertEquals(IdBitmap.of(1, 2, 3, 4, 5, 6, 7), index.getAll());
+    }
+}